@@ -1087,7 +1087,7 @@ export class ApiService {
                 cleanUp();
                 stream.next(newStatus);
 
-            } else if (newStatus.status === 'ERROR') {
+            } else if (newStatus.status === 'ERROR' || newStatus.status === 'TIMED_OUT') {
                 this.snackBar.open('Application deployment failed: ' +
                     applicationShortName + ' ' + applicationVersion, 'Ok', {
                         duration: 8000,
@@ -1095,6 +1095,15 @@ export class ApiService {
 
                 cleanUp();
                 stream.next(newStatus);
+
+            } else if (newStatus.status === 'CANCELLED') {
+                this.snackBar.open('Application deployment cancelled: ' +
+                    applicationShortName + ' ' + applicationVersion, 'Ok', {
+                        duration: 4000,
+                    });
+
+                cleanUp();
+                stream.next(newStatus);
             }
 
         });
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.github.ust.mico.core.model.*;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the test data that is used by the benchmarks.
+ * The data is generated deterministically, so that the results are comparable across commits.
+ */
+@UtilityClass
+public class BenchmarkData {
+
+    public static final String APPLICATION_SHORT_NAME = "benchmark-application";
+    public static final String VERSION = "v1.0.0";
+
+    /**
+     * Creates a {@code MicoService} with two interfaces that have two ports each.
+     *
+     * @param index the index of the service that is used for the short name
+     * @return the {@link MicoService}
+     */
+    public static MicoService createService(int index) {
+        MicoService service = new MicoService()
+            .setShortName("service-" + index)
+            .setName("UST-MICO/service-" + index)
+            .setVersion(VERSION)
+            .setDescription("Service " + index + " used for benchmarks")
+            .setServiceCrawlingOrigin(MicoServiceCrawlingOrigin.GITHUB)
+            .setGitCloneUrl("https://github.com/UST-MICO/service-" + index + ".git")
+            .setDockerfilePath("Dockerfile")
+            .setDockerImageUri("docker.io/ustmico/service-" + index + ":" + VERSION);
+        for (int i = 0; i < 2; i++) {
+            MicoServiceInterface serviceInterface = new MicoServiceInterface()
+                .setServiceInterfaceName("interface-" + i)
+                .setDescription("Interface " + i);
+            serviceInterface.getPorts().add(new MicoServicePort().setPort(8080 + i).setTargetPort(80 + i));
+            serviceInterface.getPorts().add(new MicoServicePort().setPort(9080 + i).setTargetPort(90 + i));
+            service.getServiceInterfaces().add(serviceInterface);
+        }
+        return service;
+    }
+
+    /**
+     * Creates a list of {@code MicoServices} whose dependencies form a binary tree:
+     * the service with index {@code i} depends on the services {@code 2i + 1} and {@code 2i + 2}.
+     * A tree keeps the number of dependency paths linear in the number of services.
+     *
+     * @param numberOfServices the number of services
+     * @return the {@link List} of {@link MicoService MicoServices}
+     */
+    public static List<MicoService> createServicesWithDependencies(int numberOfServices) {
+        List<MicoService> services = new ArrayList<>();
+        for (int i = 0; i < numberOfServices; i++) {
+            services.add(createService(i));
+        }
+        for (int i = 0; i < numberOfServices; i++) {
+            MicoService service = services.get(i);
+            for (int j = 2 * i + 1; j <= 2 * i + 2 && j < numberOfServices; j++) {
+                service.getDependencies().add(new MicoServiceDependency()
+                    .setService(service)
+                    .setDependedService(services.get(j)));
+            }
+        }
+        return services;
+    }
+
+    /**
+     * Creates a {@code MicoApplication} that includes the given services.
+     *
+     * @param services the {@link MicoService MicoServices}
+     * @return the {@link MicoApplication}
+     */
+    public static MicoApplication createApplication(List<MicoService> services) {
+        MicoApplication application = new MicoApplication()
+            .setShortName(APPLICATION_SHORT_NAME)
+            .setName("Benchmark Application")
+            .setVersion(VERSION)
+            .setDescription("Application used for benchmarks");
+        for (MicoService service : services) {
+            application.getServices().add(service);
+            application.getServiceDeploymentInfos().add(new MicoServiceDeploymentInfo().setService(service));
+        }
+        return application;
+    }
+
+    /**
+     * Creates running {@code Pods} that are distributed evenly across the given number of nodes.
+     *
+     * @param numberOfPods  the number of pods
+     * @param numberOfNodes the number of nodes
+     * @return the {@link List} of {@link Pod Pods}
+     */
+    public static List<Pod> createPods(int numberOfPods, int numberOfNodes) {
+        List<Pod> pods = new ArrayList<>(numberOfPods);
+        for (int i = 0; i < numberOfPods; i++) {
+            pods.add(new PodBuilder()
+                .withNewMetadata().withName("pod-" + i).endMetadata()
+                .withNewSpec().withNodeName("node-" + (i % numberOfNodes)).endSpec()
+                .withNewStatus()
+                .withPhase("Running")
+                .withHostIP("10.0.0." + (i % numberOfNodes))
+                .withStartTime("2019-01-01T00:00:00Z")
+                .withContainerStatuses(new ContainerStatusBuilder().withName("container").withRestartCount(i % 3).build())
+                .endStatus()
+                .build());
+        }
+        return pods;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.benchmarks;
+
+import io.github.ust.mico.core.MicoCoreApplication;
+import io.github.ust.mico.core.broker.MicoServiceBroker;
+import io.github.ust.mico.core.dto.response.MicoServiceDependencyGraphResponseDTO;
+import io.github.ust.mico.core.exception.MicoServiceNotFoundException;
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.persistence.MicoServiceRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the assembly of the dependency graph of a {@link MicoService}.
+ * The application context is started with the 'local' profile, i.e., with an embedded Neo4j database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyGraphBenchmark {
+
+    @Param({"10", "50"})
+    private int numberOfServices;
+
+    private ConfigurableApplicationContext context;
+    private MicoServiceBroker serviceBroker;
+    private MicoService rootService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(MicoCoreApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.profiles.active=local",
+                "--logging.level.io.github.ust.mico.core=WARN");
+
+        MicoServiceRepository serviceRepository = context.getBean(MicoServiceRepository.class);
+        serviceRepository.deleteAll();
+        List<MicoService> services = BenchmarkData.createServicesWithDependencies(numberOfServices);
+        serviceRepository.saveAll(services);
+
+        serviceBroker = context.getBean(MicoServiceBroker.class);
+        rootService = services.get(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MicoServiceDependencyGraphResponseDTO getDependencyGraph() throws MicoServiceNotFoundException {
+        return serviceBroker.getDependencyGraph(rootService);
+    }
+}
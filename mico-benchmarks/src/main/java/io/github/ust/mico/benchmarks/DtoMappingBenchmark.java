@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ust.mico.core.dto.response.MicoApplicationWithServicesResponseDTO;
+import io.github.ust.mico.core.dto.response.MicoServiceResponseDTO;
+import io.github.ust.mico.core.model.MicoApplication;
+import io.github.ust.mico.core.model.MicoService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the mapping of the domain model to the response DTOs
+ * and the serialization of the DTOs to JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int numberOfServices;
+
+    private List<MicoService> services;
+    private MicoApplication application;
+    private MicoApplicationWithServicesResponseDTO applicationDto;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        services = BenchmarkData.createServicesWithDependencies(numberOfServices);
+        application = BenchmarkData.createApplication(services);
+        applicationDto = new MicoApplicationWithServicesResponseDTO(application);
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public List<MicoServiceResponseDTO> mapServices() {
+        return services.stream().map(MicoServiceResponseDTO::new).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MicoApplicationWithServicesResponseDTO mapApplicationWithServices() {
+        return new MicoApplicationWithServicesResponseDTO(application);
+    }
+
+    @Benchmark
+    public byte[] serializeApplicationWithServices() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(applicationDto);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.benchmarks;
+
+import io.github.ust.mico.core.util.KubernetesNameNormalizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the normalization of names that are used for Kubernetes resources.
+ * {@link #normalizeName()} measures repeated inputs, which are served from the cache of the normalizer,
+ * {@link #normalizeUniqueName()} measures inputs that have not been normalized before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KubernetesNameNormalizerBenchmark {
+
+    @Param({"hello-world", "UST-MICO Service_Name.js", "r̀r̂r̃r̈rʼŕřt̀t̂ẗţỳỹẙyʼy̎ýÿŷp̂p̈s̀s̃", "1-name--._with?special#chars"})
+    private String name;
+
+    private KubernetesNameNormalizer normalizer;
+
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        normalizer = new KubernetesNameNormalizer();
+    }
+
+    @Benchmark
+    public String normalizeName() {
+        return normalizer.normalizeName(name);
+    }
+
+    @Benchmark
+    public String normalizeUniqueName() {
+        return normalizer.normalizeName(name + counter++);
+    }
+
+    @Benchmark
+    public String createBuildName() {
+        return normalizer.createBuildName("service-name", "v1.2.3");
+    }
+}
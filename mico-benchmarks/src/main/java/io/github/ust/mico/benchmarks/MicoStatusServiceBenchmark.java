@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.benchmarks;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.github.ust.mico.core.configuration.PrometheusConfig;
+import io.github.ust.mico.core.dto.response.internal.PrometheusResponseDTO;
+import io.github.ust.mico.core.dto.response.status.MicoApplicationStatusResponseDTO;
+import io.github.ust.mico.core.dto.response.status.MicoServiceStatusResponseDTO;
+import io.github.ust.mico.core.model.MicoApplication;
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.persistence.MicoApplicationRepository;
+import io.github.ust.mico.core.persistence.MicoServiceRepository;
+import io.github.ust.mico.core.service.MicoKubernetesClient;
+import io.github.ust.mico.core.service.MicoStatusService;
+import io.github.ust.mico.core.util.CollectionUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks the aggregation of the status information of services with large lists of pods.
+ * The Kubernetes client, Prometheus and the repositories are mocked,
+ * so only the computation within the {@link MicoStatusService} is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MicoStatusServiceBenchmark {
+
+    private static final int NUMBER_OF_NODES = 10;
+    private static final int NUMBER_OF_SERVICES = 5;
+
+    @Param({"100", "1000"})
+    private int numberOfPodsPerService;
+
+    private MicoStatusService statusService;
+    private MicoService service;
+    private MicoApplication application;
+
+    @Setup
+    public void setUp() {
+        List<MicoService> services = BenchmarkData.createServicesWithDependencies(NUMBER_OF_SERVICES);
+        service = services.get(0);
+        application = BenchmarkData.createApplication(services);
+        List<Pod> pods = BenchmarkData.createPods(numberOfPodsPerService, NUMBER_OF_NODES);
+
+        Deployment deployment = new DeploymentBuilder()
+            .withNewSpec().withReplicas(numberOfPodsPerService).endSpec()
+            .withNewStatus().withAvailableReplicas(numberOfPodsPerService).endStatus()
+            .build();
+        Service kubernetesService = new ServiceBuilder()
+            .withNewStatus().withNewLoadBalancer().addNewIngress().withIp("192.168.0.1").endIngress().endLoadBalancer().endStatus()
+            .build();
+
+        // Stub-only mocks don't record invocations, which would otherwise fill up the memory during the benchmark
+        MicoKubernetesClient kubernetesClient = mock(MicoKubernetesClient.class, withSettings().stubOnly());
+        given(kubernetesClient.getDeploymentOfMicoService(any(MicoService.class))).willReturn(Optional.of(deployment));
+        given(kubernetesClient.getPodsCreatedByDeploymentOfMicoService(any(MicoService.class))).willReturn(pods);
+        given(kubernetesClient.getInterfaceByNameOfMicoService(any(MicoService.class), anyString())).willReturn(Optional.of(kubernetesService));
+        given(kubernetesClient.isApplicationDeployed(any(MicoApplication.class))).willReturn(true);
+
+        RestTemplate restTemplate = mock(RestTemplate.class, withSettings().stubOnly());
+        given(restTemplate.getForEntity(any(URI.class), eq(PrometheusResponseDTO.class)))
+            .willReturn(ResponseEntity.ok(new PrometheusResponseDTO().setSuccess(true).setValue(42)));
+
+        MicoServiceRepository serviceRepository = mock(MicoServiceRepository.class, withSettings().stubOnly());
+        given(serviceRepository.findAllByApplication(anyString(), anyString())).willReturn(services);
+
+        MicoApplicationRepository applicationRepository = mock(MicoApplicationRepository.class, withSettings().stubOnly());
+        given(applicationRepository.findAllByUsedService(anyString(), anyString())).willReturn(CollectionUtils.listOf(application));
+
+        PrometheusConfig prometheusConfig = new PrometheusConfig();
+        prometheusConfig.setUri("http://localhost:9090/api/v1/query");
+
+        statusService = new MicoStatusService(prometheusConfig, kubernetesClient, restTemplate, serviceRepository, applicationRepository);
+    }
+
+    @Benchmark
+    public MicoServiceStatusResponseDTO getServiceStatus() {
+        return statusService.getServiceStatus(service);
+    }
+
+    @Benchmark
+    public MicoApplicationStatusResponseDTO getApplicationStatus() {
+        return statusService.getApplicationStatus(application);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.benchmarks;
+
+import com.github.zafarkhaja.semver.Version;
+import io.github.ust.mico.core.exception.VersionNotSupportedException;
+import io.github.ust.mico.core.model.MicoVersion;
+import io.github.ust.mico.core.util.Patterns;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks parsing and comparing of {@link MicoVersion MicoVersions}.
+ * The benchmarks with the suffix {@code Semver} use the java-semver {@link Version} directly
+ * (as {@code MicoVersion} did before it got its own parser) and serve as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MicoVersionBenchmark {
+
+    private static final int NUMBER_OF_VERSIONS = 1000;
+
+    @Param({"1.0.0", "v1.2.3", "v10.20.30-rc.1+build.5"})
+    private String version;
+
+    private MicoVersion first;
+    private MicoVersion second;
+    private List<MicoVersion> versions;
+    private Version firstSemver;
+    private Version secondSemver;
+    private List<Version> semverVersions;
+
+    @Setup
+    public void setUp() throws VersionNotSupportedException {
+        first = MicoVersion.valueOf("v1.2.3");
+        second = MicoVersion.valueOf("v1.2.4-rc.1");
+
+        // Fixed seed, so that every run sorts the same list
+        Random random = new Random(42);
+        versions = new ArrayList<>(NUMBER_OF_VERSIONS);
+        for (int i = 0; i < NUMBER_OF_VERSIONS; i++) {
+            versions.add(MicoVersion.forIntegersWithPrefix("v", random.nextInt(10), random.nextInt(20), random.nextInt(50)));
+        }
+
+        firstSemver = Version.valueOf("1.2.3");
+        secondSemver = Version.valueOf("1.2.4-rc.1");
+        semverVersions = new ArrayList<>(NUMBER_OF_VERSIONS);
+        for (MicoVersion micoVersion : versions) {
+            semverVersions.add(Version.forIntegers(micoVersion.getMajorVersion(),
+                micoVersion.getMinorVersion(), micoVersion.getPatchVersion()));
+        }
+    }
+
+    @Benchmark
+    public MicoVersion valueOf() throws VersionNotSupportedException {
+        return MicoVersion.valueOf(version);
+    }
+
+    @Benchmark
+    public Version valueOfSemver() {
+        String prefix = version.split("\\d+", 2)[0].trim();
+        if (!Pattern.matches(Patterns.ONLY_LETTERS_OR_EMPTY_REGEX, prefix)) {
+            throw new IllegalArgumentException("Illegal prefix");
+        }
+        return Version.valueOf(version.substring(prefix.length()).trim());
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return first.compareTo(second);
+    }
+
+    @Benchmark
+    public int compareToSemver() {
+        return firstSemver.compareTo(secondSemver);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<MicoVersion> sort() {
+        List<MicoVersion> copy = new ArrayList<>(versions);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Version> sortSemver() {
+        List<Version> copy = new ArrayList<>(semverVersions);
+        Collections.sort(copy);
+        return copy;
+    }
+}
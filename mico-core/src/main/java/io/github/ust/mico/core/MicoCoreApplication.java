@@ -20,6 +20,7 @@
 package io.github.ust.mico.core;
 
 import io.github.ust.mico.core.persistence.MicoBackgroundJobRepository;
+import io.github.ust.mico.core.persistence.MicoDeploymentBatchRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -27,6 +28,7 @@
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.data.redis.core.RedisKeyValueAdapter.EnableKeyspaceEvents;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
@@ -36,9 +38,13 @@
  */
 @SpringBootApplication
 @EnableNeo4jRepositories(basePackages = "io.github.ust.mico.core.persistence",
-    excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MicoBackgroundJobRepository.class))
+    excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = {MicoBackgroundJobRepository.class, MicoDeploymentBatchRepository.class}))
 @EnableRedisRepositories(basePackages = "io.github.ust.mico.core.persistence",
-    includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MicoBackgroundJobRepository.class))
+    includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = {MicoBackgroundJobRepository.class, MicoDeploymentBatchRepository.class}),
+    // Required to remove expired jobs also from the secondary indexes
+    enableKeyspaceEvents = EnableKeyspaceEvents.ON_DEMAND)
 @EnableScheduling
 public class MicoCoreApplication {
 
@@ -18,13 +18,22 @@
  */
 package io.github.ust.mico.core.broker;
 
+import io.github.ust.mico.core.configuration.MicoBackgroundJobConfig;
 import io.github.ust.mico.core.exception.MicoApplicationNotFoundException;
 import io.github.ust.mico.core.model.*;
 import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Status;
 import io.github.ust.mico.core.persistence.MicoApplicationRepository;
 import io.github.ust.mico.core.persistence.MicoBackgroundJobRepository;
+import io.github.ust.mico.core.persistence.MicoDeploymentBatchRepository;
+import io.github.ust.mico.core.service.BackgroundJobArchive;
+import io.github.ust.mico.core.service.BackgroundJobFutureRegistry;
+import io.github.ust.mico.core.service.imagebuilder.BuildScheduler;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -46,19 +55,54 @@ public class BackgroundJobBroker {
 
     private final MicoApplicationRepository applicationRepository;
 
+    private final MicoDeploymentBatchRepository deploymentBatchRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final MicoBackgroundJobConfig backgroundJobConfig;
+
+    private final BackgroundJobArchive backgroundJobArchive;
+
+    private final BackgroundJobFutureRegistry futureRegistry;
+
+    private final BuildScheduler buildScheduler;
+
     @Autowired
-    public BackgroundJobBroker(MicoBackgroundJobRepository jobRepository, MicoApplicationRepository applicationRepository) {
+    public BackgroundJobBroker(MicoBackgroundJobRepository jobRepository, MicoApplicationRepository applicationRepository,
+                               MicoDeploymentBatchRepository deploymentBatchRepository, MeterRegistry meterRegistry,
+                               MicoBackgroundJobConfig backgroundJobConfig, BackgroundJobArchive backgroundJobArchive,
+                               BackgroundJobFutureRegistry futureRegistry, BuildScheduler buildScheduler) {
         this.jobRepository = jobRepository;
         this.applicationRepository = applicationRepository;
+        this.deploymentBatchRepository = deploymentBatchRepository;
+        this.meterRegistry = meterRegistry;
+        this.backgroundJobConfig = backgroundJobConfig;
+        this.backgroundJobArchive = backgroundJobArchive;
+        this.futureRegistry = futureRegistry;
+        this.buildScheduler = buildScheduler;
     }
 
     /**
-     * Retrieves all jobs saved in database.
+     * Retrieves a page of the jobs saved in the database.
+     * The jobs can optionally be filtered by status and type.
      *
-     * @return a {@link List} of {@link MicoServiceBackgroundJob}.
+     * @param status   the optional {@link Status} the jobs must have
+     * @param type     the optional {@link MicoServiceBackgroundJob.Type} the jobs must have
+     * @param pageable the requested page
+     * @return a {@link Page} of {@link MicoServiceBackgroundJob}.
      */
-    public List<MicoServiceBackgroundJob> getAllJobs() {
-        return jobRepository.findAll();
+    public Page<MicoServiceBackgroundJob> getJobs(@Nullable Status status, @Nullable MicoServiceBackgroundJob.Type type, Pageable pageable) {
+        Page<MicoServiceBackgroundJob> jobs;
+        if (status != null && type != null) {
+            jobs = jobRepository.findByStatusAndType(status, type, pageable);
+        } else if (status != null) {
+            jobs = jobRepository.findByStatus(status, pageable);
+        } else if (type != null) {
+            jobs = jobRepository.findByType(type, pageable);
+        } else {
+            jobs = jobRepository.findAll(pageable);
+        }
+        return jobs.map(this::setQueuePosition);
     }
 
     /**
@@ -68,16 +112,21 @@ public List<MicoServiceBackgroundJob> getAllJobs() {
      * @return a {@link MicoServiceBackgroundJob}.
      */
     public Optional<MicoServiceBackgroundJob> getJobById(String id) {
-        return jobRepository.findById(id);
+        return jobRepository.findById(id).map(this::setQueuePosition);
     }
 
     /**
      * Save a job to the database.
+     * Finished jobs expire after the configured time to live.
      *
      * @param job the {@link MicoServiceBackgroundJob}
      * @return the saved {@link MicoServiceBackgroundJob}
      */
     public MicoServiceBackgroundJob saveJob(MicoServiceBackgroundJob job) {
+        if (job.getId() == null) {
+            countTransition(job.getType(), null, job.getStatus());
+        }
+        job.setTimeToLive(job.getStatus().isFinished() ? backgroundJobConfig.getTimeToLive() : null);
         MicoServiceBackgroundJob savedJob = jobRepository.save(job);
         log.debug("Saved job: {}", savedJob);
         return savedJob;
@@ -85,7 +134,8 @@ public MicoServiceBackgroundJob saveJob(MicoServiceBackgroundJob job) {
 
     /**
      * Deletes a job in the database.
-     * If the future is still running, it will be cancelled.
+     * If the future is still running, the job is cancelled (including the execution
+     * of its cancellation hook) and kept with the status {@link Status#CANCELLED} until it expires.
      *
      * @param id the id of the job.
      */
@@ -93,13 +143,13 @@ public void deleteJob(String id) {
         Optional<MicoServiceBackgroundJob> jobOptional = getJobById(id);
         if (jobOptional.isPresent()) {
             MicoServiceBackgroundJob job = jobOptional.get();
-            if (job.getFuture() != null && !job.getFuture().isCancelled()
-                && !job.getFuture().isCompletedExceptionally() && !job.getFuture().isDone()) {
+            if (futureRegistry.cancel(id)) {
                 log.warn("Job of type '{}' and current status '{}' of MicoService '{}' '{}' is going to be deleted, " +
-                    "but it's future is still running -> Cancel it.", job.getType(), job.getStatus(), job.getServiceShortName(), job.getServiceVersion());
-                job.getFuture().cancel(true);
+                    "but it's future is still running -> Cancelled it.", job.getType(), job.getStatus(), job.getServiceShortName(), job.getServiceVersion());
+                updateStatus(job, Status.CANCELLED, null);
+            } else {
+                jobRepository.delete(job);
             }
-            jobRepository.delete(job);
         }
     }
 
@@ -115,17 +165,69 @@ public MicoApplicationJobStatus getJobStatusByApplicationShortNameAndVersion(Str
         if (!existingApplicationOptional.isPresent()) {
             throw new MicoApplicationNotFoundException(shortName, version);
         }
-        MicoApplication micoApplication = existingApplicationOptional.get();
+        return getJobStatusOfApplication(existingApplicationOptional.get());
+    }
 
-        List<MicoServiceBackgroundJob> jobList = new ArrayList<>();
-        for (MicoService micoService : micoApplication.getServices()) {
-            jobList.addAll(jobRepository.findByServiceShortNameAndServiceVersion(micoService.getShortName(), micoService.getVersion()));
-        }
+    /**
+     * Retrieves the job status of a {@code MicoApplication} that is already loaded,
+     * i.e., the {@code MicoApplication} is not loaded from the database again.
+     *
+     * @param micoApplication the {@link MicoApplication} including its services.
+     * @return the {@link MicoApplicationJobStatus} with the status and jobs.
+     */
+    public MicoApplicationJobStatus getJobStatusOfApplication(MicoApplication micoApplication) {
+        List<MicoServiceBackgroundJob> jobList = jobRepository.findByServices(micoApplication.getServices());
+        jobList.forEach(this::setQueuePosition);
 
         List<MicoServiceBackgroundJob.Status> statusList = jobList.stream().map(MicoServiceBackgroundJob::getStatus).distinct().collect(Collectors.toList());
 
         // TODO: What should be the response if there are no jobs? (see issue mico#634)
-        return new MicoApplicationJobStatus(shortName, version, checkStatus(statusList), jobList);
+        return new MicoApplicationJobStatus(micoApplication.getShortName(), micoApplication.getVersion(), checkStatus(statusList), jobList);
+    }
+
+    /**
+     * Saves a deployment batch to the database.
+     * The batch expires after the configured time to live of background jobs.
+     *
+     * @param deploymentBatch the {@link MicoDeploymentBatch}
+     * @return the saved {@link MicoDeploymentBatch}
+     */
+    public MicoDeploymentBatch saveDeploymentBatch(MicoDeploymentBatch deploymentBatch) {
+        deploymentBatch.setTimeToLive(backgroundJobConfig.getTimeToLive());
+        MicoDeploymentBatch savedDeploymentBatch = deploymentBatchRepository.save(deploymentBatch);
+        log.debug("Saved deployment batch: {}", savedDeploymentBatch);
+        return savedDeploymentBatch;
+    }
+
+    /**
+     * Retrieves the aggregated job status of a {@code MicoDeploymentBatch}.
+     * Applications that were deleted in the meantime are reported with the status {@link Status#UNDEFINED}.
+     *
+     * @param id the id of the {@link MicoDeploymentBatch}.
+     * @return the {@link MicoDeploymentBatchJobStatus} with the aggregated status and the job status
+     * of each {@link MicoApplication}. Is empty if no batch exists for the given id.
+     */
+    public Optional<MicoDeploymentBatchJobStatus> getDeploymentBatchJobStatus(String id) {
+        Optional<MicoDeploymentBatch> deploymentBatchOptional = deploymentBatchRepository.findById(id);
+        if (!deploymentBatchOptional.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<MicoApplicationJobStatus> applicationJobStatuses = new ArrayList<>();
+        for (MicoDeploymentBatch.Application application : deploymentBatchOptional.get().getApplications()) {
+            try {
+                applicationJobStatuses.add(getJobStatusByApplicationShortNameAndVersion(application.getShortName(), application.getVersion()));
+            } catch (MicoApplicationNotFoundException e) {
+                log.warn("MicoApplication '{}' '{}' of deployment batch '{}' does not exist anymore.",
+                    application.getShortName(), application.getVersion(), id);
+                applicationJobStatuses.add(new MicoApplicationJobStatus()
+                    .setApplicationShortName(application.getShortName())
+                    .setApplicationVersion(application.getVersion()));
+            }
+        }
+
+        List<Status> statusList = applicationJobStatuses.stream().map(MicoApplicationJobStatus::getStatus).distinct().collect(Collectors.toList());
+        return Optional.of(new MicoDeploymentBatchJobStatus(id, checkStatus(statusList), applicationJobStatuses));
     }
 
     /**
@@ -137,29 +239,21 @@ public MicoApplicationJobStatus getJobStatusByApplicationShortNameAndVersion(Str
      * @return the optional Job. Is empty if no Job exist for the given {@link MicoService}
      */
     public Optional<MicoServiceBackgroundJob> getJobByMicoService(String micoServiceShortName, String micoServiceVersion, MicoServiceBackgroundJob.Type type) {
-        return jobRepository.findByServiceShortNameAndServiceVersionAndType(micoServiceShortName, micoServiceVersion, type);
+        return jobRepository.findByServiceShortNameAndServiceVersionAndType(micoServiceShortName, micoServiceVersion, type)
+            .map(this::setQueuePosition);
     }
 
     /**
-     * Saves a future of a job to the database.
+     * Registers the future of a saved job. The future is only kept in memory as long as it is running.
      *
-     * @param micoServiceShortName the short name of a {@link MicoService}
-     * @param micoServiceVersion   the version of a {@link MicoService}
-     * @param future               the future as a {@link CompletableFuture}
-     * @param type                 the {@link MicoServiceBackgroundJob.Type}
+     * @param job              the saved {@link MicoServiceBackgroundJob}
+     * @param future           the future as a {@link CompletableFuture}
+     * @param cancellationHook the optional hook that is executed if the job is cancelled
      */
-    public void saveFutureOfJob(String micoServiceShortName, String micoServiceVersion, MicoServiceBackgroundJob.Type type,
-                                CompletableFuture<?> future) {
-        Optional<MicoServiceBackgroundJob> jobOptional = getJobByMicoService(micoServiceShortName, micoServiceVersion, type);
-        if (jobOptional.isPresent()) {
-            MicoServiceBackgroundJob job = jobOptional.get();
-            job.setFuture(future);
-            saveJob(job);
-            log.debug("Saved new future of job '{}' with type '{}' for MicoService '{}' '{}'.",
-                job.getId(), type, micoServiceShortName, micoServiceVersion);
-        } else {
-            log.warn("No job of type '{}' exists for '{}' '{}'.", type, micoServiceShortName, micoServiceVersion);
-        }
+    public void registerFutureOfJob(MicoServiceBackgroundJob job, CompletableFuture<?> future, @Nullable Runnable cancellationHook) {
+        futureRegistry.register(job.getId(), future, cancellationHook);
+        log.debug("Registered future of job '{}' with type '{}' for MicoService '{}' '{}'.",
+            job.getId(), job.getType(), job.getServiceShortName(), job.getServiceVersion());
     }
 
     /**
@@ -177,6 +271,7 @@ public void saveNewStatus(String micoServiceShortName, String micoServiceVersion
 
     /**
      * Saves a new status of a job to the database.
+     * If the job is finished, it is also added to the archive.
      *
      * @param micoServiceShortName the short name of a {@link MicoService}
      * @param micoServiceVersion   the version of a {@link MicoService}
@@ -188,30 +283,74 @@ public void saveNewStatus(String micoServiceShortName, String micoServiceVersion
                               MicoServiceBackgroundJob.Status newStatus, @Nullable String errorMessage) {
         Optional<MicoServiceBackgroundJob> jobOptional = getJobByMicoService(micoServiceShortName, micoServiceVersion, type);
         if (jobOptional.isPresent()) {
-            MicoServiceBackgroundJob job = jobOptional.get();
-            if (!job.getStatus().equals(newStatus)) {
-                log.info("Job of '{}' '{}' with type '{}' changed its status: {} → {}.",
-                    micoServiceShortName, micoServiceVersion, type, job.getStatus(), newStatus);
-                if (newStatus.equals(MicoServiceBackgroundJob.Status.ERROR) && !StringUtils.isEmpty(errorMessage)) {
-                    log.warn("Job of '{}' '{}' with type '{}' failed. Reason: {}.",
-                        micoServiceShortName, micoServiceVersion, type, errorMessage);
-                }
-                job.setStatus(newStatus);
-                job.setErrorMessage(errorMessage);
-                saveJob(job);
-            }
+            updateStatus(jobOptional.get(), newStatus, errorMessage);
         } else {
             log.warn("No job of type '{}' exists for '{}' '{}'.", type, micoServiceShortName, micoServiceVersion);
         }
     }
 
+    /**
+     * Sets the position of a pending build job in the queue of the {@link BuildScheduler}.
+     *
+     * @param job the {@link MicoServiceBackgroundJob}
+     * @return the same {@link MicoServiceBackgroundJob}
+     */
+    private MicoServiceBackgroundJob setQueuePosition(MicoServiceBackgroundJob job) {
+        if (job.getType() == MicoServiceBackgroundJob.Type.BUILD && job.getStatus() == Status.PENDING && job.getId() != null) {
+            job.setQueuePosition(buildScheduler.getQueuePosition(job.getId()).orElse(null));
+        }
+        return job;
+    }
+
+    /**
+     * Saves a new status of the given job, if the status has changed.
+     * If the job is finished, it is also added to the archive.
+     *
+     * @param job          the {@link MicoServiceBackgroundJob}
+     * @param newStatus    the new {@link MicoServiceBackgroundJob.Status}
+     * @param errorMessage the optional error message if the job has failed
+     */
+    private void updateStatus(MicoServiceBackgroundJob job, Status newStatus, @Nullable String errorMessage) {
+        if (!job.getStatus().equals(newStatus)) {
+            log.info("Job of '{}' '{}' with type '{}' changed its status: {} → {}.",
+                job.getServiceShortName(), job.getServiceVersion(), job.getType(), job.getStatus(), newStatus);
+            if ((newStatus == Status.ERROR || newStatus == Status.TIMED_OUT) && !StringUtils.isEmpty(errorMessage)) {
+                log.warn("Job of '{}' '{}' with type '{}' failed. Reason: {}.",
+                    job.getServiceShortName(), job.getServiceVersion(), job.getType(), errorMessage);
+            }
+            countTransition(job.getType(), job.getStatus(), newStatus);
+            job.setStatus(newStatus);
+            job.setErrorMessage(errorMessage);
+            MicoServiceBackgroundJob savedJob = saveJob(job);
+            if (newStatus.isFinished()) {
+                backgroundJobArchive.archive(savedJob);
+            }
+        }
+    }
+
+    /**
+     * Increments the counter for the given status transition of a job.
+     *
+     * @param type       the {@link MicoServiceBackgroundJob.Type}
+     * @param fromStatus the previous {@link Status}, {@code null} if the job is new
+     * @param toStatus   the new {@link Status}
+     */
+    private void countTransition(MicoServiceBackgroundJob.Type type, @Nullable Status fromStatus, Status toStatus) {
+        meterRegistry.counter(MetricsUtils.JOB_TRANSITIONS,
+            "type", String.valueOf(type),
+            "from", fromStatus != null ? fromStatus.toString() : MetricsUtils.NONE,
+            "to", String.valueOf(toStatus)).increment();
+    }
+
     /**
      * Retrieves the {@code Status} which is most relevant. The order
      * of relevance is as follows:
      * <ol>
      * <li>{@link Status#ERROR}</li>
+     * <li>{@link Status#TIMED_OUT}</li>
      * <li>{@link Status#PENDING}</li>
      * <li>{@link Status#RUNNING}</li>
+     * <li>{@link Status#CANCELLED}</li>
      * <li>{@link Status#DONE}</li>
      * </ol>
      *
@@ -221,10 +360,14 @@ public void saveNewStatus(String micoServiceShortName, String micoServiceVersion
     private Status checkStatus(List<Status> statusList) {
         if (statusList.contains(Status.ERROR)) {
             return Status.ERROR;
+        } else if (statusList.contains(Status.TIMED_OUT)) {
+            return Status.TIMED_OUT;
         } else if (statusList.contains(Status.PENDING)) {
             return Status.PENDING;
         } else if (statusList.contains(Status.RUNNING)) {
             return Status.RUNNING;
+        } else if (statusList.contains(Status.CANCELLED)) {
+            return Status.CANCELLED;
         } else if (statusList.contains(Status.DONE)) {
             return Status.DONE;
         }
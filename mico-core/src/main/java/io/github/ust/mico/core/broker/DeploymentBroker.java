@@ -1,27 +1,31 @@
 package io.github.ust.mico.core.broker;
 
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.github.ust.mico.core.configuration.MicoKubernetesBuildBotConfig;
 import io.github.ust.mico.core.exception.*;
 import io.github.ust.mico.core.model.*;
 import io.github.ust.mico.core.persistence.MicoServiceDeploymentInfoRepository;
 import io.github.ust.mico.core.persistence.MicoServiceRepository;
+import io.github.ust.mico.core.service.DeploymentRolloutTracker;
 import io.github.ust.mico.core.service.MicoKubernetesClient;
+import io.github.ust.mico.core.service.imagebuilder.BuildScheduler;
 import io.github.ust.mico.core.service.imagebuilder.ImageBuilder;
+import io.github.ust.mico.core.service.imagebuilder.ImageBuilder.BuildResourceDeletionReason;
 import io.github.ust.mico.core.util.FutureUtils;
+import io.github.ust.mico.core.util.QuantityUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeoutException;
-import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import java.util.*;
+import java.util.concurrent.*;
 
 import static java.util.stream.Collectors.toList;
 
@@ -47,148 +51,474 @@ public class DeploymentBroker {
     @Autowired
     private MicoServiceRepository serviceRepository;
 
-    public MicoApplicationJobStatus deployApplication(String shortName, String version) throws MicoApplicationNotFoundException, MicoServiceInterfaceNotFoundException, MicoApplicationDoesNotIncludeMicoServiceException, DeploymentException {
+    @Autowired
+    private MicoKubernetesBuildBotConfig buildBotConfig;
+
+    @Autowired
+    private BuildScheduler buildScheduler;
+
+    @Autowired
+    private DeploymentRolloutTracker rolloutTracker;
+
+    private ExecutorService undeployExecutor;
+
+    @PostConstruct
+    public void init() {
+        undeployExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("mico-undeploy-job-"));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        undeployExecutor.shutdownNow();
+    }
+
+    /**
+     * Deploys a {@code MicoApplication}. The builds of its {@code MicoServices} are queued
+     * in the {@link BuildScheduler} with the given priority.
+     *
+     * @param shortName the short name of the {@link MicoApplication}
+     * @param version   the version of the {@link MicoApplication}
+     * @param priority  the {@link MicoServiceBackgroundJob.Priority} of the builds
+     * @return the {@link MicoApplicationJobStatus} with the job status of the {@link MicoApplication}
+     */
+    public MicoApplicationJobStatus deployApplication(String shortName, String version, MicoServiceBackgroundJob.Priority priority) throws MicoApplicationNotFoundException, MicoServiceInterfaceNotFoundException, MicoApplicationDoesNotIncludeMicoServiceException, DeploymentException, MicoApplicationIsUndeployingException, MicoServiceResourceRequestExceedsLimitException {
 
         MicoApplication micoApplication = micoApplicationBroker.getMicoApplicationByShortNameAndVersion(shortName, version);
 
         checkIfMicoApplicationIsDeployable(micoApplication);
 
-        log.info("Deploy MicoApplication '{}' in version '{}' with {} included MicoService(s).",
-            shortName, version, micoApplication.getServices().size());
-        List<CompletableFuture<MicoServiceDeploymentInfo>> buildJobs = new ArrayList<>();
-        for (MicoService micoService : micoApplication.getServices()) {
-            log.debug("Checking MicoService '{}' '{}' ...", micoService.getShortName(), micoService.getVersion());
-            // Check if a build for this MicoService is already running.
-            // If yes no build is required, lock changes to running jobs.
-            // If the current job status is done, error or cancel delete it and create a new job to get a new id.
-            Optional<MicoServiceBackgroundJob> jobOptional = backgroundJobBroker.getJobByMicoService(
-                micoService.getShortName(), micoService.getVersion(), MicoServiceBackgroundJob.Type.BUILD);
-            if (jobOptional.isPresent()) {
-                if (jobOptional.get().getStatus() != MicoServiceBackgroundJob.Status.RUNNING) {
-                    backgroundJobBroker.deleteJob(jobOptional.get().getId());
-                } else {
-                    log.info("Build job of MicoService '{}' '{}' is already running.",
+        deploy(Collections.singletonList(micoApplication), priority);
+
+        return backgroundJobBroker.getJobStatusOfApplication(micoApplication);
+    }
+
+    /**
+     * Deploys several {@code MicoApplications} at once. All applications are checked before
+     * the deployment starts, so either all or none of them are deployed.
+     * {@code MicoServices} that are included by more than one of the applications are only built once.
+     *
+     * @param applications the {@link MicoDeploymentBatch.Application applications} to deploy, duplicates are ignored
+     * @param priority     the {@link MicoServiceBackgroundJob.Priority} of the builds
+     * @return the {@link MicoDeploymentBatchJobStatus} with the aggregated job status of all applications
+     */
+    public MicoDeploymentBatchJobStatus deployApplications(List<MicoDeploymentBatch.Application> applications, MicoServiceBackgroundJob.Priority priority) throws MicoApplicationNotFoundException, MicoServiceInterfaceNotFoundException, MicoApplicationDoesNotIncludeMicoServiceException, DeploymentException, MicoApplicationIsUndeployingException, MicoServiceResourceRequestExceedsLimitException {
+        List<MicoDeploymentBatch.Application> distinctApplications = new ArrayList<>(new LinkedHashSet<>(applications));
+        List<MicoApplication> micoApplications = new ArrayList<>();
+        for (MicoDeploymentBatch.Application application : distinctApplications) {
+            MicoApplication micoApplication = micoApplicationBroker.getMicoApplicationByShortNameAndVersion(
+                application.getShortName(), application.getVersion());
+            checkIfMicoApplicationIsDeployable(micoApplication);
+            micoApplications.add(micoApplication);
+        }
+
+        deploy(micoApplications, priority);
+
+        // Saved only after the deployment is started, so a failed deployment leaves no batch without jobs behind
+        MicoDeploymentBatch deploymentBatch = backgroundJobBroker.saveDeploymentBatch(
+            new MicoDeploymentBatch().setApplications(distinctApplications));
+        log.info("Deploy {} MicoApplication(s) with deployment batch '{}'.", micoApplications.size(), deploymentBatch.getId());
+
+        return backgroundJobBroker.getDeploymentBatchJobStatus(deploymentBatch.getId()).orElseThrow(() ->
+            new IllegalStateException("Deployment batch '" + deploymentBatch.getId() + "' could not be found."));
+    }
+
+    /**
+     * Builds the {@code MicoServices} of the given applications and creates the Kubernetes resources
+     * of each application as soon as all of its builds are finished.
+     *
+     * @param micoApplications the {@link MicoApplication MicoApplications} to deploy
+     * @param priority         the {@link MicoServiceBackgroundJob.Priority} of the builds
+     */
+    private void deploy(List<MicoApplication> micoApplications, MicoServiceBackgroundJob.Priority priority) {
+        // Resolve the service deployment information of all applications first,
+        // so an inconsistent application fails the deployment before any build is started.
+        Map<MicoApplication, List<MicoServiceDeploymentInfo>> serviceDeploymentInfosByApplication = new LinkedHashMap<>();
+        for (MicoApplication micoApplication : micoApplications) {
+            List<MicoServiceDeploymentInfo> serviceDeploymentInfos = new ArrayList<>();
+            for (MicoService micoService : micoApplication.getServices()) {
+                Optional<MicoServiceDeploymentInfo> serviceDeploymentInfoOptional = serviceDeploymentInfoRepository
+                    .findByApplicationAndService(micoApplication.getShortName(), micoApplication.getVersion(),
                         micoService.getShortName(), micoService.getVersion());
+                serviceDeploymentInfos.add(serviceDeploymentInfoOptional.orElseThrow(() ->
+                    new IllegalStateException("Service deployment information for service '" + micoService.getShortName()
+                        + "' in application '" + micoApplication.getShortName() + "' '" + micoApplication.getVersion()
+                        + "' could not be found.")));
+            }
+            serviceDeploymentInfosByApplication.put(micoApplication, serviceDeploymentInfos);
+        }
+
+        // Build jobs by the short name and the version of the MicoService,
+        // so each MicoService is built only once even if it is included by several applications.
+        Map<String, CompletableFuture<String>> buildJobs = new HashMap<>();
+        List<MicoService> startedBuilds = new ArrayList<>();
+        try {
+            serviceDeploymentInfosByApplication.forEach((micoApplication, serviceDeploymentInfos) ->
+                deploy(micoApplication, serviceDeploymentInfos, priority, buildJobs, startedBuilds));
+        } catch (RuntimeException e) {
+            // All or none: Cancel the builds that were already started for this deployment
+            log.warn("Deployment failed after {} build(s) were started, cancel them: {}", startedBuilds.size(), e.getMessage());
+            cancelBuildJobs(startedBuilds);
+            throw e;
+        }
+    }
+
+    /**
+     * Builds the {@code MicoServices} of a single application and creates its Kubernetes resources
+     * as soon as all of its builds are finished.
+     *
+     * @param micoApplication        the {@link MicoApplication} to deploy
+     * @param serviceDeploymentInfos the {@link MicoServiceDeploymentInfo MicoServiceDeploymentInfos} of the application
+     * @param priority               the {@link MicoServiceBackgroundJob.Priority} of the builds
+     * @param buildJobs              the build jobs of the whole deployment by the short name and the version of the {@link MicoService}
+     * @param startedBuilds          the {@link MicoService MicoServices} whose builds were started by the whole deployment
+     */
+    private void deploy(MicoApplication micoApplication, List<MicoServiceDeploymentInfo> serviceDeploymentInfos,
+                        MicoServiceBackgroundJob.Priority priority, Map<String, CompletableFuture<String>> buildJobs,
+                        List<MicoService> startedBuilds) {
+        log.info("Deploy MicoApplication '{}' in version '{}' with {} included MicoService(s).",
+            micoApplication.getShortName(), micoApplication.getVersion(), micoApplication.getServices().size());
+        List<CompletableFuture<MicoServiceDeploymentInfo>> buildJobsOfApplication = new ArrayList<>();
+        for (MicoServiceDeploymentInfo serviceDeploymentInfo : serviceDeploymentInfos) {
+            MicoService micoService = serviceDeploymentInfo.getService();
+            deleteUndeployJob(micoService);
+
+            String buildJobKey = micoService.getShortName() + ":" + micoService.getVersion();
+            CompletableFuture<String> buildJob = buildJobs.get(buildJobKey);
+            if (buildJob != null) {
+                log.debug("Build of MicoService '{}' '{}' is already started by another MicoApplication of this deployment.",
+                    micoService.getShortName(), micoService.getVersion());
+            } else {
+                Optional<CompletableFuture<String>> buildJobOptional = startBuildJob(micoService, micoApplication, priority);
+                if (!buildJobOptional.isPresent()) {
                     continue;
                 }
+                buildJob = buildJobOptional.get();
+                buildJobs.put(buildJobKey, buildJob);
+                startedBuilds.add(micoService);
             }
-            MicoServiceBackgroundJob job = new MicoServiceBackgroundJob()
-                .setServiceShortName(micoService.getShortName())
-                .setServiceVersion(micoService.getVersion())
-                .setType(MicoServiceBackgroundJob.Type.BUILD)
-                .setStatus(MicoServiceBackgroundJob.Status.RUNNING);
-            backgroundJobBroker.saveJob(job);
-
-            Optional<MicoServiceDeploymentInfo> serviceDeploymentInfoOptional = serviceDeploymentInfoRepository
-                .findByApplicationAndService(micoApplication.getShortName(), micoApplication.getVersion(),
-                    micoService.getShortName(), micoService.getVersion());
-            MicoServiceDeploymentInfo serviceDeploymentInfo = serviceDeploymentInfoOptional.orElseThrow(() ->
-                new IllegalStateException("Service deployment information for service '" + micoService.getShortName()
-                    + "' in application '" + micoApplication.getShortName() + "' '" + micoApplication.getVersion()
-                    + "' could not be found."));
-
-            log.info("Start build of MicoService '{}' '{}'.", micoService.getShortName(), micoService.getVersion());
-            CompletableFuture<MicoServiceDeploymentInfo> buildJob = CompletableFuture.supplyAsync(() -> buildMicoService(serviceDeploymentInfo))
-                .exceptionally(ex -> {
-                    // Build failed
-                    backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
-                        MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.ERROR, ExceptionUtils.getRootCauseMessage(ex));
-                    List<CompletableFuture<MicoServiceDeploymentInfo>> runningBuildJobs = buildJobs.stream()
-                        .filter(j -> !j.isDone() && !j.isCancelled() && !j.isCompletedExceptionally()).collect(Collectors.toList());
-                    if (runningBuildJobs.size() > 1) {
-                        log.debug("There are still {} other job(s) running for the deployment of MicoApplication '{}' '{}'",
-                            runningBuildJobs.size() - 1, micoApplication.getShortName(), micoApplication.getVersion());
-                    }
+            // A failed build results in null
+            buildJobsOfApplication.add(buildJob.thenApply(dockerImageUri -> {
+                if (dockerImageUri == null) {
                     return null;
-                });
-            log.debug("Started build of MicoService '{}' in version '{}'.", micoService.getShortName(), micoService.getVersion());
-            buildJobs.add(buildJob);
-            backgroundJobBroker.saveFutureOfJob(micoService.getShortName(), micoService.getVersion(), MicoServiceBackgroundJob.Type.BUILD, buildJob);
+                }
+                serviceDeploymentInfo.getService().setDockerImageUri(dockerImageUri);
+                return serviceDeploymentInfo;
+            }));
         }
 
         // When all build jobs are finished, create the Kubernetes resources for the deployment of a MicoService
-        CompletableFuture<List<MicoServiceDeploymentInfo>> allBuildJobs = FutureUtils.all(buildJobs);
-        allBuildJobs.whenComplete((serviceDeploymentInfosWithNullValues, throwable) -> {
-            // All failed builds lead to a null in the service deployment list.
-            long failedJobs = serviceDeploymentInfosWithNullValues.stream().filter(Objects::isNull).count();
-            if (failedJobs > 0) {
-                log.warn("{} build job(s) failed. Skip creating / updating of Kubernetes resources.", failedJobs);
-                return;
-            }
+        FutureUtils.all(buildJobsOfApplication).whenComplete((serviceDeploymentInfosWithNullValues, throwable) ->
+            createKubernetesResources(micoApplication, serviceDeploymentInfosWithNullValues));
+    }
 
-            List<MicoServiceDeploymentInfo> serviceDeploymentInfos = serviceDeploymentInfosWithNullValues.stream()
-                .filter(Objects::nonNull).collect(toList());
-            log.info("All {} build job(s) for the deployment of MicoApplication '{}' '{}' finished successfully. " +
-                    "Start creating or updating Kubernetes resources.", serviceDeploymentInfos.size(),
-                micoApplication.getShortName(), micoApplication.getVersion());
+    /**
+     * Cancels the build jobs of the given {@code MicoServices}.
+     * Cancelled builds lead to skipping the creation of the Kubernetes resources of their applications.
+     *
+     * @param micoServices the {@link MicoService MicoServices}
+     */
+    private void cancelBuildJobs(List<MicoService> micoServices) {
+        for (MicoService micoService : micoServices) {
+            backgroundJobBroker.getJobByMicoService(micoService.getShortName(), micoService.getVersion(),
+                MicoServiceBackgroundJob.Type.BUILD).ifPresent(job -> backgroundJobBroker.deleteJob(job.getId()));
+        }
+    }
 
-            for (MicoServiceDeploymentInfo serviceDeploymentInfo : serviceDeploymentInfos) {
-                MicoService micoService = serviceDeploymentInfo.getService();
-                try {
-                    KubernetesDeploymentInfo kubernetesDeploymentInfo = createOrUpdateKubernetesResources(serviceDeploymentInfo);
-                    serviceDeploymentInfo.setKubernetesDeploymentInfo(kubernetesDeploymentInfo);
-                    backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
-                        MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.DONE);
-                } catch (Exception e) {
-                    backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
-                        MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.ERROR, e.getMessage());
-                    log.error(e.getMessage(), e);
-                }
+    /**
+     * Queues the build of a {@code MicoService} in the {@link BuildScheduler}. No build is queued, if there is already
+     * a queued or running build job for the {@code MicoService}.
+     *
+     * @param micoService     the {@link MicoService}
+     * @param micoApplication the {@link MicoApplication} that requested the build
+     * @param priority        the {@link MicoServiceBackgroundJob.Priority} of the build
+     * @return the build job that results in the URI of the Docker image or in {@code null} if the build failed.
+     * Is empty if the build is already queued or running.
+     */
+    private Optional<CompletableFuture<String>> startBuildJob(MicoService micoService, MicoApplication micoApplication,
+                                                              MicoServiceBackgroundJob.Priority priority) {
+        log.debug("Checking MicoService '{}' '{}' ...", micoService.getShortName(), micoService.getVersion());
+        // Check if a build for this MicoService is already queued or running.
+        // If yes no build is required, lock changes to running jobs.
+        // If the current job status is done, error or cancel delete it and create a new job to get a new id.
+        Optional<MicoServiceBackgroundJob> jobOptional = backgroundJobBroker.getJobByMicoService(
+            micoService.getShortName(), micoService.getVersion(), MicoServiceBackgroundJob.Type.BUILD);
+        if (jobOptional.isPresent()) {
+            MicoServiceBackgroundJob existingJob = jobOptional.get();
+            if (existingJob.getStatus() != MicoServiceBackgroundJob.Status.RUNNING
+                && (existingJob.getId() == null || !buildScheduler.isQueued(existingJob.getId()))) {
+                backgroundJobBroker.deleteJob(existingJob.getId());
+            } else {
+                log.info("Build job of MicoService '{}' '{}' is already queued or running.",
+                    micoService.getShortName(), micoService.getVersion());
+                return Optional.empty();
             }
+        }
+        MicoServiceBackgroundJob job = new MicoServiceBackgroundJob()
+            .setServiceShortName(micoService.getShortName())
+            .setServiceVersion(micoService.getVersion())
+            .setType(MicoServiceBackgroundJob.Type.BUILD)
+            .setStatus(MicoServiceBackgroundJob.Status.PENDING)
+            .setPriority(priority);
+        backgroundJobBroker.saveJob(job);
+
+        log.info("Queue build of MicoService '{}' '{}' with priority {}.",
+            micoService.getShortName(), micoService.getVersion(), priority);
+        String applicationKey = micoApplication.getShortName() + ":" + micoApplication.getVersion();
+        CompletableFuture<String> build = buildScheduler.schedule(job.getId(), micoService, applicationKey, priority, () -> {
+            backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.RUNNING);
+            return buildMicoService(micoService);
+        });
+        CompletableFuture<String> buildJob = build.exceptionally(ex -> {
+            if (ex instanceof CancellationException) {
+                // The job is already marked as cancelled
+                log.info("Build of MicoService '{}' '{}' was cancelled.", micoService.getShortName(), micoService.getVersion());
+            } else if (ExceptionUtils.indexOfThrowable(ex, TimeoutException.class) != -1) {
+                // The build resources are already deleted by the image builder
+                backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                    MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.TIMED_OUT,
+                    "Build did not finish within " + buildBotConfig.getBuildTimeout() + " seconds.");
+            } else {
+                // Build failed
+                backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                    MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.ERROR, ExceptionUtils.getRootCauseMessage(ex));
+            }
+            return null;
+        });
+        log.debug("Queued build of MicoService '{}' in version '{}'.", micoService.getShortName(), micoService.getVersion());
+        // Cancelling the job deletes the build, so the build pod does not occupy any resources anymore
+        backgroundJobBroker.registerFutureOfJob(job, build,
+            () -> imageBuilder.deleteBuildResources(micoService, BuildResourceDeletionReason.CANCELLATION));
+        return Optional.of(buildJob);
+    }
+
+    /**
+     * Creates or updates the Kubernetes resources of a {@code MicoApplication} after all of its builds are finished.
+     *
+     * @param micoApplication                      the {@link MicoApplication}
+     * @param serviceDeploymentInfosWithNullValues the {@link MicoServiceDeploymentInfo MicoServiceDeploymentInfos}
+     *                                             of the built {@link MicoService MicoServices},
+     *                                             {@code null} for each failed build
+     */
+    private void createKubernetesResources(MicoApplication micoApplication, List<MicoServiceDeploymentInfo> serviceDeploymentInfosWithNullValues) {
+        // All failed builds lead to a null in the service deployment list.
+        long failedJobs = serviceDeploymentInfosWithNullValues.stream().filter(Objects::isNull).count();
+        if (failedJobs > 0) {
+            log.warn("{} build job(s) of MicoApplication '{}' '{}' failed. Skip creating / updating of Kubernetes resources.",
+                failedJobs, micoApplication.getShortName(), micoApplication.getVersion());
+            return;
+        }
 
-            // After the Kubernetes deployments are created, save the actual deployment information to the database.
-            for (MicoServiceDeploymentInfo serviceDeploymentInfo : serviceDeploymentInfos) {
-                // Save the ServiceDeploymentInfo entity with a depth of 1 to the database.
-                // A new node for the KubernetesDeploymentInfo
-                // and a relation to the existing ServiceDeploymentInfo node will be created.
-                MicoServiceDeploymentInfo savedServiceDeploymentInfo = serviceDeploymentInfoRepository.save(serviceDeploymentInfo, 1);
-                log.debug("Saved new Kubernetes deployment information of MicoService '{}' '{}' for MicoApplication '{}' '{} to database: {}",
-                    savedServiceDeploymentInfo.getService().getShortName(),
-                    savedServiceDeploymentInfo.getService().getVersion(),
-                    micoApplication.getShortName(), micoApplication.getVersion(),
-                    savedServiceDeploymentInfo.getKubernetesDeploymentInfo());
+        List<MicoServiceDeploymentInfo> serviceDeploymentInfos = serviceDeploymentInfosWithNullValues.stream()
+            .filter(Objects::nonNull).collect(toList());
+        log.info("All {} build job(s) for the deployment of MicoApplication '{}' '{}' finished successfully. " +
+                "Start creating or updating Kubernetes resources.", serviceDeploymentInfos.size(),
+            micoApplication.getShortName(), micoApplication.getVersion());
+
+        // Builds that were already queued or running are skipped, so the list does not match the services of the application
+        for (MicoServiceDeploymentInfo serviceDeploymentInfo : serviceDeploymentInfos) {
+            MicoService micoService = serviceDeploymentInfo.getService();
+            try {
+                KubernetesDeploymentInfo kubernetesDeploymentInfo = createOrUpdateKubernetesResources(micoApplication, serviceDeploymentInfo);
+                serviceDeploymentInfo.setKubernetesDeploymentInfo(kubernetesDeploymentInfo);
+                trackRollout(micoService, kubernetesDeploymentInfo);
+            } catch (Exception e) {
+                backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                    MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.ERROR, e.getMessage());
+                log.error(e.getMessage(), e);
             }
+        }
 
-            // At last set up the connections between the deployed MicoServices
-            micoKubernetesClient.createOrUpdateInterfaceConnections(micoApplication);
+        // After the Kubernetes deployments are created, save the actual deployment information to the database.
+        for (MicoServiceDeploymentInfo serviceDeploymentInfo : serviceDeploymentInfos) {
+            // Save the ServiceDeploymentInfo entity with a depth of 1 to the database.
+            // A new node for the KubernetesDeploymentInfo
+            // and a relation to the existing ServiceDeploymentInfo node will be created.
+            MicoServiceDeploymentInfo savedServiceDeploymentInfo = serviceDeploymentInfoRepository.save(serviceDeploymentInfo, 1);
+            log.debug("Saved new Kubernetes deployment information of MicoService '{}' '{}' for MicoApplication '{}' '{} to database: {}",
+                savedServiceDeploymentInfo.getService().getShortName(),
+                savedServiceDeploymentInfo.getService().getVersion(),
+                micoApplication.getShortName(), micoApplication.getVersion(),
+                savedServiceDeploymentInfo.getKubernetesDeploymentInfo());
+        }
 
-            log.info("Finished creating or updating Kubernetes resources for the deployment of MicoApplication '{}' '{}'.",
-                micoApplication.getShortName(), micoApplication.getVersion());
-        });
+        // At last set up the connections between the deployed MicoServices
+        micoKubernetesClient.createOrUpdateInterfaceConnections(micoApplication);
 
-        return backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(shortName, version);
+        log.info("Finished creating or updating Kubernetes resources for the deployment of MicoApplication '{}' '{}'.",
+            micoApplication.getShortName(), micoApplication.getVersion());
     }
 
-    public void undeployApplication(String shortName, String version) throws MicoApplicationNotFoundException, MicoApplicationIsDeployingException {
+    /**
+     * Undeploys a {@code MicoApplication} asynchronously. The progress is reported by the
+     * {@link MicoServiceBackgroundJob.Type#UNDEPLOY UNDEPLOY} jobs of its {@code MicoServices}.
+     *
+     * @param shortName the short name of the {@link MicoApplication}
+     * @param version   the version of the {@link MicoApplication}
+     * @return the {@link MicoApplicationJobStatus} with the job status of the {@link MicoApplication}
+     */
+    public MicoApplicationJobStatus undeployApplication(String shortName, String version) throws MicoApplicationNotFoundException, MicoApplicationIsDeployingException, MicoApplicationIsUndeployingException {
 
         MicoApplication micoApplication = micoApplicationBroker.getMicoApplicationByShortNameAndVersion(shortName, version);
 
         log.info("Undeploy MicoApplication '{}' in version '{}' with {} included MicoService(s).",
             shortName, version, micoApplication.getServices().size());
 
+        if (isUndeploymentRequired(micoApplication)) {
+            undeploy(Collections.singletonList(micoApplication));
+        }
+
+        return backgroundJobBroker.getJobStatusOfApplication(micoApplication);
+    }
+
+    /**
+     * Undeploys several {@code MicoApplications} at once asynchronously. All applications are checked before
+     * the undeployment starts, so either all or none of them are undeployed.
+     * The applications are undeployed one after the other, because the replicas of
+     * {@code MicoServices} that are shared by several applications are scaled in step by step.
+     *
+     * @param applications the {@link MicoDeploymentBatch.Application applications} to undeploy, duplicates are ignored
+     * @return the {@link MicoDeploymentBatchJobStatus} with the aggregated job status of all applications
+     */
+    public MicoDeploymentBatchJobStatus undeployApplications(List<MicoDeploymentBatch.Application> applications) throws MicoApplicationNotFoundException, MicoApplicationIsDeployingException, MicoApplicationIsUndeployingException {
+        List<MicoDeploymentBatch.Application> distinctApplications = new ArrayList<>(new LinkedHashSet<>(applications));
+        List<MicoApplication> micoApplicationsToUndeploy = new ArrayList<>();
+        for (MicoDeploymentBatch.Application application : distinctApplications) {
+            MicoApplication micoApplication = micoApplicationBroker.getMicoApplicationByShortNameAndVersion(
+                application.getShortName(), application.getVersion());
+            if (isUndeploymentRequired(micoApplication)) {
+                micoApplicationsToUndeploy.add(micoApplication);
+            }
+        }
+
+        undeploy(micoApplicationsToUndeploy);
+
+        // Saved only after the undeployment is started, so a failed undeployment leaves no batch without jobs behind
+        MicoDeploymentBatch deploymentBatch = backgroundJobBroker.saveDeploymentBatch(
+            new MicoDeploymentBatch().setApplications(distinctApplications));
+        log.info("Undeploy {} MicoApplication(s) with deployment batch '{}'.", micoApplicationsToUndeploy.size(), deploymentBatch.getId());
+
+        return backgroundJobBroker.getDeploymentBatchJobStatus(deploymentBatch.getId()).orElseThrow(() ->
+            new IllegalStateException("Deployment batch '" + deploymentBatch.getId() + "' could not be found."));
+    }
+
+    /**
+     * Creates a pending {@link MicoServiceBackgroundJob.Type#UNDEPLOY UNDEPLOY} job for each {@code MicoService}
+     * of the given applications and undeploys the applications in the background.
+     * Undeployments are executed one after the other, so that the replicas of shared {@code MicoServices}
+     * are always calculated based on the current deployment status.
+     *
+     * @param micoApplications the {@link MicoApplication MicoApplications} to undeploy
+     */
+    private void undeploy(List<MicoApplication> micoApplications) {
+        Set<String> startedJobs = new HashSet<>();
+        for (MicoApplication micoApplication : micoApplications) {
+            for (MicoService micoService : micoApplication.getServices()) {
+                if (startedJobs.add(micoService.getShortName() + ":" + micoService.getVersion())) {
+                    startUndeployJob(micoService);
+                }
+            }
+        }
+
+        undeployExecutor.execute(() -> {
+            for (MicoApplication micoApplication : micoApplications) {
+                try {
+                    micoKubernetesClient.undeployApplication(micoApplication);
+                } catch (Exception e) {
+                    log.error("Undeployment of MicoApplication '{}' '{}' failed: {}",
+                        micoApplication.getShortName(), micoApplication.getVersion(), e.getMessage(), e);
+                    for (MicoService micoService : micoApplication.getServices()) {
+                        backgroundJobBroker.getJobByMicoService(micoService.getShortName(), micoService.getVersion(), MicoServiceBackgroundJob.Type.UNDEPLOY)
+                            .filter(job -> !job.getStatus().isFinished())
+                            .ifPresent(job -> backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                                MicoServiceBackgroundJob.Type.UNDEPLOY, MicoServiceBackgroundJob.Status.ERROR, ExceptionUtils.getRootCauseMessage(e)));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Saves a new pending {@link MicoServiceBackgroundJob.Type#UNDEPLOY UNDEPLOY} job for a {@code MicoService}.
+     * An existing finished undeploy job of the {@code MicoService} is replaced.
+     *
+     * @param micoService the {@link MicoService}
+     */
+    private void startUndeployJob(MicoService micoService) {
+        deleteUndeployJob(micoService);
+        backgroundJobBroker.saveJob(new MicoServiceBackgroundJob()
+            .setServiceShortName(micoService.getShortName())
+            .setServiceVersion(micoService.getVersion())
+            .setType(MicoServiceBackgroundJob.Type.UNDEPLOY)
+            .setStatus(MicoServiceBackgroundJob.Status.PENDING));
+    }
+
+    /**
+     * Deletes the finished {@link MicoServiceBackgroundJob.Type#UNDEPLOY UNDEPLOY} job of a {@code MicoService},
+     * so that it does not influence the job status of a new deployment.
+     * A pending or running undeploy job is kept, because its undeployment is still executed
+     * (see {@link #isUndeploying(MicoApplication)}).
+     *
+     * @param micoService the {@link MicoService}
+     */
+    private void deleteUndeployJob(MicoService micoService) {
+        backgroundJobBroker.getJobByMicoService(micoService.getShortName(), micoService.getVersion(), MicoServiceBackgroundJob.Type.UNDEPLOY)
+            .filter(job -> job.getStatus().isFinished())
+            .ifPresent(job -> backgroundJobBroker.deleteJob(job.getId()));
+    }
+
+    /**
+     * Checks if an undeployment of a {@code MicoApplication} is in progress,
+     * i.e. if one of its {@code MicoServices} has a pending or running {@link MicoServiceBackgroundJob.Type#UNDEPLOY UNDEPLOY} job.
+     *
+     * @param micoApplication the {@link MicoApplication}
+     * @return {@code true} if the {@link MicoApplication} is currently undeploying
+     */
+    private boolean isUndeploying(MicoApplication micoApplication) {
+        return micoApplication.getServices().stream().anyMatch(micoService -> backgroundJobBroker
+            .getJobByMicoService(micoService.getShortName(), micoService.getVersion(), MicoServiceBackgroundJob.Type.UNDEPLOY)
+            .filter(job -> !job.getStatus().isFinished())
+            .isPresent());
+    }
+
+    /**
+     * Checks if a {@code MicoApplication} has to be undeployed based on its current deployment status.
+     *
+     * @param micoApplication the {@link MicoApplication}
+     * @return {@code true} if the {@link MicoApplication} is deployed (also partly) or its status is unknown
+     * @throws MicoApplicationIsDeployingException   if the {@link MicoApplication} is currently deploying
+     * @throws MicoApplicationIsUndeployingException if the {@link MicoApplication} is currently undeploying
+     */
+    private boolean isUndeploymentRequired(MicoApplication micoApplication) throws MicoApplicationIsDeployingException, MicoApplicationIsUndeployingException {
+        if (isUndeploying(micoApplication)) {
+            throw new MicoApplicationIsUndeployingException(micoApplication.getShortName(), micoApplication.getVersion());
+        }
         MicoApplicationDeploymentStatus applicationDeploymentStatus = micoKubernetesClient.getApplicationDeploymentStatus(micoApplication);
         switch (applicationDeploymentStatus.getValue()) {
             case DEPLOYED:
             case INCOMPLETE:
             case UNKNOWN:
                 // The application should be undeployed if the current state is either 'deployed', 'incomplete' or unknown'.
-                micoKubernetesClient.undeployApplication(micoApplication);
-                break;
+                return true;
             case PENDING:
                 throw new MicoApplicationIsDeployingException(micoApplication.getShortName(), micoApplication.getVersion());
             case UNDEPLOYED:
                 log.info("MicoApplication '{}' in version '{}' is considered to be undeployed. No undeployment required.",
                     micoApplication.getShortName(), micoApplication.getVersion());
-                break;
+                return false;
             default:
                 throw new IllegalArgumentException("Unknown application deployment status: " + applicationDeploymentStatus.getValue());
         }
     }
 
-    private void checkIfMicoApplicationIsDeployable(MicoApplication micoApplication) throws MicoApplicationDoesNotIncludeMicoServiceException, MicoServiceInterfaceNotFoundException, DeploymentException {
+    private void checkIfMicoApplicationIsDeployable(MicoApplication micoApplication) throws MicoApplicationDoesNotIncludeMicoServiceException, MicoServiceInterfaceNotFoundException, DeploymentException, MicoApplicationIsUndeployingException, MicoServiceResourceRequestExceedsLimitException {
         if (micoApplication.getServices() == null || micoApplication.getServices().isEmpty()) {
             throw new MicoApplicationDoesNotIncludeMicoServiceException(micoApplication.getShortName(), micoApplication.getVersion());
         }
+        // The running undeployment would delete the Kubernetes resources of the new deployment
+        if (isUndeploying(micoApplication)) {
+            throw new MicoApplicationIsUndeployingException(micoApplication.getShortName(), micoApplication.getVersion());
+        }
         for (MicoService micoService : micoApplication.getServices()) {
             if (micoService.getServiceInterfaces() == null || micoService.getServiceInterfaces().isEmpty()) {
                 throw new MicoServiceInterfaceNotFoundException(micoService.getShortName(), micoService.getVersion());
@@ -198,22 +528,78 @@ private void checkIfMicoApplicationIsDeployable(MicoApplication micoApplication)
                 throw new DeploymentException("The deployment of service dependencies is currently not implemented. " +
                     "See https://github.com/UST-MICO/mico/issues/583");
             }
+            checkResourceRequirements(micoApplication, micoService);
         }
     }
 
-    private MicoServiceDeploymentInfo buildMicoService(MicoServiceDeploymentInfo serviceDeploymentInfo) {
-        MicoService micoService = serviceDeploymentInfo.getService();
+    /**
+     * Checks that the effective resource requests of a {@code MicoService} do not exceed its effective limits.
+     * The values of the service deployment information are combined with the defaults of the application
+     * for each field, so only the combination can be checked. Kubernetes would reject the deployment otherwise.
+     *
+     * @param micoApplication the {@link MicoApplication}
+     * @param micoService     the {@link MicoService} of the {@link MicoApplication}
+     * @throws MicoServiceResourceRequestExceedsLimitException if a request exceeds the corresponding limit
+     *                                                         or a quantity is not valid
+     */
+    private void checkResourceRequirements(MicoApplication micoApplication, MicoService micoService) throws MicoServiceResourceRequestExceedsLimitException {
+        Optional<MicoServiceDeploymentInfo> serviceDeploymentInfoOptional = serviceDeploymentInfoRepository
+            .findByApplicationAndService(micoApplication.getShortName(), micoApplication.getVersion(),
+                micoService.getShortName(), micoService.getVersion());
+        if (!serviceDeploymentInfoOptional.isPresent()) {
+            // Missing service deployment information fails the deployment itself
+            return;
+        }
+        ResourceRequirements resourceRequirements = MicoKubernetesClient.createResourceRequirements(
+            serviceDeploymentInfoOptional.get(), micoApplication);
+        if (resourceRequirements == null || resourceRequirements.getRequests() == null || resourceRequirements.getLimits() == null) {
+            return;
+        }
+        for (Map.Entry<String, Quantity> request : resourceRequirements.getRequests().entrySet()) {
+            Quantity limit = resourceRequirements.getLimits().get(request.getKey());
+            if (limit != null && exceeds(micoApplication, micoService, request.getValue(), limit)) {
+                throw new MicoServiceResourceRequestExceedsLimitException(micoService.getShortName(), micoService.getVersion(),
+                    micoApplication.getShortName(), micoApplication.getVersion(), request.getKey(),
+                    toString(request.getValue()), toString(limit));
+            }
+        }
+    }
+
+    private static boolean exceeds(MicoApplication micoApplication, MicoService micoService, Quantity request, Quantity limit)
+        throws MicoServiceResourceRequestExceedsLimitException {
+        try {
+            return QuantityUtils.toNumber(request).compareTo(QuantityUtils.toNumber(limit)) > 0;
+        } catch (IllegalArgumentException e) {
+            // Values stored before the quantities were validated may be invalid
+            throw new MicoServiceResourceRequestExceedsLimitException(micoService.getShortName(), micoService.getVersion(),
+                micoApplication.getShortName(), micoApplication.getVersion(), e.getMessage());
+        }
+    }
+
+    private static String toString(Quantity quantity) {
+        return quantity.getAmount() + (quantity.getFormat() != null ? quantity.getFormat() : "");
+    }
+
+    /**
+     * Builds a {@code MicoService} and stores the URI of the resulting Docker image.
+     * Blocks the current thread until the build is finished.
+     *
+     * @param micoService the {@link MicoService}
+     * @return the URI of the Docker image
+     */
+    private String buildMicoService(MicoService micoService) {
         try {
             // Blocks this thread until build is finished, failed or TimeoutException is thrown
             CompletableFuture<String> buildFuture = imageBuilder.build(micoService);
-            if (buildFuture.get() != null) {
-                String dockerImageUri = buildFuture.get();
+            String dockerImageUri = buildFuture.get();
+            if (dockerImageUri != null) {
                 log.info("Build of MicoService '{}' in version '{}' finished with image '{}'.",
                     micoService.getShortName(), micoService.getVersion(), dockerImageUri);
                 micoService.setDockerImageUri(dockerImageUri);
                 // Save the MicoService with a depth of 0 to the database.
                 // Only the properties of this MicoService entity will be stored to the database.
                 serviceRepository.save(micoService, 0);
+                return dockerImageUri;
             } else {
                 String errorMessage = "Build of MicoService '" + micoService.getShortName() + "' '" + micoService.getVersion() + "' didn't return a Docker image URI.";
                 throw new CompletionException(new RuntimeException(errorMessage));
@@ -221,17 +607,45 @@ private MicoServiceDeploymentInfo buildMicoService(MicoServiceDeploymentInfo ser
         } catch (InterruptedException | ExecutionException | NotInitializedException | TimeoutException e) {
             throw new RuntimeException(e);
         }
-        return serviceDeploymentInfo;
+    }
+
+    /**
+     * Tracks the rollout of the Kubernetes deployment of a {@code MicoService}.
+     * The build job of the {@code MicoService} is finished as soon as all replicas are ready
+     * or the rollout exceeds its progress deadline.
+     *
+     * @param micoService              the {@link MicoService}
+     * @param kubernetesDeploymentInfo the {@link KubernetesDeploymentInfo} of the created / updated deployment
+     */
+    private void trackRollout(MicoService micoService, KubernetesDeploymentInfo kubernetesDeploymentInfo) {
+        log.info("Wait for the rollout of MicoService '{}' '{}' (Kubernetes deployment '{}').",
+            micoService.getShortName(), micoService.getVersion(), kubernetesDeploymentInfo.getDeploymentName());
+        rolloutTracker.track(micoService, kubernetesDeploymentInfo.getNamespace(), kubernetesDeploymentInfo.getDeploymentName())
+            .whenComplete((timeToReady, throwable) -> {
+                if (throwable == null) {
+                    backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                        MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.DONE);
+                } else if (ExceptionUtils.indexOfThrowable(throwable, TimeoutException.class) != -1) {
+                    backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                        MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.TIMED_OUT,
+                        ExceptionUtils.getRootCauseMessage(throwable));
+                } else {
+                    backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                        MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.ERROR,
+                        ExceptionUtils.getRootCauseMessage(throwable));
+                }
+            });
     }
 
     /**
      * Creates or updates the Kubernetes resources based on the {@code MicoServiceDeploymentInfo}.
      *
+     * @param micoApplication       the {@link MicoApplication} that provides the default resource requirements
      * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo}
      * @return the {@link KubernetesDeploymentInfo}
      * @throws KubernetesResourceException if there is an error during the creation of Kubernetes resources
      */
-    private KubernetesDeploymentInfo createOrUpdateKubernetesResources(MicoServiceDeploymentInfo serviceDeploymentInfo) throws KubernetesResourceException {
+    private KubernetesDeploymentInfo createOrUpdateKubernetesResources(MicoApplication micoApplication, MicoServiceDeploymentInfo serviceDeploymentInfo) throws KubernetesResourceException {
         MicoService micoService = serviceDeploymentInfo.getService();
         log.info("Creating / updating Kubernetes resources for MicoService '{}' in version '{}'.",
             micoService.getShortName(), micoService.getVersion());
@@ -251,7 +665,7 @@ private KubernetesDeploymentInfo createOrUpdateKubernetesResources(MicoServiceDe
         if (!micoServiceIsDeployed) {
             log.info("MicoService '{}' '{}' is not deployed yet. Create the required Kubernetes resources.",
                 micoService.getShortName(), micoService.getVersion());
-            deployment = micoKubernetesClient.createMicoService(serviceDeploymentInfo);
+            deployment = micoKubernetesClient.createMicoService(serviceDeploymentInfo, micoApplication);
         } else {
             // MICO service was deployed by another MICO application.
             // Get information about the actual deployment to be able to perform the scaling.
@@ -284,6 +698,9 @@ private KubernetesDeploymentInfo createOrUpdateKubernetesResources(MicoServiceDe
             }
         }
 
+        // Create / update the horizontal pod autoscaler, its bounds include the ones of all applications using this service.
+        micoKubernetesClient.createOrUpdateHorizontalPodAutoscaler(serviceDeploymentInfo);
+
         // Create / update the Kubernetes services that corresponds to the interfaces of the MICO services.
         List<io.fabric8.kubernetes.api.model.Service> createdServices = new ArrayList<>();
         for (MicoServiceInterface serviceInterface : micoService.getServiceInterfaces()) {
@@ -60,6 +60,9 @@ public class MicoApplicationBroker {
     @Autowired
     private MicoInterfaceConnectionRepository micoInterfaceConnectionRepository;
 
+    @Autowired
+    private MicoAutoscalingMetricRepository micoAutoscalingMetricRepository;
+
     public MicoApplication getMicoApplicationByShortNameAndVersion(String shortName, String version) throws MicoApplicationNotFoundException {
         Optional<MicoApplication> micoApplicationOptional = applicationRepository.findByShortNameAndVersion(shortName, version);
         if (!micoApplicationOptional.isPresent()) {
@@ -292,9 +295,10 @@ public MicoServiceDeploymentInfo updateMicoServiceDeploymentInformation(String a
         micoEnvironmentVariableRepository.cleanUp();
         kubernetesDeploymentInfoRepository.cleanUp();
         micoInterfaceConnectionRepository.cleanUp();
+        micoAutoscalingMetricRepository.cleanUp();
 
-        // FIXME: Currently we only supported scale in / scale out.
-        // 		  If the MICO service is already deployed, we only update the replicas.
+        // FIXME: Currently we only supported scale in / scale out and autoscaling.
+        // 		  If the MICO service is already deployed, we only update the replicas and the autoscaling bounds.
         // 	      The other properties are ignored!
         if (micoKubernetesClient.isApplicationDeployed(micoApplication)) {
             MicoService micoService = updatedServiceDeploymentInfo.getService();
@@ -313,6 +317,7 @@ public MicoServiceDeploymentInfo updateMicoServiceDeploymentInformation(String a
                 // TODO: If no scale operation is required, maybe some other
                 // 		 information still needs to be updated.
             }
+            micoKubernetesClient.createOrUpdateHorizontalPodAutoscaler(updatedServiceDeploymentInfo);
         }
 
         return updatedServiceDeploymentInfo;
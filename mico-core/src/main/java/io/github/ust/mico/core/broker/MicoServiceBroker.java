@@ -1,8 +1,13 @@
 package io.github.ust.mico.core.broker;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import io.github.ust.mico.core.model.MicoApplication;
@@ -11,6 +16,7 @@
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import io.fabric8.kubernetes.api.model.Pod;
 import io.github.ust.mico.core.dto.response.MicoServiceDependencyGraphEdgeResponseDTO;
 import io.github.ust.mico.core.dto.response.MicoServiceDependencyGraphResponseDTO;
 import io.github.ust.mico.core.dto.response.MicoServiceResponseDTO;
@@ -21,6 +27,7 @@
 import io.github.ust.mico.core.persistence.MicoServiceRepository;
 import io.github.ust.mico.core.service.MicoKubernetesClient;
 import io.github.ust.mico.core.service.MicoStatusService;
+import io.github.ust.mico.core.service.imagebuilder.ImageBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -39,6 +46,9 @@ public class MicoServiceBroker {
     @Autowired
     private MicoStatusService micoStatusService;
 
+    @Autowired
+    private ImageBuilder imageBuilder;
+
     public List<MicoService> getAllServicesAsList() {
         return serviceRepository.findAll(2);
     }
@@ -266,4 +276,67 @@ public MicoServiceDependencyGraphResponseDTO getDependencyGraph(MicoService mico
     public String getServiceYamlByShortNameAndVersion(String shortName, String version) throws MicoServiceNotFoundException, JsonProcessingException {
         return micoKubernetesClient.getYaml(getServiceFromDatabase(shortName, version));
     }
+
+    /**
+     * Returns the logs of the pods of a {@link MicoService} by the names of the pods.
+     * The logs are opened lazily when they are streamed.
+     *
+     * @param service   the {@link MicoService}
+     * @param podName   the name of the only pod whose log is returned, {@code null} for the logs of all pods
+     * @param follow    whether the logs are followed
+     * @param tailLines the number of lines at the end of each log to start with, {@code null} for the whole logs
+     * @param sinceTime an RFC 3339 timestamp from which on the logs are read, {@code null} for the whole logs
+     * @return the logs by the names of the pods
+     * @throws KubernetesResourceException if the {@link MicoService} has no pods or the requested pod does not exist
+     */
+    public Map<String, Supplier<Reader>> getLogsOfService(MicoService service, String podName, boolean follow,
+                                                           Integer tailLines, String sinceTime) throws KubernetesResourceException {
+        List<Pod> pods = micoKubernetesClient.getPodsCreatedByDeploymentOfMicoService(service);
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        for (Pod pod : pods) {
+            String name = pod.getMetadata().getName();
+            if (podName == null || podName.equals(name)) {
+                // The container of a MicoService is named by its short name
+                logs.put(name, () -> micoKubernetesClient.openPodLog(pod.getMetadata().getNamespace(), name,
+                    service.getShortName(), follow, tailLines, sinceTime));
+            }
+        }
+        if (logs.isEmpty()) {
+            throw new KubernetesResourceException(podName == null
+                ? "There are no pods of MicoService '" + service.getShortName() + "' '" + service.getVersion() + "'."
+                : "There is no pod '" + podName + "' of MicoService '" + service.getShortName() + "' '" + service.getVersion() + "'.");
+        }
+        return logs;
+    }
+
+    /**
+     * Returns the logs of the build steps of the most recent build of a {@link MicoService}
+     * by the names of the containers of the build steps, in the order the steps are executed.
+     * The logs are opened lazily when they are streamed. A followed log of a build step that is not
+     * started yet is opened as soon as the step is started.
+     *
+     * @param service   the {@link MicoService}
+     * @param follow    whether the logs are followed
+     * @param tailLines the number of lines at the end of each log to start with, {@code null} for the whole logs
+     * @return the logs by the names of the containers of the build steps
+     * @throws KubernetesResourceException if there is no build pod of the {@link MicoService}
+     */
+    public Map<String, Supplier<Reader>> getBuildLogsOfService(MicoService service, boolean follow,
+                                                                Integer tailLines) throws KubernetesResourceException {
+        Pod buildPod = imageBuilder.getBuildPod(service).orElseThrow(() -> new KubernetesResourceException(
+            "There is no build pod of MicoService '" + service.getShortName() + "' '" + service.getVersion() + "'."));
+        String namespace = buildPod.getMetadata().getNamespace();
+        String podName = buildPod.getMetadata().getName();
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        for (String buildStep : imageBuilder.getBuildStepContainerNames(buildPod)) {
+            logs.put(buildStep, () -> {
+                if (follow && !imageBuilder.waitUntilBuildStepIsStarted(podName, buildStep)) {
+                    // The build step will not be executed, e.g. because a previous step has failed
+                    return new StringReader("");
+                }
+                return micoKubernetesClient.openPodLog(namespace, podName, buildStep, follow, tailLines, null);
+            });
+        }
+        return logs;
+    }
 }
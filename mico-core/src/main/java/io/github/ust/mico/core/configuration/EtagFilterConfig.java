@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.configuration;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Adds strong ETags to the responses of the resources that are polled by the UI.
+ * A request with a matching {@code If-None-Match} header is answered with {@code 304 Not Modified}
+ * and without body. The ETag is the hash of the response body, because the entities have no version.
+ */
+@Configuration
+public class EtagFilterConfig {
+
+    private static final List<String> INCLUDED_URL_PATTERNS = Arrays.asList("/services/*", "/applications/*", "/jobs/*");
+
+    /**
+     * The streamed logs must not be buffered to compute their hash.
+     */
+    private static final List<String> EXCLUDED_ENDPOINTS = Arrays.asList("/services/*/*/logs", "/services/*/*/buildLogs");
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> bean = new FilterRegistrationBean<>(new MicoEtagHeaderFilter());
+        bean.setUrlPatterns(INCLUDED_URL_PATTERNS);
+        // The responses of asynchronously handled requests are written in the async dispatch
+        bean.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        return bean;
+    }
+
+    public static class MicoEtagHeaderFilter extends ShallowEtagHeaderFilter {
+
+        private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+            return EXCLUDED_ENDPOINTS.stream().anyMatch(e -> PATH_MATCHER.match(e, request.getServletPath()));
+        }
+    }
+}
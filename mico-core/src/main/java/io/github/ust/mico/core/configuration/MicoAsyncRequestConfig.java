@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.github.ust.mico.core.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Configuration of the executors that handle long-running REST requests asynchronously.
+ * Each kind of request has its own bounded executor, so slow upstream systems
+ * (Kubernetes, Prometheus, GitHub) of one kind don't block the other requests
+ * and don't occupy the request threads of the servlet container.
+ */
+@Component
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "async-requests")
+public class MicoAsyncRequestConfig {
+
+    /**
+     * The number of threads that handle status requests (Kubernetes and Prometheus).
+     * Defaults to 20.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private int statusPoolSize = 20;
+
+    /**
+     * The maximum number of status requests that wait for a thread.
+     * Further requests are rejected with {@code 503 Service Unavailable}.
+     * Defaults to 100.
+     */
+    @NotNull
+    @Min(value = 0, message = "must not be negative")
+    private int statusQueueCapacity = 100;
+
+    /**
+     * The timeout in seconds after which a status request is answered with {@code 503 Service Unavailable}.
+     * Defaults to 30 seconds.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least set to 1 second")
+    private long statusTimeout = 30;
+
+    /**
+     * The number of threads that handle deployment requests.
+     * Defaults to 5.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private int deploymentPoolSize = 5;
+
+    /**
+     * The maximum number of deployment requests that wait for a thread.
+     * Further requests are rejected with {@code 503 Service Unavailable}.
+     * Defaults to 50.
+     */
+    @NotNull
+    @Min(value = 0, message = "must not be negative")
+    private int deploymentQueueCapacity = 50;
+
+    /**
+     * The timeout in seconds after which a deployment request is answered with {@code 503 Service Unavailable}.
+     * Defaults to 60 seconds.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least set to 1 second")
+    private long deploymentTimeout = 60;
+
+    /**
+     * The number of threads that handle GitHub import requests.
+     * Defaults to 5.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private int importPoolSize = 5;
+
+    /**
+     * The maximum number of GitHub import requests that wait for a thread.
+     * Further requests are rejected with {@code 503 Service Unavailable}.
+     * Defaults to 20.
+     */
+    @NotNull
+    @Min(value = 0, message = "must not be negative")
+    private int importQueueCapacity = 20;
+
+    /**
+     * The timeout in seconds after which a GitHub import request is answered with {@code 503 Service Unavailable}.
+     * Defaults to 60 seconds.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least set to 1 second")
+    private long importTimeout = 60;
+
+    /**
+     * The number of threads that write streamed responses (e.g. the logs of a service)
+     * and handle all other asynchronous requests without their own executor.
+     * Defaults to 20.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private int streamPoolSize = 20;
+
+    /**
+     * The maximum number of streamed responses that wait for a thread.
+     * Further requests are rejected with {@code 503 Service Unavailable}.
+     * Streams may be open for a long time, so by default requests do not wait at all.
+     * Defaults to 0.
+     */
+    @NotNull
+    @Min(value = 0, message = "must not be negative")
+    private int streamQueueCapacity = 0;
+
+    /**
+     * The timeout in seconds after which a streamed response (e.g. a followed log) is closed.
+     * Only applies to streamed responses, other asynchronous requests keep their own timeouts.
+     * Defaults to 1 hour (3600 seconds).
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least set to 1 second")
+    private long streamTimeout = 3600;
+
+    /**
+     * The maximum number of followed pod logs that are read at the same time.
+     * Each followed log of a streamed response with several pods occupies one thread.
+     * Further requests are rejected with {@code 503 Service Unavailable}.
+     * Defaults to 50.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private int logFollowPoolSize = 50;
+}
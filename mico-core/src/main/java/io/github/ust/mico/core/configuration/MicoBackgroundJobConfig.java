@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Configuration of the background jobs ({@link io.github.ust.mico.core.model.MicoServiceBackgroundJob})
+ */
+@Component
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "background-jobs")
+public class MicoBackgroundJobConfig {
+
+    /**
+     * The time in seconds after which finished jobs (done or failed)
+     * are deleted from the database.
+     * Defaults to 1 day (86400 seconds).
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least set to 1 second")
+    private long timeToLive = 86400;
+
+    /**
+     * Boolean value to set whether finished jobs should be archived in a Redis stream,
+     * so the history of jobs is still available after they expired.
+     */
+    @NotNull
+    private boolean archiveEnabled = false;
+
+    /**
+     * The key of the Redis stream that is used as archive.
+     */
+    @NotBlank
+    private String archiveStreamKey = "mico:background-jobs:archive";
+
+    /**
+     * The approximate maximum number of jobs that are kept in the archive.
+     * Older entries are trimmed.
+     * Defaults to 10000.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private long archiveMaxLength = 10000;
+}
@@ -19,6 +19,7 @@
 
 package io.github.ust.mico.core.configuration;
 
+import io.github.ust.mico.core.util.Patterns;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -27,6 +28,7 @@
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
 
 /**
  * Configuration of the build bot ({@link io.github.ust.mico.core.service.imagebuilder.ImageBuilder})
@@ -73,6 +75,26 @@ public class MicoKubernetesBuildBotConfig {
     @Min(value = 30, message = "must be at least set to 30 seconds")
     private int buildTimeout = 600;
 
+    /**
+     * The maximum number of builds that run at the same time.
+     * The limit is shared by all deployments, also by deployments of several applications at once.
+     * Further builds wait in the queue of the {@link io.github.ust.mico.core.service.imagebuilder.BuildScheduler}
+     * until a running build is finished.
+     * Defaults to 5.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private int maxConcurrentBuilds = 5;
+
+    /**
+     * The interval in seconds after which a queued build is checked again for admission,
+     * if the resource quota of the build namespace has no capacity left for it.
+     * Defaults to 10 seconds.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1 second")
+    private int buildAdmissionRetryInterval = 10;
+
     /**
      * Boolean value to set whether an undeployment of a MicoApplication
      * should also clean up all build resources associated with the MicoServices
@@ -80,4 +102,88 @@ public class MicoKubernetesBuildBotConfig {
      */
     @NotNull
     private boolean buildCleanUpByUndeploy = false;
+
+    /**
+     * Boolean value to set whether Kaniko caches the layers of the builds in {@link #buildCacheRepository}.
+     * Repeated builds of a MicoService reuse the cached layers (e.g. the installed dependencies)
+     * instead of executing the corresponding Dockerfile commands again.
+     * Can be overridden for each MicoService.
+     * The cache is only used if {@link #buildCacheRepository} is configured.
+     */
+    @NotNull
+    private boolean buildCacheEnabled = false;
+
+    /**
+     * The Docker image repository in which Kaniko stores the cached layers.
+     * The service account {@link #dockerRegistryServiceAccountName} requires write access to it.
+     * Has no default, because the cache must be stored in a repository that is explicitly intended for it.
+     */
+    private String buildCacheRepository;
+
+    /**
+     * The number of hours cached layers are valid.
+     * Defaults to 2 weeks (336 hours) like Kaniko itself.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1 hour")
+    private long buildCacheTtlHours = 336;
+
+    /**
+     * The mode Kaniko uses to take the snapshots of the file system: {@code full} or {@code time}.
+     * {@code time} only considers the modification time of the files and is faster for large images.
+     * Can be overridden for each MicoService.
+     * Defaults to {@code full}.
+     */
+    @NotNull
+    @Pattern(regexp = Patterns.KANIKO_SNAPSHOT_MODE_REGEX, message = Patterns.KANIKO_SNAPSHOT_MODE_MESSAGE)
+    private String buildSnapshotMode = "full";
+
+    /**
+     * The CPU that is requested for the build step of a build pod, e.g. {@code 500m}.
+     * Can be overridden for each MicoService. No CPU is requested if empty.
+     */
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String buildCpuRequest;
+
+    /**
+     * The memory that is requested for the build step of a build pod, e.g. {@code 1Gi}.
+     * Can be overridden for each MicoService. No memory is requested if empty.
+     */
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String buildMemoryRequest;
+
+    /**
+     * Boolean value to set whether finished builds are garbage collected periodically.
+     * The garbage collection deletes the {@code Build} resources and the build pods of finished builds
+     * that are not retained by {@link #buildsToKeepPerService} or {@link #buildRetentionHours}.
+     */
+    @NotNull
+    private boolean buildGarbageCollectionEnabled = true;
+
+    /**
+     * The interval in seconds between two runs of the build garbage collection.
+     * Defaults to 1 hour (3600 seconds).
+     */
+    @NotNull
+    @Min(value = 60, message = "must be at least set to 60 seconds")
+    private long buildGarbageCollectionInterval = 3600;
+
+    /**
+     * The number of the most recent builds of a MicoService (independent of the version)
+     * that are kept by the build garbage collection.
+     * Set to 0 to disable this retention rule.
+     * Defaults to 3.
+     */
+    @NotNull
+    @Min(value = 0, message = "must not be negative")
+    private int buildsToKeepPerService = 3;
+
+    /**
+     * The number of hours a finished build is kept by the build garbage collection.
+     * Set to 0 to disable this retention rule.
+     * Defaults to 24 hours.
+     */
+    @NotNull
+    @Min(value = 0, message = "must not be negative")
+    private long buildRetentionHours = 24;
 }
@@ -24,7 +24,9 @@
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
 
 /**
  * Configuration that includes information about the MICO Kubernetes cluster
@@ -42,4 +44,41 @@ public class MicoKubernetesConfig {
     @NotBlank
     private String namespaceMicoWorkspace;
 
+    /**
+     * The time in seconds a rollout of a Kubernetes deployment may take until all replicas
+     * of the new version are available. If the rollout makes no progress within this time,
+     * the deployment of the MicoService is considered to be failed.
+     * Defaults to 10 minutes (600 seconds).
+     */
+    @NotNull
+    @Min(value = 30, message = "must be at least set to 30 seconds")
+    private int rolloutProgressDeadline = 600;
+
+    /**
+     * The interval in seconds in which the drift of the Kubernetes deployment information
+     * that is detected by status requests is written back to the database.
+     * Defaults to 1 second.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1 second")
+    private int deploymentInfoWriteBackInterval = 1;
+
+    /**
+     * The maximum number of Kubernetes deployment information that are written back
+     * to the database in one transaction.
+     * Defaults to 100.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private int deploymentInfoWriteBackBatchSize = 100;
+
+    /**
+     * The number of MicoServices whose Kubernetes resources are deleted in parallel
+     * by the undeployment of a MicoApplication.
+     * Defaults to 10.
+     */
+    @NotNull
+    @Min(value = 1, message = "must be at least 1")
+    private int undeployParallelism = 10;
+
 }
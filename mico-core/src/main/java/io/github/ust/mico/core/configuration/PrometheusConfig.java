@@ -26,7 +26,12 @@
 
 import javax.validation.constraints.NotBlank;
 
-@Component
+/**
+ * Configuration of the Prometheus service that provides the metrics of the MICO services.
+ * The bean name differs from the class name, because the name 'prometheusConfig' is already
+ * used by the Prometheus metrics export of the Spring Boot Actuator.
+ */
+@Component("micoPrometheusConfig")
 @Setter
 @Getter
 @ConfigurationProperties(prefix = "kubernetes.prometheus")
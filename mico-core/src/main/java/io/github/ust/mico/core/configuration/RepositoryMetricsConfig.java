@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.configuration;
+
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.util.Optional;
+
+/**
+ * Configuration that records the duration of all queries of the MICO repositories.
+ */
+@Configuration
+public class RepositoryMetricsConfig {
+
+    private static final String REPOSITORY_PACKAGE = "io.github.ust.mico.core.persistence";
+
+    /**
+     * Wraps every MICO repository in a proxy that records the duration of each method invocation.
+     * The {@link MeterRegistry} is resolved lazily, because bean post processors are created
+     * before the metrics infrastructure.
+     *
+     * @param meterRegistryProvider the provider of the {@link MeterRegistry}
+     * @return the {@link BeanPostProcessor}
+     */
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                Optional<Class<?>> repositoryInterface = ClassUtils.getAllInterfacesAsSet(bean).stream()
+                    .filter(i -> Repository.class.isAssignableFrom(i) && i.getName().startsWith(REPOSITORY_PACKAGE))
+                    .findFirst();
+                if (!repositoryInterface.isPresent()) {
+                    return bean;
+                }
+                String repositoryName = repositoryInterface.get().getSimpleName();
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                    MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+                    if (meterRegistry == null) {
+                        return invocation.proceed();
+                    }
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    try {
+                        return invocation.proceed();
+                    } finally {
+                        sample.stop(meterRegistry.timer(MetricsUtils.REPOSITORY_QUERIES,
+                            "repository", repositoryName, "method", invocation.getMethod().getName()));
+                    }
+                });
+                return proxyFactory.getProxy(bean.getClass().getClassLoader());
+            }
+        };
+    }
+}
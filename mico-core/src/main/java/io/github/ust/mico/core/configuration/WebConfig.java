@@ -26,11 +26,13 @@
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 
+import io.github.ust.mico.core.service.AsyncRequestExecutors;
 import lombok.extern.slf4j.Slf4j;
 
 @Configuration
@@ -41,6 +43,19 @@ public class WebConfig extends WebMvcConfigurerAdapter {
     @Autowired
     CorsConfig corsUserConfig;
 
+    @Autowired
+    AsyncRequestExecutors asyncRequestExecutors;
+
+    /**
+     * Replaces the unbounded default executor of Spring MVC for asynchronous requests,
+     * e.g. for streamed responses, with a bounded one. Streamed responses get their own timeout.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncRequestExecutors.getStreamExecutor());
+        configurer.registerCallableInterceptors(asyncRequestExecutors.getStreamTimeoutInterceptor());
+    }
+
     /**
      * Based on https://github.com/springfox/springfox/issues/2215#issuecomment-446178059
      *
@@ -151,6 +151,70 @@ public class MicoApplicationRequestDTO {
     )})
     private String owner;
 
+    /**
+     * The default CPU that is requested for each instance of the services of this application, e.g. {@code 250m}.
+     * Used for the services whose deployment information does not specify it.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Default CPU Request"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "300"),
+            @ExtensionProperty(name = "description", value = "The CPU that is requested for each instance of a service of this application, e.g. '250m'. Used for the services whose deployment information does not specify it.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String defaultCpuRequest;
+
+    /**
+     * The default CPU each instance of the services of this application is limited to, e.g. {@code 1}.
+     * Used for the services whose deployment information does not specify it.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Default CPU Limit"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "310"),
+            @ExtensionProperty(name = "description", value = "The CPU each instance of a service of this application is limited to, e.g. '1'. Used for the services whose deployment information does not specify it.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String defaultCpuLimit;
+
+    /**
+     * The default memory that is requested for each instance of the services of this application, e.g. {@code 256Mi}.
+     * Used for the services whose deployment information does not specify it.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Default Memory Request"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "320"),
+            @ExtensionProperty(name = "description", value = "The memory that is requested for each instance of a service of this application, e.g. '256Mi'. Used for the services whose deployment information does not specify it.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String defaultMemoryRequest;
+
+    /**
+     * The default memory each instance of the services of this application is limited to, e.g. {@code 512Mi}.
+     * Used for the services whose deployment information does not specify it.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Default Memory Limit"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "330"),
+            @ExtensionProperty(name = "description", value = "The memory each instance of a service of this application is limited to, e.g. '512Mi'. Used for the services whose deployment information does not specify it.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String defaultMemoryLimit;
+
 
     // -------------------
     // -> Constructors ---
@@ -169,6 +233,10 @@ public MicoApplicationRequestDTO(MicoApplication application) {
         this.description = application.getDescription();
         this.contact = application.getContact();
         this.owner = application.getOwner();
+        this.defaultCpuRequest = application.getDefaultCpuRequest();
+        this.defaultCpuLimit = application.getDefaultCpuLimit();
+        this.defaultMemoryRequest = application.getDefaultMemoryRequest();
+        this.defaultMemoryLimit = application.getDefaultMemoryLimit();
     }
 
 }
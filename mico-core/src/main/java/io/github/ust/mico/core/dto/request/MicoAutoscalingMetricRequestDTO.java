@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.dto.request;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import io.github.ust.mico.core.configuration.extension.CustomOpenApiExtentionsPlugin;
+import io.github.ust.mico.core.model.MicoAutoscalingMetric;
+import io.github.ust.mico.core.util.Patterns;
+import io.swagger.annotations.ApiModelProperty;
+import io.swagger.annotations.Extension;
+import io.swagger.annotations.ExtensionProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * DTO for a {@link MicoAutoscalingMetric} intended to use with requests only.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class MicoAutoscalingMetricRequestDTO {
+
+    /**
+     * Name of the metric that is provided by the custom metrics API.
+     */
+    @ApiModelProperty(required = true, extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Metric Name"),
+            @ExtensionProperty(name = "x-order", value = "10"),
+            @ExtensionProperty(name = "description", value = "Name of the metric that is provided by the custom metrics API, " +
+                "e.g. http_requests_per_second.")
+        }
+    )})
+    @NotBlank
+    private String metricName;
+
+    /**
+     * Target average value of the metric across all pods.
+     */
+    @ApiModelProperty(required = true, extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Target Average Value"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "20"),
+            @ExtensionProperty(name = "description", value = "Target average value of the metric across all pods " +
+                "as Kubernetes quantity, e.g. 100 or 500m.")
+        }
+    )})
+    @NotNull
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String targetAverageValue;
+
+
+    // -------------------
+    // -> Constructors ---
+    // -------------------
+
+    /**
+     * Creates an instance of {@code MicoAutoscalingMetricRequestDTO} based on a
+     * {@code MicoAutoscalingMetric}.
+     *
+     * @param autoscalingMetric the {@link MicoAutoscalingMetric}.
+     */
+    public MicoAutoscalingMetricRequestDTO(MicoAutoscalingMetric autoscalingMetric) {
+        this.metricName = autoscalingMetric.getMetricName();
+        this.targetAverageValue = autoscalingMetric.getTargetAverageValue();
+    }
+
+}
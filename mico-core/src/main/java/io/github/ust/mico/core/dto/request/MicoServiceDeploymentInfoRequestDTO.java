@@ -24,8 +24,11 @@
 import java.util.stream.Collectors;
 
 import javax.validation.Valid;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.annotation.Nulls;
 
@@ -33,7 +36,10 @@
 import io.github.ust.mico.core.model.MicoService;
 import io.github.ust.mico.core.model.MicoServiceDeploymentInfo;
 import io.github.ust.mico.core.model.MicoServiceDeploymentInfo.ImagePullPolicy;
+import io.github.ust.mico.core.model.MicoServiceDeploymentInfo.SpreadPolicy;
 import io.github.ust.mico.core.model.MicoServiceInterface;
+import io.github.ust.mico.core.util.Patterns;
+import io.github.ust.mico.core.util.QuantityUtils;
 import io.swagger.annotations.ApiModelProperty;
 import io.swagger.annotations.Extension;
 import io.swagger.annotations.ExtensionProperty;
@@ -70,6 +76,77 @@ public class MicoServiceDeploymentInfoRequestDTO {
     @JsonSetter(nulls = Nulls.SKIP)
     private int replicas = 1;
 
+    /**
+     * Lower bound of the number of instances the horizontal pod autoscaler may scale down to.
+     * Only used if autoscaling is enabled by {@link #maxReplicas}. Defaults to {@link #replicas}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Min Replicas"),
+            @ExtensionProperty(name = "minimum", value = "1"),
+            @ExtensionProperty(name = "x-order", value = "31"),
+            @ExtensionProperty(name = "description", value = "Lower bound of the number of instances " +
+                "the horizontal pod autoscaler may scale down to. " +
+                "Only used if autoscaling is enabled by the max replicas. Defaults to the replicas.")
+        }
+    )})
+    @Positive(message = "must be at least one replica")
+    private Integer minReplicas;
+
+    /**
+     * Upper bound of the number of instances the horizontal pod autoscaler may scale up to.
+     * Autoscaling is enabled if and only if it is set.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Max Replicas"),
+            @ExtensionProperty(name = "minimum", value = "1"),
+            @ExtensionProperty(name = "x-order", value = "32"),
+            @ExtensionProperty(name = "description", value = "Upper bound of the number of instances " +
+                "the horizontal pod autoscaler may scale up to. " +
+                "Autoscaling is enabled if and only if it is set.")
+        }
+    )})
+    @Positive(message = "must be at least one replica")
+    private Integer maxReplicas;
+
+    /**
+     * Target average CPU utilization across all instances in percent of the requested CPU.
+     * The horizontal pod autoscaler does not scale on the CPU utilization if it is not set.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Target CPU Utilization Percentage"),
+            @ExtensionProperty(name = "minimum", value = "1"),
+            @ExtensionProperty(name = "x-order", value = "33"),
+            @ExtensionProperty(name = "description", value = "Target average CPU utilization across all instances " +
+                "in percent of the requested CPU.")
+        }
+    )})
+    @Positive(message = "must be a positive percentage")
+    private Integer targetCpuUtilizationPercentage;
+
+    /**
+     * Custom metrics the horizontal pod autoscaler scales on in addition to the CPU utilization.
+     * {@code null} is ignored.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Autoscaling Metrics"),
+            @ExtensionProperty(name = "x-order", value = "34"),
+            @ExtensionProperty(name = "description", value = "Custom metrics the horizontal pod autoscaler " +
+                "scales on in addition to the CPU utilization.\n " +
+                "Null is ignored.")
+        }
+    )})
+    @JsonSetter(nulls = Nulls.SKIP)
+    @Valid
+    private List<MicoAutoscalingMetricRequestDTO> autoscalingMetrics = new ArrayList<>();
+
     /**
      * Those labels are key-value pairs that are attached to the deployment
      * of this {@link MicoService}. Intended to be used to specify identifying attributes
@@ -145,21 +222,173 @@ public class MicoServiceDeploymentInfoRequestDTO {
 
     /**
      * Indicates whether and when to pull the image.
-     * Default image pull policy is {@link ImagePullPolicy#ALWAYS Always}.
+     * Default image pull policy is {@link ImagePullPolicy#IF_NOT_PRESENT IfNotPresent},
+     * because images built by MICO are referenced by their digest.
      * {@code null} is ignored.
      */
     @ApiModelProperty(extensions = {@Extension(
         name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
         properties = {
             @ExtensionProperty(name = "title", value = "Image Pull Policy"),
-            @ExtensionProperty(name = "default", value = "Always"),
+            @ExtensionProperty(name = "default", value = "IfNotPresent"),
             @ExtensionProperty(name = "x-order", value = "50"),
             @ExtensionProperty(name = "description", value = "Indicates whether and when to pull the image.\n " +
                 "Null is ignored.")
         }
     )})
     @JsonSetter(nulls = Nulls.SKIP)
-    private ImagePullPolicy imagePullPolicy = ImagePullPolicy.ALWAYS;
+    private ImagePullPolicy imagePullPolicy = ImagePullPolicy.IF_NOT_PRESENT;
+
+    /**
+     * The CPU that is requested for each instance, e.g. {@code 250m}.
+     * {@code null} uses the default of the application.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "CPU Request"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "60"),
+            @ExtensionProperty(name = "description", value = "The CPU that is requested for each instance, e.g. '250m'. Uses the default of the application if not set.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String cpuRequest;
+
+    /**
+     * The CPU each instance is limited to, e.g. {@code 1}.
+     * {@code null} uses the default of the application.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "CPU Limit"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "61"),
+            @ExtensionProperty(name = "description", value = "The CPU each instance is limited to, e.g. '1'. Uses the default of the application if not set.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String cpuLimit;
+
+    /**
+     * The memory that is requested for each instance, e.g. {@code 256Mi}.
+     * {@code null} uses the default of the application.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Memory Request"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "62"),
+            @ExtensionProperty(name = "description", value = "The memory that is requested for each instance, e.g. '256Mi'. Uses the default of the application if not set.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String memoryRequest;
+
+    /**
+     * The memory each instance is limited to, e.g. {@code 512Mi}.
+     * {@code null} uses the default of the application.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Memory Limit"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "63"),
+            @ExtensionProperty(name = "description", value = "The memory each instance is limited to, e.g. '512Mi'. Uses the default of the application if not set.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String memoryLimit;
+
+    /**
+     * Indicates whether and how the instances are spread across the nodes of the cluster.
+     * Default spread policy is {@link SpreadPolicy#NONE None}.
+     * {@code null} is ignored.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Spread Policy"),
+            @ExtensionProperty(name = "default", value = "None"),
+            @ExtensionProperty(name = "x-order", value = "70"),
+            @ExtensionProperty(name = "description", value = "Indicates whether the instances are preferably " +
+                "spread across the nodes or across the zones of the cluster.\n Null is ignored.")
+        }
+    )})
+    @JsonSetter(nulls = Nulls.SKIP)
+    private SpreadPolicy spreadPolicy = SpreadPolicy.NONE;
+
+    /**
+     * Indicates whether at most one instance is scheduled onto each node.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Self Anti-Affinity"),
+            @ExtensionProperty(name = "default", value = "false"),
+            @ExtensionProperty(name = "x-order", value = "71"),
+            @ExtensionProperty(name = "description", value = "Indicates whether at most one instance is " +
+                "scheduled onto each node. Instances that do not fit onto a node of their own remain pending.")
+        }
+    )})
+    private boolean selfAntiAffinity = false;
+
+    /**
+     * The short name of a service (e.g. a dependee) whose instances
+     * the instances preferably run next to on the same node.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Affinity Service"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_NAMING_REGEX),
+            @ExtensionProperty(name = "x-order", value = "72"),
+            @ExtensionProperty(name = "description", value = "The short name of a service (e.g. a dependee) " +
+                "whose instances the instances preferably run next to on the same node.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_NAMING_REGEX, message = Patterns.KUBERNETES_NAMING_MESSAGE)
+    private String affinityServiceShortName;
+
+
+    /**
+     * Checks that the autoscaling bounds form a valid range.
+     *
+     * @return {@code true} if the min replicas do not exceed the max replicas.
+     */
+    @JsonIgnore
+    @ApiModelProperty(hidden = true)
+    @AssertTrue(message = "min replicas must not be greater than max replicas")
+    public boolean isAutoscalingRangeValid() {
+        return minReplicas == null || maxReplicas == null || minReplicas <= maxReplicas;
+    }
+
+    /**
+     * Checks that the resource limits are not less than the resource requests.
+     *
+     * @return {@code true} if no limit is less than the corresponding request.
+     */
+    @JsonIgnore
+    @ApiModelProperty(hidden = true)
+    @AssertTrue(message = "resource limits must not be less than the resource requests")
+    public boolean isResourceLimitsValid() {
+        return isNotLessThan(cpuLimit, cpuRequest) && isNotLessThan(memoryLimit, memoryRequest);
+    }
+
+    private static boolean isNotLessThan(String limit, String request) {
+        if (limit == null || request == null) {
+            return true;
+        }
+        try {
+            return QuantityUtils.toNumber(limit).compareTo(QuantityUtils.toNumber(request)) >= 0;
+        } catch (IllegalArgumentException e) {
+            // Invalid quantities are reported by the pattern constraints
+            return true;
+        }
+    }
 
 
     // -------------------
@@ -174,10 +403,21 @@ public class MicoServiceDeploymentInfoRequestDTO {
      */
     public MicoServiceDeploymentInfoRequestDTO(MicoServiceDeploymentInfo serviceDeploymentInfo) {
         this.replicas = serviceDeploymentInfo.getReplicas();
+        this.minReplicas = serviceDeploymentInfo.getMinReplicas();
+        this.maxReplicas = serviceDeploymentInfo.getMaxReplicas();
+        this.targetCpuUtilizationPercentage = serviceDeploymentInfo.getTargetCpuUtilizationPercentage();
+        this.autoscalingMetrics = serviceDeploymentInfo.getAutoscalingMetrics().stream().map(MicoAutoscalingMetricRequestDTO::new).collect(Collectors.toList());
         this.labels = serviceDeploymentInfo.getLabels().stream().map(MicoLabelRequestDTO::new).collect(Collectors.toList());
         this.environmentVariables = serviceDeploymentInfo.getEnvironmentVariables().stream().map(MicoEnvironmentVariableRequestDTO::new).collect(Collectors.toList());
         this.interfaceConnections = serviceDeploymentInfo.getInterfaceConnections().stream().map(MicoInterfaceConnectionRequestDTO::new).collect(Collectors.toList());
         this.imagePullPolicy = serviceDeploymentInfo.getImagePullPolicy();
+        this.cpuRequest = serviceDeploymentInfo.getCpuRequest();
+        this.cpuLimit = serviceDeploymentInfo.getCpuLimit();
+        this.memoryRequest = serviceDeploymentInfo.getMemoryRequest();
+        this.memoryLimit = serviceDeploymentInfo.getMemoryLimit();
+        this.spreadPolicy = serviceDeploymentInfo.getSpreadPolicy();
+        this.selfAntiAffinity = serviceDeploymentInfo.isSelfAntiAffinity();
+        this.affinityServiceShortName = serviceDeploymentInfo.getAffinityServiceShortName();
     }
 
 }
@@ -209,6 +209,72 @@ public class MicoServiceRequestDTO {
     )})
     private String dockerImageUri;
 
+    /**
+     * Boolean value to set whether Kaniko caches the layers of the builds of this service.
+     * {@code null} uses the default of the build bot configuration.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Build Cache"),
+            @ExtensionProperty(name = "x-order", value = "150"),
+            @ExtensionProperty(name = "description", value = "Whether the layers of the builds are cached. " +
+                "Uses the default of MICO if not set.")
+        }
+    )})
+    private Boolean buildCacheEnabled;
+
+    /**
+     * The mode Kaniko uses to take the snapshots of the file system ({@code full} or {@code time}).
+     * {@code null} uses the default of the build bot configuration.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Build Snapshot Mode"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KANIKO_SNAPSHOT_MODE_REGEX),
+            @ExtensionProperty(name = "x-order", value = "160"),
+            @ExtensionProperty(name = "description", value = "The mode to take the snapshots of the file system " +
+                "during the build: 'full' or 'time' (faster for large images). Uses the default of MICO if not set.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KANIKO_SNAPSHOT_MODE_REGEX, message = Patterns.KANIKO_SNAPSHOT_MODE_MESSAGE)
+    private String buildSnapshotMode;
+
+    /**
+     * The CPU that is requested for the builds of this service, e.g. {@code 500m}.
+     * {@code null} uses the default of the build bot configuration.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Build CPU Request"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "170"),
+            @ExtensionProperty(name = "description", value = "The CPU that is requested for the builds, e.g. '500m'. " +
+                "Uses the default of MICO if not set.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String buildCpuRequest;
+
+    /**
+     * The memory that is requested for the builds of this service, e.g. {@code 1Gi}.
+     * {@code null} uses the default of the build bot configuration.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Build Memory Request"),
+            @ExtensionProperty(name = "pattern", value = Patterns.KUBERNETES_QUANTITY_REGEX),
+            @ExtensionProperty(name = "x-order", value = "180"),
+            @ExtensionProperty(name = "description", value = "The memory that is requested for the builds, e.g. '1Gi'. " +
+                "Uses the default of MICO if not set.")
+        }
+    )})
+    @Pattern(regexp = Patterns.KUBERNETES_QUANTITY_REGEX, message = Patterns.KUBERNETES_QUANTITY_MESSAGE)
+    private String buildMemoryRequest;
+
 
     // -------------------
     // -> Constructors ---
@@ -230,6 +296,10 @@ public MicoServiceRequestDTO(MicoService service) {
         this.gitCloneUrl = service.getGitCloneUrl();
         this.dockerfilePath = service.getDockerfilePath();
         this.dockerImageUri = service.getDockerImageUri();
+        this.buildCacheEnabled = service.getBuildCacheEnabled();
+        this.buildSnapshotMode = service.getBuildSnapshotMode();
+        this.buildCpuRequest = service.getBuildCpuRequest();
+        this.buildMemoryRequest = service.getBuildMemoryRequest();
     }
 
 }
@@ -70,6 +70,32 @@ public class MicoApplicationJobStatusResponseDTO {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private List<MicoServiceBackgroundJobResponseDTO> jobs = new ArrayList<>();
 
+    /**
+     * The short name of the {@link MicoApplication} (read-only).
+     */
+    @ApiModelProperty(extensions = {
+        @Extension(name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION, properties = {
+            @ExtensionProperty(name = "title", value = "Application Short Name"),
+            @ExtensionProperty(name = "x-order", value = "30"), @ExtensionProperty(name = "readOnly", value = "true"),
+            @ExtensionProperty(name = "description", value = "The short name of the application.")
+        })
+    })
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String applicationShortName;
+
+    /**
+     * The version of the {@link MicoApplication} (read-only).
+     */
+    @ApiModelProperty(extensions = {
+        @Extension(name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION, properties = {
+            @ExtensionProperty(name = "title", value = "Application Version"),
+            @ExtensionProperty(name = "x-order", value = "40"), @ExtensionProperty(name = "readOnly", value = "true"),
+            @ExtensionProperty(name = "description", value = "The version of the application.")
+        })
+    })
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String applicationVersion;
+
 
     // -------------------
     // -> Constructors ---
@@ -83,5 +109,7 @@ public class MicoApplicationJobStatusResponseDTO {
     public MicoApplicationJobStatusResponseDTO(MicoApplicationJobStatus applicationJobStatus) {
         this.status = applicationJobStatus.getStatus();
         this.jobs = applicationJobStatus.getJobs().stream().map(MicoServiceBackgroundJobResponseDTO::new).collect(Collectors.toList());
+        this.applicationShortName = applicationJobStatus.getApplicationShortName();
+        this.applicationVersion = applicationJobStatus.getApplicationVersion();
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.ust.mico.core.configuration.extension.CustomOpenApiExtentionsPlugin;
+import io.github.ust.mico.core.model.MicoDeploymentBatch;
+import io.github.ust.mico.core.model.MicoDeploymentBatchJobStatus;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
+import io.swagger.annotations.ApiModelProperty;
+import io.swagger.annotations.Extension;
+import io.swagger.annotations.ExtensionProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DTO for a {@link MicoDeploymentBatchJobStatus} intended to use with responses only.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class MicoDeploymentBatchJobStatusResponseDTO {
+
+    /**
+     * The id of the {@link MicoDeploymentBatch} (read-only).
+     */
+    @ApiModelProperty(extensions = {
+        @Extension(name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION, properties = {
+            @ExtensionProperty(name = "title", value = "Batch Id"),
+            @ExtensionProperty(name = "x-order", value = "10"), @ExtensionProperty(name = "readOnly", value = "true"),
+            @ExtensionProperty(name = "description", value = "The generated id of the deployment batch.")
+        })
+    })
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String id;
+
+    /**
+     * The aggregated status of the jobs of all applications (read-only).
+     */
+    @ApiModelProperty(extensions = {
+        @Extension(name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION, properties = {
+            @ExtensionProperty(name = "title", value = "Status"),
+            @ExtensionProperty(name = "x-order", value = "20"), @ExtensionProperty(name = "readOnly", value = "true"),
+            @ExtensionProperty(name = "description", value = "The aggregated status of the jobs of all applications.")
+        })
+    })
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private MicoServiceBackgroundJob.Status status;
+
+    /**
+     * The job status of each application (read-only).
+     */
+    @ApiModelProperty(extensions = {
+        @Extension(name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION, properties = {
+            @ExtensionProperty(name = "title", value = "Job Status of Applications"),
+            @ExtensionProperty(name = "x-order", value = "30"), @ExtensionProperty(name = "readOnly", value = "true"),
+            @ExtensionProperty(name = "description", value = "The job status of each application.")
+        })
+    })
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<MicoApplicationJobStatusResponseDTO> applicationJobStatuses = new ArrayList<>();
+
+
+    // -------------------
+    // -> Constructors ---
+    // -------------------
+
+    /**
+     * Creates a {@code MicoDeploymentBatchJobStatusResponseDTO} based on a {@link MicoDeploymentBatchJobStatus}.
+     *
+     * @param deploymentBatchJobStatus the {@link MicoDeploymentBatchJobStatus}.
+     */
+    public MicoDeploymentBatchJobStatusResponseDTO(MicoDeploymentBatchJobStatus deploymentBatchJobStatus) {
+        this.id = deploymentBatchJobStatus.getId();
+        this.status = deploymentBatchJobStatus.getStatus();
+        this.applicationJobStatuses = deploymentBatchJobStatus.getApplicationJobStatuses().stream()
+            .map(MicoApplicationJobStatusResponseDTO::new).collect(Collectors.toList());
+    }
+}
@@ -23,6 +23,7 @@
 import io.github.ust.mico.core.configuration.extension.CustomOpenApiExtentionsPlugin;
 import io.github.ust.mico.core.model.MicoService;
 import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Priority;
 import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Status;
 import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Type;
 import io.swagger.annotations.ApiModelProperty;
@@ -127,6 +128,37 @@ public class MicoServiceBackgroundJobResponseDTO {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String errorMessage;
 
+    /**
+     * The {@link Priority} of the job.
+     */
+    @ApiModelProperty(extensions = {
+        @Extension(name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION, properties = {
+            @ExtensionProperty(name = "title", value = "Job Priority"),
+            @ExtensionProperty(name = "x-order", value = "70"),
+            @ExtensionProperty(name = "readOnly", value = "true"),
+            @ExtensionProperty(name = "description", value = "The priority of the job.")
+        })
+    })
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private MicoServiceBackgroundJob.Priority priority;
+
+    /**
+     * The position of the job in the queue of pending jobs (starting at 1).
+     */
+    @ApiModelProperty(extensions = {
+        @Extension(name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION, properties = {
+            @ExtensionProperty(name = "title", value = "Queue Position"),
+            @ExtensionProperty(name = "x-order", value = "80"),
+            @ExtensionProperty(name = "readOnly", value = "true"),
+            @ExtensionProperty(name = "description", value = "The position of the job in the queue of pending jobs. " +
+                "Only present if the job is waiting to be started.")
+        })
+    })
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer queuePosition;
+
 
     // -------------------
     // -> Constructors ---
@@ -146,5 +178,7 @@ public MicoServiceBackgroundJobResponseDTO(MicoServiceBackgroundJob serviceBackg
         this.type = serviceBackgroundJob.getType();
         this.status = serviceBackgroundJob.getStatus();
         this.errorMessage = serviceBackgroundJob.getErrorMessage();
+        this.priority = serviceBackgroundJob.getPriority();
+        this.queuePosition = serviceBackgroundJob.getQueuePosition();
     }
 }
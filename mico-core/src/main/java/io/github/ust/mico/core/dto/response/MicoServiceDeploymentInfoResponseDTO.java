@@ -84,6 +84,11 @@ public MicoServiceDeploymentInfoResponseDTO(MicoServiceDeploymentInfo serviceDep
         // in MicoServiceDeploymentInfoRequestDTO and typed to MicoLabelRequestDTO.
         setLabels(serviceDeploymentInfo.getLabels().stream().map(MicoLabelResponseDTO::new).collect(Collectors.toList()));
 
+        // Autoscaling metrics need to be set explicitly to have a list of MicoAutoscalingMetricResponseDTOs
+        // and not a list of MicoAutoscalingMetricRequestDTOs, since the list is declared
+        // in MicoServiceDeploymentInfoRequestDTO and typed to MicoAutoscalingMetricRequestDTO.
+        setAutoscalingMetrics(serviceDeploymentInfo.getAutoscalingMetrics().stream().map(MicoAutoscalingMetricResponseDTO::new).collect(Collectors.toList()));
+
         // Environment variables need to be set explicitly to have a list of MicoEnvironmentVariableResponseDTOs
         // and not a list of MicoEnvironmentVariableRequestDTOs, since the list is declared
         // in MicoServiceDeploymentInfoRequestDTO and typed to MicoEnvironmentVariableRequestDTO.
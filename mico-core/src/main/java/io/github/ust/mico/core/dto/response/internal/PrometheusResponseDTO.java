@@ -61,7 +61,7 @@ public class PrometheusResponseDTO {
      */
     @JsonProperty("data")
     @JsonDeserialize(using = PrometheusValueDeserializer.class)
-    private int value;
+    private double value;
 
     /**
      * Status of the response: can be "success" or "error".
@@ -32,8 +32,8 @@
 import lombok.experimental.Accessors;
 
 /**
- * DTO for the average CPU load and the average memory usage of all {@link Pod Pods} running on a Kubernetes {@link
- * Node} intended to use with responses only.
+ * DTO for the statistics of the CPU load and the memory usage and the number of all {@link Pod Pods} running on a
+ * Kubernetes {@link Node} intended to use with responses only.
  */
 @Data
 @NoArgsConstructor
@@ -66,7 +66,46 @@ public class KubernetesNodeMetricsResponseDTO {
                 "based on the average of the last 10s in percent (0-100 %).")
         }
     )})
-    private int averageCpuLoad;
+    private double averageCpuLoad;
+
+    /**
+     * The minimum CPU load of all running pods of one {@link MicoService} on this {@link Node}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Minimum CPU Load (%)"),
+            @ExtensionProperty(name = "x-order", value = "21"),
+            @ExtensionProperty(name = "description", value = "The minimum CPU load of all running pods of one MicoService on this Node in percent.")
+        }
+    )})
+    private double minCpuLoad;
+
+    /**
+     * The 95th percentile of the CPU load of all running pods of one {@link MicoService} on this {@link Node}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "95th Percentile of CPU Load (%)"),
+            @ExtensionProperty(name = "x-order", value = "22"),
+            @ExtensionProperty(name = "description", value = "The 95th percentile of the CPU load of all running pods of one MicoService on this Node in percent.")
+        }
+    )})
+    private double p95CpuLoad;
+
+    /**
+     * The maximum CPU load of all running pods of one {@link MicoService} on this {@link Node}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Maximum CPU Load (%)"),
+            @ExtensionProperty(name = "x-order", value = "23"),
+            @ExtensionProperty(name = "description", value = "The maximum CPU load of all running pods of one MicoService on this Node in percent.")
+        }
+    )})
+    private double maxCpuLoad;
 
     /**
      * The average memory usage of all pods of one {@link MicoService} running on this {@link Node}.
@@ -79,5 +118,72 @@ public class KubernetesNodeMetricsResponseDTO {
             @ExtensionProperty(name = "description", value = "The average memory usage of all pods of one MicoService running on this Node in bytes.")
         }
     )})
-    private int averageMemoryUsage;
+    private long averageMemoryUsage;
+
+    /**
+     * The minimum memory usage of all running pods of one {@link MicoService} on this {@link Node}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Minimum Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "31"),
+            @ExtensionProperty(name = "description", value = "The minimum memory usage of all running pods of one MicoService on this Node in bytes.")
+        }
+    )})
+    private long minMemoryUsage;
+
+    /**
+     * The 95th percentile of the memory usage of all running pods of one {@link MicoService} on this {@link Node}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "95th Percentile of Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "32"),
+            @ExtensionProperty(name = "description", value = "The 95th percentile of the memory usage of all running pods of one MicoService on this Node in bytes.")
+        }
+    )})
+    private long p95MemoryUsage;
+
+    /**
+     * The maximum memory usage of all running pods of one {@link MicoService} on this {@link Node}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Maximum Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "33"),
+            @ExtensionProperty(name = "description", value = "The maximum memory usage of all running pods of one MicoService on this Node in bytes.")
+        }
+    )})
+    private long maxMemoryUsage;
+
+    /**
+     * The number of pods of one {@link MicoService} on this {@link Node}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Pods"),
+            @ExtensionProperty(name = "x-order", value = "40"),
+            @ExtensionProperty(name = "description", value = "The number of pods of one MicoService on this Node.")
+        }
+    )})
+    private int podCount;
+
+    /**
+     * The share of the pods of one {@link MicoService} that are on this {@link Node} in percent.
+     * The pods are spread evenly if the shares of all nodes are equal.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Share of Pods (%)"),
+            @ExtensionProperty(name = "x-order", value = "50"),
+            @ExtensionProperty(name = "description", value = "The share of the pods of one MicoService that are on this Node " +
+                "in percent (0-100 %). The pods are spread evenly if the shares of all nodes are equal.")
+        }
+    )})
+    private int podShare;
 }
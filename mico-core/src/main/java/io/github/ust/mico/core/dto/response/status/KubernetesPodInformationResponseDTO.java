@@ -116,6 +116,20 @@ public class KubernetesPodInformationResponseDTO {
     )})
     private String startTime;
 
+    /**
+     * The QoS class of the pod that Kubernetes derived from the resource requests and limits of its containers.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "QoS Class"),
+            @ExtensionProperty(name = "x-order", value = "52"),
+            @ExtensionProperty(name = "description", value = "The QoS class of the pod that Kubernetes derived " +
+                "from the resource requests and limits of its containers: Guaranteed, Burstable or BestEffort.")
+        }
+    )})
+    private String qosClass;
+
     /**
      * Information about used hardware resources (CPU/RAM).
      */
@@ -49,7 +49,7 @@ public class KubernetesPodMetricsResponseDTO {
             @ExtensionProperty(name = "description", value = "Memory usage of a pod in bytes.")
         }
     )})
-    private int memoryUsage;
+    private long memoryUsage;
 
     /**
      * CPU load of a pod.
@@ -63,5 +63,5 @@ public class KubernetesPodMetricsResponseDTO {
                 "based on the average of the last 10s in percent (0-100 %).")
         }
     )})
-    private int cpuLoad;
+    private double cpuLoad;
 }
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.dto.response.status;
+
+import io.github.ust.mico.core.configuration.extension.CustomOpenApiExtentionsPlugin;
+import io.github.ust.mico.core.model.MicoService;
+import io.swagger.annotations.ApiModelProperty;
+import io.swagger.annotations.Extension;
+import io.swagger.annotations.ExtensionProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Contains the resource requests and limits that are suggested for the instances of a {@link MicoService}
+ * based on their observed usage, intended to use with responses only.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Accessors(chain = true)
+public class MicoServiceResourceSizingResponseDTO {
+
+    /**
+     * Short name of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Short Name"),
+            @ExtensionProperty(name = "x-order", value = "10"),
+            @ExtensionProperty(name = "description", value = "Short name of the service.")
+        }
+    )})
+    private String shortName;
+
+    /**
+     * Version of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Version"),
+            @ExtensionProperty(name = "x-order", value = "20"),
+            @ExtensionProperty(name = "description", value = "Version of the service.")
+        }
+    )})
+    private String version;
+
+    /**
+     * Number of running pods whose usage is the basis of the suggestions.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Sampled Pods"),
+            @ExtensionProperty(name = "x-order", value = "30"),
+            @ExtensionProperty(name = "description", value = "Number of running pods whose usage is the basis of the suggestions. " +
+                "There are no suggestions without any sampled pod.")
+        }
+    )})
+    private int sampledPods;
+
+    /**
+     * Average CPU usage of the sampled pods in millicores.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Average CPU Usage (millicores)"),
+            @ExtensionProperty(name = "x-order", value = "40"),
+            @ExtensionProperty(name = "description", value = "Average CPU usage of the sampled pods in millicores.")
+        }
+    )})
+    private long averageCpuUsage;
+
+    /**
+     * Maximum CPU usage of the sampled pods in millicores.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Max CPU Usage (millicores)"),
+            @ExtensionProperty(name = "x-order", value = "41"),
+            @ExtensionProperty(name = "description", value = "Maximum CPU usage of the sampled pods in millicores.")
+        }
+    )})
+    private long maxCpuUsage;
+
+    /**
+     * Average memory usage of the sampled pods in bytes.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Average Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "50"),
+            @ExtensionProperty(name = "description", value = "Average memory usage of the sampled pods in bytes.")
+        }
+    )})
+    private long averageMemoryUsage;
+
+    /**
+     * Maximum memory usage of the sampled pods in bytes.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Max Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "51"),
+            @ExtensionProperty(name = "description", value = "Maximum memory usage of the sampled pods in bytes.")
+        }
+    )})
+    private long maxMemoryUsage;
+
+    /**
+     * Suggested CPU request, e.g. {@code 180m}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "CPU Request"),
+            @ExtensionProperty(name = "x-order", value = "60"),
+            @ExtensionProperty(name = "description", value = "Suggested CPU request, " +
+                "the average usage with some headroom.")
+        }
+    )})
+    private String cpuRequest;
+
+    /**
+     * Suggested CPU limit, e.g. {@code 300m}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "CPU Limit"),
+            @ExtensionProperty(name = "x-order", value = "61"),
+            @ExtensionProperty(name = "description", value = "Suggested CPU limit, " +
+                "the maximum usage with some headroom.")
+        }
+    )})
+    private String cpuLimit;
+
+    /**
+     * Suggested memory request, e.g. {@code 180Mi}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Memory Request"),
+            @ExtensionProperty(name = "x-order", value = "62"),
+            @ExtensionProperty(name = "description", value = "Suggested memory request, " +
+                "the average usage with some headroom.")
+        }
+    )})
+    private String memoryRequest;
+
+    /**
+     * Suggested memory limit, e.g. {@code 300Mi}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Memory Limit"),
+            @ExtensionProperty(name = "x-order", value = "63"),
+            @ExtensionProperty(name = "description", value = "Suggested memory limit, " +
+                "the maximum usage with some headroom.")
+        }
+    )})
+    private String memoryLimit;
+}
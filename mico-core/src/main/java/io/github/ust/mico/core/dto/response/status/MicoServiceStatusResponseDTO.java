@@ -168,6 +168,110 @@ public class MicoServiceStatusResponseDTO {
     )})
     private List<KubernetesNodeMetricsResponseDTO> nodeMetrics = new ArrayList<>();
 
+    /**
+     * The average CPU load of all running pods of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Average CPU Load (%)"),
+            @ExtensionProperty(name = "x-order", value = "91"),
+            @ExtensionProperty(name = "description", value = "The average CPU load of all running pods of the MicoService in percent.")
+        }
+    )})
+    private double averageCpuLoad;
+
+    /**
+     * The minimum CPU load of all running pods of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Minimum CPU Load (%)"),
+            @ExtensionProperty(name = "x-order", value = "92"),
+            @ExtensionProperty(name = "description", value = "The minimum CPU load of all running pods of the MicoService in percent.")
+        }
+    )})
+    private double minCpuLoad;
+
+    /**
+     * The 95th percentile of the CPU load of all running pods of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "95th Percentile of CPU Load (%)"),
+            @ExtensionProperty(name = "x-order", value = "93"),
+            @ExtensionProperty(name = "description", value = "The 95th percentile of the CPU load of all running pods of the MicoService in percent.")
+        }
+    )})
+    private double p95CpuLoad;
+
+    /**
+     * The maximum CPU load of all running pods of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Maximum CPU Load (%)"),
+            @ExtensionProperty(name = "x-order", value = "94"),
+            @ExtensionProperty(name = "description", value = "The maximum CPU load of all running pods of the MicoService in percent.")
+        }
+    )})
+    private double maxCpuLoad;
+
+    /**
+     * The average memory usage of all running pods of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Average Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "95"),
+            @ExtensionProperty(name = "description", value = "The average memory usage of all running pods of the MicoService in bytes.")
+        }
+    )})
+    private long averageMemoryUsage;
+
+    /**
+     * The minimum memory usage of all running pods of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Minimum Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "96"),
+            @ExtensionProperty(name = "description", value = "The minimum memory usage of all running pods of the MicoService in bytes.")
+        }
+    )})
+    private long minMemoryUsage;
+
+    /**
+     * The 95th percentile of the memory usage of all running pods of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "95th Percentile of Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "97"),
+            @ExtensionProperty(name = "description", value = "The 95th percentile of the memory usage of all running pods of the MicoService in bytes.")
+        }
+    )})
+    private long p95MemoryUsage;
+
+    /**
+     * The maximum memory usage of all running pods of the {@link MicoService}.
+     */
+    @ApiModelProperty(extensions = {@Extension(
+        name = CustomOpenApiExtentionsPlugin.X_MICO_CUSTOM_EXTENSION,
+        properties = {
+            @ExtensionProperty(name = "title", value = "Maximum Memory Usage (bytes)"),
+            @ExtensionProperty(name = "x-order", value = "98"),
+            @ExtensionProperty(name = "description", value = "The maximum memory usage of all running pods of the MicoService in bytes.")
+        }
+    )})
+    private long maxMemoryUsage;
+
     /**
      * Contains error messages for Kubernetes services that are not deployed or not available due to other reasons.
      */
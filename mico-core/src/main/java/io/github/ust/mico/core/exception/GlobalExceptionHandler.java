@@ -22,6 +22,7 @@
 import io.github.ust.mico.core.dto.response.ValidationErrorResponseDTO;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -52,4 +53,13 @@ public ValidationErrorResponseDTO methodArgumentNotValidException(MethodArgument
         return new ValidationErrorResponseDTO(fieldErrors);
     }
 
+    /**
+     * Handles requests that are rejected by the executor that should handle them asynchronously,
+     * because too many requests of the same kind are already pending.
+     */
+    @ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "Too many pending requests")
+    @ExceptionHandler(TaskRejectedException.class)
+    public void taskRejectedException() {
+    }
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.exception;
+
+public class MicoServiceResourceRequestExceedsLimitException extends Exception {
+
+    private static final long serialVersionUID = 6412781532468601893L;
+
+    public MicoServiceResourceRequestExceedsLimitException(String shortName, String version, String applicationShortName,
+                                                           String applicationVersion, String resource, String request, String limit) {
+        super("The effective " + resource + " request '" + request + "' of MicoService '" + shortName + "' '" + version
+            + "' in MicoApplication '" + applicationShortName + "' '" + applicationVersion
+            + "' exceeds its effective limit '" + limit + "'!");
+    }
+
+    public MicoServiceResourceRequestExceedsLimitException(String shortName, String version, String applicationShortName,
+                                                           String applicationVersion, String reason) {
+        super("The effective resource requirements of MicoService '" + shortName + "' '" + version
+            + "' in MicoApplication '" + applicationShortName + "' '" + applicationVersion + "' are invalid: " + reason);
+    }
+
+}
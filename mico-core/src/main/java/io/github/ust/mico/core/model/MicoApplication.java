@@ -113,6 +113,30 @@ public class MicoApplication {
      */
     private String owner;
 
+    /**
+     * The default CPU that is requested for each instance of the services of this application, e.g. {@code 250m}.
+     * Used for the services whose deployment information does not specify it.
+     */
+    private String defaultCpuRequest;
+
+    /**
+     * The default CPU each instance of the services of this application is limited to, e.g. {@code 1}.
+     * Used for the services whose deployment information does not specify it.
+     */
+    private String defaultCpuLimit;
+
+    /**
+     * The default memory that is requested for each instance of the services of this application, e.g. {@code 256Mi}.
+     * Used for the services whose deployment information does not specify it.
+     */
+    private String defaultMemoryRequest;
+
+    /**
+     * The default memory each instance of the services of this application is limited to, e.g. {@code 512Mi}.
+     * Used for the services whose deployment information does not specify it.
+     */
+    private String defaultMemoryLimit;
+
     public MicoVersion getMicoVersion() throws VersionNotSupportedException {
         MicoVersion micoVersion = MicoVersion.valueOf(this.version);
         return micoVersion;
@@ -137,7 +161,11 @@ public static MicoApplication valueOf(MicoApplicationRequestDTO applicationDto)
             .setVersion(applicationDto.getVersion())
             .setDescription(applicationDto.getDescription())
             .setContact(applicationDto.getContact())
-            .setOwner(applicationDto.getOwner());
+            .setOwner(applicationDto.getOwner())
+            .setDefaultCpuRequest(applicationDto.getDefaultCpuRequest())
+            .setDefaultCpuLimit(applicationDto.getDefaultCpuLimit())
+            .setDefaultMemoryRequest(applicationDto.getDefaultMemoryRequest())
+            .setDefaultMemoryLimit(applicationDto.getDefaultMemoryLimit());
     }
 
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.model;
+
+import org.neo4j.ogm.annotation.GeneratedValue;
+import org.neo4j.ogm.annotation.Id;
+import org.neo4j.ogm.annotation.NodeEntity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import io.github.ust.mico.core.dto.request.MicoAutoscalingMetricRequestDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * A custom metric the horizontal pod autoscaler of a {@link MicoService} scales on.
+ * The metric is averaged across all pods of the deployment and compared
+ * to the target average value.
+ * <p>
+ * Instances of this class are persisted as nodes in the Neo4j database.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@NodeEntity
+public class MicoAutoscalingMetric {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    /**
+     * Name of the metric that is provided by the custom metrics API,
+     * e.g. {@code http_requests_per_second}.
+     */
+    private String metricName;
+
+    /**
+     * Target average value of the metric across all pods as Kubernetes quantity, e.g. {@code 100} or {@code 500m}.
+     */
+    private String targetAverageValue;
+
+
+    // ----------------------
+    // -> Static Creators ---
+    // ----------------------
+
+    /**
+     * Creates a new {@code MicoAutoscalingMetric} based on a {@code MicoAutoscalingMetricRequestDTO}.
+     * Note that the id will be set to {@code null}.
+     *
+     * @param autoscalingMetricDto the {@link MicoAutoscalingMetricRequestDTO}.
+     * @return a {@link MicoAutoscalingMetric}.
+     */
+    public static MicoAutoscalingMetric valueOf(MicoAutoscalingMetricRequestDTO autoscalingMetricDto) {
+        return new MicoAutoscalingMetric()
+            .setMetricName(autoscalingMetricDto.getMetricName())
+            .setTargetAverageValue(autoscalingMetricDto.getTargetAverageValue());
+    }
+
+}
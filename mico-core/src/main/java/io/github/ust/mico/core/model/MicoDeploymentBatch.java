@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.model;
+
+import io.github.ust.mico.core.dto.request.MicoApplicationIdentifierRequestDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deployment of several {@link MicoApplication MicoApplications} that were requested at once.
+ * The batch is the single handle to retrieve the aggregated job status of all included applications.
+ * <p>
+ * Instances of this class are persisted in the Redis database.
+ */
+@Data
+@NoArgsConstructor
+@Accessors(chain = true)
+@RedisHash("DeploymentBatch")
+public class MicoDeploymentBatch implements Serializable {
+
+    private static final long serialVersionUID = 3946258542542305373L;
+
+    /**
+     * The generated batch id.
+     */
+    @Id
+    private String id;
+
+    /**
+     * The {@link MicoApplication MicoApplications} that are deployed by this batch.
+     */
+    private List<Application> applications = new ArrayList<>();
+
+    /**
+     * The time in seconds after which this batch is deleted from the database.
+     * Counted from the creation of the batch, the jobs of the batch expire independently.
+     */
+    @TimeToLive
+    private Long timeToLive;
+
+    /**
+     * Identifies a {@link MicoApplication} of a {@link MicoDeploymentBatch}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Accessors(chain = true)
+    public static class Application implements Serializable {
+
+        private static final long serialVersionUID = -2329766263467416236L;
+
+        /**
+         * The short name of the {@link MicoApplication}.
+         */
+        private String shortName;
+
+        /**
+         * The version of the {@link MicoApplication}.
+         */
+        private String version;
+
+
+        // ----------------------
+        // -> Static Creators ---
+        // ----------------------
+
+        /**
+         * Creates a new {@code Application} based on a {@code MicoApplicationIdentifierRequestDTO}.
+         *
+         * @param applicationIdentifierDto the {@link MicoApplicationIdentifierRequestDTO}.
+         * @return an {@link Application}.
+         */
+        public static Application valueOf(MicoApplicationIdentifierRequestDTO applicationIdentifierDto) {
+            return new Application(applicationIdentifierDto.getShortName(), applicationIdentifierDto.getVersion());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.model;
+
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the job status of a {@link MicoDeploymentBatch}.
+ * Contains the job status of each included {@link MicoApplication}.
+ * <p>
+ * Note that this class is only used for business logic purposes
+ * and instances are not persisted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class MicoDeploymentBatchJobStatus {
+
+    /**
+     * The id of the {@link MicoDeploymentBatch}.
+     */
+    private String id;
+
+    /**
+     * The aggregated status of the jobs of all {@link MicoApplication MicoApplications}.
+     */
+    private Status status = Status.UNDEFINED;
+
+    /**
+     * The job status of each {@link MicoApplication}.
+     */
+    private List<MicoApplicationJobStatus> applicationJobStatuses = new ArrayList<>();
+
+}
@@ -141,9 +141,35 @@ public class MicoService {
      * Either set after the image has been built by MICO
      * (if the service originates from GitHub) or set by the
      * user directly.
+     * Images built by MICO are pinned by the digest of the pushed image,
+     * e.g. {@code docker.io/ustmico/hello:v1.0.0@sha256:...}.
      */
     private String dockerImageUri;
 
+    /**
+     * Boolean value to set whether Kaniko caches the layers of the builds of this service.
+     * {@code null} uses the default of the build bot configuration.
+     */
+    private Boolean buildCacheEnabled;
+
+    /**
+     * The mode Kaniko uses to take the snapshots of the file system ({@code full} or {@code time}).
+     * {@code null} uses the default of the build bot configuration.
+     */
+    private String buildSnapshotMode;
+
+    /**
+     * The CPU that is requested for the builds of this service, e.g. {@code 500m}.
+     * {@code null} uses the default of the build bot configuration.
+     */
+    private String buildCpuRequest;
+
+    /**
+     * The memory that is requested for the builds of this service, e.g. {@code 1Gi}.
+     * {@code null} uses the default of the build bot configuration.
+     */
+    private String buildMemoryRequest;
+
     public MicoVersion getMicoVersion() throws VersionNotSupportedException {
         MicoVersion micoVersion = MicoVersion.valueOf(this.version);
         return micoVersion;
@@ -171,7 +197,11 @@ public static MicoService valueOf(MicoServiceRequestDTO serviceDto) {
             .setOwner(serviceDto.getOwner())
             .setGitCloneUrl(serviceDto.getGitCloneUrl())
             .setDockerfilePath(serviceDto.getDockerfilePath())
-            .setDockerImageUri(serviceDto.getDockerImageUri());
+            .setDockerImageUri(serviceDto.getDockerImageUri())
+            .setBuildCacheEnabled(serviceDto.getBuildCacheEnabled())
+            .setBuildSnapshotMode(serviceDto.getBuildSnapshotMode())
+            .setBuildCpuRequest(serviceDto.getBuildCpuRequest())
+            .setBuildMemoryRequest(serviceDto.getBuildMemoryRequest());
     }
 
 }
@@ -22,16 +22,19 @@
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import org.neo4j.ogm.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.index.Indexed;
 
 import java.io.Serializable;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Background job for a {@link MicoService}.
  * <p>
  * Instances of this class are persisted in the Redis database.
+ * The futures of running jobs are kept in memory by the
+ * {@link io.github.ust.mico.core.service.BackgroundJobFutureRegistry}.
  */
 @Data
 @NoArgsConstructor
@@ -47,11 +50,6 @@ public class MicoServiceBackgroundJob implements Serializable {
     @Id
     private String id;
 
-    /**
-     * The actual job future.
-     */
-    private CompletableFuture<?> future;
-
     /**
      * The short name of the corresponding {@link MicoService}.
      */
@@ -73,6 +71,7 @@ public class MicoServiceBackgroundJob implements Serializable {
     /**
      * The current {@link Status} of this job.
      */
+    @Indexed
     private Status status = Status.PENDING;
 
     /**
@@ -80,14 +79,68 @@ public class MicoServiceBackgroundJob implements Serializable {
      */
     private String errorMessage;
 
+    /**
+     * The {@link Priority} of this job. Pending jobs with a higher priority are started first.
+     */
+    private Priority priority = Priority.NORMAL;
+
+    /**
+     * The position of this job in the queue of pending jobs (starting at 1).
+     * Is not stored in the database, because it changes with every started job.
+     * {@code null} if the job is not queued.
+     */
+    @Transient
+    private Integer queuePosition;
+
+    /**
+     * The time in seconds after which this job is deleted from the database.
+     * Only set if this job is finished (see {@link Status#isFinished()}),
+     * otherwise {@code null} so that the job does not expire.
+     */
+    @TimeToLive
+    private Long timeToLive;
+
 
-    // Build contains currently build and deploy.
     public enum Type {
-        BUILD
+        /**
+         * Builds the image of a {@link MicoService} and deploys it.
+         */
+        BUILD,
+        /**
+         * Undeploys a {@link MicoService} (deletes or scales in its Kubernetes resources).
+         */
+        UNDEPLOY
+    }
+
+    /**
+     * The priority classes of jobs, e.g. {@code HIGH} for hotfixes and {@code LOW} for nightly deployments.
+     * The order of declaration is the order in which pending jobs are started.
+     */
+    public enum Priority {
+        HIGH, NORMAL, LOW
     }
 
     public enum Status {
-        PENDING, RUNNING, ERROR, DONE, UNDEFINED
+        PENDING, RUNNING, ERROR, DONE, UNDEFINED,
+        /**
+         * The job was cancelled while it was running.
+         */
+        CANCELLED,
+        /**
+         * The job did not finish within its timeout.
+         */
+        TIMED_OUT;
+
+        /**
+         * Indicates whether a job with this status is finished,
+         * i.e., its status will not change anymore.
+         *
+         * @return {@code true} if the status is {@link #DONE}, {@link #ERROR},
+         * {@link #CANCELLED} or {@link #TIMED_OUT}
+         */
+        public boolean isFinished() {
+            return this == DONE || this == ERROR || this == CANCELLED || this == TIMED_OUT;
+        }
     }
 
 }
@@ -83,6 +83,30 @@ public class MicoServiceDeploymentInfo {
      */
     private int replicas = 1;
 
+    /**
+     * Lower bound of the number of instances the horizontal pod autoscaler may scale down to.
+     * Only used if autoscaling is enabled by {@link #maxReplicas}. Defaults to {@link #replicas}.
+     */
+    private Integer minReplicas;
+
+    /**
+     * Upper bound of the number of instances the horizontal pod autoscaler may scale up to.
+     * Autoscaling is enabled if and only if it is set.
+     */
+    private Integer maxReplicas;
+
+    /**
+     * Target average CPU utilization across all instances in percent of the requested CPU.
+     * The horizontal pod autoscaler does not scale on the CPU utilization if it is not set.
+     */
+    private Integer targetCpuUtilizationPercentage;
+
+    /**
+     * Custom metrics the horizontal pod autoscaler scales on in addition to the CPU utilization.
+     */
+    @Relationship(type = "HAS")
+    private List<MicoAutoscalingMetric> autoscalingMetrics = new ArrayList<>();
+
     /**
      * Those labels are key-value pairs that are attached to the deployment
      * of this {@link MicoService}. Intended to be used to specify identifying attributes
@@ -116,9 +140,55 @@ public class MicoServiceDeploymentInfo {
 
     /**
      * Indicates whether and when to pull the image.
-     * Default image pull policy is {@link ImagePullPolicy#ALWAYS Always}.
+     * Default image pull policy is {@link ImagePullPolicy#IF_NOT_PRESENT IfNotPresent},
+     * because images built by MICO are referenced by their digest, so nodes can reuse cached images.
+     * Use {@link ImagePullPolicy#ALWAYS Always} for images that are referenced by a mutable tag.
+     */
+    private ImagePullPolicy imagePullPolicy = ImagePullPolicy.IF_NOT_PRESENT;
+
+    /**
+     * The CPU that is requested for each instance, e.g. {@code 250m}.
+     * {@code null} uses the default of the {@link MicoApplication}.
+     */
+    private String cpuRequest;
+
+    /**
+     * The CPU each instance is limited to, e.g. {@code 1}.
+     * {@code null} uses the default of the {@link MicoApplication}.
+     */
+    private String cpuLimit;
+
+    /**
+     * The memory that is requested for each instance, e.g. {@code 256Mi}.
+     * {@code null} uses the default of the {@link MicoApplication}.
+     */
+    private String memoryRequest;
+
+    /**
+     * The memory each instance is limited to, e.g. {@code 512Mi}.
+     * {@code null} uses the default of the {@link MicoApplication}.
+     */
+    private String memoryLimit;
+
+    /**
+     * Indicates whether and how the instances are spread across the nodes of the cluster.
+     * Spreading is preferred, but not required by the scheduler.
+     * Default spread policy is {@link SpreadPolicy#NONE None}.
+     */
+    private SpreadPolicy spreadPolicy = SpreadPolicy.NONE;
+
+    /**
+     * Indicates whether at most one instance is scheduled onto each node.
+     * Instances that do not fit onto a node of their own remain pending.
+     */
+    private boolean selfAntiAffinity = false;
+
+    /**
+     * The short name of a {@link MicoService} (e.g. a dependee) whose instances
+     * the instances of this {@link MicoService} preferably run next to on the same node.
+     * {@code null} if there is no such affinity.
      */
-    private ImagePullPolicy imagePullPolicy = ImagePullPolicy.ALWAYS;
+    private String affinityServiceShortName;
 
     /**
      * Information about the actual Kubernetes resources created by a deployment.
@@ -153,6 +223,63 @@ public String toString() {
         }
     }
 
+    /**
+     * Enumeration for the different policies specifying
+     * how to spread the instances across the cluster.
+     */
+    @AllArgsConstructor
+    public enum SpreadPolicy {
+
+        @JsonProperty("None")
+        NONE("None"),
+        @JsonProperty("Nodes")
+        NODES("Nodes"),
+        @JsonProperty("Zones")
+        ZONES("Zones");
+
+        private final String value;
+
+        /* (non-Javadoc)
+         * @see java.lang.Enum#toString()
+         */
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    /**
+     * Indicates whether the instances of the deployment are scaled by a horizontal pod autoscaler.
+     *
+     * @return {@code true} if {@link #maxReplicas} is set.
+     */
+    public boolean isAutoscalingEnabled() {
+        return maxReplicas != null;
+    }
+
+    /**
+     * Returns the lower bound of the number of instances of this deployment.
+     * Without autoscaling it is the fixed number of {@link #replicas}.
+     *
+     * @return the minimum number of replicas.
+     */
+    public int getEffectiveMinReplicas() {
+        if (!isAutoscalingEnabled()) {
+            return replicas;
+        }
+        return minReplicas != null ? minReplicas : Math.min(replicas, maxReplicas);
+    }
+
+    /**
+     * Returns the upper bound of the number of instances of this deployment.
+     * Without autoscaling it is the fixed number of {@link #replicas}.
+     *
+     * @return the maximum number of replicas.
+     */
+    public int getEffectiveMaxReplicas() {
+        return isAutoscalingEnabled() ? maxReplicas : replicas;
+    }
+
     /**
      * Applies the values of all properties of a
      * {@code MicoServiceDeploymentInfoRequestDTO} to this
@@ -165,10 +292,21 @@ public String toString() {
      */
     public MicoServiceDeploymentInfo applyValuesFrom(MicoServiceDeploymentInfoRequestDTO serviceDeploymentInfoDto) {
         return setReplicas(serviceDeploymentInfoDto.getReplicas())
+            .setMinReplicas(serviceDeploymentInfoDto.getMinReplicas())
+            .setMaxReplicas(serviceDeploymentInfoDto.getMaxReplicas())
+            .setTargetCpuUtilizationPercentage(serviceDeploymentInfoDto.getTargetCpuUtilizationPercentage())
+            .setAutoscalingMetrics(serviceDeploymentInfoDto.getAutoscalingMetrics().stream().map(MicoAutoscalingMetric::valueOf).collect(Collectors.toList()))
             .setLabels(serviceDeploymentInfoDto.getLabels().stream().map(MicoLabel::valueOf).collect(Collectors.toList()))
             .setEnvironmentVariables(serviceDeploymentInfoDto.getEnvironmentVariables().stream().map(MicoEnvironmentVariable::valueOf).collect(Collectors.toList()))
             .setInterfaceConnections(serviceDeploymentInfoDto.getInterfaceConnections().stream().map(MicoInterfaceConnection::valueOf).collect(Collectors.toList()))
-            .setImagePullPolicy(serviceDeploymentInfoDto.getImagePullPolicy());
+            .setImagePullPolicy(serviceDeploymentInfoDto.getImagePullPolicy())
+            .setCpuRequest(serviceDeploymentInfoDto.getCpuRequest())
+            .setCpuLimit(serviceDeploymentInfoDto.getCpuLimit())
+            .setMemoryRequest(serviceDeploymentInfoDto.getMemoryRequest())
+            .setMemoryLimit(serviceDeploymentInfoDto.getMemoryLimit())
+            .setSpreadPolicy(serviceDeploymentInfoDto.getSpreadPolicy())
+            .setSelfAntiAffinity(serviceDeploymentInfoDto.isSelfAntiAffinity())
+            .setAffinityServiceShortName(serviceDeploymentInfoDto.getAffinityServiceShortName());
     }
 
 
@@ -19,6 +19,9 @@
 
 package io.github.ust.mico.core.model;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import com.github.zafarkhaja.semver.ParseException;
@@ -38,6 +41,35 @@
  */
 public class MicoVersion implements Comparable<MicoVersion> {
 
+    private static final Pattern ONLY_LETTERS_OR_EMPTY_PATTERN = Pattern.compile(Patterns.ONLY_LETTERS_OR_EMPTY_REGEX);
+
+    /**
+     * The number of bits that are used for each of the major, minor and patch
+     * version numbers in {@link #packedNormalVersion}.
+     */
+    private static final int PACKED_BITS = 21;
+    private static final int PACKED_MAX = (1 << PACKED_BITS) - 1;
+    private static final long NOT_PACKED = -1;
+
+    /**
+     * The maximum number of version strings that are kept in the {@link #PARSED_VERSIONS} cache.
+     */
+    private static final int CACHE_MAX_SIZE = 1024;
+
+    /**
+     * Least recently used cache of parsed version strings. The same version strings are parsed
+     * over and over again, e.g., to sort the versions of a service. Only the prefix and the immutable
+     * {@link Version} are cached, each call of {@link #valueOf(String)} still returns a new instance,
+     * because {@code MicoVersion} is mutable.
+     */
+    private static final Map<String, MicoVersion> PARSED_VERSIONS = Collections.synchronizedMap(
+        new LinkedHashMap<String, MicoVersion>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MicoVersion> eldest) {
+                return size() > CACHE_MAX_SIZE;
+            }
+        });
+
     /**
      * String prefix of this version, e.g., 'v'.
      */
@@ -49,6 +81,13 @@ public class MicoVersion implements Comparable<MicoVersion> {
      */
     private Version version;
 
+    /**
+     * The major, minor and patch version numbers packed into a single {@code long}
+     * (21 bits each), so two versions can be compared with a single comparison.
+     * {@link #NOT_PACKED} if one of the numbers does not fit into 21 bits.
+     */
+    private long packedNormalVersion;
+
     /**
      * Private constructor.
      *
@@ -57,7 +96,7 @@ public class MicoVersion implements Comparable<MicoVersion> {
      */
     private MicoVersion(String prefix, Version version) {
         this.prefix = prefix;
-        this.version = version;
+        setVersion(version);
     }
 
     /**
@@ -73,11 +112,76 @@ private MicoVersion(String prefix, Version version) {
      *                                      with a string prefix.
      */
     public static MicoVersion valueOf(String version) throws VersionNotSupportedException {
+        MicoVersion parsedVersion = PARSED_VERSIONS.get(version);
+        if (parsedVersion == null) {
+            parsedVersion = parseNormalVersion(version);
+            if (parsedVersion == null) {
+                parsedVersion = parse(version);
+            }
+            PARSED_VERSIONS.put(version, parsedVersion);
+        }
+        return new MicoVersion(parsedVersion.prefix, parsedVersion.version);
+    }
+
+    /**
+     * Parses version strings that consist of an optional prefix of letters and a normal
+     * version ({@code major.minor.patch}) in a single pass, e.g., 'v1.2.3'.
+     * Version strings with a pre-release version, build metadata, whitespace or
+     * numbers with leading zeros are not handled.
+     *
+     * @param version the version string to parse.
+     * @return the parsed {@code MicoVersion} or {@code null} if the version string
+     * has to be parsed by {@link #parse(String)}.
+     */
+    private static MicoVersion parseNormalVersion(String version) {
+        int length = version.length();
+        int i = 0;
+        while (i < length && isLetter(version.charAt(i))) {
+            i++;
+        }
+        int prefixEnd = i;
+
+        int[] numbers = new int[3];
+        for (int n = 0; n < numbers.length; n++) {
+            if (n > 0) {
+                if (i >= length || version.charAt(i) != '.') {
+                    return null;
+                }
+                i++;
+            }
+            int start = i;
+            int number = 0;
+            while (i < length && isDigit(version.charAt(i))) {
+                number = number * 10 + (version.charAt(i) - '0');
+                i++;
+            }
+            int digits = i - start;
+            // At least one digit, no leading zeros and no overflow of the int
+            if (digits == 0 || digits > 9 || (digits > 1 && version.charAt(start) == '0')) {
+                return null;
+            }
+            numbers[n] = number;
+        }
+        if (i != length) {
+            return null;
+        }
+        return new MicoVersion(version.substring(0, prefixEnd), Version.forIntegers(numbers[0], numbers[1], numbers[2]));
+    }
+
+    /**
+     * Parses any version string with a prefix by the means of the java-semver library.
+     *
+     * @param version the version string to parse (may include a prefix).
+     * @return a new instance of the {@code MicoVersion} class.
+     * @throws VersionNotSupportedException if the version is not a semantic version
+     *                                      with a string prefix.
+     */
+    private static MicoVersion parse(String version) throws VersionNotSupportedException {
         String[] arr = version.split("\\d+", 2);
         String prefix = arr[0].trim();
 
         // Only letters allowed for prefix
-        if (!Pattern.matches(Patterns.ONLY_LETTERS_OR_EMPTY_REGEX, prefix)) {
+        if (!ONLY_LETTERS_OR_EMPTY_PATTERN.matcher(prefix).matches()) {
             throw new VersionNotSupportedException("Illegal prefix, only letters are allowed");
         }
 
@@ -91,6 +195,14 @@ public static MicoVersion valueOf(String version) throws VersionNotSupportedExce
         }
     }
 
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     /**
      * Creates a new instance of {@code MicoVersion}
      * for the specified version numbers.
@@ -172,7 +284,7 @@ public String getBuildMetadata() {
      * @return the updated instance of the {@code MicoVersion} class.
      */
     public MicoVersion incrementMajorVersion() {
-        version = version.incrementMajorVersion();
+        setVersion(version.incrementMajorVersion());
         return this;
     }
 
@@ -186,7 +298,7 @@ public MicoVersion incrementMajorVersion() {
      * @throws UnexpectedCharacterException is a special case of {@code ParseException}.
      */
     public MicoVersion incrementMajorVersion(String preRelease) {
-        version = version.incrementMajorVersion(preRelease);
+        setVersion(version.incrementMajorVersion(preRelease));
         return this;
     }
 
@@ -196,7 +308,7 @@ public MicoVersion incrementMajorVersion(String preRelease) {
      * @return the updated instance of the {@code MicoVersion} class.
      */
     public MicoVersion incrementMinorVersion() {
-        version = version.incrementMinorVersion();
+        setVersion(version.incrementMinorVersion());
         return this;
     }
 
@@ -210,7 +322,7 @@ public MicoVersion incrementMinorVersion() {
      * @throws UnexpectedCharacterException is a special case of {@code ParseException}.
      */
     public MicoVersion incrementMinorVersion(String preRelease) {
-        version = version.incrementMinorVersion(preRelease);
+        setVersion(version.incrementMinorVersion(preRelease));
         return this;
     }
 
@@ -220,7 +332,7 @@ public MicoVersion incrementMinorVersion(String preRelease) {
      * @return the updated instance of the {@code MicoVersion} class.
      */
     public MicoVersion incrementPatchVersion() {
-        version = version.incrementPatchVersion();
+        setVersion(version.incrementPatchVersion());
         return this;
     }
 
@@ -234,7 +346,7 @@ public MicoVersion incrementPatchVersion() {
      * @throws UnexpectedCharacterException is a special case of {@code ParseException}.
      */
     public MicoVersion incrementPatchVersion(String preRelease) {
-        version = version.incrementPatchVersion(preRelease);
+        setVersion(version.incrementPatchVersion(preRelease));
         return this;
     }
 
@@ -244,7 +356,7 @@ public MicoVersion incrementPatchVersion(String preRelease) {
      * @return the updated instance of the {@code MicoVersion} class.
      */
     public MicoVersion incrementPreReleaseVersion() {
-        version = version.incrementPreReleaseVersion();
+        setVersion(version.incrementPreReleaseVersion());
         return this;
     }
 
@@ -254,7 +366,7 @@ public MicoVersion incrementPreReleaseVersion() {
      * @return the updated instance of the {@code MicoVersion} class.
      */
     public MicoVersion incrementBuildMetadata() {
-        version = version.incrementBuildMetadata();
+        setVersion(version.incrementBuildMetadata());
         return this;
     }
 
@@ -268,7 +380,7 @@ public MicoVersion incrementBuildMetadata() {
      * @throws UnexpectedCharacterException is a special case of {@code ParseException}.
      */
     public MicoVersion setPreReleaseVersion(String preRelease) {
-        version = version.setPreReleaseVersion(preRelease);
+        setVersion(version.setPreReleaseVersion(preRelease));
         return this;
     }
 
@@ -282,10 +394,27 @@ public MicoVersion setPreReleaseVersion(String preRelease) {
      * @throws UnexpectedCharacterException is a special case of {@code ParseException}.
      */
     public MicoVersion setBuildMetadata(String build) {
-        version = version.setBuildMetadata(build);
+        setVersion(version.setBuildMetadata(build));
         return this;
     }
 
+    /**
+     * Sets the actual semantic version and updates the packed normal version.
+     *
+     * @param version the actual semantic version.
+     */
+    private void setVersion(Version version) {
+        this.version = version;
+        int major = version.getMajorVersion();
+        int minor = version.getMinorVersion();
+        int patch = version.getPatchVersion();
+        if (major <= PACKED_MAX && minor <= PACKED_MAX && patch <= PACKED_MAX) {
+            packedNormalVersion = ((long) major << (2 * PACKED_BITS)) | ((long) minor << PACKED_BITS) | patch;
+        } else {
+            packedNormalVersion = NOT_PACKED;
+        }
+    }
+
     /**
      * Checks if this version is greater than the other version.
      *
@@ -294,7 +423,7 @@ public MicoVersion setBuildMetadata(String build) {
      * or {@code false} otherwise.
      */
     public boolean greaterThan(MicoVersion other) {
-        return version.greaterThan(other.version);
+        return compareTo(other) > 0;
     }
 
     /**
@@ -305,7 +434,7 @@ public boolean greaterThan(MicoVersion other) {
      * to the other version or {@code false} otherwise.
      */
     public boolean greaterThanOrEqualTo(MicoVersion other) {
-        return version.greaterThanOrEqualTo(other.version);
+        return compareTo(other) >= 0;
     }
 
     /**
@@ -316,7 +445,7 @@ public boolean greaterThanOrEqualTo(MicoVersion other) {
      * or {@code false} otherwise.
      */
     public boolean lessThan(MicoVersion other) {
-        return version.lessThan(other.version);
+        return compareTo(other) < 0;
     }
 
     /**
@@ -327,7 +456,7 @@ public boolean lessThan(MicoVersion other) {
      * to the other version or {@code false} otherwise.
      */
     public boolean lessThanOrEqualTo(MicoVersion other) {
-        return version.lessThanOrEqualTo(other.version);
+        return compareTo(other) <= 0;
     }
 
     /**
@@ -387,6 +516,11 @@ public String toString() {
      */
     @Override
     public int compareTo(MicoVersion other) {
+        // Fast path: the normal versions differ, so the pre-release versions don't have to be compared
+        if (packedNormalVersion != NOT_PACKED && other.packedNormalVersion != NOT_PACKED
+            && packedNormalVersion != other.packedNormalVersion) {
+            return Long.compare(packedNormalVersion, other.packedNormalVersion);
+        }
         return version.compareTo(other.version);
     }
 
@@ -19,14 +19,17 @@
 package io.github.ust.mico.core.persistence;
 
 import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MicoBackgroundJobRepository extends CrudRepository<MicoServiceBackgroundJob, String> {
+public interface MicoBackgroundJobRepository extends PagingAndSortingRepository<MicoServiceBackgroundJob, String>,
+    MicoBackgroundJobRepositoryCustom {
 
     @Override
     List<MicoServiceBackgroundJob> findAll();
@@ -35,4 +38,10 @@ public interface MicoBackgroundJobRepository extends CrudRepository<MicoServiceB
 
     Optional<MicoServiceBackgroundJob> findByServiceShortNameAndServiceVersionAndType(String micoServiceShortName, String micoServiceVersion, MicoServiceBackgroundJob.Type type);
 
+    Page<MicoServiceBackgroundJob> findByStatus(MicoServiceBackgroundJob.Status status, Pageable pageable);
+
+    Page<MicoServiceBackgroundJob> findByType(MicoServiceBackgroundJob.Type type, Pageable pageable);
+
+    Page<MicoServiceBackgroundJob> findByStatusAndType(MicoServiceBackgroundJob.Status status, MicoServiceBackgroundJob.Type type, Pageable pageable);
+
 }
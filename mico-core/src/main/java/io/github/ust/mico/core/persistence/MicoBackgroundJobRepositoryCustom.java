@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.persistence;
+
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
+
+import java.util.List;
+
+/**
+ * Custom queries for {@link MicoServiceBackgroundJob MicoServiceBackgroundJobs}
+ * that cannot be derived by Spring Data.
+ */
+public interface MicoBackgroundJobRepositoryCustom {
+
+    /**
+     * Retrieves the jobs of all given {@code MicoServices}.
+     * In contrast to calling {@link MicoBackgroundJobRepository#findByServiceShortNameAndServiceVersion(String, String)}
+     * for each service, the ids and the jobs are fetched in one pipelined request each.
+     *
+     * @param micoServices the {@link MicoService MicoServices}
+     * @return the {@link MicoServiceBackgroundJob MicoServiceBackgroundJobs} of all services.
+     */
+    List<MicoServiceBackgroundJob> findByServices(List<MicoService> micoServices);
+}
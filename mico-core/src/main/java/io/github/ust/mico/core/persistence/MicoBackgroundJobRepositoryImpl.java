@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.persistence;
+
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.Bucket;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Implementation of {@link MicoBackgroundJobRepositoryCustom} based on the keys
+ * that Spring Data Redis uses to store {@link MicoServiceBackgroundJob MicoServiceBackgroundJobs}:
+ * <ul>
+ * <li>{@code <keyspace>:<id>} for the hash of a job</li>
+ * <li>{@code <keyspace>:<property>:<value>} for the set of ids of a secondary index</li>
+ * </ul>
+ */
+public class MicoBackgroundJobRepositoryImpl implements MicoBackgroundJobRepositoryCustom {
+
+    private static final String SEPARATOR = ":";
+    private static final String INDEX_SERVICE_SHORT_NAME = "serviceShortName";
+    private static final String INDEX_SERVICE_VERSION = "serviceVersion";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final RedisConverter redisConverter;
+
+    @Autowired
+    public MicoBackgroundJobRepositoryImpl(StringRedisTemplate redisTemplate, RedisConverter redisConverter) {
+        this.redisTemplate = redisTemplate;
+        this.redisConverter = redisConverter;
+    }
+
+    @Override
+    public List<MicoServiceBackgroundJob> findByServices(List<MicoService> micoServices) {
+        if (micoServices.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String keyspace = redisConverter.getMappingContext()
+            .getRequiredPersistentEntity(MicoServiceBackgroundJob.class).getKeySpace();
+
+        // 1st round trip: the ids of the jobs of each service (intersection of both indexes)
+        List<Object> idsOfServices = executePipelined(connection -> {
+            for (MicoService micoService : micoServices) {
+                connection.sInter(
+                    toBytes(keyspace + SEPARATOR + INDEX_SERVICE_SHORT_NAME + SEPARATOR + micoService.getShortName()),
+                    toBytes(keyspace + SEPARATOR + INDEX_SERVICE_VERSION + SEPARATOR + micoService.getVersion()));
+            }
+        });
+        Set<String> ids = new LinkedHashSet<>();
+        for (Object idsOfService : idsOfServices) {
+            for (Object id : (Set<?>) idsOfService) {
+                ids.add(new String((byte[]) id, StandardCharsets.UTF_8));
+            }
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 2nd round trip: the hashes of all jobs
+        List<String> orderedIds = new ArrayList<>(ids);
+        List<Object> hashes = executePipelined(connection -> {
+            for (String id : orderedIds) {
+                connection.hGetAll(toBytes(keyspace + SEPARATOR + id));
+            }
+        });
+        List<MicoServiceBackgroundJob> jobs = new ArrayList<>();
+        for (int i = 0; i < orderedIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<byte[], byte[]> hash = (Map<byte[], byte[]>) hashes.get(i);
+            // The job may have expired in the meantime
+            if (hash == null || hash.isEmpty()) {
+                continue;
+            }
+            RedisData redisData = new RedisData(Bucket.newBucketFromRawMap(hash));
+            redisData.setId(orderedIds.get(i));
+            redisData.setKeyspace(keyspace);
+            jobs.add(redisConverter.read(MicoServiceBackgroundJob.class, redisData));
+        }
+        return jobs;
+    }
+
+    /**
+     * Executes the given commands in a pipeline and returns the raw results.
+     *
+     * @param commands the commands to execute
+     * @return the raw results in the order of the commands
+     */
+    private List<Object> executePipelined(PipelinedCommands commands) {
+        List<Object> results = redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            commands.execute(connection);
+            return connection.closePipeline();
+        });
+        return results != null ? results : new ArrayList<>();
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface PipelinedCommands {
+        void execute(RedisConnection connection);
+    }
+}
@@ -36,6 +36,7 @@
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.server.ResponseStatusException;
 
 import io.github.ust.mico.core.broker.MicoApplicationBroker;
@@ -51,6 +52,7 @@
 import io.github.ust.mico.core.model.MicoApplication;
 import io.github.ust.mico.core.model.MicoService;
 import io.github.ust.mico.core.model.MicoServiceDeploymentInfo;
+import io.github.ust.mico.core.service.AsyncRequestExecutors;
 import io.swagger.annotations.ApiOperation;
 
 @Slf4j
@@ -72,6 +74,9 @@ public class ApplicationResource {
     @Autowired
     private MicoApplicationBroker broker;
 
+    @Autowired
+    private AsyncRequestExecutors asyncRequestExecutors;
+
     @GetMapping()
     public ResponseEntity<Resources<Resource<MicoApplicationWithServicesResponseDTO>>> getAllApplications() {
         List<MicoApplication> applications = broker.getMicoApplications();
@@ -284,15 +289,17 @@ public ResponseEntity<Resource<MicoApplicationDeploymentStatusResponseDTO>> getA
     }
 
     @GetMapping("/{" + PATH_VARIABLE_SHORT_NAME + "}/{" + PATH_VARIABLE_VERSION + "}/" + PATH_STATUS)
-    public ResponseEntity<Resource<MicoApplicationStatusResponseDTO>> getStatusOfApplication(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
-                                                                                             @PathVariable(PATH_VARIABLE_VERSION) String version) {
-        MicoApplicationStatusResponseDTO applicationStatus;
-        try {
-            applicationStatus = broker.getApplicationStatus(shortName, version);
-        } catch (MicoApplicationNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        }
-        return ResponseEntity.ok(new Resource<>(applicationStatus));
+    public WebAsyncTask<ResponseEntity<Resource<MicoApplicationStatusResponseDTO>>> getStatusOfApplication(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
+                                                                                                           @PathVariable(PATH_VARIABLE_VERSION) String version) {
+        return asyncRequestExecutors.status(() -> {
+            MicoApplicationStatusResponseDTO applicationStatus;
+            try {
+                applicationStatus = broker.getApplicationStatus(shortName, version);
+            } catch (MicoApplicationNotFoundException e) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+            }
+            return ResponseEntity.ok(new Resource<>(applicationStatus));
+        });
     }
 
     private List<Resource<MicoApplicationWithServicesResponseDTO>> getApplicationWithServicesResponseDTOResourceList(List<MicoApplication> applications) {
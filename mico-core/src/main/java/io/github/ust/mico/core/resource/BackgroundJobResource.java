@@ -26,20 +26,24 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import io.github.ust.mico.core.exception.MicoApplicationNotFoundException;
 import io.github.ust.mico.core.model.MicoApplicationJobStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
-import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import io.github.ust.mico.core.broker.BackgroundJobBroker;
 import io.github.ust.mico.core.dto.response.MicoApplicationJobStatusResponseDTO;
@@ -54,16 +58,33 @@ public class BackgroundJobResource {
     private static final String PATH_VARIABLE_ID = "id";
     private static final String PATH_VARIABLE_SHORT_NAME = "shortName";
     private static final String PATH_VARIABLE_VERSION = "version";
+    private static final String REQUEST_PARAM_STATUS = "status";
+    private static final String REQUEST_PARAM_TYPE = "type";
+    private static final int DEFAULT_PAGE_SIZE = 20;
 
     @Autowired
     private BackgroundJobBroker backgroundJobBroker;
 
-    @GetMapping()
-    public ResponseEntity<Resources<Resource<MicoServiceBackgroundJobResponseDTO>>> getAllJobs() {
-        List<MicoServiceBackgroundJob> jobs = backgroundJobBroker.getAllJobs();
-        List<Resource<MicoServiceBackgroundJobResponseDTO>> jobResources = getJobResourceList(jobs);
+    @Autowired
+    private PagedResourcesAssembler<MicoServiceBackgroundJob> pagedResourcesAssembler;
 
-        return ResponseEntity.ok(new Resources<>(jobResources, linkTo(methodOn(BackgroundJobResource.class).getAllJobs()).withSelfRel()));
+    @GetMapping()
+    public ResponseEntity<PagedResources<Resource<MicoServiceBackgroundJobResponseDTO>>> getAllJobs(@RequestParam(value = REQUEST_PARAM_STATUS, required = false) MicoServiceBackgroundJob.Status status,
+                                                                                                   @RequestParam(value = REQUEST_PARAM_TYPE, required = false) MicoServiceBackgroundJob.Type type,
+                                                                                                   @PageableDefault(size = DEFAULT_PAGE_SIZE) Pageable pageable) {
+        Page<MicoServiceBackgroundJob> jobs = backgroundJobBroker.getJobs(status, type, pageable);
+
+        // The filters have to be part of the base link, so that the pagination links keep them
+        UriComponentsBuilder baseUri = linkTo(BackgroundJobResource.class).toUriComponentsBuilder();
+        if (status != null) {
+            baseUri.queryParam(REQUEST_PARAM_STATUS, status);
+        }
+        if (type != null) {
+            baseUri.queryParam(REQUEST_PARAM_TYPE, type);
+        }
+        return ResponseEntity.ok(pagedResourcesAssembler.toResource(jobs,
+            job -> new Resource<>(new MicoServiceBackgroundJobResponseDTO(job), getJobLinks(job)),
+            new Link(baseUri.toUriString())));
     }
 
     @GetMapping("/{" + PATH_VARIABLE_SHORT_NAME + "}/{" + PATH_VARIABLE_VERSION + "}/" + PATH_STATUS)
@@ -110,16 +131,11 @@ private URI getLocationForJob(MicoServiceBackgroundJob job) throws URISyntaxExce
         return new URI("/services/" + job.getServiceShortName() + "/" + job.getServiceVersion());
     }
 
-    private List<Resource<MicoServiceBackgroundJobResponseDTO>> getJobResourceList(List<MicoServiceBackgroundJob> jobs) {
-        return jobs.stream().map(job -> new Resource<>(new MicoServiceBackgroundJobResponseDTO(job), getJobLinks(job)))
-            .collect(Collectors.toList());
-    }
-
     private Iterable<Link> getJobLinks(MicoServiceBackgroundJob job) {
         List<Link> links = new ArrayList<>();
         links.add(linkTo(methodOn(BackgroundJobResource.class).getJobById(job.getId())).withSelfRel());
         links.add(linkTo(methodOn(BackgroundJobResource.class).deleteJob(job.getId())).withRel("cancel"));
-        links.add(linkTo(methodOn(BackgroundJobResource.class).getAllJobs()).withRel("jobs"));
+        links.add(linkTo(BackgroundJobResource.class).withRel("jobs"));
         return links;
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.resource;
+
+import io.github.ust.mico.core.broker.BackgroundJobBroker;
+import io.github.ust.mico.core.broker.DeploymentBroker;
+import io.github.ust.mico.core.dto.request.MicoDeploymentBatchRequestDTO;
+import io.github.ust.mico.core.dto.response.MicoDeploymentBatchJobStatusResponseDTO;
+import io.github.ust.mico.core.exception.*;
+import io.github.ust.mico.core.model.MicoDeploymentBatch;
+import io.github.ust.mico.core.model.MicoDeploymentBatchJobStatus;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
+
+@RestController
+@RequestMapping(value = "/deployments", produces = MediaTypes.HAL_JSON_VALUE)
+public class DeploymentBatchResource {
+
+    private static final String PATH_VARIABLE_ID = "id";
+
+    @Autowired
+    private DeploymentBroker deploymentBroker;
+
+    @Autowired
+    private BackgroundJobBroker backgroundJobBroker;
+
+    @PostMapping("/deploy")
+    public ResponseEntity<Resource<MicoDeploymentBatchJobStatusResponseDTO>> deploy(@Valid @RequestBody MicoDeploymentBatchRequestDTO deploymentBatchDto,
+                                                                                    @RequestParam(value = "priority", required = false, defaultValue = "NORMAL") MicoServiceBackgroundJob.Priority priority) {
+        MicoDeploymentBatchJobStatus deploymentBatchJobStatus;
+        try {
+            deploymentBatchJobStatus = deploymentBroker.deployApplications(getApplications(deploymentBatchDto), priority);
+        } catch (MicoApplicationNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (MicoServiceInterfaceNotFoundException | MicoApplicationDoesNotIncludeMicoServiceException
+            | MicoServiceResourceRequestExceedsLimitException e) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+        } catch (DeploymentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, e.getMessage());
+        } catch (MicoApplicationIsUndeployingException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+
+        return ResponseEntity.accepted().body(getDeploymentBatchJobStatusResource(deploymentBatchJobStatus));
+    }
+
+    @PostMapping("/undeploy")
+    public ResponseEntity<Resource<MicoDeploymentBatchJobStatusResponseDTO>> undeploy(@Valid @RequestBody MicoDeploymentBatchRequestDTO deploymentBatchDto) {
+        MicoDeploymentBatchJobStatus deploymentBatchJobStatus;
+        try {
+            deploymentBatchJobStatus = deploymentBroker.undeployApplications(getApplications(deploymentBatchDto));
+        } catch (MicoApplicationNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (MicoApplicationIsDeployingException | MicoApplicationIsUndeployingException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+
+        return ResponseEntity.accepted().body(getDeploymentBatchJobStatusResource(deploymentBatchJobStatus));
+    }
+
+    @GetMapping("/{" + PATH_VARIABLE_ID + "}")
+    public ResponseEntity<Resource<MicoDeploymentBatchJobStatusResponseDTO>> getDeploymentBatchJobStatus(@PathVariable(PATH_VARIABLE_ID) String id) {
+        Optional<MicoDeploymentBatchJobStatus> deploymentBatchJobStatusOptional = backgroundJobBroker.getDeploymentBatchJobStatus(id);
+        if (!deploymentBatchJobStatusOptional.isPresent()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Deployment batch with id '" + id + "' was not found!");
+        }
+
+        return ResponseEntity.ok(getDeploymentBatchJobStatusResource(deploymentBatchJobStatusOptional.get()));
+    }
+
+    private List<MicoDeploymentBatch.Application> getApplications(MicoDeploymentBatchRequestDTO deploymentBatchDto) {
+        return deploymentBatchDto.getApplications().stream()
+            .map(MicoDeploymentBatch.Application::valueOf)
+            .collect(Collectors.toList());
+    }
+
+    private Resource<MicoDeploymentBatchJobStatusResponseDTO> getDeploymentBatchJobStatusResource(MicoDeploymentBatchJobStatus deploymentBatchJobStatus) {
+        return new Resource<>(new MicoDeploymentBatchJobStatusResponseDTO(deploymentBatchJobStatus),
+            linkTo(methodOn(DeploymentBatchResource.class).getDeploymentBatchJobStatus(deploymentBatchJobStatus.getId())).withSelfRel());
+    }
+}
@@ -28,12 +28,16 @@
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.server.ResponseStatusException;
 
 import io.github.ust.mico.core.broker.DeploymentBroker;
 import io.github.ust.mico.core.dto.response.MicoApplicationJobStatusResponseDTO;
 import io.github.ust.mico.core.model.MicoApplicationJobStatus;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
+import io.github.ust.mico.core.service.AsyncRequestExecutors;
 
 @RestController
 @RequestMapping(value = "/applications/{shortName}/{version}", produces = MediaTypes.HAL_JSON_VALUE)
@@ -44,38 +48,47 @@ public class DeploymentResource {
     @Autowired
     private DeploymentBroker deploymentBroker;
 
+    @Autowired
+    private AsyncRequestExecutors asyncRequestExecutors;
+
     @PostMapping("/deploy")
-    public ResponseEntity<Resource<MicoApplicationJobStatusResponseDTO>> deploy(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
-                                                                                @PathVariable(PATH_VARIABLE_VERSION) String version) {
-        MicoApplicationJobStatus micoApplicationJobStatus;
-        try {
-            micoApplicationJobStatus = deploymentBroker.deployApplication(shortName, version);
-        } catch (MicoApplicationNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (MicoServiceInterfaceNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
-        } catch (MicoApplicationDoesNotIncludeMicoServiceException e) {
-            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
-        } catch (DeploymentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, e.getMessage());
-        }
+    public WebAsyncTask<ResponseEntity<Resource<MicoApplicationJobStatusResponseDTO>>> deploy(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
+                                                                                              @PathVariable(PATH_VARIABLE_VERSION) String version,
+                                                                                              @RequestParam(value = "priority", required = false, defaultValue = "NORMAL") MicoServiceBackgroundJob.Priority priority) {
+        return asyncRequestExecutors.deployment(() -> {
+            MicoApplicationJobStatus micoApplicationJobStatus;
+            try {
+                micoApplicationJobStatus = deploymentBroker.deployApplication(shortName, version, priority);
+            } catch (MicoApplicationNotFoundException e) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+            } catch (MicoServiceInterfaceNotFoundException e) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+            } catch (MicoApplicationDoesNotIncludeMicoServiceException | MicoServiceResourceRequestExceedsLimitException e) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+            } catch (DeploymentException e) {
+                throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, e.getMessage());
+            } catch (MicoApplicationIsUndeployingException e) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+            }
 
-        return ResponseEntity.accepted()
-            .body(new Resource<>(new MicoApplicationJobStatusResponseDTO(micoApplicationJobStatus)));
+            return ResponseEntity.accepted()
+                .body(new Resource<>(new MicoApplicationJobStatusResponseDTO(micoApplicationJobStatus)));
+        });
     }
 
     @PostMapping("/undeploy")
-    public ResponseEntity<Void> undeploy(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
-                                         @PathVariable(PATH_VARIABLE_VERSION) String version) {
-
+    public ResponseEntity<Resource<MicoApplicationJobStatusResponseDTO>> undeploy(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
+                                                                                  @PathVariable(PATH_VARIABLE_VERSION) String version) {
+        MicoApplicationJobStatus micoApplicationJobStatus;
         try {
-            deploymentBroker.undeployApplication(shortName, version);
+            micoApplicationJobStatus = deploymentBroker.undeployApplication(shortName, version);
         } catch (MicoApplicationNotFoundException e) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (MicoApplicationIsDeployingException e) {
+        } catch (MicoApplicationIsDeployingException | MicoApplicationIsUndeployingException e) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
         }
 
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted()
+            .body(new Resource<>(new MicoApplicationJobStatusResponseDTO(micoApplicationJobStatus)));
     }
 }
@@ -23,8 +23,13 @@
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.validation.Valid;
@@ -35,9 +40,12 @@
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
@@ -48,12 +56,15 @@
 import io.github.ust.mico.core.dto.response.MicoServiceDependencyGraphResponseDTO;
 import io.github.ust.mico.core.dto.response.MicoServiceResponseDTO;
 import io.github.ust.mico.core.dto.response.MicoYamlResponseDTO;
+import io.github.ust.mico.core.dto.response.status.MicoServiceResourceSizingResponseDTO;
 import io.github.ust.mico.core.dto.response.status.MicoServiceStatusResponseDTO;
 import io.github.ust.mico.core.exception.*;
 import io.github.ust.mico.core.model.MicoService;
 import io.github.ust.mico.core.model.MicoServiceDependency;
+import io.github.ust.mico.core.service.AsyncRequestExecutors;
 import io.github.ust.mico.core.service.GitHubCrawler;
 import io.github.ust.mico.core.service.MicoStatusService;
+import io.github.ust.mico.core.service.PodLogStreamer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -72,6 +83,13 @@ public class ServiceResource {
     private static final String PATH_DEPENDERS = "dependers";
     private static final String PATH_PROMOTE = "promote";
     private static final String PATH_DEPENDENCY_GRAPH = "dependencyGraph";
+    private static final String PATH_RESOURCE_SIZING = "resourceSizing";
+    private static final String PATH_LOGS = "logs";
+    private static final String PATH_BUILD_LOGS = "buildLogs";
+    private static final String REQUEST_PARAM_FOLLOW = "follow";
+    private static final String REQUEST_PARAM_TAIL_LINES = "tailLines";
+    private static final String REQUEST_PARAM_SINCE_TIME = "sinceTime";
+    private static final String REQUEST_PARAM_POD_NAME = "podName";
 
     @Autowired
     private MicoServiceBroker micoServiceBroker;
@@ -79,6 +97,12 @@ public class ServiceResource {
     @Autowired
     private MicoStatusService micoStatusService;
 
+    @Autowired
+    private PodLogStreamer podLogStreamer;
+
+    @Autowired
+    private AsyncRequestExecutors asyncRequestExecutors;
+
     @Autowired
     private GitHubCrawler crawler;
 
@@ -155,13 +179,98 @@ public ResponseEntity<Void> deleteAllVersionsOfService(@PathVariable(PATH_VARIAB
     }
 
     @GetMapping("/{" + PATH_VARIABLE_SHORT_NAME + "}/{" + PATH_VARIABLE_VERSION + "}" + "/status")
-    public ResponseEntity<Resource<MicoServiceStatusResponseDTO>> getStatusOfService(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
-                                                                                     @PathVariable(PATH_VARIABLE_VERSION) String version) {
+    public WebAsyncTask<ResponseEntity<Resource<MicoServiceStatusResponseDTO>>> getStatusOfService(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
+                                                                                                   @PathVariable(PATH_VARIABLE_VERSION) String version) {
+        return asyncRequestExecutors.status(() -> {
+            MicoService micoService = getServiceFromMicoServiceBroker(shortName, version);
+
+            MicoServiceStatusResponseDTO serviceStatus = micoStatusService.getServiceStatus(micoService);
+
+            return ResponseEntity.ok(new Resource<>(serviceStatus));
+        });
+    }
+
+    @GetMapping("/{" + PATH_VARIABLE_SHORT_NAME + "}/{" + PATH_VARIABLE_VERSION + "}/" + PATH_RESOURCE_SIZING)
+    public ResponseEntity<Resource<MicoServiceResourceSizingResponseDTO>> getResourceSizingOfService(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
+                                                                                                     @PathVariable(PATH_VARIABLE_VERSION) String version) {
+        MicoService micoService = getServiceFromMicoServiceBroker(shortName, version);
+
+        MicoServiceResourceSizingResponseDTO resourceSizing = micoStatusService.getResourceSizing(micoService);
+
+        return ResponseEntity.ok(new Resource<>(resourceSizing));
+    }
+
+    /**
+     * Streams the logs of the pods of a {@link MicoService} as plain text.
+     * The lines of the logs of several pods are prefixed with the name of their pod.
+     *
+     * @param shortName the short name of the {@link MicoService}
+     * @param version   the version of the {@link MicoService}
+     * @param follow    whether the logs are followed until the pods terminate or the client disconnects
+     * @param tailLines the number of lines at the end of each log to start with
+     * @param sinceTime an RFC 3339 timestamp from which on the logs are read
+     * @param podName   the name of the only pod whose log is streamed
+     * @return the {@link StreamingResponseBody} that writes the logs
+     */
+    @GetMapping(value = "/{" + PATH_VARIABLE_SHORT_NAME + "}/{" + PATH_VARIABLE_VERSION + "}/" + PATH_LOGS, produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> getLogsOfService(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
+                                                                  @PathVariable(PATH_VARIABLE_VERSION) String version,
+                                                                  @RequestParam(value = REQUEST_PARAM_FOLLOW, required = false, defaultValue = "false") boolean follow,
+                                                                  @RequestParam(value = REQUEST_PARAM_TAIL_LINES, required = false) Integer tailLines,
+                                                                  @RequestParam(value = REQUEST_PARAM_SINCE_TIME, required = false) String sinceTime,
+                                                                  @RequestParam(value = REQUEST_PARAM_POD_NAME, required = false) String podName) {
+        if (tailLines != null && tailLines < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The number of tail lines must not be negative.");
+        }
+        if (sinceTime != null) {
+            try {
+                OffsetDateTime.parse(sinceTime);
+            } catch (DateTimeParseException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The since time '" + sinceTime + "' is not an RFC 3339 timestamp.");
+            }
+        }
+        MicoService micoService = getServiceFromMicoServiceBroker(shortName, version);
+
+        Map<String, Supplier<Reader>> logs;
+        try {
+            logs = micoServiceBroker.getLogsOfService(micoService, podName, follow, tailLines, sinceTime);
+        } catch (KubernetesResourceException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+
+        StreamingResponseBody responseBody = asyncRequestExecutors.stream(outputStream -> podLogStreamer.streamLogs(logs, follow, outputStream));
+        return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body(responseBody);
+    }
+
+    /**
+     * Streams the logs of the build steps of the most recent build of a {@link MicoService} as plain text,
+     * one step after the other. The lines are prefixed with the name of the container of their build step.
+     *
+     * @param shortName the short name of the {@link MicoService}
+     * @param version   the version of the {@link MicoService}
+     * @param follow    whether the logs are followed until the build is finished or the client disconnects
+     * @param tailLines the number of lines at the end of the log of each build step to start with
+     * @return the {@link StreamingResponseBody} that writes the logs
+     */
+    @GetMapping(value = "/{" + PATH_VARIABLE_SHORT_NAME + "}/{" + PATH_VARIABLE_VERSION + "}/" + PATH_BUILD_LOGS, produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> getBuildLogsOfService(@PathVariable(PATH_VARIABLE_SHORT_NAME) String shortName,
+                                                                       @PathVariable(PATH_VARIABLE_VERSION) String version,
+                                                                       @RequestParam(value = REQUEST_PARAM_FOLLOW, required = false, defaultValue = "false") boolean follow,
+                                                                       @RequestParam(value = REQUEST_PARAM_TAIL_LINES, required = false) Integer tailLines) {
+        if (tailLines != null && tailLines < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The number of tail lines must not be negative.");
+        }
         MicoService micoService = getServiceFromMicoServiceBroker(shortName, version);
 
-        MicoServiceStatusResponseDTO serviceStatus = micoStatusService.getServiceStatus(micoService);
+        Map<String, Supplier<Reader>> logs;
+        try {
+            logs = micoServiceBroker.getBuildLogsOfService(micoService, follow, tailLines);
+        } catch (KubernetesResourceException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
 
-        return ResponseEntity.ok(new Resource<>(serviceStatus));
+        StreamingResponseBody responseBody = asyncRequestExecutors.stream(outputStream -> podLogStreamer.streamLogsSequentially(logs, outputStream));
+        return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body(responseBody);
     }
 
     @GetMapping("/{" + PATH_VARIABLE_SHORT_NAME + "}")
@@ -278,28 +387,30 @@ public ResponseEntity<Resources<Resource<MicoServiceResponseDTO>>> getDependers(
     }
 
     @PostMapping(PATH_GITHUB_ENDPOINT)
-    public ResponseEntity<Resource<MicoServiceResponseDTO>> importMicoServiceFromGitHub(@Valid @RequestBody CrawlingInfoRequestDTO crawlingInfo) {
+    public WebAsyncTask<ResponseEntity<Resource<MicoServiceResponseDTO>>> importMicoServiceFromGitHub(@Valid @RequestBody CrawlingInfoRequestDTO crawlingInfo) {
         String url = crawlingInfo.getUrl();
         String version = crawlingInfo.getVersion();
         String dockerfilePath = crawlingInfo.getDockerfilePath();
         log.debug("Start importing MicoService from URL '{}'", url);
 
-        try {
-            if (version.equals("latest")) {
-                MicoService service = crawler.crawlGitHubRepoLatestRelease(url, dockerfilePath);
-                return createService(new MicoServiceRequestDTO(service));
-            } else {
-                MicoService service = crawler.crawlGitHubRepoSpecificRelease(url, version, dockerfilePath);
-                return createService(new MicoServiceRequestDTO(service));
+        return asyncRequestExecutors.gitHubImport(() -> {
+            try {
+                if (version.equals("latest")) {
+                    MicoService service = crawler.crawlGitHubRepoLatestRelease(url, dockerfilePath);
+                    return createService(new MicoServiceRequestDTO(service));
+                } else {
+                    MicoService service = crawler.crawlGitHubRepoSpecificRelease(url, version, dockerfilePath);
+                    return createService(new MicoServiceRequestDTO(service));
+                }
+            } catch (IOException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+
+            } catch (IllegalArgumentException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
             }
-        } catch (IOException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
-
-        } catch (IllegalArgumentException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
-        }
+        });
     }
 
     @PostMapping("/{" + PATH_VARIABLE_SHORT_NAME + "}/{" + PATH_VARIABLE_VERSION + "}/" + PATH_PROMOTE)
@@ -321,17 +432,19 @@ public ResponseEntity<Resource<MicoServiceResponseDTO>> promoteService(@PathVari
     }
 
     @GetMapping(PATH_GITHUB_ENDPOINT)
-    public ResponseEntity<Resources<Resource<MicoVersionRequestDTO>>> getVersionsFromGitHub(@RequestParam("url") String url) {
-        try {
-            log.debug("Start getting versions from URL '{}'.", url);
-            List<Resource<MicoVersionRequestDTO>> versions = crawler.getVersionsFromGitHubRepo(url).stream()
-                .map(version -> new Resource<>(new MicoVersionRequestDTO(version)))
-                .collect(Collectors.toList());
-            return ResponseEntity.ok(new Resources<>(versions, linkTo(methodOn(ServiceResource.class).getVersionsFromGitHub(url)).withSelfRel()));
-        } catch (IOException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
-        }
+    public WebAsyncTask<ResponseEntity<Resources<Resource<MicoVersionRequestDTO>>>> getVersionsFromGitHub(@RequestParam("url") String url) {
+        return asyncRequestExecutors.gitHubImport(() -> {
+            try {
+                log.debug("Start getting versions from URL '{}'.", url);
+                List<Resource<MicoVersionRequestDTO>> versions = crawler.getVersionsFromGitHubRepo(url).stream()
+                    .map(version -> new Resource<>(new MicoVersionRequestDTO(version)))
+                    .collect(Collectors.toList());
+                return ResponseEntity.ok(new Resources<>(versions, linkTo(methodOn(ServiceResource.class).getVersionsFromGitHub(url)).withSelfRel()));
+            } catch (IOException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+            }
+        });
     }
 
     @GetMapping("/{" + PATH_VARIABLE_SHORT_NAME + "}/{" + PATH_VARIABLE_VERSION + "}/" + PATH_DEPENDENCY_GRAPH)
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.github.ust.mico.core.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.github.ust.mico.core.configuration.MicoAsyncRequestConfig;
+
+/**
+ * Provides the bounded executors that handle long-running REST requests asynchronously,
+ * so the request threads of the servlet container are released while waiting for
+ * Kubernetes, Prometheus, the database or GitHub.
+ * <p>
+ * A request that waits longer than the timeout of its executor is answered with {@code 503 Service Unavailable}.
+ * The same applies to a request that is rejected, because the queue of its executor is full.
+ */
+@Component
+public class AsyncRequestExecutors {
+
+    /**
+     * The request attribute that marks a request whose response is streamed.
+     */
+    private static final String STREAM_REQUEST_ATTRIBUTE = AsyncRequestExecutors.class.getName() + ".STREAM";
+
+    private final MicoAsyncRequestConfig asyncRequestConfig;
+
+    private ThreadPoolTaskExecutor statusExecutor;
+    private ThreadPoolTaskExecutor deploymentExecutor;
+    private ThreadPoolTaskExecutor importExecutor;
+    private ThreadPoolTaskExecutor streamExecutor;
+
+    @Autowired
+    public AsyncRequestExecutors(MicoAsyncRequestConfig asyncRequestConfig) {
+        this.asyncRequestConfig = asyncRequestConfig;
+    }
+
+    @PostConstruct
+    public void init() {
+        statusExecutor = createExecutor("mico-status-request-",
+            asyncRequestConfig.getStatusPoolSize(), asyncRequestConfig.getStatusQueueCapacity());
+        deploymentExecutor = createExecutor("mico-deployment-request-",
+            asyncRequestConfig.getDeploymentPoolSize(), asyncRequestConfig.getDeploymentQueueCapacity());
+        importExecutor = createExecutor("mico-import-request-",
+            asyncRequestConfig.getImportPoolSize(), asyncRequestConfig.getImportQueueCapacity());
+        streamExecutor = createExecutor("mico-stream-request-",
+            asyncRequestConfig.getStreamPoolSize(), asyncRequestConfig.getStreamQueueCapacity());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        statusExecutor.shutdown();
+        deploymentExecutor.shutdown();
+        importExecutor.shutdown();
+        streamExecutor.shutdown();
+    }
+
+    /**
+     * Creates a task that handles a status request (e.g. with metrics of Prometheus).
+     *
+     * @param callable the handling of the request
+     * @param <T>      the type of the response
+     * @return the {@link WebAsyncTask}
+     */
+    public <T> WebAsyncTask<T> status(Callable<T> callable) {
+        return new WebAsyncTask<>(TimeUnit.SECONDS.toMillis(asyncRequestConfig.getStatusTimeout()), statusExecutor, callable);
+    }
+
+    /**
+     * Creates a task that handles a deployment request.
+     *
+     * @param callable the handling of the request
+     * @param <T>      the type of the response
+     * @return the {@link WebAsyncTask}
+     */
+    public <T> WebAsyncTask<T> deployment(Callable<T> callable) {
+        return new WebAsyncTask<>(TimeUnit.SECONDS.toMillis(asyncRequestConfig.getDeploymentTimeout()), deploymentExecutor, callable);
+    }
+
+    /**
+     * Creates a task that handles a request to import from GitHub.
+     *
+     * @param callable the handling of the request
+     * @param <T>      the type of the response
+     * @return the {@link WebAsyncTask}
+     */
+    public <T> WebAsyncTask<T> gitHubImport(Callable<T> callable) {
+        return new WebAsyncTask<>(TimeUnit.SECONDS.toMillis(asyncRequestConfig.getImportTimeout()), importExecutor, callable);
+    }
+
+    /**
+     * Marks the response of the current request as stream. The stream is written by the stream executor
+     * and closed after the stream timeout instead of the default timeout of asynchronous requests.
+     *
+     * @param streamingResponseBody the streamed response
+     * @return the {@link StreamingResponseBody}
+     */
+    public StreamingResponseBody stream(StreamingResponseBody streamingResponseBody) {
+        RequestContextHolder.currentRequestAttributes().setAttribute(STREAM_REQUEST_ATTRIBUTE, true, RequestAttributes.SCOPE_REQUEST);
+        return streamingResponseBody;
+    }
+
+    /**
+     * Returns the interceptor that applies the stream timeout to the requests
+     * that are marked by {@link #stream(StreamingResponseBody)}.
+     *
+     * @return the {@link CallableProcessingInterceptor}
+     */
+    public CallableProcessingInterceptor getStreamTimeoutInterceptor() {
+        return new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // Called before the asynchronous processing is started, so the timeout is still applied
+                if (request instanceof AsyncWebRequest
+                    && request.getAttribute(STREAM_REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+                    ((AsyncWebRequest) request).setTimeout(TimeUnit.SECONDS.toMillis(asyncRequestConfig.getStreamTimeout()));
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the executor that writes streamed responses (e.g. a {@code StreamingResponseBody}).
+     * It is the default executor of Spring MVC for asynchronous requests, so every asynchronous request is bounded.
+     *
+     * @return the {@link AsyncTaskExecutor}
+     */
+    public AsyncTaskExecutor getStreamExecutor() {
+        return streamExecutor;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        // The request is still available in the executor thread, e.g. to build the links of the response
+        executor.setTaskDecorator(task -> {
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            return () -> {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    task.run();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            };
+        });
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.service;
+
+import io.github.ust.mico.core.configuration.MicoBackgroundJobConfig;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Archives finished {@link MicoServiceBackgroundJob MicoServiceBackgroundJobs} in a capped Redis stream,
+ * so that the history of jobs is kept after the jobs themselves expired.
+ * Archiving is best effort, i.e., failures are only logged.
+ */
+@Slf4j
+@Component
+public class BackgroundJobArchive {
+
+    // Spring Data Redis 2.1 has no stream API yet, therefore the command is executed directly.
+    private static final String COMMAND_XADD = "XADD";
+    private static final String MAXLEN = "MAXLEN";
+    // Trims approximately, which is much cheaper than exact trimming
+    private static final String APPROXIMATELY = "~";
+    private static final String AUTO_GENERATED_ID = "*";
+
+    private final MicoBackgroundJobConfig backgroundJobConfig;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Autowired
+    public BackgroundJobArchive(MicoBackgroundJobConfig backgroundJobConfig, StringRedisTemplate redisTemplate) {
+        this.backgroundJobConfig = backgroundJobConfig;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Appends a compact entry of the given job to the archive stream.
+     * Does nothing if the archive is disabled.
+     *
+     * @param job the {@link MicoServiceBackgroundJob} to archive
+     */
+    public void archive(MicoServiceBackgroundJob job) {
+        if (!backgroundJobConfig.isArchiveEnabled()) {
+            return;
+        }
+        List<byte[]> arguments = new ArrayList<>();
+        addArgument(arguments, backgroundJobConfig.getArchiveStreamKey());
+        addArgument(arguments, MAXLEN);
+        addArgument(arguments, APPROXIMATELY);
+        addArgument(arguments, String.valueOf(backgroundJobConfig.getArchiveMaxLength()));
+        addArgument(arguments, AUTO_GENERATED_ID);
+        addField(arguments, "id", job.getId());
+        addField(arguments, "serviceShortName", job.getServiceShortName());
+        addField(arguments, "serviceVersion", job.getServiceVersion());
+        addField(arguments, "type", job.getType());
+        addField(arguments, "status", job.getStatus());
+        addField(arguments, "errorMessage", job.getErrorMessage());
+        addField(arguments, "finishedAt", Instant.now());
+        try {
+            redisTemplate.execute(connection -> connection.execute(COMMAND_XADD, arguments.toArray(new byte[0][])), true);
+            log.debug("Archived job '{}'.", job.getId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to archive job '{}': {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private static void addField(List<byte[]> arguments, String name, Object value) {
+        // Streams do not support null values, so empty fields are omitted
+        if (value != null) {
+            addArgument(arguments, name);
+            addArgument(arguments, value.toString());
+        }
+    }
+
+    private static void addArgument(List<byte[]> arguments, String argument) {
+        arguments.add(argument.getBytes(StandardCharsets.UTF_8));
+    }
+}
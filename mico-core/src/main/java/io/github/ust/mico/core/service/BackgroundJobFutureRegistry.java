@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.service;
+
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory registry of the futures of running background jobs.
+ * <p>
+ * Futures cannot be persisted together with the jobs, so they are kept here by job id.
+ * A future is only retained as long as it is running, i.e., it is removed as soon as it completes.
+ * Therefore the registry holds at most one entry per running job of this instance.
+ */
+@Slf4j
+@Component
+public class BackgroundJobFutureRegistry {
+
+    private final ConcurrentMap<String, RegisteredFuture> futures = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BackgroundJobFutureRegistry(MeterRegistry meterRegistry) {
+        meterRegistry.gaugeMapSize(MetricsUtils.RUNNING_JOB_FUTURES, Collections.emptyList(), futures);
+    }
+
+    /**
+     * Registers the future of a job. An already registered future of the same job is replaced.
+     *
+     * @param jobId            the id of the job
+     * @param future           the {@link CompletableFuture} of the job
+     * @param cancellationHook the optional hook that is executed if the job is cancelled,
+     *                         e.g. to delete resources that were created by the job
+     */
+    public void register(String jobId, CompletableFuture<?> future, @Nullable Runnable cancellationHook) {
+        RegisteredFuture registeredFuture = new RegisteredFuture(future, cancellationHook);
+        futures.put(jobId, registeredFuture);
+        // Only removes this future, a future that replaced it in the meantime is kept
+        future.whenComplete((result, throwable) -> futures.remove(jobId, registeredFuture));
+        log.debug("Registered future of job '{}'.", jobId);
+    }
+
+    /**
+     * Retrieves the future of a running job.
+     *
+     * @param jobId the id of the job
+     * @return the {@link CompletableFuture}. Is empty if there is no running job with the given id.
+     */
+    public Optional<CompletableFuture<?>> getFuture(String jobId) {
+        RegisteredFuture registeredFuture = futures.get(jobId);
+        return registeredFuture != null ? Optional.of(registeredFuture.future) : Optional.empty();
+    }
+
+    /**
+     * Cancels the future of a running job and executes its cancellation hook.
+     *
+     * @param jobId the id of the job
+     * @return {@code true} if a running job was cancelled, {@code false} if there was no running job
+     */
+    public boolean cancel(String jobId) {
+        RegisteredFuture registeredFuture = futures.remove(jobId);
+        if (registeredFuture == null || !registeredFuture.future.cancel(true)) {
+            return false;
+        }
+        log.info("Cancelled job '{}'.", jobId);
+        if (registeredFuture.cancellationHook != null) {
+            try {
+                registeredFuture.cancellationHook.run();
+            } catch (RuntimeException e) {
+                log.warn("Cancellation hook of job '{}' failed: {}", jobId, e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    @AllArgsConstructor
+    private static class RegisteredFuture {
+        private final CompletableFuture<?> future;
+        @Nullable
+        private final Runnable cancellationHook;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.service;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentCondition;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStatus;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.github.ust.mico.core.configuration.MicoKubernetesConfig;
+import io.github.ust.mico.core.exception.KubernetesResourceException;
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * Tracks the rollout of the Kubernetes deployments of {@code MicoServices}.
+ * <p>
+ * A rollout is complete as soon as all replicas are updated to the latest revision of the deployment
+ * and are available, i.e., the pods are ready. The deployment is watched, so a rollout is not polled.
+ * A rollout fails if Kubernetes reports that its progress deadline is exceeded
+ * or it did not complete within the {@link MicoKubernetesConfig#getRolloutProgressDeadline() rolloutProgressDeadline}.
+ * The time-to-ready of each {@code MicoService} is recorded as {@link MetricsUtils#DEPLOYMENT_ROLLOUTS}.
+ */
+@Slf4j
+@Component
+public class DeploymentRolloutTracker {
+
+    /**
+     * The type of the deployment condition that indicates the progress of a rollout.
+     */
+    private static final String CONDITION_PROGRESSING = "Progressing";
+
+    /**
+     * The reason of the {@link #CONDITION_PROGRESSING} condition if the rollout made no progress
+     * within the {@code progressDeadlineSeconds} of the deployment.
+     */
+    private static final String REASON_PROGRESS_DEADLINE_EXCEEDED = "ProgressDeadlineExceeded";
+
+    private final KubernetesClient kubernetesClient;
+    private final MicoKubernetesConfig micoKubernetesConfig;
+    private final MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService deadlineExecutor;
+
+    @Autowired
+    public DeploymentRolloutTracker(KubernetesClient kubernetesClient, MicoKubernetesConfig micoKubernetesConfig, MeterRegistry meterRegistry) {
+        this.kubernetesClient = kubernetesClient;
+        this.micoKubernetesConfig = micoKubernetesConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        deadlineExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mico-rollout-deadline-"));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        deadlineExecutor.shutdownNow();
+    }
+
+    /**
+     * The state of a rollout.
+     */
+    public enum RolloutState {
+        /**
+         * Not all replicas are updated and available yet.
+         */
+        IN_PROGRESS,
+        /**
+         * All replicas are updated and available.
+         */
+        COMPLETE,
+        /**
+         * Kubernetes reports that the rollout made no progress within the progress deadline.
+         */
+        DEADLINE_EXCEEDED
+    }
+
+    /**
+     * Tracks the rollout of the Kubernetes deployment of a {@code MicoService}
+     * until it is complete or the progress deadline is exceeded.
+     *
+     * @param micoService    the {@link MicoService}
+     * @param namespace      the namespace of the Kubernetes deployment
+     * @param deploymentName the name of the Kubernetes deployment
+     * @return the {@link CompletableFuture} that is completed with the time-to-ready of the {@link MicoService}.
+     * It is completed exceptionally with a {@link TimeoutException} if the progress deadline is exceeded
+     * or with a {@link KubernetesResourceException} if the deployment is deleted during the rollout.
+     */
+    public CompletableFuture<Duration> track(MicoService micoService, String namespace, String deploymentName) {
+        long startTime = System.nanoTime();
+        CompletableFuture<Duration> rollout = new CompletableFuture<>();
+
+        Watch watch;
+        try {
+            watch = kubernetesClient.apps().deployments().inNamespace(namespace).withName(deploymentName)
+                .watch(new Watcher<Deployment>() {
+                    @Override
+                    public void eventReceived(Action action, Deployment deployment) {
+                        if (action == Action.DELETED) {
+                            rollout.completeExceptionally(new KubernetesResourceException("Deployment '" + deploymentName
+                                + "' was deleted during the rollout."));
+                        } else {
+                            evaluate(rollout, deployment, startTime);
+                        }
+                    }
+
+                    @Override
+                    public void onClose(KubernetesClientException cause) {
+                        if (cause != null && !rollout.isDone()) {
+                            rollout.completeExceptionally(cause);
+                        }
+                    }
+                });
+        } catch (KubernetesClientException e) {
+            rollout.completeExceptionally(e);
+            return record(rollout, micoService, startTime);
+        }
+
+        // The rollout may already be complete before the watch was established
+        try {
+            Optional<Deployment> deployment = Optional.ofNullable(MetricsUtils.recordKubernetesRequest(meterRegistry, "get", "deployments",
+                () -> kubernetesClient.apps().deployments().inNamespace(namespace).withName(deploymentName).get()));
+            deployment.ifPresent(d -> evaluate(rollout, d, startTime));
+        } catch (KubernetesClientException e) {
+            rollout.completeExceptionally(e);
+        }
+
+        int deadline = micoKubernetesConfig.getRolloutProgressDeadline();
+        ScheduledFuture<?> deadlineTask = deadlineExecutor.schedule(() -> rollout.completeExceptionally(
+            new TimeoutException("Rollout did not finish within " + deadline + " seconds.")), deadline, TimeUnit.SECONDS);
+        rollout.whenComplete((timeToReady, throwable) -> {
+            deadlineTask.cancel(false);
+            watch.close();
+        });
+        return record(rollout, micoService, startTime);
+    }
+
+    /**
+     * Determines the state of the rollout of a Kubernetes deployment
+     * (like {@code kubectl rollout status} does).
+     *
+     * @param deployment the Kubernetes {@link Deployment}
+     * @return the {@link RolloutState}
+     */
+    public RolloutState getRolloutState(Deployment deployment) {
+        DeploymentStatus status = deployment.getStatus();
+        if (status == null || status.getObservedGeneration() == null || deployment.getMetadata().getGeneration() == null
+            || status.getObservedGeneration() < deployment.getMetadata().getGeneration()) {
+            // The deployment controller did not observe the latest revision yet
+            return RolloutState.IN_PROGRESS;
+        }
+        for (DeploymentCondition condition : status.getConditions()) {
+            if (CONDITION_PROGRESSING.equals(condition.getType()) && REASON_PROGRESS_DEADLINE_EXCEEDED.equals(condition.getReason())) {
+                return RolloutState.DEADLINE_EXCEEDED;
+            }
+        }
+        int desiredReplicas = valueOrZero(deployment.getSpec().getReplicas());
+        int updatedReplicas = valueOrZero(status.getUpdatedReplicas());
+        if (updatedReplicas < desiredReplicas
+            // Old replicas are still terminating
+            || valueOrZero(status.getReplicas()) > updatedReplicas
+            || valueOrZero(status.getAvailableReplicas()) < updatedReplicas) {
+            return RolloutState.IN_PROGRESS;
+        }
+        return RolloutState.COMPLETE;
+    }
+
+    private void evaluate(CompletableFuture<Duration> rollout, Deployment deployment, long startTime) {
+        DeploymentStatus status = deployment.getStatus();
+        log.debug("Rollout of deployment '{}': {} updated, {} available, {} ready of {} replicas.",
+            deployment.getMetadata().getName(),
+            status != null ? status.getUpdatedReplicas() : null,
+            status != null ? status.getAvailableReplicas() : null,
+            status != null ? status.getReadyReplicas() : null,
+            deployment.getSpec().getReplicas());
+        switch (getRolloutState(deployment)) {
+            case COMPLETE:
+                rollout.complete(Duration.ofNanos(System.nanoTime() - startTime));
+                break;
+            case DEADLINE_EXCEEDED:
+                rollout.completeExceptionally(new TimeoutException("Rollout of deployment '" + deployment.getMetadata().getName()
+                    + "' exceeded its progress deadline of " + deployment.getSpec().getProgressDeadlineSeconds() + " seconds."));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private CompletableFuture<Duration> record(CompletableFuture<Duration> rollout, MicoService micoService, long startTime) {
+        return rollout.whenComplete((timeToReady, throwable) -> {
+            String outcome;
+            if (throwable == null) {
+                outcome = "ready";
+                log.info("MicoService '{}' '{}' is ready after {} ms.",
+                    micoService.getShortName(), micoService.getVersion(), timeToReady.toMillis());
+            } else {
+                outcome = ExceptionUtils.indexOfThrowable(throwable, TimeoutException.class) != -1 ? "deadline_exceeded" : "failure";
+                log.warn("Rollout of MicoService '{}' '{}' failed: {}",
+                    micoService.getShortName(), micoService.getVersion(), ExceptionUtils.getRootCauseMessage(throwable));
+            }
+            meterRegistry.timer(MetricsUtils.DEPLOYMENT_ROLLOUTS, "service", micoService.getShortName(), "outcome", outcome)
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -35,6 +35,9 @@
 import io.github.ust.mico.core.model.MicoService;
 import io.github.ust.mico.core.model.MicoServiceCrawlingOrigin;
 import io.github.ust.mico.core.util.KubernetesNameNormalizer;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
@@ -45,6 +48,7 @@
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
@@ -59,11 +63,13 @@ public class GitHubCrawler {
 
     private final RestTemplate restTemplate;
     private final KubernetesNameNormalizer kubernetesNameNormalizer;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public GitHubCrawler(RestTemplate restTemplate, KubernetesNameNormalizer kubernetesNameNormalizer) {
+    public GitHubCrawler(RestTemplate restTemplate, KubernetesNameNormalizer kubernetesNameNormalizer, MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
         this.kubernetesNameNormalizer = kubernetesNameNormalizer;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -83,13 +89,13 @@ private MicoService crawlGitHubRepo(String gitHubRepositoryApiUrl, String gitHub
         ResponseEntity<String> responseReleaseInfo;
 
         try {
-            responseBasicInfo = restTemplate.getForEntity(gitHubRepositoryApiUrl, String.class);
+            responseBasicInfo = recordRequest("repository", () -> restTemplate.getForEntity(gitHubRepositoryApiUrl, String.class));
         } catch (HttpClientErrorException.NotFound e) {
             throw new IllegalArgumentException("GitHub repository " + gitHubRepositoryApiUrl.replace(GITHUB_API_URL, "") + " does not exist!");
         }
 
         try {
-            responseReleaseInfo = restTemplate.getForEntity(gitHubRepositoryApiReleaseInfo, String.class);
+            responseReleaseInfo = recordRequest("release", () -> restTemplate.getForEntity(gitHubRepositoryApiReleaseInfo, String.class));
         } catch (HttpClientErrorException.NotFound e) {
             throw new IllegalArgumentException("GitHub repository " + gitHubRepositoryApiUrl.replace(GITHUB_API_URL, "")
                 + " doesn't have a release " + gitHubRepositoryApiReleaseInfo.replace(GITHUB_API_URL, "") + "!");
@@ -143,7 +149,7 @@ private boolean existsFileInGithubRepo(String gitHubRepositoryApiUrl, String doc
         UriComponents dockerFileUriComponent = dockerFileUriBuilder.pathSegment(GITHUB_API_CONTENTS).pathSegment(dockerfilePath).build();
         log.debug("Check if the Dockerfile exists at {}", dockerFileUriComponent.toString());
         try {
-            responseDockerfileInfo = restTemplate.getForEntity(dockerFileUriComponent.toUri(), String.class);
+            responseDockerfileInfo = recordRequest("contents", () -> restTemplate.getForEntity(dockerFileUriComponent.toUri(), String.class));
             HttpStatus responseStatus = responseDockerfileInfo.getStatusCode();
             if (responseStatus.equals(HttpStatus.OK)) {
                 log.debug("The file {} exists", dockerfilePath);
@@ -192,7 +198,7 @@ public List<String> getVersionsFromGitHubRepo(String gitHubRepoUrl) throws IOExc
         String releasesUrl = gitHubRepoUrl + "/" + RELEASES;
         log.debug("Getting release tags from '{}'", releasesUrl);
 
-        ResponseEntity<String> response = restTemplate.getForEntity(releasesUrl, String.class);
+        ResponseEntity<String> response = recordRequest("releases", () -> restTemplate.getForEntity(releasesUrl, String.class));
         ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
         try {
@@ -208,4 +214,27 @@ public List<String> getVersionsFromGitHubRepo(String gitHubRepoUrl) throws IOExc
         }
     }
 
+    /**
+     * Executes a request to the GitHub API and records its duration tagged with the HTTP status code of the response.
+     *
+     * @param request the type of the request, e.g. {@code repository} or {@code release}
+     * @param call    the actual request
+     * @param <T>     the type of the response body
+     * @return the {@link ResponseEntity} of the request
+     */
+    private <T> ResponseEntity<T> recordRequest(String request, Supplier<ResponseEntity<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = MetricsUtils.NONE;
+        try {
+            ResponseEntity<T> response = call.get();
+            status = String.valueOf(response.getStatusCodeValue());
+            return response;
+        } catch (HttpStatusCodeException e) {
+            status = String.valueOf(e.getRawStatusCode());
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(MetricsUtils.GITHUB_REQUESTS, "request", request, "status", status));
+        }
+    }
+
 }
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.github.ust.mico.core.service;
+
+import io.github.ust.mico.core.configuration.MicoKubernetesConfig;
+import io.github.ust.mico.core.model.KubernetesDeploymentInfo;
+import io.github.ust.mico.core.persistence.KubernetesDeploymentInfoRepository;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes the drift of {@link KubernetesDeploymentInfo KubernetesDeploymentInfos} back to the database
+ * that is detected while the deployment status of a MicoApplication is computed.
+ * <p>
+ * The status computation only submits the drift, so that reads never wait for the write locks of Neo4j.
+ * Drift that is detected several times for the same {@link KubernetesDeploymentInfo} before it is written
+ * is coalesced (the latest detection wins). A single background task flushes the pending drift
+ * in batches of {@link MicoKubernetesConfig#getDeploymentInfoWriteBackBatchSize()}, each batch in one transaction.
+ * <p>
+ * A drift is only written if the stored {@link KubernetesDeploymentInfo} is still the one the drift
+ * was detected for. Otherwise it has been changed in the meantime (e.g. by a new deployment or an undeployment)
+ * and the drift is discarded.
+ */
+@Slf4j
+@Component
+public class KubernetesDeploymentInfoWriter {
+
+    private final KubernetesDeploymentInfoRepository kubernetesDeploymentInfoRepository;
+    private final MicoKubernetesConfig micoKubernetesConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The pending drift by the id of the {@link KubernetesDeploymentInfo}.
+     */
+    private final ConcurrentMap<Long, Drift> pendingDrift = new ConcurrentHashMap<>();
+
+    @Autowired
+    public KubernetesDeploymentInfoWriter(KubernetesDeploymentInfoRepository kubernetesDeploymentInfoRepository,
+                                          MicoKubernetesConfig micoKubernetesConfig,
+                                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.kubernetesDeploymentInfoRepository = kubernetesDeploymentInfoRepository;
+        this.micoKubernetesConfig = micoKubernetesConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize(MetricsUtils.DEPLOYMENT_INFO_DRIFT_PENDING, Collections.emptyList(), pendingDrift);
+    }
+
+    /**
+     * Submits the updated {@link KubernetesDeploymentInfo} to be saved.
+     *
+     * @param current the {@link KubernetesDeploymentInfo} as it was read from the database
+     * @param updated the {@link KubernetesDeploymentInfo} that reflects the actual state in Kubernetes
+     */
+    public void submitUpdate(KubernetesDeploymentInfo current, KubernetesDeploymentInfo updated) {
+        submit(current, updated);
+    }
+
+    /**
+     * Submits the {@link KubernetesDeploymentInfo} to be deleted,
+     * because there is no Kubernetes deployment anymore.
+     *
+     * @param current the {@link KubernetesDeploymentInfo} as it was read from the database
+     */
+    public void submitDeletion(KubernetesDeploymentInfo current) {
+        submit(current, null);
+    }
+
+    private void submit(KubernetesDeploymentInfo current, KubernetesDeploymentInfo updated) {
+        if (current.getId() == null) {
+            log.warn("Drift of Kubernetes deployment information '{}' is ignored, because it is not stored.", current);
+            return;
+        }
+        // Keep the first expected state, the database is not changed until the drift is written
+        pendingDrift.merge(current.getId(), new Drift(current, updated),
+            (previous, latest) -> new Drift(previous.getExpected(), latest.getUpdated()));
+    }
+
+    /**
+     * Returns the number of {@link KubernetesDeploymentInfo KubernetesDeploymentInfos} with pending drift.
+     *
+     * @return the number of pending drifts
+     */
+    public int getPendingCount() {
+        return pendingDrift.size();
+    }
+
+    /**
+     * Writes all pending drift back to the database.
+     */
+    @Scheduled(fixedDelayString = "#{${kubernetes.deployment-info-write-back-interval:1} * 1000}")
+    public synchronized void flush() {
+        while (!pendingDrift.isEmpty()) {
+            Map<Long, Drift> batch = new HashMap<>();
+            Iterator<Long> ids = pendingDrift.keySet().iterator();
+            while (ids.hasNext() && batch.size() < micoKubernetesConfig.getDeploymentInfoWriteBackBatchSize()) {
+                Long id = ids.next();
+                Drift drift = pendingDrift.remove(id);
+                if (drift != null) {
+                    batch.put(id, drift);
+                }
+            }
+            try {
+                transactionTemplate.execute(status -> {
+                    writeBatch(batch);
+                    return null;
+                });
+            } catch (Exception e) {
+                log.error("Failed to write the drift of {} Kubernetes deployment information(s): {}",
+                    batch.size(), e.getMessage(), e);
+                meterRegistry.counter(MetricsUtils.DEPLOYMENT_INFO_DRIFT_WRITES, "result", "failed").increment(batch.size());
+                return;
+            }
+        }
+    }
+
+    private void writeBatch(Map<Long, Drift> batch) {
+        List<KubernetesDeploymentInfo> toSave = new ArrayList<>();
+        List<KubernetesDeploymentInfo> toDelete = new ArrayList<>();
+        int discarded = 0;
+        for (KubernetesDeploymentInfo stored : kubernetesDeploymentInfoRepository.findAllById(batch.keySet(), 0)) {
+            Drift drift = batch.remove(stored.getId());
+            if (drift == null) {
+                continue;
+            }
+            if (!stored.equals(drift.getExpected())) {
+                log.debug("Drift of Kubernetes deployment information '{}' is discarded, it has been changed to '{}'.",
+                    drift.getExpected(), stored);
+                discarded++;
+            } else if (drift.getUpdated() == null) {
+                toDelete.add(stored);
+            } else {
+                toSave.add(drift.getUpdated());
+            }
+        }
+        // The remaining drift belongs to deployment information that has been deleted in the meantime
+        discarded += batch.size();
+
+        if (!toSave.isEmpty()) {
+            kubernetesDeploymentInfoRepository.save(toSave, 0);
+        }
+        if (!toDelete.isEmpty()) {
+            kubernetesDeploymentInfoRepository.deleteAll(toDelete);
+        }
+        log.debug("Wrote drift of Kubernetes deployment information: {} updated, {} deleted, {} discarded.",
+            toSave.size(), toDelete.size(), discarded);
+        meterRegistry.counter(MetricsUtils.DEPLOYMENT_INFO_DRIFT_WRITES, "result", "updated").increment(toSave.size());
+        meterRegistry.counter(MetricsUtils.DEPLOYMENT_INFO_DRIFT_WRITES, "result", "deleted").increment(toDelete.size());
+        meterRegistry.counter(MetricsUtils.DEPLOYMENT_INFO_DRIFT_WRITES, "result", "discarded").increment(discarded);
+    }
+
+    /**
+     * A detected drift of a {@link KubernetesDeploymentInfo}.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Drift {
+
+        /**
+         * The stored state the drift was detected for.
+         */
+        private final KubernetesDeploymentInfo expected;
+
+        /**
+         * The state that reflects Kubernetes. Is {@code null} if the deployment information is to be deleted.
+         */
+        private final KubernetesDeploymentInfo updated;
+    }
+}
@@ -19,21 +19,36 @@
 
 package io.github.ust.mico.core.service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
-import io.github.ust.mico.core.exception.MicoApplicationNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.ContainerResource;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.Loggable;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.TailPrettyLoggable;
 import io.github.ust.mico.core.broker.BackgroundJobBroker;
 import io.github.ust.mico.core.configuration.MicoKubernetesBuildBotConfig;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
@@ -47,7 +62,10 @@
 import io.github.ust.mico.core.service.imagebuilder.ImageBuilder;
 import io.github.ust.mico.core.service.imagebuilder.buildtypes.Build;
 import io.github.ust.mico.core.util.CollectionUtils;
+import io.github.ust.mico.core.util.KubernetesDiffUtils;
+import io.github.ust.mico.core.util.MetricsUtils;
 import io.github.ust.mico.core.util.UIDUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -71,14 +89,14 @@ public class MicoKubernetesClient {
      * that belong to a specific version of a {@link MicoService}.
      * It is set to the value of the `shortName` property of the {@link MicoService}.
      */
-    private static final String LABEL_NAME_KEY = LABEL_PREFIX + "name";
+    public static final String LABEL_NAME_KEY = LABEL_PREFIX + "name";
     /**
      * The label to get the current version of the {@link MicoService} (semantic version).
      * It is used in conjunction with the name label to select all Kubernetes resources
      * that belong to a specific version of a {@link MicoService}.
      * It is set to the value of the `version` property of the {@link MicoService}.
      */
-    private static final String LABEL_VERSION_KEY = LABEL_PREFIX + "version";
+    public static final String LABEL_VERSION_KEY = LABEL_PREFIX + "version";
     /**
      * The label to get the name of the {@link MicoServiceInterface}.
      * It is used in conjunction with the name and version label to select the Kubernetes {@link Service} resource
@@ -105,6 +123,22 @@ public class MicoKubernetesClient {
      */
     private static final Integer REVISION_HISTORY_LIMIT = 0;
 
+    /**
+     * The well-known label of the nodes that contains their host name.
+     * Used as topology key to spread the pods of a deployment across the nodes.
+     */
+    private static final String TOPOLOGY_KEY_NODE = "kubernetes.io/hostname";
+    /**
+     * The well-known label of the nodes that contains their zone.
+     * Used as topology key to spread the pods of a deployment across the zones.
+     */
+    private static final String TOPOLOGY_KEY_ZONE = "failure-domain.beta.kubernetes.io/zone";
+    /**
+     * The weight of preferred placement rules (1 to 100).
+     * The scheduler prefers the nodes with the highest sum of weights of the matching rules.
+     */
+    private static final int PREFERRED_PLACEMENT_WEIGHT = 100;
+
     private final MicoKubernetesConfig micoKubernetesConfig;
     private final MicoKubernetesBuildBotConfig buildBotConfig;
     private final KubernetesClient kubernetesClient;
@@ -113,12 +147,17 @@ public class MicoKubernetesClient {
     private final MicoApplicationRepository applicationRepository;
     private final MicoServiceDeploymentInfoRepository serviceDeploymentInfoRepository;
     private final KubernetesDeploymentInfoRepository kubernetesDeploymentInfoRepository;
+    private final KubernetesDeploymentInfoWriter kubernetesDeploymentInfoWriter;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService undeployExecutor;
 
     @Autowired
     public MicoKubernetesClient(MicoKubernetesConfig micoKubernetesConfig, MicoKubernetesBuildBotConfig buildBotConfig,
                                 KubernetesClient kubernetesClient, ImageBuilder imageBuilder, BackgroundJobBroker backgroundJobBroker,
                                 MicoApplicationRepository applicationRepository, MicoServiceDeploymentInfoRepository serviceDeploymentInfoRepository,
-                                KubernetesDeploymentInfoRepository kubernetesDeploymentInfoRepository) {
+                                KubernetesDeploymentInfoRepository kubernetesDeploymentInfoRepository,
+                                KubernetesDeploymentInfoWriter kubernetesDeploymentInfoWriter, MeterRegistry meterRegistry) {
         this.micoKubernetesConfig = micoKubernetesConfig;
         this.buildBotConfig = buildBotConfig;
         this.kubernetesClient = kubernetesClient;
@@ -127,15 +166,43 @@ public MicoKubernetesClient(MicoKubernetesConfig micoKubernetesConfig, MicoKuber
         this.applicationRepository = applicationRepository;
         this.serviceDeploymentInfoRepository = serviceDeploymentInfoRepository;
         this.kubernetesDeploymentInfoRepository = kubernetesDeploymentInfoRepository;
+        this.kubernetesDeploymentInfoWriter = kubernetesDeploymentInfoWriter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        // The configuration is not validated, so at least one thread is ensured
+        undeployExecutor = Executors.newFixedThreadPool(Math.max(1, micoKubernetesConfig.getUndeployParallelism()),
+            new CustomizableThreadFactory("mico-undeploy-"));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        undeployExecutor.shutdownNow();
     }
 
     /**
-     * Create a Kubernetes deployment based on a {@link MicoServiceDeploymentInfo}.
+     * Create a Kubernetes deployment based on a {@link MicoServiceDeploymentInfo}
+     * without any defaults of a {@link MicoApplication}.
      *
      * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo}
      * @return the Kubernetes {@link Deployment} resource object
      */
     public Deployment createMicoService(MicoServiceDeploymentInfo serviceDeploymentInfo) {
+        return createMicoService(serviceDeploymentInfo, null);
+    }
+
+    /**
+     * Create a Kubernetes deployment based on a {@link MicoServiceDeploymentInfo}.
+     * The resource requests and limits that are not set by the service deployment information
+     * are taken from the defaults of the {@link MicoApplication}.
+     *
+     * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo}
+     * @param micoApplication       the {@link MicoApplication} that deploys the service, may be {@code null}
+     * @return the Kubernetes {@link Deployment} resource object
+     */
+    public Deployment createMicoService(MicoServiceDeploymentInfo serviceDeploymentInfo, MicoApplication micoApplication) {
         MicoService micoService = serviceDeploymentInfo.getService();
         if (micoService == null) {
             throw new IllegalArgumentException("MicoService of service deployment information must not be null!");
@@ -157,6 +224,14 @@ public Deployment createMicoService(MicoServiceDeploymentInfo serviceDeploymentI
             deploymentUid = existingDeploymentName;
         }
 
+        // A running horizontal pod autoscaler owns the number of replicas,
+        // an update of the deployment must not reset it to the initial number of replicas.
+        int replicas = serviceDeploymentInfo.getReplicas();
+        if (serviceDeploymentInfo.isAutoscalingEnabled() && existingDeployment.isPresent()
+            && existingDeployment.get().getSpec().getReplicas() != null) {
+            replicas = existingDeployment.get().getSpec().getReplicas();
+        }
+
         Deployment deployment = new DeploymentBuilder()
             .withNewMetadata()
             .withName(deploymentUid)
@@ -169,7 +244,8 @@ public Deployment createMicoService(MicoServiceDeploymentInfo serviceDeploymentI
             .endMetadata()
             .withNewSpec()
             .withRevisionHistoryLimit(REVISION_HISTORY_LIMIT)
-            .withReplicas(serviceDeploymentInfo.getReplicas())
+            .withProgressDeadlineSeconds(micoKubernetesConfig.getRolloutProgressDeadline())
+            .withReplicas(replicas)
             .withNewSelector()
             .addToMatchLabels(LABEL_INSTANCE_KEY, deploymentUid)
             .endSelector()
@@ -182,11 +258,13 @@ public Deployment createMicoService(MicoServiceDeploymentInfo serviceDeploymentI
             .addToLabels(LABEL_INSTANCE_KEY, deploymentUid)
             .endMetadata()
             .withNewSpec()
+            .withAffinity(createAffinity(serviceDeploymentInfo, deploymentUid))
             .withContainers(
                 new ContainerBuilder()
                     .withName(micoService.getShortName())
                     .withImage(micoService.getDockerImageUri())
                     .withImagePullPolicy(serviceDeploymentInfo.getImagePullPolicy().toString())
+                    .withResources(createResourceRequirements(serviceDeploymentInfo, micoApplication))
                     .withPorts(createContainerPorts(micoService.getServiceInterfaces()))
                     .withEnv(serviceDeploymentInfo.getEnvironmentVariables().stream().map(
                         environmentVariable -> new EnvVarBuilder()
@@ -200,12 +278,239 @@ public Deployment createMicoService(MicoServiceDeploymentInfo serviceDeploymentI
             .endSpec()
             .build();
 
-        Deployment createdDeployment = kubernetesClient.apps().deployments().inNamespace(namespace).createOrReplace(deployment);
+        Deployment createdDeployment = applyDesiredState("deployments", deployment, existingDeployment,
+            desired -> kubernetesClient.apps().deployments().inNamespace(namespace).createOrReplace(desired),
+            patched -> kubernetesClient.apps().deployments().inNamespace(namespace).withName(deploymentUid).patch(patched));
         log.debug("Successfully created / updated Kubernetes deployment '{}' in namespace '{}' for MicoService '{}' '{}'",
             createdDeployment.getMetadata().getName(), namespace, micoService.getShortName(), micoService.getVersion());
         return createdDeployment;
     }
 
+    /**
+     * Creates the resource requests and limits of the container of a {@code MicoService}.
+     * The values of the {@code MicoServiceDeploymentInfo} take precedence over the defaults of the {@code MicoApplication}.
+     * Kubernetes derives the QoS class of the pods from them: without any values the pods are {@code BestEffort},
+     * with limits equal to the requests for CPU and memory they are {@code Guaranteed}, otherwise {@code Burstable}.
+     *
+     * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo}
+     * @param micoApplication       the {@link MicoApplication} that provides the defaults, may be {@code null}
+     * @return the {@link ResourceRequirements} or {@code null} if neither requests nor limits are set
+     */
+    public static ResourceRequirements createResourceRequirements(MicoServiceDeploymentInfo serviceDeploymentInfo, MicoApplication micoApplication) {
+        Map<String, Quantity> requests = new HashMap<>();
+        Map<String, Quantity> limits = new HashMap<>();
+        putQuantity(requests, "cpu", serviceDeploymentInfo.getCpuRequest(),
+            micoApplication != null ? micoApplication.getDefaultCpuRequest() : null);
+        putQuantity(requests, "memory", serviceDeploymentInfo.getMemoryRequest(),
+            micoApplication != null ? micoApplication.getDefaultMemoryRequest() : null);
+        putQuantity(limits, "cpu", serviceDeploymentInfo.getCpuLimit(),
+            micoApplication != null ? micoApplication.getDefaultCpuLimit() : null);
+        putQuantity(limits, "memory", serviceDeploymentInfo.getMemoryLimit(),
+            micoApplication != null ? micoApplication.getDefaultMemoryLimit() : null);
+        if (requests.isEmpty() && limits.isEmpty()) {
+            return null;
+        }
+        return new ResourceRequirementsBuilder()
+            .withRequests(requests.isEmpty() ? null : requests)
+            .withLimits(limits.isEmpty() ? null : limits)
+            .build();
+    }
+
+    /**
+     * Creates the affinity of the pods of a {@code MicoService} based on the placement policies
+     * of the {@code MicoServiceDeploymentInfo}.
+     * The spread across nodes or zones and the affinity to the pods of another {@code MicoService}
+     * are preferences of the scheduler, whereas the self anti-affinity is required.
+     *
+     * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo}
+     * @param deploymentUid         the name of the Kubernetes deployment the pods belong to
+     * @return the {@link Affinity} or {@code null} if there are no placement policies
+     */
+    private Affinity createAffinity(MicoServiceDeploymentInfo serviceDeploymentInfo, String deploymentUid) {
+        LabelSelector ownPods = new LabelSelectorBuilder().addToMatchLabels(LABEL_INSTANCE_KEY, deploymentUid).build();
+
+        List<PodAffinityTerm> requiredAntiAffinityTerms = new ArrayList<>();
+        List<WeightedPodAffinityTerm> preferredAntiAffinityTerms = new ArrayList<>();
+        if (serviceDeploymentInfo.isSelfAntiAffinity()) {
+            requiredAntiAffinityTerms.add(createPodAffinityTerm(ownPods, TOPOLOGY_KEY_NODE));
+        } else if (serviceDeploymentInfo.getSpreadPolicy() == MicoServiceDeploymentInfo.SpreadPolicy.NODES) {
+            preferredAntiAffinityTerms.add(new WeightedPodAffinityTerm(
+                createPodAffinityTerm(ownPods, TOPOLOGY_KEY_NODE), PREFERRED_PLACEMENT_WEIGHT));
+        }
+        if (serviceDeploymentInfo.getSpreadPolicy() == MicoServiceDeploymentInfo.SpreadPolicy.ZONES) {
+            preferredAntiAffinityTerms.add(new WeightedPodAffinityTerm(
+                createPodAffinityTerm(ownPods, TOPOLOGY_KEY_ZONE), PREFERRED_PLACEMENT_WEIGHT));
+        }
+
+        List<WeightedPodAffinityTerm> preferredAffinityTerms = new ArrayList<>();
+        if (!StringUtils.isEmpty(serviceDeploymentInfo.getAffinityServiceShortName())) {
+            LabelSelector podsOfOtherService = new LabelSelectorBuilder()
+                .addToMatchLabels(LABEL_NAME_KEY, serviceDeploymentInfo.getAffinityServiceShortName()).build();
+            preferredAffinityTerms.add(new WeightedPodAffinityTerm(
+                createPodAffinityTerm(podsOfOtherService, TOPOLOGY_KEY_NODE), PREFERRED_PLACEMENT_WEIGHT));
+        }
+
+        if (requiredAntiAffinityTerms.isEmpty() && preferredAntiAffinityTerms.isEmpty() && preferredAffinityTerms.isEmpty()) {
+            return null;
+        }
+        AffinityBuilder affinityBuilder = new AffinityBuilder();
+        if (!requiredAntiAffinityTerms.isEmpty() || !preferredAntiAffinityTerms.isEmpty()) {
+            affinityBuilder.withNewPodAntiAffinity()
+                .withRequiredDuringSchedulingIgnoredDuringExecution(requiredAntiAffinityTerms.isEmpty() ? null : requiredAntiAffinityTerms)
+                .withPreferredDuringSchedulingIgnoredDuringExecution(preferredAntiAffinityTerms.isEmpty() ? null : preferredAntiAffinityTerms)
+                .endPodAntiAffinity();
+        }
+        if (!preferredAffinityTerms.isEmpty()) {
+            affinityBuilder.withNewPodAffinity()
+                .withPreferredDuringSchedulingIgnoredDuringExecution(preferredAffinityTerms)
+                .endPodAffinity();
+        }
+        return affinityBuilder.build();
+    }
+
+    private static PodAffinityTerm createPodAffinityTerm(LabelSelector labelSelector, String topologyKey) {
+        return new PodAffinityTermBuilder()
+            .withLabelSelector(labelSelector)
+            .withTopologyKey(topologyKey)
+            .build();
+    }
+
+    private static void putQuantity(Map<String, Quantity> quantities, String resource, String value, String defaultValue) {
+        String quantity = !StringUtils.isEmpty(value) ? value : defaultValue;
+        if (!StringUtils.isEmpty(quantity)) {
+            quantities.put(resource, new Quantity(quantity));
+        }
+    }
+
+    /**
+     * Creates or updates the {@link HorizontalPodAutoscaler} of the Kubernetes deployment of a {@link MicoService}
+     * based on the autoscaling settings of all {@link MicoServiceDeploymentInfo MicoServiceDeploymentInfos}
+     * that are deployed for this service, including the given one.
+     * If the service is shared by several applications, the bounds of the autoscaler are the sums
+     * of the bounds of these applications, applications without autoscaling contribute
+     * their fixed number of replicas to both bounds.
+     * The autoscaler is deleted if none of the applications enables autoscaling.
+     *
+     * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo} that is deployed or updated
+     * @return the created / updated {@link HorizontalPodAutoscaler}
+     * or an empty {@link Optional} if autoscaling is disabled
+     * @throws KubernetesResourceException if the Kubernetes deployment of the {@link MicoService} is not available
+     */
+    public Optional<HorizontalPodAutoscaler> createOrUpdateHorizontalPodAutoscaler(MicoServiceDeploymentInfo serviceDeploymentInfo) throws KubernetesResourceException {
+        MicoService micoService = serviceDeploymentInfo.getService();
+        Optional<Deployment> deployment = getDeploymentOfMicoService(micoService);
+        if (!deployment.isPresent()) {
+            throw new KubernetesResourceException("Deployment for MicoService '" + micoService.getShortName()
+                + "' in version '" + micoService.getVersion() + "' is not available.");
+        }
+
+        // The given service deployment info replaces the stored one, it is maybe not deployed yet or has been updated
+        List<MicoServiceDeploymentInfo> deployedServiceDeploymentInfos = serviceDeploymentInfoRepository
+            .findAllByService(micoService.getShortName(), micoService.getVersion()).stream()
+            .filter(sdi -> sdi.getKubernetesDeploymentInfo() != null && !Objects.equals(sdi.getId(), serviceDeploymentInfo.getId()))
+            .collect(Collectors.toList());
+        deployedServiceDeploymentInfos.add(serviceDeploymentInfo);
+
+        return applyHorizontalPodAutoscaler(deployment.get().getMetadata().getName(),
+            deployedServiceDeploymentInfos, serviceDeploymentInfo);
+    }
+
+    /**
+     * Creates, updates or deletes the {@link HorizontalPodAutoscaler} of a Kubernetes deployment
+     * that is shared by the given {@link MicoServiceDeploymentInfo MicoServiceDeploymentInfos}.
+     * The targets of the autoscaler are taken from the preferred service deployment information,
+     * if it enables autoscaling, otherwise from the first one that does.
+     *
+     * @param deploymentName         the name of the Kubernetes {@link Deployment}
+     * @param serviceDeploymentInfos the {@link MicoServiceDeploymentInfo MicoServiceDeploymentInfos}
+     *                               of all applications using the deployment
+     * @param preferred              the {@link MicoServiceDeploymentInfo} whose targets are preferred, may be {@code null}
+     * @return the created / updated {@link HorizontalPodAutoscaler}
+     * or an empty {@link Optional} if autoscaling is disabled
+     */
+    private Optional<HorizontalPodAutoscaler> applyHorizontalPodAutoscaler(String deploymentName, List<MicoServiceDeploymentInfo> serviceDeploymentInfos,
+                                                                           MicoServiceDeploymentInfo preferred) {
+        String namespace = micoKubernetesConfig.getNamespaceMicoWorkspace();
+        Optional<MicoServiceDeploymentInfo> autoscalingTargets = preferred != null && preferred.isAutoscalingEnabled()
+            ? Optional.of(preferred)
+            : serviceDeploymentInfos.stream().filter(MicoServiceDeploymentInfo::isAutoscalingEnabled).findFirst();
+        if (!autoscalingTargets.isPresent()) {
+            deleteHorizontalPodAutoscaler(namespace, deploymentName);
+            return Optional.empty();
+        }
+
+        int minReplicas = serviceDeploymentInfos.stream().mapToInt(MicoServiceDeploymentInfo::getEffectiveMinReplicas).sum();
+        int maxReplicas = serviceDeploymentInfos.stream().mapToInt(MicoServiceDeploymentInfo::getEffectiveMaxReplicas).sum();
+        MicoService micoService = autoscalingTargets.get().getService();
+
+        List<MetricSpec> metrics = new ArrayList<>();
+        if (autoscalingTargets.get().getTargetCpuUtilizationPercentage() != null) {
+            metrics.add(new MetricSpecBuilder()
+                .withType("Resource")
+                .withNewResource()
+                .withName("cpu")
+                .withTargetAverageUtilization(autoscalingTargets.get().getTargetCpuUtilizationPercentage())
+                .endResource()
+                .build());
+        }
+        for (MicoAutoscalingMetric autoscalingMetric : autoscalingTargets.get().getAutoscalingMetrics()) {
+            metrics.add(new MetricSpecBuilder()
+                .withType("Pods")
+                .withNewPods()
+                .withMetricName(autoscalingMetric.getMetricName())
+                .withNewTargetAverageValue(autoscalingMetric.getTargetAverageValue())
+                .endPods()
+                .build());
+        }
+
+        HorizontalPodAutoscaler horizontalPodAutoscaler = new HorizontalPodAutoscalerBuilder()
+            .withNewMetadata()
+            .withName(deploymentName)
+            .withNamespace(namespace)
+            .addToLabels(LABEL_NAME_KEY, micoService.getShortName())
+            .addToLabels(LABEL_VERSION_KEY, micoService.getVersion())
+            .addToLabels(LABEL_INSTANCE_KEY, deploymentName)
+            .endMetadata()
+            .withNewSpec()
+            .withNewScaleTargetRef()
+            .withApiVersion("apps/v1")
+            .withKind("Deployment")
+            .withName(deploymentName)
+            .endScaleTargetRef()
+            .withMinReplicas(minReplicas)
+            .withMaxReplicas(Math.max(minReplicas, maxReplicas))
+            .withMetrics(metrics)
+            .endSpec()
+            .build();
+
+        Optional<HorizontalPodAutoscaler> existingHorizontalPodAutoscaler = Optional.ofNullable(recordRequest("get", "horizontalpodautoscalers",
+            () -> kubernetesClient.autoscaling().horizontalPodAutoscalers().inNamespace(namespace).withName(deploymentName).get()));
+        HorizontalPodAutoscaler createdHorizontalPodAutoscaler = applyDesiredState("horizontalpodautoscalers", horizontalPodAutoscaler, existingHorizontalPodAutoscaler,
+            desired -> kubernetesClient.autoscaling().horizontalPodAutoscalers().inNamespace(namespace).createOrReplace(desired),
+            patched -> kubernetesClient.autoscaling().horizontalPodAutoscalers().inNamespace(namespace).withName(deploymentName).patch(patched));
+        log.debug("Successfully created / updated horizontal pod autoscaler '{}' for MicoService '{}' '{}' with {} to {} replica(s).",
+            deploymentName, micoService.getShortName(), micoService.getVersion(), minReplicas, maxReplicas);
+        return Optional.of(createdHorizontalPodAutoscaler);
+    }
+
+    /**
+     * Deletes the {@link HorizontalPodAutoscaler} of a Kubernetes deployment, if it exists.
+     *
+     * @param namespace      the namespace of the Kubernetes {@link Deployment}
+     * @param deploymentName the name of the Kubernetes {@link Deployment}
+     */
+    private void deleteHorizontalPodAutoscaler(String namespace, String deploymentName) {
+        Boolean deleted = recordRequest("delete", "horizontalpodautoscalers", () -> kubernetesClient
+            .autoscaling()
+            .horizontalPodAutoscalers()
+            .inNamespace(namespace)
+            .withName(deploymentName)
+            .delete());
+        if (Boolean.TRUE.equals(deleted)) {
+            log.debug("Deleted horizontal pod autoscaler '{}' in namespace '{}'.", deploymentName, namespace);
+        }
+    }
+
     /**
      * Create a Kubernetes service based on a MICO service interface.
      *
@@ -235,7 +540,8 @@ public Service createMicoServiceInterface(MicoServiceInterface micoServiceInterf
         // Retrieve deployment corresponding to given MicoService to retrieve
         // the unique run label which will be used for the Kubernetes Service, too.
         Map<String, String> labels = CollectionUtils.mapOf(LABEL_NAME_KEY, micoService.getShortName(), LABEL_VERSION_KEY, micoService.getVersion());
-        List<Deployment> matchingDeployments = kubernetesClient.apps().deployments().inNamespace(namespace).withLabels(labels).list().getItems();
+        List<Deployment> matchingDeployments = recordRequest("list", "deployments",
+            () -> kubernetesClient.apps().deployments().inNamespace(namespace).withLabels(labels).list().getItems());
 
         if (matchingDeployments.size() == 0) {
             throw new KubernetesResourceException("There are no deployments for service with name '"
@@ -264,7 +570,9 @@ public Service createMicoServiceInterface(MicoServiceInterface micoServiceInterf
             .endSpec()
             .build();
 
-        Service createdService = kubernetesClient.services().inNamespace(namespace).createOrReplace(service);
+        Service createdService = applyDesiredState("services", service, existingService,
+            desired -> kubernetesClient.services().inNamespace(namespace).createOrReplace(desired),
+            patched -> kubernetesClient.services().inNamespace(namespace).withName(serviceInterfaceUid).patch(patched));
         log.debug("Successfully created / updated Kubernetes service '{}' in namespace '{}' for MicoServiceInterface '{}' of MicoService '{}' '{}'",
             createdService.getMetadata().getName(), namespace, serviceInterfaceName, micoService.getShortName(), micoService.getVersion());
         return createdService;
@@ -394,7 +702,8 @@ private void updateDnsEnvVar(MicoService micoServiceToUpdate, MicoService target
             containerToUpdate.setEnv(envVarList);
             log.debug("Deployment after setting env: {}", deploymentToUpdate);
             try {
-                kubernetesClient.apps().deployments().inNamespace(namespace).createOrReplace(deploymentToUpdate);
+                recordRequest("createOrReplace", "deployments",
+                    () -> kubernetesClient.apps().deployments().inNamespace(namespace).createOrReplace(deploymentToUpdate));
                 log.debug("Updated Kubernetes deployment with new DNS environment variable.");
             } catch (Exception e) {
                 log.error("Failed to set DNS environment variable for interface " + targetMicoServiceInterface.getServiceInterfaceName()
@@ -449,34 +758,30 @@ public MicoApplicationDeploymentStatus getApplicationDeploymentStatus(MicoApplic
         String message;
 
         // Check whether there are jobs currently running for the deployment of the MicoApplication
-        MicoServiceBackgroundJob.Status jobStatus;
-        List<MicoServiceBackgroundJob> jobs;
-        try {
-            MicoApplicationJobStatus applicationJobStatus = backgroundJobBroker
-                .getJobStatusByApplicationShortNameAndVersion(applicationShortName, applicationVersion);
-            jobStatus = applicationJobStatus.getStatus();
-            jobs = applicationJobStatus.getJobs();
-        } catch (MicoApplicationNotFoundException e) {
-            log.debug("There are no jobs for MicoApplication '{}' '{}'.", applicationShortName, applicationVersion);
-            jobStatus = MicoServiceBackgroundJob.Status.UNDEFINED;
-            jobs = new ArrayList<>();
-        }
+        MicoApplicationJobStatus applicationJobStatus = backgroundJobBroker.getJobStatusOfApplication(micoApplication);
+        MicoServiceBackgroundJob.Status jobStatus = applicationJobStatus.getStatus();
+        List<MicoServiceBackgroundJob> jobs = applicationJobStatus.getJobs();
+        // The status of the application jobs is determined either by the build jobs or by the undeploy jobs
+        String operation = jobs.stream().anyMatch(job -> job.getType() == MicoServiceBackgroundJob.Type.UNDEPLOY
+            && job.getStatus() == jobStatus) ? "undeployment" : "deployment";
         switch (jobStatus) {
             case PENDING:
                 // 'Pending' indicates that the deployment is scheduled to be executed in the future
-                message = "The deployment of MicoApplication '" + applicationShortName
+                message = "The " + operation + " of MicoApplication '" + applicationShortName
                     + "' '" + applicationVersion + "' is scheduled to be started.";
                 log.debug(message);
                 return MicoApplicationDeploymentStatus.pending(message);
             case RUNNING:
                 // 'Running' indicates that the deployment is currently in progress
-                message = "The deployment of MicoApplication '" + applicationShortName
+                message = "The " + operation + " of MicoApplication '" + applicationShortName
                     + "' '" + applicationVersion + "' is currently in progress.";
                 log.debug(message);
                 return MicoApplicationDeploymentStatus.pending(message);
             case ERROR:
-                // 'Error' indicates that errors occurred during the deployment
-                message = "The deployment of MicoApplication '" + applicationShortName
+            case TIMED_OUT:
+                // 'Error' indicates that errors occurred during the deployment,
+                // 'Timed out' that a build did not finish in time
+                message = "The " + operation + " of MicoApplication '" + applicationShortName
                     + "' '" + applicationVersion + "' failed.";
                 log.debug(message);
                 List<String> messages = new ArrayList<>();
@@ -488,6 +793,7 @@ public MicoApplicationDeploymentStatus getApplicationDeploymentStatus(MicoApplic
                     .collect(Collectors.toList()));
                 return MicoApplicationDeploymentStatus.incomplete(messages);
             case DONE:
+            case CANCELLED:
             case UNDEFINED:
             default:
                 // We are not interested in this cases since we cannot make significant conclusions
@@ -517,7 +823,7 @@ public MicoApplicationDeploymentStatus getApplicationDeploymentStatus(MicoApplic
                 // Retrieve Kubernetes deployment information
                 Optional<KubernetesDeploymentInfo> kubernetesDeploymentInfoOptional;
                 try {
-                    kubernetesDeploymentInfoOptional = updateKubernetesDeploymentInfo(micoServiceDeploymentInfo);
+                    kubernetesDeploymentInfoOptional = getActualKubernetesDeploymentInfo(micoServiceDeploymentInfo);
                 } catch (Exception e) {
                     message = "Deployment status of MicoService '"
                         + micoService.getShortName() + "' '" + micoService.getVersion() + "' is unknown. Reason: " + e.getMessage();
@@ -660,13 +966,14 @@ public boolean isApplicationUndeployed(MicoApplication micoApplication) {
 
     /**
      * Checks if the current {@link KubernetesDeploymentInfo} of the provided {@link MicoServiceDeploymentInfo}
-     * is up to date, stores the updated deployment information in the database and returns it.
+     * is up to date and returns the actual deployment information.
+     * Does not write to the database, a detected drift is submitted to the {@link KubernetesDeploymentInfoWriter}.
      *
      * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo}
      * @return the updated {@link KubernetesDeploymentInfo}. Is {@code empty} if there is no deployment anymore.
      * @throws KubernetesResourceException if there is an error while retrieving Kubernetes resources
      */
-    private Optional<KubernetesDeploymentInfo> updateKubernetesDeploymentInfo(MicoServiceDeploymentInfo serviceDeploymentInfo) throws KubernetesResourceException {
+    private Optional<KubernetesDeploymentInfo> getActualKubernetesDeploymentInfo(MicoServiceDeploymentInfo serviceDeploymentInfo) throws KubernetesResourceException {
         MicoService micoService = serviceDeploymentInfo.getService();
         KubernetesDeploymentInfo currentKubernetesDeploymentInfo = serviceDeploymentInfo.getKubernetesDeploymentInfo();
 
@@ -690,15 +997,17 @@ private Optional<KubernetesDeploymentInfo> updateKubernetesDeploymentInfo(MicoSe
         Deployment actualKubernetesDeployment = null;
         List<Service> actualKubernetesServices = new ArrayList<>();
         try {
-            if (kubernetesClient.namespaces().withName(namespace).get() != null) {
-                actualKubernetesDeployment = kubernetesClient.apps().deployments().inNamespace(namespace).withName(deploymentName).get();
+            if (recordRequest("get", "namespaces", () -> kubernetesClient.namespaces().withName(namespace).get()) != null) {
+                actualKubernetesDeployment = recordRequest("get", "deployments",
+                    () -> kubernetesClient.apps().deployments().inNamespace(namespace).withName(deploymentName).get());
                 if (actualKubernetesDeployment == null) {
                     log.warn("Deployment '{}' of MicoService '{}' '{}' doesn't exist anymore!",
                         deploymentName, micoService.getShortName(), micoService.getVersion());
                 }
 
                 for (String serviceName : serviceNames) {
-                    Service actualKubernetesService = kubernetesClient.services().inNamespace(namespace).withName(serviceName).get();
+                    Service actualKubernetesService = recordRequest("get", "services",
+                        () -> kubernetesClient.services().inNamespace(namespace).withName(serviceName).get());
                     if (actualKubernetesService != null) {
                         actualKubernetesServices.add(actualKubernetesService);
                     } else {
@@ -725,17 +1034,17 @@ private Optional<KubernetesDeploymentInfo> updateKubernetesDeploymentInfo(MicoSe
             if (!currentKubernetesDeploymentInfo.equals(updatedKubernetesDeploymentInfo)) {
                 log.info("Deployment information of MicoService '{}' '{}' has changed.",
                     micoService.getShortName(), micoService.getVersion());
-                // Save the updated KubernetesDeploymentInfo to the database
-                KubernetesDeploymentInfo savedKubernetesDeploymentInfo = kubernetesDeploymentInfoRepository.save(updatedKubernetesDeploymentInfo);
-                log.debug("Updated Kubernetes deployment information of MicoService '{}' '{}': {}",
-                    micoService.getShortName(), micoService.getVersion(), savedKubernetesDeploymentInfo.toString());
+                // Write the updated KubernetesDeploymentInfo back to the database later
+                kubernetesDeploymentInfoWriter.submitUpdate(currentKubernetesDeploymentInfo, updatedKubernetesDeploymentInfo);
+                log.debug("Submitted updated Kubernetes deployment information of MicoService '{}' '{}': {}",
+                    micoService.getShortName(), micoService.getVersion(), updatedKubernetesDeploymentInfo.toString());
             }
             return Optional.of(updatedKubernetesDeploymentInfo);
         } else {
             log.warn("Actual Kubernetes deployment of MicoService '{}' '{}' is not valid!",
                 micoService.getShortName(), micoService.getVersion());
-            kubernetesDeploymentInfoRepository.delete(currentKubernetesDeploymentInfo);
-            log.debug("Deleted outdated Kubernetes deployment information of MicoService '{}' '{}'",
+            kubernetesDeploymentInfoWriter.submitDeletion(currentKubernetesDeploymentInfo);
+            log.debug("Submitted deletion of outdated Kubernetes deployment information of MicoService '{}' '{}'",
                 micoService.getShortName(), micoService.getVersion());
             return Optional.empty();
         }
@@ -772,7 +1081,8 @@ public Optional<Deployment> getDeploymentOfMicoService(MicoService micoService)
         );
         String namespace = micoKubernetesConfig.getNamespaceMicoWorkspace();
 
-        List<Deployment> deploymentList = kubernetesClient.apps().deployments().inNamespace(namespace).withLabels(labels).list().getItems();
+        List<Deployment> deploymentList = recordRequest("list", "deployments",
+            () -> kubernetesClient.apps().deployments().inNamespace(namespace).withLabels(labels).list().getItems());
         log.debug("Found {} Kubernetes deployment(s) that match the labels '{}'.", deploymentList.size(), labels.toString());
 
         if (deploymentList.isEmpty()) {
@@ -804,7 +1114,8 @@ public Optional<Service> getInterfaceByNameOfMicoService(MicoService micoService
             LABEL_INTERFACE_KEY, micoServiceInterfaceName
         );
         String namespace = micoKubernetesConfig.getNamespaceMicoWorkspace();
-        List<Service> serviceList = kubernetesClient.services().inNamespace(namespace).withLabels(labels).list().getItems();
+        List<Service> serviceList = recordRequest("list", "services",
+            () -> kubernetesClient.services().inNamespace(namespace).withLabels(labels).list().getItems());
         log.debug("Found {} Kubernetes service(s) that match the labels '{}'.", serviceList.size(), labels.toString());
 
         if (serviceList.isEmpty()) {
@@ -835,7 +1146,8 @@ public List<Service> getInterfacesOfMicoService(MicoService micoService) {
             LABEL_VERSION_KEY, micoService.getVersion()
         );
         String namespace = micoKubernetesConfig.getNamespaceMicoWorkspace();
-        List<Service> serviceList = kubernetesClient.services().inNamespace(namespace).withLabels(labels).list().getItems();
+        List<Service> serviceList = recordRequest("list", "services",
+            () -> kubernetesClient.services().inNamespace(namespace).withLabels(labels).list().getItems());
         log.debug("Found {} Kubernetes service(s) that match the labels '{}'.", serviceList.size(), labels.toString());
 
         return serviceList;
@@ -854,12 +1166,49 @@ public List<Pod> getPodsCreatedByDeploymentOfMicoService(MicoService micoService
             LABEL_VERSION_KEY, micoService.getVersion()
         );
         String namespace = micoKubernetesConfig.getNamespaceMicoWorkspace();
-        List<Pod> podList = kubernetesClient.pods().inNamespace(namespace).withLabels(labels).list().getItems();
+        List<Pod> podList = recordRequest("list", "pods",
+            () -> kubernetesClient.pods().inNamespace(namespace).withLabels(labels).list().getItems());
         log.debug("Found {} Kubernetes pod(s) that match the labels '{}'.", podList.size(), labels.toString());
 
         return podList;
     }
 
+    /**
+     * Opens the log of a container of a Kubernetes {@link Pod}.
+     * The log is streamed from Kubernetes while it is read, it is not loaded into memory at once.
+     * A followed log is streamed until the container terminates or the returned reader is closed.
+     *
+     * @param namespace     the namespace of the {@link Pod}
+     * @param podName       the name of the {@link Pod}
+     * @param containerName the name of the container, may be {@code null} if the {@link Pod} has only one container
+     * @param follow        whether the log is followed
+     * @param tailLines     the number of lines at the end of the log to start with, {@code null} for the whole log
+     * @param sinceTime     an RFC 3339 timestamp from which on the log is read, {@code null} for the whole log
+     * @return the {@link Reader} of the log, it has to be closed by the caller
+     */
+    public Reader openPodLog(String namespace, String podName, String containerName, boolean follow,
+                             Integer tailLines, String sinceTime) {
+        PodResource<Pod, DoneablePod> pod = kubernetesClient.pods().inNamespace(namespace).withName(podName);
+        ContainerResource<String, LogWatch, InputStream, PipedOutputStream, OutputStream, PipedInputStream, String, ExecWatch> container =
+            containerName != null ? pod.inContainer(containerName) : pod;
+        TailPrettyLoggable<String, LogWatch> timedLog = sinceTime != null ? container.sinceTime(sinceTime) : container;
+        Loggable<String, LogWatch> tailedLog = tailLines != null ? timedLog.tailingLines(tailLines) : timedLog;
+        if (!follow) {
+            return recordRequest("get", "pods/log", tailedLog::getLogReader);
+        }
+        LogWatch logWatch = recordRequest("watch", "pods/log", tailedLog::watchLog);
+        return new InputStreamReader(logWatch.getOutput(), StandardCharsets.UTF_8) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    logWatch.close();
+                }
+            }
+        };
+    }
+
     /**
      * Retrieves the yaml for a MicoService, contains the interfaces if they exist.
      *
@@ -928,6 +1277,11 @@ private List<ServicePort> createServicePorts(MicoServiceInterface serviceInterfa
      * included in this application will not be undeployed, if and only if
      * they are included in at least one other application. In this case
      * the corresponding Kubernetes deployment will be scaled in.
+     * <p>
+     * The Kubernetes resources of the {@link MicoService MicoServices} that are undeployed completely
+     * are deleted in parallel by label selectors (one request for the deployment and one for all
+     * Kubernetes Services of a {@link MicoService}). The progress is reported by the
+     * {@link MicoServiceBackgroundJob.Type#UNDEPLOY UNDEPLOY} jobs of the {@link MicoService MicoServices}.
      *
      * @param application the {@link MicoApplication}.
      */
@@ -935,6 +1289,11 @@ public void undeployApplication(MicoApplication application) {
         log.debug("Start undeployment of MicoApplication '{}' '{}'.",
             application.getShortName(), application.getVersion());
 
+        // Whether the other applications using a service are deployed, each application is only checked once
+        Map<String, Boolean> deployedApplications = new HashMap<>();
+        List<MicoServiceDeploymentInfo> serviceDeploymentInfosToDelete = new ArrayList<>();
+        List<MicoService> servicesToCleanUp = new ArrayList<>();
+
         for (MicoService service : application.getServices()) {
             // Delete build jobs to ensure that they are not set to failed (would be influence the application status).
             Optional<MicoServiceBackgroundJob> buildJobOfService = backgroundJobBroker
@@ -966,12 +1325,16 @@ public void undeployApplication(MicoApplication application) {
                         + "' and MicoService '" + service.getShortName() + "' '" + service.getVersion() + "' does not exist!");
             }
 
+            backgroundJobBroker.saveNewStatus(service.getShortName(), service.getVersion(),
+                MicoServiceBackgroundJob.Type.UNDEPLOY, MicoServiceBackgroundJob.Status.RUNNING);
+
             MicoServiceDeploymentInfo serviceDeploymentInfo = serviceDeploymentInfoOptional.get();
             // Check which applications are deployed and are actually using this service
             List<MicoApplication> applicationsUsingThisService = applicationRepository.findAllByUsedService(service.getShortName(), service.getVersion());
             List<MicoApplication> otherDeployedApplicationsUsingThisService = applicationsUsingThisService.stream()
                 .filter(app -> !(app.getShortName().equals(application.getShortName()) && app.getVersion().equals(application.getVersion()))
-                    && isApplicationDeployed(app)).collect(Collectors.toList());
+                    && deployedApplications.computeIfAbsent(app.getShortName() + ":" + app.getVersion(), key -> isApplicationDeployed(app)))
+                .collect(Collectors.toList());
 
             if (serviceDeploymentInfo.getKubernetesDeploymentInfo() == null) {
                 log.info("MicoService '{}' '{}' is not deployed for the MicoApplication '{}' '{}'. No undeployment/scaling required.",
@@ -980,7 +1343,9 @@ public void undeployApplication(MicoApplication application) {
                 // Nevertheless check if the service is used by other applications.
                 // If not clean up the build resources that was maybe already created.
                 if (otherDeployedApplicationsUsingThisService.isEmpty()) {
-                    cleanUpBuildResources(service);
+                    servicesToCleanUp.add(service);
+                } else {
+                    saveUndeployStatus(service, MicoServiceBackgroundJob.Status.DONE, null);
                 }
                 continue;
             }
@@ -989,7 +1354,7 @@ public void undeployApplication(MicoApplication application) {
                 // Service is not used by other deployed applications -> simply undeploy it
                 log.debug("MicoService '{}' in version '{}' is not used by other MicoApplications.",
                     service.getShortName(), service.getVersion());
-                undeploy(serviceDeploymentInfo);
+                serviceDeploymentInfosToDelete.add(serviceDeploymentInfo);
             } else {
                 // Service used by multiple applications -> scale in
                 log.debug("MicoService '{}' in version '{}' is also used by {} other deployed MicoApplication(s): {}",
@@ -1013,6 +1378,20 @@ public void undeployApplication(MicoApplication application) {
                 // The updated number of total requested replicas for the current service
                 // is the current total minus the replicas of the current service.
                 int updatedTotalRequestedReplicas = currentTotalRequestedReplicas - serviceDeploymentInfo.getReplicas();
+
+                // If the remaining applications use autoscaling, the autoscaler is reduced to their bounds
+                // and the actual number of replicas is scaled in by the share of this application within these bounds.
+                List<MicoServiceDeploymentInfo> remainingServiceDeploymentInfos = otherDeployedApplicationsUsingThisService.stream()
+                    .map(otherApplication -> getServiceDeploymentInfo(otherApplication, service))
+                    .collect(Collectors.toList());
+                Optional<HorizontalPodAutoscaler> horizontalPodAutoscaler = applyHorizontalPodAutoscaler(
+                    serviceDeploymentInfo.getKubernetesDeploymentInfo().getDeploymentName(), remainingServiceDeploymentInfos, null);
+                if (horizontalPodAutoscaler.isPresent()) {
+                    int minReplicas = horizontalPodAutoscaler.get().getSpec().getMinReplicas();
+                    int maxReplicas = horizontalPodAutoscaler.get().getSpec().getMaxReplicas();
+                    int actualReplicas = getSpecifiedReplicas(serviceDeploymentInfo) - serviceDeploymentInfo.getEffectiveMinReplicas();
+                    updatedTotalRequestedReplicas = Math.max(minReplicas, Math.min(maxReplicas, actualReplicas));
+                }
                 log.debug("Scale in MicoService '{}' in version '{}': {} → {}",
                     service.getShortName(), service.getVersion(), currentTotalRequestedReplicas, updatedTotalRequestedReplicas);
 
@@ -1023,8 +1402,112 @@ public void undeployApplication(MicoApplication application) {
                 log.debug("Delete Kubernetes deployment info in database for MicoService '{}' in version '{}'.",
                     serviceDeploymentInfo.getService().getShortName(), serviceDeploymentInfo.getService().getVersion());
                 kubernetesDeploymentInfoRepository.delete(serviceDeploymentInfo.getKubernetesDeploymentInfo());
+                saveUndeployStatus(service, MicoServiceBackgroundJob.Status.DONE, null);
             }
         }
+
+        undeployInParallel(serviceDeploymentInfosToDelete, servicesToCleanUp);
+    }
+
+    /**
+     * Deletes the Kubernetes resources of the given {@link MicoService MicoServices} in parallel
+     * and afterwards their Kubernetes deployment information in one transaction.
+     *
+     * @param serviceDeploymentInfos    the {@link MicoServiceDeploymentInfo MicoServiceDeploymentInfos}
+     *                                  of the {@link MicoService MicoServices} to undeploy
+     * @param servicesWithoutDeployment the {@link MicoService MicoServices} that are not deployed,
+     *                                  only their build resources are cleaned up
+     */
+    private void undeployInParallel(List<MicoServiceDeploymentInfo> serviceDeploymentInfos, List<MicoService> servicesWithoutDeployment) {
+        Map<MicoServiceDeploymentInfo, CompletableFuture<Void>> deletions = new LinkedHashMap<>();
+        for (MicoServiceDeploymentInfo serviceDeploymentInfo : serviceDeploymentInfos) {
+            deletions.put(serviceDeploymentInfo, CompletableFuture.runAsync(
+                () -> deleteKubernetesResources(serviceDeploymentInfo), undeployExecutor));
+        }
+        Map<MicoService, CompletableFuture<Void>> cleanUps = new LinkedHashMap<>();
+        for (MicoService micoService : servicesWithoutDeployment) {
+            cleanUps.put(micoService, CompletableFuture.runAsync(() -> cleanUpBuildResources(micoService), undeployExecutor));
+        }
+
+        List<KubernetesDeploymentInfo> kubernetesDeploymentInfosToDelete = new ArrayList<>();
+        List<MicoService> undeployedServices = new ArrayList<>();
+        for (Map.Entry<MicoServiceDeploymentInfo, CompletableFuture<Void>> deletion : deletions.entrySet()) {
+            MicoService micoService = deletion.getKey().getService();
+            try {
+                deletion.getValue().join();
+                kubernetesDeploymentInfosToDelete.add(deletion.getKey().getKubernetesDeploymentInfo());
+                undeployedServices.add(micoService);
+            } catch (CompletionException e) {
+                log.error("Failed to delete the Kubernetes resources of MicoService '{}' '{}': {}",
+                    micoService.getShortName(), micoService.getVersion(), e.getCause().getMessage());
+                saveUndeployStatus(micoService, MicoServiceBackgroundJob.Status.ERROR, e.getCause().getMessage());
+            }
+        }
+
+        // Delete Kubernetes deployment infos in database
+        if (!kubernetesDeploymentInfosToDelete.isEmpty()) {
+            log.debug("Delete {} Kubernetes deployment info(s) in database.", kubernetesDeploymentInfosToDelete.size());
+            kubernetesDeploymentInfoRepository.deleteAll(kubernetesDeploymentInfosToDelete);
+        }
+        for (MicoService micoService : undeployedServices) {
+            log.info("MicoService '{}' in version '{}' was undeployed successfully.",
+                micoService.getShortName(), micoService.getVersion());
+            saveUndeployStatus(micoService, MicoServiceBackgroundJob.Status.DONE, null);
+        }
+        // The clean up of build resources never fails
+        cleanUps.forEach((micoService, cleanUp) -> {
+            cleanUp.join();
+            saveUndeployStatus(micoService, MicoServiceBackgroundJob.Status.DONE, null);
+        });
+    }
+
+    /**
+     * Deletes the Kubernetes {@link Deployment}, its {@link HorizontalPodAutoscaler} and all Kubernetes
+     * {@link Service Services} of a {@link MicoService} by label selectors, as well as its build resources.
+     *
+     * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo}
+     */
+    private void deleteKubernetesResources(MicoServiceDeploymentInfo serviceDeploymentInfo) {
+        MicoService micoService = serviceDeploymentInfo.getService();
+        String namespace = serviceDeploymentInfo.getKubernetesDeploymentInfo().getNamespace();
+        Map<String, String> labels = CollectionUtils.mapOf(
+            LABEL_NAME_KEY, micoService.getShortName(),
+            LABEL_VERSION_KEY, micoService.getVersion()
+        );
+
+        log.debug("Delete the Kubernetes deployment and services of MicoService '{}' in version '{}'.",
+            micoService.getShortName(), micoService.getVersion());
+        recordRequest("deleteCollection", "deployments", () -> kubernetesClient
+            .apps()
+            .deployments()
+            .inNamespace(namespace)
+            .withLabels(labels)
+            .delete());
+        recordRequest("deleteCollection", "services", () -> kubernetesClient
+            .services()
+            .inNamespace(namespace)
+            .withLabels(labels)
+            .delete());
+        recordRequest("deleteCollection", "horizontalpodautoscalers", () -> kubernetesClient
+            .autoscaling()
+            .horizontalPodAutoscalers()
+            .inNamespace(namespace)
+            .withLabels(labels)
+            .delete());
+
+        cleanUpBuildResources(micoService);
+    }
+
+    /**
+     * Saves the new status of the {@link MicoServiceBackgroundJob.Type#UNDEPLOY UNDEPLOY} job of a {@link MicoService}.
+     *
+     * @param micoService  the {@link MicoService}
+     * @param status       the new {@link MicoServiceBackgroundJob.Status}
+     * @param errorMessage the optional error message if the undeployment has failed
+     */
+    private void saveUndeployStatus(MicoService micoService, MicoServiceBackgroundJob.Status status, String errorMessage) {
+        backgroundJobBroker.saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+            MicoServiceBackgroundJob.Type.UNDEPLOY, status, errorMessage);
     }
 
     /**
@@ -1095,12 +1578,12 @@ private Optional<Deployment> scale(MicoServiceDeploymentInfo serviceDeploymentIn
                 scaleToNumberOfReplicas,
                 serviceDeploymentInfo.getKubernetesDeploymentInfo().getNamespace(),
                 serviceDeploymentInfo.getKubernetesDeploymentInfo().getDeploymentName());
-            Deployment deployment = kubernetesClient
+            Deployment deployment = recordRequest("scale", "deployments", () -> kubernetesClient
                 .apps()
                 .deployments()
                 .inNamespace(serviceDeploymentInfo.getKubernetesDeploymentInfo().getNamespace())
                 .withName(serviceDeploymentInfo.getKubernetesDeploymentInfo().getDeploymentName())
-                .scale(scaleToNumberOfReplicas);
+                .scale(scaleToNumberOfReplicas));
             return Optional.of(deployment);
         }
     }
@@ -1113,17 +1596,17 @@ private Optional<Deployment> scale(MicoServiceDeploymentInfo serviceDeploymentIn
      * @return the number of replicas as {@code int}.
      */
     private int getSpecifiedReplicas(MicoServiceDeploymentInfo serviceDeploymentInfo) {
-        return kubernetesClient
+        return recordRequest("get", "deployments", () -> kubernetesClient
             .apps()
             .deployments()
             .inNamespace(serviceDeploymentInfo.getKubernetesDeploymentInfo().getNamespace())
             .withName(serviceDeploymentInfo.getKubernetesDeploymentInfo().getDeploymentName())
-            .get().getSpec().getReplicas();
+            .get()).getSpec().getReplicas();
     }
 
     /**
      * Undeploys a {@link MicoService} by deleting all associated Kubernetes
-     * resources: {@link Deployment}, {@link Service}, {@link Build}.
+     * resources: {@link Deployment}, {@link HorizontalPodAutoscaler}, {@link Service}, {@link Build}.
      *
      * @param serviceDeploymentInfo the {@link MicoServiceDeploymentInfo}
      */
@@ -1138,22 +1621,24 @@ private void undeploy(MicoServiceDeploymentInfo serviceDeploymentInfo) {
         // Delete Kubernetes Deployment
         log.debug("Delete the Kubernetes deployment '{}' of MicoService '{}' in version '{}'.",
             kubernetesDeploymentInfo.getDeploymentName(), micoService.getShortName(), micoService.getVersion());
-        kubernetesClient
+        recordRequest("delete", "deployments", () -> kubernetesClient
             .apps()
             .deployments()
             .inNamespace(kubernetesDeploymentInfo.getNamespace())
             .withName(kubernetesDeploymentInfo.getDeploymentName())
-            .delete();
+            .delete());
+
+        deleteHorizontalPodAutoscaler(kubernetesDeploymentInfo.getNamespace(), kubernetesDeploymentInfo.getDeploymentName());
 
         // Delete Kubernetes Services
         for (String kubernetesServiceName : kubernetesDeploymentInfo.getServiceNames()) {
             log.debug("Delete the Kubernetes service '{}' of MicoService '{}' in version '{}'.",
                 kubernetesServiceName, micoService.getShortName(), micoService.getVersion());
-            kubernetesClient
+            recordRequest("delete", "services", () -> kubernetesClient
                 .services()
                 .inNamespace(kubernetesDeploymentInfo.getNamespace())
                 .withName(kubernetesServiceName)
-                .delete();
+                .delete());
         }
 
         cleanUpBuildResources(micoService);
@@ -1179,11 +1664,11 @@ private void cleanUpBuildResources(MicoService micoService) {
                     micoService.getShortName(), micoService.getVersion());
                 imageBuilder.deleteBuild(micoService);
 
-                kubernetesClient
+                recordRequest("delete", "pods", () -> kubernetesClient
                     .pods()
                     .inNamespace(buildBotConfig.getNamespaceBuildExecution())
-                    .withLabel(ImageBuilder.BUILD_CRD_GROUP + "/buildName", imageBuilder.createBuildName(micoService))
-                    .delete();
+                    .withLabel(ImageBuilder.BUILD_NAME_LABEL, imageBuilder.createBuildName(micoService))
+                    .delete());
             } catch (Exception e) {
                 log.warn("Failed to clean up build resources for MicoService '{}' '{}'. Caused by: {}",
                     micoService.getShortName(), micoService.getVersion(), e.getMessage());
@@ -1219,4 +1704,50 @@ private MicoServiceDeploymentInfo getServiceDeploymentInfo(MicoApplication appli
         return serviceDeploymentInfoOptional.get();
     }
 
+    /**
+     * Creates a Kubernetes resource or updates the existing one, if it differs from the desired state.
+     * An update only sends a patch of the changed fields, an unchanged resource is not written at all.
+     *
+     * @param resource the Kubernetes resource type, e.g. {@code deployments}
+     * @param desired  the desired Kubernetes resource
+     * @param live     the optional existing Kubernetes resource
+     * @param create   the function that creates the resource
+     * @param patch    the function that patches the existing resource to the given state
+     * @param <T>      the type of the Kubernetes resource
+     * @return the created / updated Kubernetes resource
+     */
+    private <T extends HasMetadata> T applyDesiredState(String resource, T desired, Optional<T> live,
+                                                        UnaryOperator<T> create, UnaryOperator<T> patch) {
+        String result;
+        T appliedResource;
+        if (!live.isPresent()) {
+            appliedResource = recordRequest("createOrReplace", resource, () -> create.apply(desired));
+            result = "created";
+        } else if (KubernetesDiffUtils.isUpToDate(desired, live.get())) {
+            log.debug("Kubernetes resource '{}' of type '{}' is already up to date. Skip update.",
+                live.get().getMetadata().getName(), resource);
+            appliedResource = live.get();
+            result = "skipped";
+        } else {
+            T patchedResource = KubernetesDiffUtils.applyDesiredState(desired, live.get());
+            appliedResource = recordRequest("patch", resource, () -> patch.apply(patchedResource));
+            result = "patched";
+        }
+        meterRegistry.counter(MetricsUtils.KUBERNETES_WRITES, "resource", resource, "result", result).increment();
+        return appliedResource;
+    }
+
+    /**
+     * Executes a request to the Kubernetes API and records its duration.
+     *
+     * @param verb     the verb of the request, e.g. {@code get} or {@code list}
+     * @param resource the Kubernetes resource type, e.g. {@code deployments}
+     * @param request  the request to execute
+     * @param <T>      the type of the result of the request
+     * @return the result of the request
+     */
+    private <T> T recordRequest(String verb, String resource, Supplier<T> request) {
+        return MetricsUtils.recordKubernetesRequest(meterRegistry, verb, resource, request);
+    }
+
 }
@@ -56,7 +56,22 @@ public class MicoStatusService {
     private static final String POD_PHASE_RUNNING = "Running";
     private static final String PROMETHEUS_QUERY_FOR_MEMORY_USAGE = "sum(container_memory_working_set_bytes{pod_name=\"%s\",container_name=\"\"})";
     private static final String PROMETHEUS_QUERY_FOR_CPU_USAGE = "sum(container_cpu_load_average_10s{pod_name=\"%s\"})";
+    private static final String PROMETHEUS_QUERY_FOR_CPU_USAGE_MILLICORES = "sum(rate(container_cpu_usage_seconds_total{pod_name=\"%s\",container_name=\"\"}[5m])) * 1000";
     private static final String PROMETHEUS_QUERY_PARAMETER_NAME = "query";
+
+    /**
+     * The suggested requests are the average usage plus 20 % headroom.
+     */
+    private static final int SIZING_REQUEST_PERCENTAGE = 120;
+
+    /**
+     * The suggested limits are the maximum usage plus 50 % headroom.
+     */
+    private static final int SIZING_LIMIT_PERCENTAGE = 150;
+    private static final long SIZING_MIN_CPU_MILLICORES = 10;
+    private static final long MEBIBYTE = 1024 * 1024;
+    private static final long SIZING_MIN_MEMORY_BYTES = 16 * MEBIBYTE;
+
     private final PrometheusConfig prometheusConfig;
     private final MicoKubernetesClient micoKubernetesClient;
     private final RestTemplate restTemplate;
@@ -163,44 +178,36 @@ public MicoServiceStatusResponseDTO getServiceStatus(MicoService micoService) {
             }
         }
 
-        // Get status information for all pods of a service
+        // Get status information for all pods of a service and aggregate their metrics
+        // per node and for the whole service in a single pass
         List<Pod> podList = micoKubernetesClient.getPodsCreatedByDeploymentOfMicoService(micoService);
-        List<KubernetesPodInformationResponseDTO> podInfos = new ArrayList<>();
-        // Get all the nodes on which the pods of a deployment of a MicoService are running
-        Map<String, List<Pod>> podsPerNode = new HashMap<>();
+        List<KubernetesPodInformationResponseDTO> podInfos = new ArrayList<>(podList.size());
+        Map<String, PodMetricsAggregation> metricsPerNode = new LinkedHashMap<>();
+        PodMetricsAggregation serviceMetrics = new PodMetricsAggregation(podList.size());
         for (Pod pod : podList) {
-            if (podsPerNode.containsKey(pod.getSpec().getNodeName())) {
-                podsPerNode.computeIfPresent(pod.getSpec().getNodeName(), (s, pods) -> pods).add(pod);
+            String nodeName = pod.getSpec().getNodeName();
+            PodMetricsAggregation nodeMetrics = metricsPerNode.computeIfAbsent(nodeName, name -> new PodMetricsAggregation(1));
+            nodeMetrics.addPod();
+            KubernetesPodInformationResponseDTO podInformation = getPodInformation(pod);
+            podInfos.add(podInformation);
+            String phase = pod.getStatus().getPhase();
+            if (phase.equals(POD_PHASE_RUNNING)) {
+                double cpuLoad = podInformation.getMetrics().getCpuLoad();
+                long memoryUsage = podInformation.getMetrics().getMemoryUsage();
+                nodeMetrics.addRunningPod(cpuLoad, memoryUsage);
+                serviceMetrics.addRunningPod(cpuLoad, memoryUsage);
             } else {
-                podsPerNode.computeIfAbsent(pod.getSpec().getNodeName(), pods -> new ArrayList<>()).add(pod);
+                log.debug("Pod '{}' on node '{}' is not running. It is in phase '{}'.",
+                    pod.getMetadata().getName(), nodeName, phase);
             }
         }
 
-        List<KubernetesNodeMetricsResponseDTO> nodeMetrics = new ArrayList<>();
-        // Calculate for each node the average values for all pods running on this node
-        for (String nodeName : podsPerNode.keySet()) {
-            int sumRunningPods = 0;
-            int sumCpuLoadOnNode = 0;
-            int sumMemoryUsageOnNode = 0;
-            for (Pod pod : podsPerNode.get(nodeName)) {
-                KubernetesPodInformationResponseDTO podInformation = getPodInformation(pod);
-                podInfos.add(podInformation);
-                String phase = pod.getStatus().getPhase();
-                if (phase.equals(POD_PHASE_RUNNING)) {
-                    sumCpuLoadOnNode += podInformation.getMetrics().getCpuLoad();
-                    sumMemoryUsageOnNode += podInformation.getMetrics().getMemoryUsage();
-                    sumRunningPods++;
-                } else {
-                    log.debug("Pod '{}' on node '{}' is not running. It is in phase '{}'.",
-                        pod.getMetadata().getName(), nodeName, phase);
-                }
-            }
-            int averageCpuLoad = 0;
-            int averageMemoryUsage = 0;
-            if (sumRunningPods > 0) {
-                averageCpuLoad = sumCpuLoadOnNode / sumRunningPods;
-                averageMemoryUsage = sumMemoryUsageOnNode / sumRunningPods;
-            } else {
+        // The share of the pods on each node shows how evenly the pods are spread
+        List<KubernetesNodeMetricsResponseDTO> nodeMetrics = new ArrayList<>(metricsPerNode.size());
+        for (Map.Entry<String, PodMetricsAggregation> metricsOfNode : metricsPerNode.entrySet()) {
+            String nodeName = metricsOfNode.getKey();
+            PodMetricsAggregation aggregation = metricsOfNode.getValue().sort();
+            if (aggregation.getRunningPods() == 0) {
                 message = "There are no Pods running on node '" + nodeName + "' for MICO service '"
                     + micoService.getShortName() + "' '" + micoService.getVersion() + "'.";
                 log.warn(message);
@@ -209,15 +216,104 @@ public MicoServiceStatusResponseDTO getServiceStatus(MicoService micoService) {
             }
             nodeMetrics.add(new KubernetesNodeMetricsResponseDTO()
                 .setNodeName(nodeName)
-                .setAverageCpuLoad(averageCpuLoad)
-                .setAverageMemoryUsage(averageMemoryUsage));
+                .setAverageCpuLoad(aggregation.getAverageCpuLoad())
+                .setMinCpuLoad(aggregation.getMinCpuLoad())
+                .setP95CpuLoad(aggregation.getP95CpuLoad())
+                .setMaxCpuLoad(aggregation.getMaxCpuLoad())
+                .setAverageMemoryUsage(aggregation.getAverageMemoryUsage())
+                .setMinMemoryUsage(aggregation.getMinMemoryUsage())
+                .setP95MemoryUsage(aggregation.getP95MemoryUsage())
+                .setMaxMemoryUsage(aggregation.getMaxMemoryUsage())
+                .setPodCount(aggregation.getPodCount())
+                .setPodShare(aggregation.getPodCount() * 100 / podList.size()));
         }
+        serviceMetrics.sort();
         serviceStatus
             .setNodeMetrics(nodeMetrics)
-            .setPodsInformation(podInfos);
+            .setPodsInformation(podInfos)
+            .setAverageCpuLoad(serviceMetrics.getAverageCpuLoad())
+            .setMinCpuLoad(serviceMetrics.getMinCpuLoad())
+            .setP95CpuLoad(serviceMetrics.getP95CpuLoad())
+            .setMaxCpuLoad(serviceMetrics.getMaxCpuLoad())
+            .setAverageMemoryUsage(serviceMetrics.getAverageMemoryUsage())
+            .setMinMemoryUsage(serviceMetrics.getMinMemoryUsage())
+            .setP95MemoryUsage(serviceMetrics.getP95MemoryUsage())
+            .setMaxMemoryUsage(serviceMetrics.getMaxMemoryUsage());
         return serviceStatus;
     }
 
+    /**
+     * Suggests resource requests and limits for the instances of a {@link MicoService} based on the CPU and memory usage
+     * of its running {@link Pod Pods} that is reported by Prometheus. The requests cover the average usage
+     * and the limits the maximum usage of the pods, each with some headroom.
+     *
+     * @param micoService is a {@link MicoService}.
+     * @return {@link MicoServiceResourceSizingResponseDTO} with the suggestions, which are {@code null} if there are no
+     * running pods.
+     */
+    public MicoServiceResourceSizingResponseDTO getResourceSizing(MicoService micoService) {
+        MicoServiceResourceSizingResponseDTO resourceSizing = new MicoServiceResourceSizingResponseDTO()
+            .setShortName(micoService.getShortName())
+            .setVersion(micoService.getVersion());
+
+        int sampledPods = 0;
+        long sumCpuUsage = 0;
+        long maxCpuUsage = 0;
+        long sumMemoryUsage = 0;
+        long maxMemoryUsage = 0;
+        for (Pod pod : micoKubernetesClient.getPodsCreatedByDeploymentOfMicoService(micoService)) {
+            if (!POD_PHASE_RUNNING.equals(pod.getStatus().getPhase())) {
+                continue;
+            }
+            String podName = pod.getMetadata().getName();
+            long cpuUsage;
+            long memoryUsage;
+            try {
+                cpuUsage = (long) Math.ceil(requestValueFromPrometheus(getPrometheusUri(PROMETHEUS_QUERY_FOR_CPU_USAGE_MILLICORES, podName)));
+                memoryUsage = getMemoryUsageForPod(podName);
+            } catch (PrometheusRequestFailedException | ResourceAccessException e) {
+                log.error(e.getMessage(), e);
+                continue;
+            }
+            sampledPods++;
+            sumCpuUsage += cpuUsage;
+            maxCpuUsage = Math.max(maxCpuUsage, cpuUsage);
+            sumMemoryUsage += memoryUsage;
+            maxMemoryUsage = Math.max(maxMemoryUsage, memoryUsage);
+        }
+
+        resourceSizing.setSampledPods(sampledPods);
+        if (sampledPods == 0) {
+            log.info("There are no running pods of MicoService '{}' '{}' to suggest resource requests and limits.",
+                micoService.getShortName(), micoService.getVersion());
+            return resourceSizing;
+        }
+
+        long averageCpuUsage = sumCpuUsage / sampledPods;
+        long averageMemoryUsage = sumMemoryUsage / sampledPods;
+        long cpuRequest = Math.max(SIZING_MIN_CPU_MILLICORES, percentageOf(averageCpuUsage, SIZING_REQUEST_PERCENTAGE));
+        long cpuLimit = Math.max(cpuRequest, percentageOf(maxCpuUsage, SIZING_LIMIT_PERCENTAGE));
+        long memoryRequest = Math.max(SIZING_MIN_MEMORY_BYTES, percentageOf(averageMemoryUsage, SIZING_REQUEST_PERCENTAGE));
+        long memoryLimit = Math.max(memoryRequest, percentageOf(maxMemoryUsage, SIZING_LIMIT_PERCENTAGE));
+        return resourceSizing
+            .setAverageCpuUsage(averageCpuUsage)
+            .setMaxCpuUsage(maxCpuUsage)
+            .setAverageMemoryUsage(averageMemoryUsage)
+            .setMaxMemoryUsage(maxMemoryUsage)
+            .setCpuRequest(cpuRequest + "m")
+            .setCpuLimit(cpuLimit + "m")
+            .setMemoryRequest(divideRoundingUp(memoryRequest, MEBIBYTE) + "Mi")
+            .setMemoryLimit(divideRoundingUp(memoryLimit, MEBIBYTE) + "Mi");
+    }
+
+    private static long percentageOf(long value, int percentage) {
+        return divideRoundingUp(value * percentage, 100);
+    }
+
+    private static long divideRoundingUp(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
     /**
      * Get the status information for all {@link MicoServiceInterface MicoServiceInterfaces} of the {@link
      * MicoService}.
@@ -329,12 +425,13 @@ private KubernetesPodInformationResponseDTO getPodInformation(Pod pod) {
             .setPhase(phase)
             .setHostIp(hostIp)
             .setRestarts(restarts)
-            .setStartTime(age);
+            .setStartTime(age)
+            .setQosClass(pod.getStatus().getQosClass());
 
         // Request values from Prometheus only if the pod phase is "Running"
         if (phase.equals(POD_PHASE_RUNNING)) {
-            int memoryUsage = 0;
-            int cpuLoad = 0;
+            long memoryUsage = 0;
+            double cpuLoad = 0;
             try {
                 memoryUsage = getMemoryUsageForPod(podName);
                 cpuLoad = getCpuLoadForPod(podName);
@@ -348,12 +445,12 @@ private KubernetesPodInformationResponseDTO getPodInformation(Pod pod) {
         return kubernetesPodInformationResponseDTO;
     }
 
-    private int getMemoryUsageForPod(String podName) throws PrometheusRequestFailedException {
+    private long getMemoryUsageForPod(String podName) throws PrometheusRequestFailedException {
         URI prometheusUri = getPrometheusUri(PROMETHEUS_QUERY_FOR_MEMORY_USAGE, podName);
-        return requestValueFromPrometheus(prometheusUri);
+        return Math.round(requestValueFromPrometheus(prometheusUri));
     }
 
-    private int getCpuLoadForPod(String podName) throws PrometheusRequestFailedException {
+    private double getCpuLoadForPod(String podName) throws PrometheusRequestFailedException {
         URI prometheusUri = getPrometheusUri(PROMETHEUS_QUERY_FOR_CPU_USAGE, podName);
         return requestValueFromPrometheus(prometheusUri);
     }
@@ -362,11 +459,11 @@ private int getCpuLoadForPod(String podName) throws PrometheusRequestFailedExcep
      * Requests the CPU load / memory usage value from Prometheus.
      *
      * @param prometheusUri is the adapted URI with the query for Prometheus, either CPU load or memory usage.
-     * @return a single Integer value of the current CPU load or the memory usage of a {@link Pod}.
+     * @return a single value of the current CPU load or the memory usage of a {@link Pod}.
      * @throws PrometheusRequestFailedException is thrown if Prometheus returns an error, if there is no response body,
      *                                          or if the HTTP request was not successful.
      */
-    private int requestValueFromPrometheus(URI prometheusUri) throws PrometheusRequestFailedException {
+    private double requestValueFromPrometheus(URI prometheusUri) throws PrometheusRequestFailedException {
         ResponseEntity<PrometheusResponseDTO> response = restTemplate.getForEntity(prometheusUri, PrometheusResponseDTO.class);
         if (response.getStatusCode().is2xxSuccessful()) {
             PrometheusResponseDTO prometheusResponse = response.getBody();
@@ -399,4 +496,93 @@ private URI getPrometheusUri(String query, String podName) {
         log.debug("Using Prometheus URI '{}'", prometheusUri);
         return prometheusUri;
     }
+
+    /**
+     * Aggregates the CPU load and the memory usage of the running {@link Pod Pods} of a {@link MicoService}
+     * in primitive arrays, so that the statistics can be calculated without boxing every value.
+     * The values have to be sorted with {@link #sort()} before the statistics are read.
+     */
+    private static final class PodMetricsAggregation {
+
+        private double[] cpuLoads;
+        private long[] memoryUsages;
+        private int podCount;
+        private int runningPods;
+        private double sumCpuLoad;
+        private long sumMemoryUsage;
+
+        private PodMetricsAggregation(int initialCapacity) {
+            cpuLoads = new double[initialCapacity];
+            memoryUsages = new long[initialCapacity];
+        }
+
+        private void addPod() {
+            podCount++;
+        }
+
+        private void addRunningPod(double cpuLoad, long memoryUsage) {
+            if (runningPods == cpuLoads.length) {
+                cpuLoads = Arrays.copyOf(cpuLoads, Math.max(1, 2 * runningPods));
+                memoryUsages = Arrays.copyOf(memoryUsages, cpuLoads.length);
+            }
+            cpuLoads[runningPods] = cpuLoad;
+            memoryUsages[runningPods] = memoryUsage;
+            runningPods++;
+            sumCpuLoad += cpuLoad;
+            sumMemoryUsage += memoryUsage;
+        }
+
+        private PodMetricsAggregation sort() {
+            Arrays.sort(cpuLoads, 0, runningPods);
+            Arrays.sort(memoryUsages, 0, runningPods);
+            return this;
+        }
+
+        private int getPodCount() {
+            return podCount;
+        }
+
+        private int getRunningPods() {
+            return runningPods;
+        }
+
+        private double getAverageCpuLoad() {
+            return runningPods > 0 ? sumCpuLoad / runningPods : 0;
+        }
+
+        private double getMinCpuLoad() {
+            return runningPods > 0 ? cpuLoads[0] : 0;
+        }
+
+        private double getP95CpuLoad() {
+            return runningPods > 0 ? cpuLoads[getP95Index()] : 0;
+        }
+
+        private double getMaxCpuLoad() {
+            return runningPods > 0 ? cpuLoads[runningPods - 1] : 0;
+        }
+
+        private long getAverageMemoryUsage() {
+            return runningPods > 0 ? sumMemoryUsage / runningPods : 0;
+        }
+
+        private long getMinMemoryUsage() {
+            return runningPods > 0 ? memoryUsages[0] : 0;
+        }
+
+        private long getP95MemoryUsage() {
+            return runningPods > 0 ? memoryUsages[getP95Index()] : 0;
+        }
+
+        private long getMaxMemoryUsage() {
+            return runningPods > 0 ? memoryUsages[runningPods - 1] : 0;
+        }
+
+        /**
+         * Returns the index of the 95th percentile in the sorted values (nearest-rank method).
+         */
+        private int getP95Index() {
+            return (int) Math.ceil(0.95 * runningPods) - 1;
+        }
+    }
 }
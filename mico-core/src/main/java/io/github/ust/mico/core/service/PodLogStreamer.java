@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.github.ust.mico.core.service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.github.ust.mico.core.configuration.MicoAsyncRequestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the logs of containers of Kubernetes {@link Pod Pods} line by line to an {@link OutputStream}.
+ * <p>
+ * The lines are written as soon as they are read, so a log is never buffered completely in memory.
+ * The output is flushed whenever no further line is available yet, so a followed log is shown live
+ * while a finished log is written in large chunks. If the client reads slowly, the writing blocks and
+ * so does the reading of the logs (backpressure).
+ * <p>
+ * Logs of several pods are merged: every line is prefixed with the name of its log. Finished logs are
+ * written one after the other, followed logs are read concurrently and interleaved as their lines arrive.
+ * The number of concurrently followed logs is bounded, further requests are rejected with a
+ * {@link org.springframework.core.task.TaskRejectedException TaskRejectedException}.
+ */
+@Slf4j
+@Component
+public class PodLogStreamer {
+
+    /**
+     * The maximum number of lines of followed logs that are read ahead of the client.
+     */
+    private static final int MERGE_QUEUE_CAPACITY = 256;
+
+    /**
+     * The time in seconds a reader waits to hand over the end of its log, if the client reads slowly.
+     */
+    private static final long END_OF_LOG_TIMEOUT = 10;
+
+    private final MicoAsyncRequestConfig asyncRequestConfig;
+
+    private ThreadPoolTaskExecutor followExecutor;
+
+    @Autowired
+    public PodLogStreamer(MicoAsyncRequestConfig asyncRequestConfig) {
+        this.asyncRequestConfig = asyncRequestConfig;
+    }
+
+    @PostConstruct
+    public void init() {
+        followExecutor = new ThreadPoolTaskExecutor();
+        followExecutor.setThreadNamePrefix("mico-log-follow-");
+        followExecutor.setCorePoolSize(asyncRequestConfig.getLogFollowPoolSize());
+        followExecutor.setMaxPoolSize(asyncRequestConfig.getLogFollowPoolSize());
+        // A followed log never waits for a thread, it would not be shown live anymore
+        followExecutor.setQueueCapacity(0);
+        followExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        followExecutor.getThreadPoolExecutor().shutdownNow();
+    }
+
+    /**
+     * Streams the given logs to the output stream.
+     *
+     * @param logs         the logs by their name (e.g. the pod name), each is opened when it is streamed
+     *                     and closed afterwards
+     * @param follow       whether the logs are followed, i.e. they are read concurrently until all of them end
+     * @param outputStream the {@link OutputStream} the lines are written to
+     * @throws IOException if the lines cannot be written, e.g. because the client has disconnected
+     * @throws org.springframework.core.task.TaskRejectedException if too many logs are followed already
+     */
+    public void streamLogs(Map<String, Supplier<Reader>> logs, boolean follow, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (follow && logs.size() > 1) {
+            streamLogsConcurrently(logs, writer);
+        } else {
+            streamLogsOneAfterAnother(logs, writer);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Streams the given logs one after the other to the output stream, even if they are followed.
+     * Suits the logs of containers that run one after the other, e.g. the steps of a build.
+     *
+     * @param logs         the logs by their name (e.g. the container name), each is opened when it is streamed
+     *                     and closed afterwards
+     * @param outputStream the {@link OutputStream} the lines are written to
+     * @throws IOException if the lines cannot be written, e.g. because the client has disconnected
+     */
+    public void streamLogsSequentially(Map<String, Supplier<Reader>> logs, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        streamLogsOneAfterAnother(logs, writer);
+        writer.flush();
+    }
+
+    private void streamLogsOneAfterAnother(Map<String, Supplier<Reader>> logs, Writer writer) throws IOException {
+        boolean prefixLines = logs.size() > 1;
+        for (Map.Entry<String, Supplier<Reader>> namedLog : logs.entrySet()) {
+            String prefix = prefixLines ? getPrefix(namedLog.getKey()) : "";
+            streamLog(namedLog.getKey(), namedLog.getValue(), prefix, writer);
+        }
+    }
+
+    private void streamLog(String name, Supplier<Reader> openLog, String prefix, Writer writer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(openLog.get())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.write(prefix);
+                writer.write(line);
+                writer.write('\n');
+                if (!reader.ready()) {
+                    writer.flush();
+                }
+            }
+        } catch (KubernetesClientException e) {
+            // The log of one pod is not available (e.g. the container is not started yet), continue with the others
+            log.warn("Log '{}' is not available: {}", name, e.getMessage());
+        }
+    }
+
+    private void streamLogsConcurrently(Map<String, Supplier<Reader>> logs, Writer writer) throws IOException {
+        // An empty element marks the end of a log
+        BlockingQueue<Optional<String>> lines = new ArrayBlockingQueue<>(MERGE_QUEUE_CAPACITY);
+        List<Future<?>> readers = new ArrayList<>(logs.size());
+        // A blocking read of a followed log does not react to interrupts, so the opened logs are closed as well
+        List<Closeable> openedLogs = new CopyOnWriteArrayList<>();
+        try {
+            for (Map.Entry<String, Supplier<Reader>> namedLog : logs.entrySet()) {
+                readers.add(followExecutor.submit(() -> readLog(namedLog.getKey(), namedLog.getValue(), lines, openedLogs)));
+            }
+            int openLogs = logs.size();
+            while (openLogs > 0) {
+                Optional<String> line = lines.take();
+                if (line.isPresent()) {
+                    writer.write(line.get());
+                    writer.write('\n');
+                    if (lines.isEmpty()) {
+                        writer.flush();
+                    }
+                } else {
+                    openLogs--;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Streaming of the logs was interrupted");
+        } finally {
+            // Stops the reading of the logs that are still followed, e.g. if the client has disconnected
+            readers.forEach(reader -> reader.cancel(true));
+            for (Closeable openedLog : openedLogs) {
+                try {
+                    openedLog.close();
+                } catch (IOException e) {
+                    log.debug("Failed to close log: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void readLog(String name, Supplier<Reader> openLog, BlockingQueue<Optional<String>> lines, List<Closeable> openedLogs) {
+        String prefix = getPrefix(name);
+        try (BufferedReader reader = new BufferedReader(openLog.get())) {
+            openedLogs.add(reader);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.put(Optional.of(prefix + line));
+            }
+        } catch (InterruptedIOException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | KubernetesClientException e) {
+            if (!Thread.currentThread().isInterrupted()) {
+                log.warn("Log '{}' is not available: {}", name, e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Never blocks forever: if the streaming was cancelled, nobody takes the end of the log anymore
+            try {
+                if (!lines.offer(Optional.empty(), END_OF_LOG_TIMEOUT, TimeUnit.SECONDS)) {
+                    log.warn("End of log '{}' could not be handed over.", name);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static String getPrefix(String name) {
+        return "[" + name + "] ";
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.service.imagebuilder;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.github.ust.mico.core.configuration.MicoKubernetesBuildBotConfig;
+import io.github.ust.mico.core.exception.NotInitializedException;
+import io.github.ust.mico.core.service.MicoKubernetesClient;
+import io.github.ust.mico.core.service.imagebuilder.ImageBuilder.BuildResourceDeletionReason;
+import io.github.ust.mico.core.service.imagebuilder.buildtypes.Build;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically deletes the resources of finished builds (the {@link Build} and its build pods).
+ * Without the garbage collection they would stay in the build namespace until the
+ * application is undeployed (and only if {@code buildCleanUpByUndeploy} is set).
+ * <p>
+ * A finished build is retained as long as it is one of the most recent
+ * {@link MicoKubernetesBuildBotConfig#getBuildsToKeepPerService() builds of its MicoService}
+ * or it finished less than {@link MicoKubernetesBuildBotConfig#getBuildRetentionHours() the retention hours} ago.
+ * Running builds are never deleted.
+ */
+@Slf4j
+@Component
+public class BuildGarbageCollector {
+
+    private final ImageBuilder imageBuilder;
+    private final MicoKubernetesBuildBotConfig buildBotConfig;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public BuildGarbageCollector(ImageBuilder imageBuilder, MicoKubernetesBuildBotConfig buildBotConfig, MeterRegistry meterRegistry) {
+        this.imageBuilder = imageBuilder;
+        this.buildBotConfig = buildBotConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Deletes the resources of all finished builds that are not retained anymore.
+     * Does nothing if the garbage collection is disabled or the image builder is not initialized.
+     */
+    @Scheduled(fixedDelayString = "#{${kubernetes.build-bot.build-garbage-collection-interval:3600} * 1000}",
+        initialDelayString = "#{${kubernetes.build-bot.build-garbage-collection-interval:3600} * 1000}")
+    public void collectGarbage() {
+        if (!buildBotConfig.isBuildGarbageCollectionEnabled() || !imageBuilder.isInitialized()) {
+            return;
+        }
+        try {
+            Map<Boolean, List<Build>> buildsByLabel = imageBuilder.getBuildsOfMicoServices().stream()
+                .collect(Collectors.partitioningBy(BuildGarbageCollector::hasServiceLabel));
+            Instant now = Instant.now();
+            List<String> buildNames = getBuildsToDelete(buildsByLabel.get(true), now);
+            List<String> unlabeledBuildNames = getUnlabeledBuildsToDelete(buildsByLabel.get(false), now);
+            if (buildNames.isEmpty() && unlabeledBuildNames.isEmpty()) {
+                log.debug("Build garbage collection found no builds to delete.");
+                return;
+            }
+            int deletedPods = buildNames.isEmpty() ? 0
+                : imageBuilder.deleteBuildResources(buildNames, BuildResourceDeletionReason.GARBAGE_COLLECTION);
+            // Builds without labels can't be deleted by label selector, so they are deleted one by one
+            for (String buildName : unlabeledBuildNames) {
+                imageBuilder.deleteBuildResources(buildName, BuildResourceDeletionReason.GARBAGE_COLLECTION);
+            }
+            int deletedBuilds = buildNames.size() + unlabeledBuildNames.size();
+            log.info("Build garbage collection deleted {} build(s) ({} without labels) and {} labeled build pod(s).",
+                deletedBuilds, unlabeledBuildNames.size(), deletedPods);
+            meterRegistry.counter(MetricsUtils.BUILD_GARBAGE_COLLECTED, "resource", "builds").increment(deletedBuilds);
+            meterRegistry.counter(MetricsUtils.BUILD_GARBAGE_COLLECTED, "resource", "pods").increment(deletedPods);
+        } catch (NotInitializedException | KubernetesClientException e) {
+            log.warn("Build garbage collection failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the names of the finished builds that are not retained anymore.
+     *
+     * @param builds the builds of all MicoServices that have the MICO name label
+     * @param now    the current time
+     * @return the names of the builds to delete
+     */
+    private List<String> getBuildsToDelete(List<Build> builds, Instant now) {
+        int buildsToKeep = buildBotConfig.getBuildsToKeepPerService();
+        Instant retainedSince = now.minus(Duration.ofHours(buildBotConfig.getBuildRetentionHours()));
+
+        Map<String, List<Build>> buildsPerService = builds.stream()
+            .collect(Collectors.groupingBy(build -> build.getMetadata().getLabels().get(MicoKubernetesClient.LABEL_NAME_KEY)));
+        List<String> buildNames = new ArrayList<>();
+        for (List<Build> buildsOfService : buildsPerService.values()) {
+            // Most recent builds first
+            buildsOfService.sort(Comparator.comparing(
+                (Build build) -> parseTime(build.getMetadata().getCreationTimestamp()).orElse(Instant.MIN)).reversed());
+            for (int i = buildsToKeep; i < buildsOfService.size(); i++) {
+                Build build = buildsOfService.get(i);
+                if (isFinishedBefore(build, retainedSince)) {
+                    buildNames.add(build.getMetadata().getName());
+                }
+            }
+        }
+        return buildNames;
+    }
+
+    /**
+     * Returns the names of the finished builds without the MICO name label that are not retained anymore.
+     * These builds were created by older versions of MICO. Each build is grouped by its own name,
+     * because it can't be assigned to a MicoService. Hence only the retention hours apply to them.
+     *
+     * @param builds the builds without the MICO name label
+     * @param now    the current time
+     * @return the names of the builds to delete
+     */
+    private List<String> getUnlabeledBuildsToDelete(List<Build> builds, Instant now) {
+        Instant retainedSince = now.minus(Duration.ofHours(buildBotConfig.getBuildRetentionHours()));
+        return builds.stream()
+            .filter(build -> isFinishedBefore(build, retainedSince))
+            .map(build -> build.getMetadata().getName())
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private boolean isFinishedBefore(Build build, Instant retainedSince) {
+        Optional<Instant> completionTime = build.getStatus() != null
+            ? parseTime(build.getStatus().getCompletionTime()) : Optional.empty();
+        return completionTime.isPresent() && !completionTime.get().isAfter(retainedSince);
+    }
+
+    private static boolean hasServiceLabel(Build build) {
+        Map<String, String> labels = build.getMetadata().getLabels();
+        return labels != null && labels.containsKey(MicoKubernetesClient.LABEL_NAME_KEY);
+    }
+
+    private Optional<Instant> parseTime(String time) {
+        if (StringUtils.isEmpty(time)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Instant.parse(time));
+        } catch (DateTimeParseException e) {
+            log.warn("Failed to parse timestamp '{}' of build: {}", time, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.service.imagebuilder;
+
+import io.github.ust.mico.core.configuration.MicoKubernetesBuildBotConfig;
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Priority;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the builds of all deployments in front of the {@link ImageBuilder}.
+ * <p>
+ * At most {@link MicoKubernetesBuildBotConfig#getMaxConcurrentBuilds() maxConcurrentBuilds} builds run at the same time,
+ * further builds wait in a queue. Queued builds are started in the following order:
+ * <ol>
+ * <li>by their {@link Priority} (e.g. hotfixes before nightly deployments)</li>
+ * <li>by the number of running builds of their application and by the time the last build of their application
+ * was started, so each application gets its fair share even if another application queued a lot of builds before</li>
+ * <li>in the order they were queued</li>
+ * </ol>
+ * A build is only started if the resource quotas of the build namespace have capacity left for its build pod
+ * (see {@link ImageBuilder#isBuildCapacityExhausted(MicoService)}). Otherwise the admission is retried
+ * after {@link MicoKubernetesBuildBotConfig#getBuildAdmissionRetryInterval() buildAdmissionRetryInterval} seconds.
+ * The resource quotas are requested from Kubernetes without holding the lock of the queue,
+ * so queuing builds and querying queue positions is not blocked by the Kubernetes API.
+ */
+@Slf4j
+@Component
+public class BuildScheduler {
+
+    private final MicoKubernetesBuildBotConfig buildBotConfig;
+    private final ImageBuilder imageBuilder;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Executes the started builds. Each build blocks its thread until it is finished.
+     */
+    private ExecutorService buildExecutor;
+    private ScheduledExecutorService admissionRetryExecutor;
+
+    // The state of the queue is guarded by this lock
+    private final Object lock = new Object();
+    private final List<QueuedBuild> queue = new ArrayList<>();
+    private final Map<String, Integer> runningBuildsPerApplication = new HashMap<>();
+    // The value of the dispatch counter when the last build of an application was started
+    private final Map<String, Long> lastDispatchOfApplication = new HashMap<>();
+    private int runningBuilds = 0;
+    private long sequence = 0;
+    private long dispatchCounter = 0;
+    private boolean admissionRetryScheduled = false;
+    // Only one thread dispatches at a time, so the capacity of the build namespace is checked once per build
+    private boolean dispatching = false;
+    // The queue order and the positions of the job ids in it, null if the queue changed since they were computed
+    private List<QueuedBuild> queueOrder;
+    private Map<String, Integer> queuePositions;
+
+    @Autowired
+    public BuildScheduler(MicoKubernetesBuildBotConfig buildBotConfig, ImageBuilder imageBuilder, MeterRegistry meterRegistry) {
+        this.buildBotConfig = buildBotConfig;
+        this.imageBuilder = imageBuilder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        // The configuration is not validated, so at least one build thread is ensured
+        buildExecutor = Executors.newFixedThreadPool(getMaxConcurrentBuilds(), new CustomizableThreadFactory("mico-build-"));
+        admissionRetryExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mico-build-admission-"));
+        meterRegistry.gauge(MetricsUtils.BUILD_QUEUE_SIZE, Collections.emptyList(), this, BuildScheduler::getQueueSize);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        admissionRetryExecutor.shutdownNow();
+        buildExecutor.shutdownNow();
+    }
+
+    /**
+     * Queues the build of a {@code MicoService}. The build is started as soon as it is its turn.
+     * Cancelling the returned future removes a queued build from the queue.
+     *
+     * @param jobId          the id of the build job, used to determine the queue position
+     * @param micoService    the {@link MicoService} that is built
+     * @param applicationKey the key of the application that requested the build (used for the fair share)
+     * @param priority       the {@link Priority} of the build
+     * @param build          the build, is executed on a build thread
+     * @return the {@link CompletableFuture} that is completed with the result of the build
+     */
+    public CompletableFuture<String> schedule(String jobId, MicoService micoService, String applicationKey,
+                                              Priority priority, Supplier<String> build) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        synchronized (lock) {
+            queue.add(new QueuedBuild(jobId, micoService, applicationKey, priority, build, future,
+                sequence++, Timer.start(meterRegistry)));
+            invalidateQueueOrder();
+            log.debug("Queued build of MicoService '{}' '{}' with priority {} for application '{}'.",
+                micoService.getShortName(), micoService.getVersion(), priority, applicationKey);
+        }
+        // Remove a cancelled build from the queue immediately
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                synchronized (lock) {
+                    if (queue.removeIf(queuedBuild -> queuedBuild.future == future)) {
+                        invalidateQueueOrder();
+                    }
+                }
+            }
+        });
+        dispatch();
+        return future;
+    }
+
+    /**
+     * Returns the position of a queued build job.
+     *
+     * @param jobId the id of the build job
+     * @return the position (starting at 1) or an empty {@link Optional} if the job is not queued
+     */
+    public Optional<Integer> getQueuePosition(String jobId) {
+        synchronized (lock) {
+            getQueueOrder();
+            return Optional.ofNullable(queuePositions.get(jobId));
+        }
+    }
+
+    /**
+     * Indicates whether a build job is waiting in the queue.
+     *
+     * @param jobId the id of the build job
+     * @return {@code true} if the job is queued
+     */
+    public boolean isQueued(String jobId) {
+        return getQueuePosition(jobId).isPresent();
+    }
+
+    /**
+     * Returns the number of queued builds.
+     *
+     * @return the number of queued builds
+     */
+    public int getQueueSize() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Starts queued builds as long as there are free build slots and the build namespace has capacity left.
+     * If another thread is already dispatching, it also starts the builds that are queued in the meantime.
+     */
+    private void dispatch() {
+        synchronized (lock) {
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        }
+        try {
+            dispatchCandidates();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                dispatching = false;
+            }
+            throw e;
+        }
+    }
+
+    private void dispatchCandidates() {
+        QueuedBuild candidate;
+        while ((candidate = getNextCandidate()) != null) {
+            // Requests the resource quotas from Kubernetes, so the lock must not be held
+            boolean capacityExhausted;
+            try {
+                capacityExhausted = imageBuilder.isBuildCapacityExhausted(candidate.micoService);
+            } catch (RuntimeException e) {
+                log.warn("Failed to check the capacity of the build namespace for the build of MicoService '{}' '{}': {}",
+                    candidate.micoService.getShortName(), candidate.micoService.getVersion(), e.getMessage());
+                capacityExhausted = true;
+            }
+            synchronized (lock) {
+                if (capacityExhausted) {
+                    log.info("Build namespace has no capacity left for the build of MicoService '{}' '{}'. {} build(s) are queued.",
+                        candidate.micoService.getShortName(), candidate.micoService.getVersion(), queue.size());
+                    scheduleAdmissionRetry();
+                    dispatching = false;
+                    return;
+                }
+                // The queue may have changed during the capacity check, e.g. a build with a higher priority was queued
+                if (getQueueOrder().get(0) == candidate) {
+                    start(candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the next queued build to start. Cancelled builds are removed from the queue.
+     * If there is no free build slot or no queued build, the dispatching is finished.
+     *
+     * @return the next {@link QueuedBuild} or {@code null} if no build can be started
+     */
+    private QueuedBuild getNextCandidate() {
+        synchronized (lock) {
+            while (runningBuilds < getMaxConcurrentBuilds() && !queue.isEmpty()) {
+                QueuedBuild next = getQueueOrder().get(0);
+                if (!next.future.isDone()) {
+                    return next;
+                }
+                queue.remove(next);
+                invalidateQueueOrder();
+            }
+            dispatching = false;
+            return null;
+        }
+    }
+
+    /**
+     * Removes a build from the queue and executes it on a build thread.
+     * Must be called while holding the lock.
+     *
+     * @param next the {@link QueuedBuild} to start
+     */
+    private void start(QueuedBuild next) {
+        queue.remove(next);
+        runningBuilds++;
+        runningBuildsPerApplication.merge(next.applicationKey, 1, Integer::sum);
+        lastDispatchOfApplication.put(next.applicationKey, ++dispatchCounter);
+        invalidateQueueOrder();
+        next.queueSample.stop(meterRegistry.timer(MetricsUtils.BUILD_QUEUE_WAIT,
+            "priority", next.priority.toString().toLowerCase()));
+        buildExecutor.execute(() -> run(next));
+    }
+
+    private void run(QueuedBuild queuedBuild) {
+        try {
+            queuedBuild.future.complete(queuedBuild.build.get());
+        } catch (Throwable t) {
+            queuedBuild.future.completeExceptionally(t);
+        } finally {
+            synchronized (lock) {
+                runningBuilds--;
+                runningBuildsPerApplication.computeIfPresent(queuedBuild.applicationKey, (key, count) -> count > 1 ? count - 1 : null);
+                if (!runningBuildsPerApplication.containsKey(queuedBuild.applicationKey)
+                    && queue.stream().noneMatch(build -> build.applicationKey.equals(queuedBuild.applicationKey))) {
+                    lastDispatchOfApplication.remove(queuedBuild.applicationKey);
+                }
+                invalidateQueueOrder();
+            }
+            dispatch();
+        }
+    }
+
+    private void scheduleAdmissionRetry() {
+        if (!admissionRetryScheduled) {
+            admissionRetryScheduled = true;
+            admissionRetryExecutor.schedule(() -> {
+                synchronized (lock) {
+                    admissionRetryScheduled = false;
+                }
+                dispatch();
+            }, buildBotConfig.getBuildAdmissionRetryInterval(), TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Discards the cached queue order. Must be called while holding the lock
+     * whenever the queue or the running builds change.
+     */
+    private void invalidateQueueOrder() {
+        queueOrder = null;
+        queuePositions = null;
+    }
+
+    /**
+     * Returns the queued builds in the order in which they will be started.
+     * The order is only computed again if the queue or the running builds changed.
+     * Must be called while holding the lock.
+     *
+     * @return the ordered list of {@link QueuedBuild QueuedBuilds}
+     */
+    private List<QueuedBuild> getQueueOrder() {
+        if (queueOrder == null) {
+            queueOrder = computeQueueOrder();
+            queuePositions = new HashMap<>();
+            for (int i = 0; i < queueOrder.size(); i++) {
+                queuePositions.putIfAbsent(queueOrder.get(i).jobId, i + 1);
+            }
+        }
+        return queueOrder;
+    }
+
+    private List<QueuedBuild> computeQueueOrder() {
+        // Builds per application that are running or are started before the next build in the order
+        Map<String, Integer> buildsPerApplication = new HashMap<>(runningBuildsPerApplication);
+        Map<String, Long> lastDispatch = new HashMap<>(lastDispatchOfApplication);
+        long simulatedDispatchCounter = dispatchCounter;
+        List<QueuedBuild> order = new ArrayList<>(queue.size());
+        for (Priority priority : Priority.values()) {
+            // The queue is ordered by sequence, so the builds of each application are as well
+            Map<String, Deque<QueuedBuild>> buildsOfApplications = new LinkedHashMap<>();
+            for (QueuedBuild queuedBuild : queue) {
+                if (queuedBuild.priority == priority) {
+                    buildsOfApplications.computeIfAbsent(queuedBuild.applicationKey, key -> new ArrayDeque<>()).add(queuedBuild);
+                }
+            }
+            while (!buildsOfApplications.isEmpty()) {
+                Map.Entry<String, Deque<QueuedBuild>> fairest = Collections.min(buildsOfApplications.entrySet(),
+                    Comparator.<Map.Entry<String, Deque<QueuedBuild>>>comparingInt(entry -> buildsPerApplication.getOrDefault(entry.getKey(), 0))
+                        .thenComparingLong(entry -> lastDispatch.getOrDefault(entry.getKey(), -1L))
+                        .thenComparingLong(entry -> entry.getValue().peek().sequence));
+                order.add(fairest.getValue().poll());
+                buildsPerApplication.merge(fairest.getKey(), 1, Integer::sum);
+                lastDispatch.put(fairest.getKey(), ++simulatedDispatchCounter);
+                if (fairest.getValue().isEmpty()) {
+                    buildsOfApplications.remove(fairest.getKey());
+                }
+            }
+        }
+        return order;
+    }
+
+    private int getMaxConcurrentBuilds() {
+        return Math.max(1, buildBotConfig.getMaxConcurrentBuilds());
+    }
+
+    @AllArgsConstructor
+    private static class QueuedBuild {
+        private final String jobId;
+        private final MicoService micoService;
+        private final String applicationKey;
+        private final Priority priority;
+        private final Supplier<String> build;
+        private final CompletableFuture<String> future;
+        private final long sequence;
+        private final Timer.Sample queueSample;
+    }
+}
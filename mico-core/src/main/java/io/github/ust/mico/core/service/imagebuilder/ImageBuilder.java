@@ -19,13 +19,20 @@
 
 package io.github.ust.mico.core.service.imagebuilder;
 
+import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceQuota;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.apiextensions.CustomResourceDefinition;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -33,9 +40,14 @@
 import io.github.ust.mico.core.exception.ImageBuildException;
 import io.github.ust.mico.core.exception.NotInitializedException;
 import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.service.MicoKubernetesClient;
 import io.github.ust.mico.core.service.imagebuilder.buildtypes.*;
 import io.github.ust.mico.core.util.CollectionUtils;
 import io.github.ust.mico.core.util.KubernetesNameNormalizer;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.github.ust.mico.core.util.QuantityUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,9 +58,11 @@
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import java.util.List;
-import java.util.Optional;
+import java.math.BigDecimal;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -59,12 +73,28 @@
 public class ImageBuilder {
 
     private static final String BUILD_STEP_NAME = "build-and-push";
+    /**
+     * Knative Build runs each build step as an init container with this prefix.
+     */
+    private static final String BUILD_STEP_CONTAINER_PREFIX = "build-step-";
+    /**
+     * Kaniko writes the digest of the pushed image to the termination message of the build step.
+     */
+    private static final String DIGEST_FILE = "/dev/termination-log";
+    private static final Pattern IMAGE_DIGEST_PATTERN = Pattern.compile("^sha256:[a-f0-9]{64}$");
     public static final String BUILD_CRD_GROUP = "build.knative.dev";
+    public static final String BUILD_NAME_LABEL = BUILD_CRD_GROUP + "/buildName";
     private static final String BUILD_CRD_NAME = "builds." + BUILD_CRD_GROUP;
+    /**
+     * The maximum number of build names that are combined into one label selector
+     * when build resources are deleted in a batch (keeps the request URL short).
+     */
+    private static final int DELETION_BATCH_SIZE = 50;
 
     private final MicoKubernetesBuildBotConfig buildBotConfig;
     private final KubernetesClient kubernetesClient;
     private final KubernetesNameNormalizer kubernetesNameNormalizer;
+    private final MeterRegistry meterRegistry;
 
     private NonNamespaceOperation<Build, BuildList, DoneableBuild, Resource<Build, DoneableBuild>> buildClient;
     private ScheduledExecutorService scheduledBuildStatusCheckService;
@@ -79,12 +109,15 @@ public class ImageBuilder {
      * @param kubernetesClient         the {@link KubernetesClient}
      * @param buildBotConfig           the build bot configuration for the image builder
      * @param kubernetesNameNormalizer the {@link KubernetesNameNormalizer}
+     * @param meterRegistry            the {@link MeterRegistry} to record the build phases
      */
     @Autowired
-    public ImageBuilder(KubernetesClient kubernetesClient, MicoKubernetesBuildBotConfig buildBotConfig, KubernetesNameNormalizer kubernetesNameNormalizer) {
+    public ImageBuilder(KubernetesClient kubernetesClient, MicoKubernetesBuildBotConfig buildBotConfig,
+                        KubernetesNameNormalizer kubernetesNameNormalizer, MeterRegistry meterRegistry) {
         this.kubernetesClient = kubernetesClient;
         this.buildBotConfig = buildBotConfig;
         this.kubernetesNameNormalizer = kubernetesNameNormalizer;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -132,7 +165,8 @@ public void init() throws NotInitializedException {
             log.error("Custom Resource Definition `{}` is not available!", BUILD_CRD_NAME);
             throw new NotInitializedException("Build CRD not available!");
         }
-        ServiceAccount buildServiceAccount = kubernetesClient.serviceAccounts().inNamespace(namespace).withName(serviceAccountName).get();
+        ServiceAccount buildServiceAccount = recordRequest("get", "serviceaccounts",
+            () -> kubernetesClient.serviceAccounts().inNamespace(namespace).withName(serviceAccountName).get());
         if (buildServiceAccount == null) {
             log.error("Service account `{}` in namespace '{}' is not available!", serviceAccountName, namespace);
             throw new NotInitializedException("Service account not available!");
@@ -207,12 +241,33 @@ public CompletableFuture<String> build(MicoService micoService) throws NotInitia
         String gitUrl = micoService.getGitCloneUrl();
         String gitRevision = micoService.getVersion();
 
-        Build build = createBuild(buildName, destination, dockerfilePath, gitUrl, gitRevision, namespace);
-        return waitUntilBuildIsFinished(build.getMetadata().getName(), micoService);
+        Timer.Sample createSample = Timer.start(meterRegistry);
+        Build build;
+        try {
+            build = createBuild(buildName, micoService, destination, dockerfilePath, gitUrl, gitRevision, namespace);
+        } catch (NotInitializedException | RuntimeException e) {
+            createSample.stop(buildPhaseTimer("create", "failure"));
+            throw e;
+        }
+        createSample.stop(buildPhaseTimer("create", "success"));
+
+        Timer.Sample executionSample = Timer.start(meterRegistry);
+        try {
+            CompletableFuture<String> completionFuture = waitUntilBuildIsFinished(build.getMetadata().getName(), micoService);
+            executionSample.stop(buildPhaseTimer("execution", "success"));
+            return completionFuture;
+        } catch (TimeoutException e) {
+            executionSample.stop(buildPhaseTimer("execution", "timeout"));
+            throw e;
+        } catch (InterruptedException | ExecutionException | RuntimeException e) {
+            executionSample.stop(buildPhaseTimer("execution", "failure"));
+            throw e;
+        }
     }
 
     /**
      * @param buildName   the name of the build
+     * @param micoService the {@link MicoService} for which the image is build (used for the labels of the build)
      * @param destination the url of the image destination
      * @param dockerfile  the relative path to the Dockerfile
      * @param gitUrl      the URL to the remote git repository
@@ -221,7 +276,7 @@ public CompletableFuture<String> build(MicoService micoService) throws NotInitia
      * @return the resulting build
      * @throws NotInitializedException if the image builder was not initialized
      */
-    private Build createBuild(String buildName, String destination, String dockerfile, String gitUrl, String gitRevision, String namespace) throws NotInitializedException {
+    private Build createBuild(String buildName, MicoService micoService, String destination, String dockerfile, String gitUrl, String gitRevision, String namespace) throws NotInitializedException {
         if (!isInitialized) {
             throw new NotInitializedException("ImageBuilder is not initialized.");
         }
@@ -236,24 +291,146 @@ private Build createBuild(String buildName, String destination, String dockerfil
                 .setSteps(CollectionUtils.listOf(new BuildStep()
                     .setName(BUILD_STEP_NAME)
                     .setImage(buildBotConfig.getKanikoExecutorImageUrl())
-                    .setArgs(CollectionUtils.listOf(
-                        "--dockerfile=" + dockerfile,
-                        "--destination=" + destination)
-                    )))
+                    .setArgs(createKanikoArguments(micoService, dockerfile, destination))
+                    .setResources(createBuildStepResources(micoService))))
                 .setTimeout(buildBotConfig.getBuildTimeout() + "s"));
 
         ObjectMeta metadata = new ObjectMeta();
         metadata.setName(buildName);
         metadata.setNamespace(namespace);
+        // The labels are required to be able to garbage collect the build resources of a MicoService
+        metadata.setLabels(CollectionUtils.mapOf(
+            BUILD_NAME_LABEL, buildName,
+            MicoKubernetesClient.LABEL_NAME_KEY, micoService.getShortName(),
+            MicoKubernetesClient.LABEL_VERSION_KEY, micoService.getVersion()));
         build.setMetadata(metadata);
 
-        Build createdBuild = buildClient.createOrReplace(build);
+        Build createdBuild = recordRequest("createOrReplace", "builds", () -> buildClient.createOrReplace(build));
         log.info("Started build with name '{}'", buildName);
         log.debug("Build resource: {} ", createdBuild);
 
         return createdBuild;
     }
 
+    /**
+     * Creates the arguments of the Kaniko executor.
+     * The build tuning options of the {@code MicoService} take precedence over the defaults of the build bot.
+     *
+     * @param micoService the {@link MicoService} for which the image is build
+     * @param dockerfile  the relative path to the Dockerfile
+     * @param destination the url of the image destination
+     * @return the list of arguments
+     */
+    private List<String> createKanikoArguments(MicoService micoService, String dockerfile, String destination) {
+        List<String> args = new ArrayList<>();
+        args.add("--dockerfile=" + dockerfile);
+        args.add("--destination=" + destination);
+        args.add("--digest-file=" + DIGEST_FILE);
+
+        boolean cacheEnabled = micoService.getBuildCacheEnabled() != null
+            ? micoService.getBuildCacheEnabled() : buildBotConfig.isBuildCacheEnabled();
+        if (cacheEnabled && StringUtils.isEmpty(buildBotConfig.getBuildCacheRepository())) {
+            log.warn("Build cache of MicoService '{}' '{}' is enabled, but no cache repository is configured. Build without cache.",
+                micoService.getShortName(), micoService.getVersion());
+        } else if (cacheEnabled) {
+            args.add("--cache=true");
+            args.add("--cache-repo=" + buildBotConfig.getBuildCacheRepository());
+            args.add("--cache-ttl=" + buildBotConfig.getBuildCacheTtlHours() + "h");
+        }
+        String snapshotMode = !StringUtils.isEmpty(micoService.getBuildSnapshotMode())
+            ? micoService.getBuildSnapshotMode() : buildBotConfig.getBuildSnapshotMode();
+        if (!StringUtils.isEmpty(snapshotMode)) {
+            args.add("--snapshotMode=" + snapshotMode);
+        }
+        return args;
+    }
+
+    /**
+     * Creates the resource requests of the build step.
+     * The build tuning options of the {@code MicoService} take precedence over the defaults of the build bot.
+     *
+     * @param micoService the {@link MicoService} for which the image is build
+     * @return the {@link ResourceRequirements} or {@code null} if no resources are requested
+     */
+    private ResourceRequirements createBuildStepResources(MicoService micoService) {
+        String cpuRequest = !StringUtils.isEmpty(micoService.getBuildCpuRequest())
+            ? micoService.getBuildCpuRequest() : buildBotConfig.getBuildCpuRequest();
+        String memoryRequest = !StringUtils.isEmpty(micoService.getBuildMemoryRequest())
+            ? micoService.getBuildMemoryRequest() : buildBotConfig.getBuildMemoryRequest();
+        Map<String, Quantity> requests = new HashMap<>();
+        if (!StringUtils.isEmpty(cpuRequest)) {
+            requests.put("cpu", new Quantity(cpuRequest));
+        }
+        if (!StringUtils.isEmpty(memoryRequest)) {
+            requests.put("memory", new Quantity(memoryRequest));
+        }
+        if (requests.isEmpty()) {
+            return null;
+        }
+        return new ResourceRequirementsBuilder().withRequests(requests).build();
+    }
+
+    /**
+     * Checks whether the resource quotas of the build namespace have no capacity left
+     * for the build pod of the given {@code MicoService}.
+     * The pods, the CPU requests and the memory requests of the quotas are considered.
+     * If the image builder is not initialized or the quotas can't be retrieved,
+     * the capacity is considered to be available.
+     *
+     * @param micoService the {@link MicoService} that should be built
+     * @return {@code true} if a quota would be exceeded by the build
+     */
+    public boolean isBuildCapacityExhausted(MicoService micoService) {
+        if (!isInitialized) {
+            return false;
+        }
+        String namespace = buildBotConfig.getNamespaceBuildExecution();
+        List<ResourceQuota> resourceQuotas;
+        try {
+            resourceQuotas = recordRequest("list", "resourcequotas",
+                () -> kubernetesClient.resourceQuotas().inNamespace(namespace).list().getItems());
+        } catch (KubernetesClientException e) {
+            log.warn("Failed to retrieve the resource quotas of namespace '{}': {}", namespace, e.getMessage());
+            return false;
+        }
+
+        ResourceRequirements resources = createBuildStepResources(micoService);
+        Map<String, Quantity> requests = resources != null ? resources.getRequests() : Collections.emptyMap();
+        Map<String, BigDecimal> demand = new HashMap<>();
+        demand.put("pods", BigDecimal.ONE);
+        demand.put("count/pods", BigDecimal.ONE);
+        if (requests.containsKey("cpu")) {
+            demand.put("cpu", QuantityUtils.toNumber(requests.get("cpu")));
+            demand.put("requests.cpu", QuantityUtils.toNumber(requests.get("cpu")));
+        }
+        if (requests.containsKey("memory")) {
+            demand.put("memory", QuantityUtils.toNumber(requests.get("memory")));
+            demand.put("requests.memory", QuantityUtils.toNumber(requests.get("memory")));
+        }
+
+        for (ResourceQuota resourceQuota : resourceQuotas) {
+            if (resourceQuota.getStatus() == null || resourceQuota.getStatus().getHard() == null) {
+                continue;
+            }
+            Map<String, Quantity> hard = resourceQuota.getStatus().getHard();
+            Map<String, Quantity> used = resourceQuota.getStatus().getUsed() != null
+                ? resourceQuota.getStatus().getUsed() : Collections.emptyMap();
+            for (Map.Entry<String, BigDecimal> entry : demand.entrySet()) {
+                String resource = entry.getKey();
+                if (!hard.containsKey(resource)) {
+                    continue;
+                }
+                BigDecimal usedAmount = used.containsKey(resource) ? QuantityUtils.toNumber(used.get(resource)) : BigDecimal.ZERO;
+                if (usedAmount.add(entry.getValue()).compareTo(QuantityUtils.toNumber(hard.get(resource))) > 0) {
+                    log.debug("Resource quota '{}' has no capacity left for '{}' of the build of MicoService '{}' '{}'.",
+                        resourceQuota.getMetadata().getName(), resource, micoService.getShortName(), micoService.getVersion());
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private CompletableFuture<String> waitUntilBuildIsFinished(String buildName, MicoService micoService) throws InterruptedException, ExecutionException, TimeoutException {
         CompletableFuture<String> completionFuture = new CompletableFuture<>();
 
@@ -262,10 +439,17 @@ private CompletableFuture<String> waitUntilBuildIsFinished(String buildName, Mic
             // Retrieve the build to get the current status of the build.
             Build build = getBuild(buildName);
             String message;
-            if (build.getStatus() != null && build.getStatus().getCluster() != null) {
+            if (build == null) {
+                // The build was deleted in the meantime, e.g. because the build job was cancelled
+                message = "Build resource for the build of MicoService '" + micoService.getShortName() + "' '"
+                    + micoService.getVersion() + "' does not exist anymore!";
+                log.warn(message);
+                completionFuture.completeExceptionally(new ImageBuildException(message));
+            } else if (build.getStatus() != null && build.getStatus().getCluster() != null) {
                 String buildPodName = build.getStatus().getCluster().getPodName();
                 String buildNamespace = build.getStatus().getCluster().getNamespace();
-                Pod buildPod = kubernetesClient.pods().inNamespace(buildNamespace).withName(buildPodName).get();
+                Pod buildPod = recordRequest("get", "pods",
+                    () -> kubernetesClient.pods().inNamespace(buildNamespace).withName(buildPodName).get());
                 if (buildPod != null) {
                     String currentBuildPhase = buildPod.getStatus().getPhase();
                     // Typically there are 3 steps: build-step-credential-initializer, build-step-git-source-0, build-step-build-and-push
@@ -279,6 +463,14 @@ private CompletableFuture<String> waitUntilBuildIsFinished(String buildName, Mic
                     // We wait until the phase is either 'Succeeded' or 'Failed'.
                     if (currentBuildPhase.equals("Succeeded")) {
                         String dockerImageUri = createImageName(micoService.getShortName(), micoService.getVersion());
+                        // Pin the image by its digest, so that the deployment doesn't depend on the mutable tag
+                        Optional<String> imageDigest = getImageDigest(buildPod);
+                        if (imageDigest.isPresent()) {
+                            dockerImageUri = dockerImageUri + "@" + imageDigest.get();
+                        } else {
+                            log.warn("Digest of the image of MicoService '{}' '{}' is unknown. Use the tag instead.",
+                                micoService.getShortName(), micoService.getVersion());
+                        }
                         completionFuture.complete(dockerImageUri);
                     } else if (currentBuildPhase.equals("Failed")) {
                         // Reason for termination is either 'Completed' or 'Error'
@@ -308,7 +500,18 @@ private CompletableFuture<String> waitUntilBuildIsFinished(String buildName, Mic
         try {
             // This is synchronous and blocks the execution.
             completionFuture.get(buildBotConfig.getBuildTimeout(), TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+        } catch (TimeoutException e) {
+            pollingFuture.cancel(true);
+            // Otherwise the build pod would keep running until Knative stops it
+            log.warn("Build of MicoService '{}' '{}' timed out after {} seconds. Delete its build resources.",
+                micoService.getShortName(), micoService.getVersion(), buildBotConfig.getBuildTimeout());
+            try {
+                deleteBuildResources(buildName, BuildResourceDeletionReason.TIMEOUT);
+            } catch (RuntimeException deletionException) {
+                log.warn("Failed to delete build resources of build '{}': {}", buildName, deletionException.getMessage());
+            }
+            throw e;
+        } catch (InterruptedException | ExecutionException e) {
             pollingFuture.cancel(true);
             throw e;
         }
@@ -319,6 +522,24 @@ private CompletableFuture<String> waitUntilBuildIsFinished(String buildName, Mic
         return completionFuture;
     }
 
+    /**
+     * Returns the digest of the pushed image that Kaniko has written
+     * to the termination message of the build step.
+     *
+     * @param buildPod the finished build pod
+     * @return the digest of the image (e.g. {@code sha256:...}) or an empty {@link Optional}
+     * if the digest is not available
+     */
+    private Optional<String> getImageDigest(Pod buildPod) {
+        return buildPod.getStatus().getInitContainerStatuses().stream()
+            .filter(containerStatus -> (BUILD_STEP_CONTAINER_PREFIX + BUILD_STEP_NAME).equals(containerStatus.getName()))
+            .map(containerStatus -> containerStatus.getState().getTerminated())
+            .filter(terminatedState -> terminatedState != null && terminatedState.getMessage() != null)
+            .map(terminatedState -> terminatedState.getMessage().trim())
+            .filter(digest -> IMAGE_DIGEST_PATTERN.matcher(digest).matches())
+            .findFirst();
+    }
+
     /**
      * Returns the build object
      *
@@ -326,7 +547,141 @@ private CompletableFuture<String> waitUntilBuildIsFinished(String buildName, Mic
      * @return the build object
      */
     private Build getBuild(String buildName) {
-        return this.buildClient.withName(buildName).get();
+        return recordRequest("get", "builds", () -> this.buildClient.withName(buildName).get());
+    }
+
+    /**
+     * Returns all builds in the build namespace, i.e. all builds that were created for a {@link MicoService}.
+     * Builds created by older versions of MICO do not have the MICO name label.
+     *
+     * @return the list of {@link Build Builds}
+     * @throws NotInitializedException if the image builder was not initialized
+     */
+    public List<Build> getBuildsOfMicoServices() throws NotInitializedException {
+        if (!isInitialized) {
+            throw new NotInitializedException("ImageBuilder is not initialized.");
+        }
+        return recordRequest("list", "builds", () -> buildClient.list().getItems());
+    }
+
+    /**
+     * Returns the build pod of the most recent build of a {@link MicoService}.
+     *
+     * @param micoService the {@link MicoService}
+     * @return the build pod or an empty {@link Optional} if there is none
+     * (e.g. it was already deleted by the build garbage collection)
+     */
+    public Optional<Pod> getBuildPod(MicoService micoService) {
+        String buildName = createBuildName(micoService);
+        List<Pod> buildPods = recordRequest("list", "pods", () -> kubernetesClient
+            .pods()
+            .inNamespace(buildBotConfig.getNamespaceBuildExecution())
+            .withLabel(BUILD_NAME_LABEL, buildName)
+            .list().getItems());
+        // Creation timestamps are RFC 3339 strings in UTC, so they can be compared lexicographically
+        return buildPods.stream()
+            .max(Comparator.comparing(pod -> Objects.toString(pod.getMetadata().getCreationTimestamp(), "")));
+    }
+
+    /**
+     * Returns the names of the containers of the build steps of a build pod in the order they are executed.
+     * Typically these are {@code build-step-credential-initializer}, {@code build-step-git-source-0}
+     * and {@code build-step-build-and-push}.
+     *
+     * @param buildPod the build pod
+     * @return the container names of the build steps
+     */
+    public List<String> getBuildStepContainerNames(Pod buildPod) {
+        return buildPod.getSpec().getInitContainers().stream()
+            .map(Container::getName)
+            .filter(name -> name.startsWith(BUILD_STEP_CONTAINER_PREFIX))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Waits until a build step of a build pod is started, so that its log can be followed.
+     * The build steps are executed one after the other, so a step is waiting until the previous steps are finished.
+     * The build pod is watched, so it is not polled. Waits at most the build timeout.
+     *
+     * @param buildPodName           the name of the build pod
+     * @param buildStepContainerName the name of the container of the build step
+     * @return {@code true} if the build step is started, {@code false} if it will not be started
+     * (e.g. because a previous step has failed or the build pod was deleted)
+     */
+    public boolean waitUntilBuildStepIsStarted(String buildPodName, String buildStepContainerName) {
+        CompletableFuture<Boolean> buildStepStarted = new CompletableFuture<>();
+        Watch watch;
+        try {
+            watch = kubernetesClient.pods().inNamespace(buildBotConfig.getNamespaceBuildExecution()).withName(buildPodName)
+                .watch(new Watcher<Pod>() {
+                    @Override
+                    public void eventReceived(Action action, Pod buildPod) {
+                        if (action == Action.DELETED) {
+                            buildStepStarted.complete(false);
+                        } else {
+                            isBuildStepStarted(buildPod, buildStepContainerName).ifPresent(buildStepStarted::complete);
+                        }
+                    }
+
+                    @Override
+                    public void onClose(KubernetesClientException cause) {
+                        if (cause != null) {
+                            log.warn("Watch of build pod '{}' was closed: {}", buildPodName, cause.getMessage());
+                            buildStepStarted.complete(false);
+                        }
+                    }
+                });
+        } catch (KubernetesClientException e) {
+            log.warn("Build pod '{}' cannot be watched: {}", buildPodName, e.getMessage());
+            return false;
+        }
+
+        try {
+            // The build step may already be started before the watch was established
+            Pod buildPod = recordRequest("get", "pods", () -> kubernetesClient
+                .pods()
+                .inNamespace(buildBotConfig.getNamespaceBuildExecution())
+                .withName(buildPodName)
+                .get());
+            if (buildPod == null) {
+                return false;
+            }
+            isBuildStepStarted(buildPod, buildStepContainerName).ifPresent(buildStepStarted::complete);
+            return buildStepStarted.get(buildBotConfig.getBuildTimeout(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } finally {
+            watch.close();
+        }
+    }
+
+    /**
+     * Determines whether a build step of a build pod is started.
+     *
+     * @param buildPod               the build pod
+     * @param buildStepContainerName the name of the container of the build step
+     * @return {@code true} if the build step is started, {@code false} if it will not be started anymore
+     * and an empty {@code Optional} if the build step is still waiting
+     */
+    private Optional<Boolean> isBuildStepStarted(Pod buildPod, String buildStepContainerName) {
+        if (buildPod.getStatus() == null) {
+            return Optional.empty();
+        }
+        Optional<ContainerStatus> buildStepStatus = buildPod.getStatus().getInitContainerStatuses().stream()
+            .filter(containerStatus -> buildStepContainerName.equals(containerStatus.getName()))
+            .findFirst();
+        if (buildStepStatus.isPresent() && buildStepStatus.get().getState() != null
+            && buildStepStatus.get().getState().getWaiting() == null) {
+            return Optional.of(true);
+        }
+        String phase = buildPod.getStatus().getPhase();
+        if ("Succeeded".equals(phase) || "Failed".equals(phase)) {
+            return Optional.of(false);
+        }
+        return Optional.empty();
     }
 
     /**
@@ -335,7 +690,8 @@ private Build getBuild(String buildName) {
      * @return the list of custom resource definitions
      */
     private List<CustomResourceDefinition> getCustomResourceDefinitions() {
-        return kubernetesClient.customResourceDefinitions().list().getItems();
+        return recordRequest("list", "customresourcedefinitions",
+            () -> kubernetesClient.customResourceDefinitions().list().getItems());
     }
 
     /**
@@ -388,7 +744,7 @@ public String createBuildName(MicoService service) {
      * @param buildName the name of the build.
      */
     public void deleteBuild(String buildName) {
-        buildClient.withName(buildName).delete();
+        recordRequest("delete", "builds", () -> buildClient.withName(buildName).delete());
     }
 
     /**
@@ -397,7 +753,7 @@ public void deleteBuild(String buildName) {
      * @param build the {@link Build}.
      */
     public void deleteBuild(Build build) {
-        buildClient.delete(build);
+        recordRequest("delete", "builds", () -> buildClient.delete(build));
     }
 
     /**
@@ -408,4 +764,111 @@ public void deleteBuild(Build build) {
     public void deleteBuild(MicoService service) {
         deleteBuild(kubernetesNameNormalizer.createBuildName(service));
     }
+
+    /**
+     * Deletes the {@link Build} for a given service together with its build pods.
+     * In contrast to {@link #deleteBuild(MicoService)} a running build is stopped immediately,
+     * because the pods are not left to the garbage collection of Kubernetes.
+     *
+     * @param service the {@link MicoService}.
+     * @param reason  the {@link BuildResourceDeletionReason} (recorded as metric).
+     */
+    public void deleteBuildResources(MicoService service, BuildResourceDeletionReason reason) {
+        deleteBuildResources(createBuildName(service), reason);
+    }
+
+    /**
+     * Deletes the {@link Build} with the given name together with its build pods.
+     * In contrast to {@link #deleteBuildResources(List, BuildResourceDeletionReason)}
+     * the build does not need to have the build name label.
+     *
+     * @param buildName the name of the build.
+     * @param reason    the {@link BuildResourceDeletionReason} (recorded as metric).
+     */
+    public void deleteBuildResources(String buildName, BuildResourceDeletionReason reason) {
+        log.debug("Delete build resources of build '{}' (reason: {}).", buildName, reason);
+        deleteBuild(buildName);
+        recordRequest("delete", "pods", () -> kubernetesClient
+            .pods()
+            .inNamespace(buildBotConfig.getNamespaceBuildExecution())
+            .withLabel(BUILD_NAME_LABEL, buildName)
+            .delete());
+        meterRegistry.counter(MetricsUtils.BUILD_RESOURCE_DELETIONS, "reason", reason.toString().toLowerCase()).increment();
+    }
+
+    /**
+     * Deletes the {@link Build Builds} with the given names together with their build pods.
+     * The deletions are batched by label selector, so only a few requests are required
+     * regardless of the number of builds.
+     *
+     * @param buildNames the names of the builds. The builds must have the build name label.
+     * @param reason     the {@link BuildResourceDeletionReason} (recorded as metric).
+     * @return the number of deleted build pods
+     */
+    public int deleteBuildResources(List<String> buildNames, BuildResourceDeletionReason reason) {
+        String namespace = buildBotConfig.getNamespaceBuildExecution();
+        int deletedPods = 0;
+        for (int i = 0; i < buildNames.size(); i += DELETION_BATCH_SIZE) {
+            String[] batch = buildNames.subList(i, Math.min(i + DELETION_BATCH_SIZE, buildNames.size())).toArray(new String[0]);
+            log.debug("Delete build resources of builds {} (reason: {}).", batch, reason);
+            recordRequest("deletecollection", "builds", () -> buildClient.withLabelIn(BUILD_NAME_LABEL, batch).delete());
+            List<Pod> pods = recordRequest("list", "pods", () -> kubernetesClient
+                .pods()
+                .inNamespace(namespace)
+                .withLabelIn(BUILD_NAME_LABEL, batch)
+                .list().getItems());
+            if (!pods.isEmpty()) {
+                recordRequest("deletecollection", "pods", () -> kubernetesClient
+                    .pods()
+                    .inNamespace(namespace)
+                    .withLabelIn(BUILD_NAME_LABEL, batch)
+                    .delete());
+                deletedPods += pods.size();
+            }
+        }
+        meterRegistry.counter(MetricsUtils.BUILD_RESOURCE_DELETIONS, "reason", reason.toString().toLowerCase()).increment(buildNames.size());
+        return deletedPods;
+    }
+
+    /**
+     * Executes a request to the Kubernetes API and records its duration.
+     *
+     * @param verb     the verb of the request, e.g. {@code get} or {@code list}
+     * @param resource the Kubernetes resource type, e.g. {@code builds}
+     * @param request  the request to execute
+     * @param <T>      the type of the result of the request
+     * @return the result of the request
+     */
+    private <T> T recordRequest(String verb, String resource, Supplier<T> request) {
+        return MetricsUtils.recordKubernetesRequest(meterRegistry, verb, resource, request);
+    }
+
+    /**
+     * Returns the timer for a phase of a build.
+     *
+     * @param phase   the phase of the build ({@code create} or {@code execution})
+     * @param outcome the outcome of the phase ({@code success}, {@code failure} or {@code timeout})
+     * @return the {@link Timer}
+     */
+    private Timer buildPhaseTimer(String phase, String outcome) {
+        return meterRegistry.timer(MetricsUtils.BUILD_PHASES, "phase", phase, "outcome", outcome);
+    }
+
+    /**
+     * The reasons for deleting the resources of a build.
+     */
+    public enum BuildResourceDeletionReason {
+        /**
+         * The build did not finish within the configured build timeout.
+         */
+        TIMEOUT,
+        /**
+         * The build job was cancelled.
+         */
+        CANCELLATION,
+        /**
+         * The build was finished and is not retained anymore by the build garbage collection.
+         */
+        GARBAGE_COLLECTION
+    }
 }
@@ -45,8 +45,18 @@ public class BuildStatus {
      */
     private ClusterSpec cluster;
     // private GoogleSpec google;
-    // private Time startTime;
-    // private Time completionTime;
+
+    /**
+     * Optional. StartTime is the time the build is actually started (RFC 3339).
+     */
+    private String startTime;
+
+    /**
+     * Optional. CompletionTime is the time the build completed (RFC 3339).
+     * It is only set, if the build is finished (either successful or failed).
+     */
+    private String completionTime;
+
     // private List<ContainerState> stepStatus = new ArrayList<>();
 
     /**
@@ -58,10 +68,6 @@ public class BuildStatus {
 
     // private GoogleSpec google;
 
-    // private Time startTime;
-
-    // private Time completionTime;
-
     // private StepStates stepStates;
 
     // private Conditions conditions;
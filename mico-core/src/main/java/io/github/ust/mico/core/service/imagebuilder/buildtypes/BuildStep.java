@@ -22,6 +22,7 @@
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -98,7 +99,12 @@ public class BuildStep {
      */
     private List<EnvVar> env = new ArrayList<>();
 
-    // private ResourceRequirements resources;
+    /**
+     * Optional. Compute Resources required by this container.
+     * Cannot be updated.
+     * More info: https://kubernetes.io/docs/concepts/configuration/manage-compute-resources-container/
+     */
+    private ResourceRequirements resources;
 
     // private List<VolumeMount> volumeMounts;
 
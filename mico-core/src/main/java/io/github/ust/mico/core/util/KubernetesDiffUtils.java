@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import lombok.experimental.UtilityClass;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the desired state of a Kubernetes resource generated by MICO with the live object of the cluster.
+ * <p>
+ * Only the fields that are set in the desired object are compared, so fields that are populated by the server
+ * (e.g. the status, the resource version or default values) do not result in a difference.
+ * The objects listed in {@link #EXACT_PATHS} are compared completely, so removed labels are detected as well.
+ * The optional blocks listed in {@link #OPTIONAL_PATHS} are removed from the live object if they are not desired anymore.
+ * Quantities of resource requirements are compared by their value (e.g. {@code 1000m} equals {@code 1}).
+ */
+@UtilityClass
+public class KubernetesDiffUtils {
+
+    /**
+     * The paths of objects whose entries are completely owned by MICO.
+     * Entries of the live object that are not part of the desired object are removed.
+     * Array indices are replaced by {@code *}.
+     */
+    private static final Set<String> EXACT_PATHS = new HashSet<>(CollectionUtils.listOf(
+        "/metadata/labels",
+        "/spec/selector",
+        "/spec/selector/matchLabels",
+        "/spec/template/metadata/labels",
+        "/spec/template/spec/containers/*/resources",
+        "/spec/template/spec/containers/*/resources/limits",
+        "/spec/template/spec/containers/*/resources/requests"));
+
+    /**
+     * The paths of optional blocks that are completely owned by MICO, e.g. the resource requirements or the affinity.
+     * If such a block is not part of the desired object, it is removed from the live object.
+     * Array indices are replaced by {@code *}.
+     */
+    private static final Set<String> OPTIONAL_PATHS = new HashSet<>(CollectionUtils.listOf(
+        "/spec/template/spec/affinity",
+        "/spec/template/spec/containers/*/env",
+        "/spec/template/spec/containers/*/ports",
+        "/spec/template/spec/containers/*/resources"));
+
+    /**
+     * All objects in the affinity are owned by MICO, so removed terms are detected at any depth.
+     */
+    private static final String AFFINITY_PATH = "/spec/template/spec/affinity";
+
+    private static final Pattern ARRAY_INDEX_PATTERN = Pattern.compile("/\\d+(?=/|$)");
+
+    private static final String RESOURCES_FIELD = "resources";
+
+    /**
+     * Indicates whether the live object already has the desired state.
+     *
+     * @param desired the desired Kubernetes resource
+     * @param live    the live Kubernetes resource
+     * @return {@code true} if there are no differences that require an update
+     */
+    public static boolean isUpToDate(HasMetadata desired, HasMetadata live) {
+        ObjectMapper mapper = Serialization.jsonMapper();
+        return matches(mapper.valueToTree(desired), mapper.valueToTree(live), "");
+    }
+
+    /**
+     * Applies the desired state to a copy of the live object. The server populated fields of the live object are kept,
+     * so a patch that is computed between the live object and the result only contains the changed fields.
+     *
+     * @param desired the desired Kubernetes resource
+     * @param live    the live Kubernetes resource
+     * @param <T>     the type of the Kubernetes resource
+     * @return the live Kubernetes resource with the desired state
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends HasMetadata> T applyDesiredState(T desired, T live) {
+        ObjectMapper mapper = Serialization.jsonMapper();
+        JsonNode merged = apply(mapper.valueToTree(desired), mapper.valueToTree(live), "");
+        return (T) mapper.convertValue(merged, live.getClass());
+    }
+
+    private static boolean matches(JsonNode desired, JsonNode live, String path) {
+        if (desired == null || desired.isNull()) {
+            // Not specified, the server may populate it
+            return true;
+        }
+        if (live == null || live.isNull() || live.isMissingNode()) {
+            // Empty collections are omitted by the server
+            return desired.isContainerNode() && desired.size() == 0;
+        }
+        if (desired.isObject()) {
+            if (!live.isObject()) {
+                return false;
+            }
+            Iterator<Map.Entry<String, JsonNode>> liveFields = live.fields();
+            while (liveFields.hasNext()) {
+                Map.Entry<String, JsonNode> liveField = liveFields.next();
+                if (isRemovedField(desired, liveField.getKey(), path) && !isEmpty(liveField.getValue())) {
+                    return false;
+                }
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = desired.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!matches(field.getValue(), live.get(field.getKey()), path + "/" + field.getKey())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (desired.isArray()) {
+            if (!live.isArray() || desired.size() != live.size()) {
+                return false;
+            }
+            for (int i = 0; i < desired.size(); i++) {
+                if (!matches(desired.get(i), live.get(i), path + "/" + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return matchesValue(desired, live, path);
+    }
+
+    private static boolean matchesValue(JsonNode desired, JsonNode live, String path) {
+        if (desired.equals(live) || desired.asText().equals(live.asText())) {
+            return true;
+        }
+        if (path.contains("/" + RESOURCES_FIELD + "/")) {
+            // The server may return quantities in their canonical form
+            try {
+                return QuantityUtils.toNumber(desired.asText()).compareTo(QuantityUtils.toNumber(live.asText())) == 0;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static JsonNode apply(JsonNode desired, JsonNode live, String path) {
+        if (desired == null || desired.isNull()) {
+            return live;
+        }
+        if (live == null || live.isNull()) {
+            return desired;
+        }
+        if (desired.isObject() && live.isObject()) {
+            ObjectNode merged = ((ObjectNode) live).deepCopy();
+            Iterator<String> liveFieldNames = live.fieldNames();
+            while (liveFieldNames.hasNext()) {
+                String liveFieldName = liveFieldNames.next();
+                if (isRemovedField(desired, liveFieldName, path)) {
+                    merged.remove(liveFieldName);
+                }
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = desired.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!field.getValue().isNull()) {
+                    merged.set(field.getKey(), apply(field.getValue(), live.get(field.getKey()), path + "/" + field.getKey()));
+                }
+            }
+            return merged;
+        }
+        if (desired.isArray() && live.isArray() && desired.size() == live.size()) {
+            // Merge the elements by their position to keep the server populated fields of each element
+            ArrayNode merged = ((ArrayNode) live).arrayNode();
+            for (int i = 0; i < desired.size(); i++) {
+                merged.add(apply(desired.get(i), live.get(i), path + "/" + i));
+            }
+            return merged;
+        }
+        if (!desired.isContainerNode() && live.isValueNode() && matchesValue(desired, live, path)) {
+            // Keep the representation of the server, e.g. the canonical form of a quantity
+            return live;
+        }
+        return desired;
+    }
+
+    /**
+     * Indicates whether a field of the live object is owned by MICO, but not part of the desired object anymore.
+     *
+     * @param desired   the desired object
+     * @param fieldName the name of the field of the live object
+     * @param path      the path of the object
+     * @return {@code true} if the field must be removed from the live object
+     */
+    private static boolean isRemovedField(JsonNode desired, String fieldName, String path) {
+        JsonNode desiredValue = desired.get(fieldName);
+        if (desiredValue != null && !desiredValue.isNull()) {
+            return false;
+        }
+        String objectPath = normalizePath(path);
+        return EXACT_PATHS.contains(objectPath)
+            || objectPath.startsWith(AFFINITY_PATH)
+            || OPTIONAL_PATHS.contains(objectPath + "/" + fieldName);
+    }
+
+    /**
+     * Indicates whether a node is not set, i.e. it is missing, {@code null} or it only contains empty nodes.
+     * The server omits such nodes, e.g. an empty list of environment variables.
+     */
+    private static boolean isEmpty(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return true;
+        }
+        if (!node.isContainerNode()) {
+            return false;
+        }
+        for (JsonNode child : node) {
+            if (!isEmpty(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalizePath(String path) {
+        return ARRAY_INDEX_PATTERN.matcher(path).replaceAll("/*");
+    }
+}
@@ -19,8 +19,11 @@
 
 package io.github.ust.mico.core.util;
 
-import java.nio.charset.StandardCharsets;
 import java.text.Normalizer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 import io.github.ust.mico.core.model.MicoApplication;
 import io.github.ust.mico.core.model.MicoService;
@@ -35,13 +38,13 @@
 @Component
 public class KubernetesNameNormalizer {
 
-    private final static String REGEX_NOT_BASIC_LATIN_CHAR = "[\\P{InBasicLatin}]+";
-    private final static String REGEX_NOT_VALID_CHAR = "[^-a-z0-9]";
-    private final static String REGEX_WHITESPACE = "\\s+";
-    private final static String REGEX_CHARS_REPLACED_BY_A_DASH = "[._]+";
-    private final static String REGEX_MULTIPLE_DASHES = "[-]+";
-    private final static String REGEX_FIRST_OR_LAST_CHAR_IS_A_DASH = "^-|-$";
-    private final static String REGEX_MATCH_VALID_FIRST_CHAR = "^[a-z]+.*";
+    private final static Pattern KUBERNETES_NAMING_PATTERN = Pattern.compile(Patterns.KUBERNETES_NAMING_REGEX);
+    private final static String PREFIX_IF_FIRST_CHAR_IS_NOT_A_LETTER = "short-name-";
+
+    /**
+     * The maximum number of normalized names that are cached.
+     */
+    private final static int CACHE_MAX_SIZE = 1024;
 
     /**
      * A max limit of the MICO names ({@link MicoApplication}, {@link MicoService} and {@link MicoServiceInterface}) is
@@ -50,44 +53,96 @@ public class KubernetesNameNormalizer {
      */
     public final static int MICO_NAME_MAX_SIZE = 54;
 
+    /**
+     * Least recently used cache of the normalized names. The same names (e.g. of services and builds)
+     * are normalized over and over again, so repeated inputs are served from the cache.
+     */
+    private final Map<String, String> cache = Collections.synchronizedMap(
+        new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > CACHE_MAX_SIZE;
+            }
+        });
+
     /**
      * Normalizes a name so it is a valid Kubernetes resource name.
      *
      * @return the normalized name
      */
     public String normalizeName(String name) throws IllegalArgumentException {
-        String result;
-
-        // Unicode normalization
-        String s1 = Normalizer.normalize(name, Normalizer.Form.NFKD);
-        // Replacing all combined characters
-        String s2 = new String(s1.replaceAll(REGEX_NOT_BASIC_LATIN_CHAR, "").getBytes(StandardCharsets.US_ASCII), StandardCharsets.US_ASCII);
-        // Convert to lower case
-        String s3 = s2.toLowerCase();
-        // Replace '_' and '.' and with a dash
-        String s4 = s3.replaceAll(REGEX_CHARS_REPLACED_BY_A_DASH, "-");
-        // Replace whitespace characters to dashes
-        String s5 = s4.replaceAll(REGEX_WHITESPACE, "-");
-        // Remove all invalid characters
-        String s6 = s5.replaceAll(REGEX_NOT_VALID_CHAR, "");
-        // Replace multiple subsequent dashes with one dash
-        String s7 = s6.replaceAll(REGEX_MULTIPLE_DASHES, "-");
-        // Remove a dash if it is the first or last character
-        String s8 = s7.replaceAll(REGEX_FIRST_OR_LAST_CHAR_IS_A_DASH, "");
-        // Check if name begins with a valid character
-        if (s8.matches(REGEX_MATCH_VALID_FIRST_CHAR)) {
-            result = s8;
-        } else {
-            result = "short-name-" + s8;
+        String cachedResult = cache.get(name);
+        if (cachedResult != null) {
+            return cachedResult;
         }
 
-        if (!result.matches(Patterns.KUBERNETES_NAMING_REGEX) || result.length() > MICO_NAME_MAX_SIZE) {
+        String result = normalize(name);
+        if (!KUBERNETES_NAMING_PATTERN.matcher(result).matches() || result.length() > MICO_NAME_MAX_SIZE) {
             throw new IllegalArgumentException("Name '" + name + "' could not be normalized correctly");
         }
 
+        cache.put(name, result);
         return result;
     }
 
+    /**
+     * Normalizes a name in a single pass over its characters:
+     * <ul>
+     * <li>Unicode normalization (NFKD) and removal of all characters that are not basic latin
+     * (e.g. combining characters)</li>
+     * <li>Conversion to lower case</li>
+     * <li>'_', '.' and whitespace characters are replaced by a dash, all other invalid characters are removed</li>
+     * <li>Multiple subsequent dashes are replaced by one dash, a dash as first or last character is removed</li>
+     * <li>If the name does not begin with a letter, it is prefixed with {@code short-name-}</li>
+     * </ul>
+     *
+     * @param name the name to normalize
+     * @return the normalized name, which is not validated yet
+     */
+    private static String normalize(String name) {
+        String s = isBasicLatin(name) ? name : Normalizer.normalize(name, Normalizer.Form.NFKD);
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean pendingDash = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                // Dashes are only written in front of a valid character, that drops leading and trailing dashes
+                if (pendingDash && sb.length() > 0) {
+                    sb.append('-');
+                }
+                pendingDash = false;
+                sb.append(c);
+            } else if (c == '-' || c == '.' || c == '_' || isWhitespace(c)) {
+                pendingDash = true;
+            }
+            // All other characters are removed
+        }
+
+        if (sb.length() > 0 && sb.charAt(0) >= 'a' && sb.charAt(0) <= 'z') {
+            return sb.toString();
+        }
+        return sb.insert(0, PREFIX_IF_FIRST_CHAR_IS_NOT_A_LETTER).toString();
+    }
+
+    private static boolean isBasicLatin(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a character is a whitespace character as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Creates a build name based on the short name
      * and version of a service.
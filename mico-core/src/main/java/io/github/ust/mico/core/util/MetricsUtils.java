@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.UtilityClass;
+
+import java.util.function.Supplier;
+
+/**
+ * Provides the names of the MICO specific meters and some utility functions to record them.
+ * All meters are exposed by the Prometheus endpoint of the actuator ({@code /actuator/prometheus}).
+ */
+@UtilityClass
+public class MetricsUtils {
+
+    /**
+     * Timer for requests to the Kubernetes API.
+     * Tags: {@code verb} (e.g. {@code get}, {@code list}, {@code createOrReplace}),
+     * {@code resource} (e.g. {@code deployments}, {@code services}).
+     */
+    public static final String KUBERNETES_REQUESTS = "mico.kubernetes.requests";
+
+    /**
+     * Counter for the writes of Kubernetes resources that are generated by MICO (deployments and services).
+     * Tags: {@code resource} (e.g. {@code deployments}, {@code services}),
+     * {@code result} ({@code created}, {@code patched} or {@code skipped} if the resource is already up to date).
+     */
+    public static final String KUBERNETES_WRITES = "mico.kubernetes.writes";
+
+    /**
+     * Timer for queries executed by the Spring Data repositories.
+     * Tags: {@code repository}, {@code method}.
+     */
+    public static final String REPOSITORY_QUERIES = "mico.repository.queries";
+
+    /**
+     * Timer for the phases of an image build.
+     * Tags: {@code phase} ({@code create} or {@code execution}),
+     * {@code outcome} ({@code success}, {@code failure} or {@code timeout}).
+     */
+    public static final String BUILD_PHASES = "mico.builds.phases";
+
+    /**
+     * Gauge for the number of builds that wait in the queue of the build scheduler.
+     */
+    public static final String BUILD_QUEUE_SIZE = "mico.builds.queued";
+
+    /**
+     * Timer for the time a build waits in the queue of the build scheduler until it is started.
+     * Tags: {@code priority} ({@code high}, {@code normal} or {@code low}).
+     */
+    public static final String BUILD_QUEUE_WAIT = "mico.builds.queue.wait";
+
+    /**
+     * Counter for the deletions of the resources of a build (Build and build pods).
+     * Tags: {@code reason} ({@code timeout}, {@code cancellation} or {@code garbage_collection}).
+     */
+    public static final String BUILD_RESOURCE_DELETIONS = "mico.builds.resource.deletions";
+
+    /**
+     * Counter for the Kubernetes objects that are reclaimed by the build garbage collection.
+     * Tags: {@code resource} ({@code builds} or {@code pods}).
+     */
+    public static final String BUILD_GARBAGE_COLLECTED = "mico.builds.garbage.collected";
+
+    /**
+     * Timer for the time from the creation / update of the Kubernetes deployment of a MicoService
+     * until all of its replicas are ready (time-to-ready).
+     * Tags: {@code service} (the short name of the MicoService),
+     * {@code outcome} ({@code ready}, {@code deadline_exceeded} or {@code failure}).
+     */
+    public static final String DEPLOYMENT_ROLLOUTS = "mico.deployments.rollouts";
+
+    /**
+     * Gauge for the number of Kubernetes deployment information whose drift is not written back to the database yet.
+     */
+    public static final String DEPLOYMENT_INFO_DRIFT_PENDING = "mico.deployments.info.drift.pending";
+
+    /**
+     * Counter for the drift of Kubernetes deployment information that is written back to the database.
+     * Tags: {@code result} ({@code updated}, {@code deleted}, {@code discarded} if the stored information
+     * has been changed in the meantime or {@code failed}).
+     */
+    public static final String DEPLOYMENT_INFO_DRIFT_WRITES = "mico.deployments.info.drift.writes";
+
+    /**
+     * Counter for the status transitions of background jobs.
+     * Tags: {@code type}, {@code from}, {@code to}.
+     */
+    public static final String JOB_TRANSITIONS = "mico.jobs.transitions";
+
+    /**
+     * Gauge for the number of futures of running background jobs held in memory.
+     */
+    public static final String RUNNING_JOB_FUTURES = "mico.jobs.running.futures";
+
+    /**
+     * Timer for requests to the GitHub API.
+     * Tags: {@code request} (e.g. {@code repository}, {@code release}), {@code status} (the HTTP status code).
+     */
+    public static final String GITHUB_REQUESTS = "mico.github.requests";
+
+    /**
+     * Tag value that is used if a value is not available, e.g. there is no previous status of a job.
+     */
+    public static final String NONE = "none";
+
+    /**
+     * Records the duration of a request to the Kubernetes API.
+     *
+     * @param meterRegistry the {@link MeterRegistry}
+     * @param verb          the verb of the request, e.g. {@code get} or {@code list}
+     * @param resource      the Kubernetes resource type, e.g. {@code deployments}
+     * @param request       the request to execute
+     * @param <T>           the type of the result of the request
+     * @return the result of the request
+     */
+    public static <T> T recordKubernetesRequest(MeterRegistry meterRegistry, String verb, String resource, Supplier<T> request) {
+        return meterRegistry.timer(KUBERNETES_REQUESTS, "verb", verb, "resource", resource).record(request);
+    }
+}
@@ -98,6 +98,28 @@ public class Patterns {
     public static final String KUBERNETES_ENV_VAR_NAME_MESSAGE = "must only contain letters, numbers and underscores, " +
         "and must not start with a digit.";
 
+    /**
+     * Kubernetes quantities (e.g. CPU or memory) are a fixed-point number
+     * with an optional binary SI, decimal SI or decimal exponent suffix, e.g. {@code 500m}, {@code 0.5},
+     * {@code 1Gi} or {@code 1e3}. The first group is the number, the second group is the (possibly empty) suffix.
+     */
+    public static final String KUBERNETES_QUANTITY_REGEX = "^([+-]?(?:[0-9]+(?:\\.[0-9]*)?|\\.[0-9]+))((?:[KMGTPE]i|[numkMGTPE]|[eE][+-]?[0-9]+)?)$";
+
+    /**
+     * Message is used if a match with the {@link Patterns#KUBERNETES_QUANTITY_REGEX} fails.
+     */
+    public static final String KUBERNETES_QUANTITY_MESSAGE = "must be a valid Kubernetes quantity, e.g. '500m' or '1Gi'";
+
+    /**
+     * Regex for the snapshot modes supported by the Kaniko executor.
+     */
+    public static final String KANIKO_SNAPSHOT_MODE_REGEX = "^(full|time)$";
+
+    /**
+     * Message is used if a match with the {@link Patterns#KANIKO_SNAPSHOT_MODE_REGEX} fails.
+     */
+    public static final String KANIKO_SNAPSHOT_MODE_MESSAGE = "must be either 'full' or 'time'";
+
     /**
      * Regex for strings that MUST be a relative path.
      */
@@ -29,9 +29,10 @@
 
 /**
  * Custom deserializer for a response, which is received from Prometheus for CPU load / memory usage requests.
+ * Prometheus returns the sample values as strings of floating-point numbers.
  */
 @Slf4j
-public class PrometheusValueDeserializer extends StdDeserializer<Integer> {
+public class PrometheusValueDeserializer extends StdDeserializer<Double> {
 
     private static final long serialVersionUID = 8170187864990259257L;
 
@@ -44,16 +45,16 @@ private PrometheusValueDeserializer(Class<?> vc) {
     }
 
     @Override
-    public Integer deserialize(JsonParser parser, DeserializationContext context) {
+    public Double deserialize(JsonParser parser, DeserializationContext context) {
         try {
             JsonNode dataJson = parser.getCodec().readTree(parser);
             JsonNode resultJsonArray = dataJson.get("result");
             JsonNode resultJsonArrayFirstElement = resultJsonArray.get(0);
             JsonNode valueNode = resultJsonArrayFirstElement.get("value");
-            return valueNode.get(1).asInt();
+            return valueNode.get(1).asDouble();
         } catch (IOException | NullPointerException e) {
             log.error(e.getMessage(), e);
-            return 0;
+            return 0.0;
         }
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core.util;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Provides some utility functions for Kubernetes {@link Quantity Quantities}.
+ */
+@UtilityClass
+public class QuantityUtils {
+
+    private static final Pattern QUANTITY_PATTERN = Pattern.compile(Patterns.KUBERNETES_QUANTITY_REGEX);
+    private static final Pattern EXPONENT_PATTERN = Pattern.compile("^[eE]([-+]?[0-9]+)$");
+    private static final Map<String, BigDecimal> SUFFIXES = new HashMap<>();
+
+    static {
+        SUFFIXES.put("", BigDecimal.ONE);
+        SUFFIXES.put("n", new BigDecimal("1e-9"));
+        SUFFIXES.put("u", new BigDecimal("1e-6"));
+        SUFFIXES.put("m", new BigDecimal("1e-3"));
+        SUFFIXES.put("k", new BigDecimal("1e3"));
+        SUFFIXES.put("M", new BigDecimal("1e6"));
+        SUFFIXES.put("G", new BigDecimal("1e9"));
+        SUFFIXES.put("T", new BigDecimal("1e12"));
+        SUFFIXES.put("P", new BigDecimal("1e15"));
+        SUFFIXES.put("E", new BigDecimal("1e18"));
+        SUFFIXES.put("Ki", BigDecimal.valueOf(2).pow(10));
+        SUFFIXES.put("Mi", BigDecimal.valueOf(2).pow(20));
+        SUFFIXES.put("Gi", BigDecimal.valueOf(2).pow(30));
+        SUFFIXES.put("Ti", BigDecimal.valueOf(2).pow(40));
+        SUFFIXES.put("Pi", BigDecimal.valueOf(2).pow(50));
+        SUFFIXES.put("Ei", BigDecimal.valueOf(2).pow(60));
+    }
+
+    /**
+     * Converts a {@code Quantity} to its numeric value in the base unit,
+     * i.e. cores for CPU and bytes for memory.
+     *
+     * @param quantity the {@link Quantity}
+     * @return the numeric value
+     * @throws IllegalArgumentException if the quantity is not valid
+     */
+    public static BigDecimal toNumber(Quantity quantity) {
+        return toNumber(quantity.getAmount() + (quantity.getFormat() != null ? quantity.getFormat() : ""));
+    }
+
+    /**
+     * Converts a quantity (e.g. {@code 500m} or {@code 1Gi}) to its numeric value in the base unit,
+     * i.e. cores for CPU and bytes for memory.
+     *
+     * @param quantity the quantity
+     * @return the numeric value
+     * @throws IllegalArgumentException if the quantity is not valid
+     */
+    public static BigDecimal toNumber(String quantity) {
+        Matcher matcher = QUANTITY_PATTERN.matcher(quantity.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid quantity '" + quantity + "'");
+        }
+        BigDecimal number = new BigDecimal(matcher.group(1));
+        String suffix = matcher.group(2);
+        Matcher exponentMatcher = EXPONENT_PATTERN.matcher(suffix);
+        if (exponentMatcher.matches()) {
+            return number.scaleByPowerOfTen(Integer.parseInt(exponentMatcher.group(1)));
+        }
+        BigDecimal multiplier = SUFFIXES.get(suffix);
+        if (multiplier == null) {
+            throw new IllegalArgumentException("Invalid suffix '" + suffix + "' of quantity '" + quantity + "'");
+        }
+        return number.multiply(multiplier);
+    }
+}
@@ -50,6 +50,7 @@
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -340,6 +341,22 @@ public void createApplicationWithoutRequiredName() throws Exception {
             .andExpect(status().isUnprocessableEntity());
     }
 
+    @Test
+    public void createApplicationWithInvalidDefaultQuantities() throws Exception {
+        for (String invalidQuantity : INVALID_QUANTITIES) {
+            MicoApplicationRequestDTO applicationDto = new MicoApplicationRequestDTO()
+                .setShortName(SHORT_NAME).setVersion(VERSION)
+                .setName(NAME).setDescription(DESCRIPTION)
+                .setDefaultMemoryLimit(invalidQuantity);
+
+            mvc.perform(post(BASE_PATH)
+                .content(mapper.writeValueAsBytes(applicationDto))
+                .contentType(MediaTypes.HAL_JSON_UTF8_VALUE))
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity());
+        }
+    }
+
     @Test
     public void createApplicationWithDescriptionSetToNull() throws Exception {
         MicoApplication newApplication = new MicoApplication()
@@ -774,14 +791,14 @@ public void getStatusOfApplication() throws Exception {
         String startTimePod1 = new Date().toString();
         int restartsPod1 = 0;
         int memoryUsage1 = 50;
-        int cpuLoad1 = 10;
+        double cpuLoad1 = 10;
 
         // Properties for pod 2
         String podName2 = "pod2";
         String startTimePod2 = new Date().toString();
         int restartsPod2 = 0;
         int memoryUsage2 = 70;
-        int cpuLoad2 = 40;
+        double cpuLoad2 = 40;
 
         MicoApplicationStatusResponseDTO micoApplicationStatus = new MicoApplicationStatusResponseDTO()
             .setTotalNumberOfMicoServices(1)
@@ -843,7 +860,11 @@ public void getStatusOfApplication() throws Exception {
         given(micoKubernetesClient.getApplicationDeploymentStatus(any(MicoApplication.class)))
             .willReturn(new MicoApplicationDeploymentStatus(MicoApplicationDeploymentStatus.Value.DEPLOYED, new ArrayList<>()));
 
-        mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/" + PATH_STATUS))
+        MvcResult asyncResult = mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/" + PATH_STATUS))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(status().isOk())
             .andExpect(jsonPath(SERVICE_INFORMATION_NAME, is(NAME)))
@@ -852,7 +873,7 @@ public void getStatusOfApplication() throws Exception {
             .andExpect(jsonPath(TOTAL_NUMBER_OF_PODS, is(2)))
             .andExpect(jsonPath(TOTAL_NUMBER_OF_MICO_SERVICES, is(1)))
             .andExpect(jsonPath(NODE_METRICS_NAME, is(nodeName)))
-            .andExpect(jsonPath(NODE_METRICS_AVERAGE_CPU_LOAD, is(25)))
+            .andExpect(jsonPath(NODE_METRICS_AVERAGE_CPU_LOAD, is(25.0)))
             .andExpect(jsonPath(NODE_METRICS_AVERAGE_MEMORY_USAGE, is(60)))
             .andExpect(jsonPath(REQUESTED_REPLICAS, is(replicas)))
             .andExpect(jsonPath(AVAILABLE_REPLICAS, is(availableReplicas)))
@@ -957,6 +978,34 @@ public void getServiceDeploymentInformation() throws Exception {
             .andReturn();
     }
 
+    @Test
+    public void updateServiceDeploymentInformationWithInvalidQuantities() throws Exception {
+        MicoApplication application = new MicoApplication()
+            .setId(ID)
+            .setShortName(SHORT_NAME).setVersion(VERSION);
+        MicoService service = new MicoService()
+            .setShortName(SERVICE_SHORT_NAME).setVersion(SERVICE_VERSION);
+        application.getServices().add(service);
+        application.getServiceDeploymentInfos().add(new MicoServiceDeploymentInfo().setService(service));
+
+        given(applicationRepository.findByShortNameAndVersion(application.getShortName(), application.getVersion())).willReturn(Optional.of(application));
+
+        for (String invalidQuantity : INVALID_QUANTITIES) {
+            MicoServiceDeploymentInfoRequestDTO updatedServiceDeploymentInfoDTO = new MicoServiceDeploymentInfoRequestDTO()
+                .setReplicas(1)
+                .setCpuRequest(invalidQuantity)
+                .setMemoryLimit(invalidQuantity);
+
+            mvc.perform(put(BASE_PATH + "/" + application.getShortName() + "/" + application.getVersion() + "/" + PATH_DEPLOYMENT_INFORMATION + "/" + service.getShortName())
+                .content(mapper.writeValueAsBytes(updatedServiceDeploymentInfoDTO))
+                .contentType(MediaTypes.HAL_JSON_UTF8_VALUE))
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity());
+        }
+
+        verify(serviceDeploymentInfoRepository, never()).save(any(MicoServiceDeploymentInfo.class));
+    }
+
     @Test
     public void updateServiceDeploymentInformation() throws Exception {
         MicoApplication application = new MicoApplication()
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.github.ust.mico.core;
+
+import io.github.ust.mico.core.configuration.MicoAsyncRequestConfig;
+import io.github.ust.mico.core.service.AsyncRequestExecutors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class AsyncRequestExecutorsTests {
+
+    private MicoAsyncRequestConfig asyncRequestConfig;
+    private AsyncRequestExecutors asyncRequestExecutors;
+
+    @Before
+    public void setUp() {
+        asyncRequestConfig = new MicoAsyncRequestConfig();
+        asyncRequestConfig.setStatusTimeout(5);
+        asyncRequestConfig.setDeploymentPoolSize(1);
+        asyncRequestConfig.setDeploymentQueueCapacity(0);
+        asyncRequestConfig.setStreamPoolSize(1);
+        asyncRequestExecutors = new AsyncRequestExecutors(asyncRequestConfig);
+        asyncRequestExecutors.init();
+    }
+
+    @After
+    public void tearDown() {
+        asyncRequestExecutors.destroy();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void statusTaskPropagatesRequestToExecutorThread() throws Exception {
+        RequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+
+        WebAsyncTask<RequestAttributes> task = asyncRequestExecutors.status(RequestContextHolder::getRequestAttributes);
+
+        assertEquals(Long.valueOf(5000), task.getTimeout());
+        assertSame(requestAttributes, task.getExecutor().submit(task.getCallable()).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = TaskRejectedException.class)
+    public void deploymentTaskIsRejectedIfExecutorIsBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            WebAsyncTask<Boolean> running = asyncRequestExecutors.deployment(() -> release.await(5, TimeUnit.SECONDS));
+            running.getExecutor().submit(running.getCallable());
+
+            WebAsyncTask<Boolean> rejected = asyncRequestExecutors.deployment(() -> true);
+            rejected.getExecutor().submit(rejected.getCallable());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test(expected = TaskRejectedException.class)
+    public void streamIsRejectedIfExecutorIsBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            asyncRequestExecutors.getStreamExecutor().submit(() -> release.await(5, TimeUnit.SECONDS));
+
+            asyncRequestExecutors.getStreamExecutor().submit(() -> true);
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core;
+
+import io.github.ust.mico.core.broker.BackgroundJobBroker;
+import io.github.ust.mico.core.configuration.MicoBackgroundJobConfig;
+import io.github.ust.mico.core.model.MicoApplication;
+import io.github.ust.mico.core.model.MicoApplicationJobStatus;
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Status;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Type;
+import io.github.ust.mico.core.persistence.MicoBackgroundJobRepository;
+import io.github.ust.mico.core.service.BackgroundJobArchive;
+import io.github.ust.mico.core.service.BackgroundJobFutureRegistry;
+import io.github.ust.mico.core.util.EmbeddedRedisServer;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.github.ust.mico.core.TestConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("local")
+public class BackgroundJobBrokerTests {
+
+    @ClassRule
+    public static RuleChain rules = RuleChain.outerRule(EmbeddedRedisServer.runningAt(6379).suppressExceptions());
+
+    @MockBean
+    private BackgroundJobArchive backgroundJobArchive;
+
+    @Autowired
+    private BackgroundJobBroker backgroundJobBroker;
+
+    @Autowired
+    private MicoBackgroundJobRepository jobRepository;
+
+    @Autowired
+    private MicoBackgroundJobConfig backgroundJobConfig;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private BackgroundJobFutureRegistry futureRegistry;
+
+    @After
+    public void tearDown() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    public void runningJobDoesNotExpire() {
+        MicoServiceBackgroundJob job = backgroundJobBroker.saveJob(createJob(SHORT_NAME, Status.RUNNING));
+
+        assertThat(job.getTimeToLive()).isNull();
+        assertThat(redisTemplate.getExpire("BackgroundJob:" + job.getId())).isEqualTo(-1L);
+        verify(backgroundJobArchive, never()).archive(any());
+    }
+
+    @Test
+    public void finishedJobExpiresAndIsArchived() {
+        MicoServiceBackgroundJob job = backgroundJobBroker.saveJob(createJob(SHORT_NAME, Status.RUNNING));
+
+        backgroundJobBroker.saveNewStatus(SHORT_NAME, VERSION, Type.BUILD, Status.DONE);
+
+        MicoServiceBackgroundJob finishedJob = jobRepository.findById(job.getId()).get();
+        assertThat(finishedJob.getStatus()).isEqualTo(Status.DONE);
+        assertThat(finishedJob.getTimeToLive()).isEqualTo(backgroundJobConfig.getTimeToLive());
+        assertThat(redisTemplate.getExpire("BackgroundJob:" + job.getId()))
+            .isPositive().isLessThanOrEqualTo(backgroundJobConfig.getTimeToLive());
+        verify(backgroundJobArchive).archive(any());
+    }
+
+    @Test
+    public void getJobsIsPaginated() {
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME, Status.DONE));
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_1, Status.DONE));
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_2, Status.DONE));
+
+        Page<MicoServiceBackgroundJob> firstPage = backgroundJobBroker.getJobs(null, null, PageRequest.of(0, 2));
+        Page<MicoServiceBackgroundJob> secondPage = backgroundJobBroker.getJobs(null, null, PageRequest.of(1, 2));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(secondPage.getContent()).hasSize(1);
+    }
+
+    @Test
+    public void getJobsFilteredByStatusAndType() {
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME, Status.RUNNING));
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_1, Status.ERROR));
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_2, Status.ERROR));
+
+        Page<MicoServiceBackgroundJob> failedJobs = backgroundJobBroker.getJobs(Status.ERROR, null, PageRequest.of(0, 10));
+        Page<MicoServiceBackgroundJob> failedBuildJobs = backgroundJobBroker.getJobs(Status.ERROR, Type.BUILD, PageRequest.of(0, 10));
+        Page<MicoServiceBackgroundJob> buildJobs = backgroundJobBroker.getJobs(null, Type.BUILD, PageRequest.of(0, 10));
+
+        assertThat(failedJobs.getContent()).extracting(MicoServiceBackgroundJob::getServiceShortName)
+            .containsExactlyInAnyOrder(SHORT_NAME_1, SHORT_NAME_2);
+        assertThat(failedBuildJobs.getContent()).hasSize(2);
+        assertThat(buildJobs.getContent()).hasSize(3);
+    }
+
+    @Test
+    public void getJobStatusOfApplication() {
+        MicoApplication micoApplication = new MicoApplication().setShortName(SHORT_NAME).setVersion(VERSION);
+        micoApplication.getServices().add(new MicoService().setShortName(SHORT_NAME_1).setVersion(VERSION));
+        micoApplication.getServices().add(new MicoService().setShortName(SHORT_NAME_2).setVersion(VERSION));
+        micoApplication.getServices().add(new MicoService().setShortName(SHORT_NAME_3).setVersion(VERSION));
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_1, Status.DONE));
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_2, Status.RUNNING).setErrorMessage("Build failed"));
+        // Same short name, but other version -> not part of the application
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_3, Status.ERROR).setServiceVersion(VERSION_1_0_1));
+
+        MicoApplicationJobStatus jobStatus = backgroundJobBroker.getJobStatusOfApplication(micoApplication);
+
+        assertThat(jobStatus.getApplicationShortName()).isEqualTo(SHORT_NAME);
+        assertThat(jobStatus.getStatus()).isEqualTo(Status.RUNNING);
+        assertThat(jobStatus.getJobs()).extracting(MicoServiceBackgroundJob::getServiceShortName)
+            .containsExactlyInAnyOrder(SHORT_NAME_1, SHORT_NAME_2);
+        MicoServiceBackgroundJob runningJob = jobStatus.getJobs().stream()
+            .filter(job -> job.getStatus() == Status.RUNNING).findFirst().get();
+        assertThat(runningJob.getId()).isNotNull();
+        assertThat(runningJob.getType()).isEqualTo(Type.BUILD);
+        assertThat(runningJob.getServiceVersion()).isEqualTo(VERSION);
+        assertThat(runningJob.getErrorMessage()).isEqualTo("Build failed");
+    }
+
+    @Test
+    public void getJobStatusOfApplicationWithTimedOutBuild() {
+        MicoApplication micoApplication = new MicoApplication().setShortName(SHORT_NAME).setVersion(VERSION);
+        micoApplication.getServices().add(new MicoService().setShortName(SHORT_NAME_1).setVersion(VERSION));
+        micoApplication.getServices().add(new MicoService().setShortName(SHORT_NAME_2).setVersion(VERSION));
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_1, Status.RUNNING));
+        backgroundJobBroker.saveJob(createJob(SHORT_NAME_2, Status.CANCELLED));
+
+        assertThat(backgroundJobBroker.getJobStatusOfApplication(micoApplication).getStatus()).isEqualTo(Status.RUNNING);
+
+        backgroundJobBroker.saveNewStatus(SHORT_NAME_1, VERSION, Type.BUILD, Status.TIMED_OUT, "Build did not finish in time");
+
+        assertThat(backgroundJobBroker.getJobStatusOfApplication(micoApplication).getStatus()).isEqualTo(Status.TIMED_OUT);
+    }
+
+    @Test
+    public void getJobStatusOfApplicationWithoutJobs() {
+        MicoApplication micoApplication = new MicoApplication().setShortName(SHORT_NAME).setVersion(VERSION);
+        micoApplication.getServices().add(new MicoService().setShortName(SHORT_NAME_1).setVersion(VERSION));
+
+        MicoApplicationJobStatus jobStatus = backgroundJobBroker.getJobStatusOfApplication(micoApplication);
+
+        assertThat(jobStatus.getStatus()).isEqualTo(Status.UNDEFINED);
+        assertThat(jobStatus.getJobs()).isEmpty();
+    }
+
+    @Test
+    public void deleteJobCancelsRunningFuture() {
+        MicoServiceBackgroundJob job = backgroundJobBroker.saveJob(createJob(SHORT_NAME, Status.RUNNING));
+        CompletableFuture<String> future = new CompletableFuture<>();
+        AtomicBoolean cancellationHookExecuted = new AtomicBoolean(false);
+        backgroundJobBroker.registerFutureOfJob(job, future, () -> cancellationHookExecuted.set(true));
+
+        backgroundJobBroker.deleteJob(job.getId());
+
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(cancellationHookExecuted.get()).isTrue();
+        assertThat(futureRegistry.getFuture(job.getId())).isEmpty();
+        // The cancelled job is kept until it expires
+        MicoServiceBackgroundJob cancelledJob = jobRepository.findById(job.getId()).get();
+        assertThat(cancelledJob.getStatus()).isEqualTo(Status.CANCELLED);
+        assertThat(cancelledJob.getTimeToLive()).isEqualTo(backgroundJobConfig.getTimeToLive());
+        verify(backgroundJobArchive).archive(any());
+    }
+
+    @Test
+    public void completedFutureIsRemovedFromRegistry() {
+        MicoServiceBackgroundJob job = backgroundJobBroker.saveJob(createJob(SHORT_NAME, Status.RUNNING));
+        CompletableFuture<String> future = new CompletableFuture<>();
+        AtomicBoolean cancellationHookExecuted = new AtomicBoolean(false);
+        backgroundJobBroker.registerFutureOfJob(job, future, () -> cancellationHookExecuted.set(true));
+        assertThat(futureRegistry.getFuture(job.getId())).contains(future);
+
+        future.complete("done");
+        backgroundJobBroker.deleteJob(job.getId());
+
+        assertThat(futureRegistry.getFuture(job.getId())).isEmpty();
+        assertThat(cancellationHookExecuted.get()).isFalse();
+        assertThat(jobRepository.findById(job.getId())).isEmpty();
+    }
+
+    private MicoServiceBackgroundJob createJob(String serviceShortName, Status status) {
+        return new MicoServiceBackgroundJob()
+            .setServiceShortName(serviceShortName)
+            .setServiceVersion(VERSION)
+            .setType(Type.BUILD)
+            .setStatus(status);
+    }
+}
@@ -32,6 +32,9 @@
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
@@ -41,7 +44,6 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 import static io.github.ust.mico.core.JsonPathBuilder.*;
 import static io.github.ust.mico.core.TestConstants.SHORT_NAME;
@@ -49,6 +51,8 @@
 import static io.github.ust.mico.core.TestConstants.*;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -72,6 +76,8 @@ public class BackgroundJobResourceTest {
     public static final String STATUS_PATH = buildPath(ROOT, "status");
     public static final String LINKS_CANCEL_HREF = buildPath(LINKS, "cancel", HREF);
     public static final String LINKS_JOBS_HREF = buildPath(LINKS, "jobs", HREF);
+    public static final String PAGE_TOTAL_ELEMENTS = buildPath(ROOT, "page", "totalElements");
+    public static final String PAGE_NUMBER = buildPath(ROOT, "page", "number");
 
     @MockBean
     private BackgroundJobBroker backgroundJobBroker;
@@ -84,11 +90,11 @@ public class BackgroundJobResourceTest {
 
     @Test
     public void getAllJobs() throws Exception {
-        List<MicoServiceBackgroundJob> jobList = CollectionUtils.listOf(new MicoServiceBackgroundJob().setFuture(CompletableFuture.completedFuture(true)).setServiceShortName(SHORT_NAME).setServiceVersion(VERSION).setType(MicoServiceBackgroundJob.Type.BUILD),
-            new MicoServiceBackgroundJob().setFuture(CompletableFuture.completedFuture(true)).setServiceShortName(SHORT_NAME_1).setServiceVersion(VERSION).setType(MicoServiceBackgroundJob.Type.BUILD),
-            new MicoServiceBackgroundJob().setFuture(CompletableFuture.completedFuture(true)).setServiceShortName(SHORT_NAME_2).setServiceVersion(VERSION).setType(MicoServiceBackgroundJob.Type.BUILD));
+        List<MicoServiceBackgroundJob> jobList = CollectionUtils.listOf(new MicoServiceBackgroundJob().setServiceShortName(SHORT_NAME).setServiceVersion(VERSION).setType(MicoServiceBackgroundJob.Type.BUILD),
+            new MicoServiceBackgroundJob().setServiceShortName(SHORT_NAME_1).setServiceVersion(VERSION).setType(MicoServiceBackgroundJob.Type.BUILD),
+            new MicoServiceBackgroundJob().setServiceShortName(SHORT_NAME_2).setServiceVersion(VERSION).setType(MicoServiceBackgroundJob.Type.BUILD));
 
-        given(backgroundJobBroker.getAllJobs()).willReturn(jobList);
+        given(backgroundJobBroker.getJobs(isNull(), isNull(), any(Pageable.class))).willReturn(new PageImpl<>(jobList));
 
         mvc.perform(get("/jobs").accept(MediaTypes.HAL_JSON_UTF8_VALUE))
             .andDo(print())
@@ -99,6 +105,28 @@ public void getAllJobs() throws Exception {
             .andExpect(jsonPath(BACKGROUND_JOBS_LIST + "[?(@.serviceShortName=='" + SHORT_NAME_1 + "' && @.serviceVersion=='" + VERSION + "')]", hasSize(1)))
             .andExpect(jsonPath(BACKGROUND_JOBS_LIST + "[?(@.serviceShortName=='" + SHORT_NAME_2 + "' && @.serviceVersion=='" + VERSION + "')]", hasSize(1)))
             .andExpect(jsonPath(JSON_PATH_LINKS_SECTION + SELF_HREF, is("http://localhost/jobs")))
+            .andExpect(jsonPath(PAGE_TOTAL_ELEMENTS, is(3)))
+            .andReturn();
+    }
+
+    @Test
+    public void getAllJobsFilteredAndPaginated() throws Exception {
+        List<MicoServiceBackgroundJob> jobList = CollectionUtils.listOf(
+            new MicoServiceBackgroundJob().setServiceShortName(SHORT_NAME_1).setServiceVersion(VERSION).setType(MicoServiceBackgroundJob.Type.BUILD).setStatus(MicoServiceBackgroundJob.Status.ERROR));
+        Pageable pageable = PageRequest.of(1, 1);
+
+        given(backgroundJobBroker.getJobs(MicoServiceBackgroundJob.Status.ERROR, MicoServiceBackgroundJob.Type.BUILD, pageable))
+            .willReturn(new PageImpl<>(jobList, pageable, 2));
+
+        mvc.perform(get("/jobs").param("status", "ERROR").param("type", "BUILD").param("page", "1").param("size", "1")
+            .accept(MediaTypes.HAL_JSON_UTF8_VALUE))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(BACKGROUND_JOBS_LIST + "[*]", hasSize(1)))
+            .andExpect(jsonPath(BACKGROUND_JOBS_LIST + "[0].serviceShortName", is(SHORT_NAME_1)))
+            .andExpect(jsonPath(PAGE_TOTAL_ELEMENTS, is(2)))
+            .andExpect(jsonPath(PAGE_NUMBER, is(1)))
+            .andExpect(jsonPath(JSON_PATH_LINKS_SECTION + "first.href", is("http://localhost/jobs?status=ERROR&type=BUILD&page=0&size=1")))
             .andReturn();
     }
 
@@ -127,13 +155,11 @@ public void checkStatus() throws Exception {
         given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
 
         MicoServiceBackgroundJob pendingJob = new MicoServiceBackgroundJob()
-            .setFuture(CompletableFuture.completedFuture(true))
             .setServiceShortName(SHORT_NAME)
             .setServiceVersion(VERSION)
             .setType(MicoServiceBackgroundJob.Type.BUILD);
 
         MicoServiceBackgroundJob runningJob = new MicoServiceBackgroundJob()
-            .setFuture(CompletableFuture.completedFuture(true))
             .setServiceShortName(SHORT_NAME)
             .setServiceVersion(VERSION)
             .setType(MicoServiceBackgroundJob.Type.BUILD)
@@ -156,7 +182,6 @@ public void checkStatus() throws Exception {
     @Test
     public void getJobById() throws Exception {
         MicoServiceBackgroundJob doneJob = new MicoServiceBackgroundJob()
-            .setFuture(CompletableFuture.completedFuture(true))
             .setServiceShortName(SHORT_NAME)
             .setServiceVersion(VERSION)
             .setType(MicoServiceBackgroundJob.Type.BUILD)
@@ -171,7 +196,6 @@ public void getJobById() throws Exception {
             .andReturn();
 
         MicoServiceBackgroundJob pendingJob = new MicoServiceBackgroundJob()
-            .setFuture(CompletableFuture.completedFuture(true))
             .setServiceShortName(SHORT_NAME)
             .setServiceVersion(VERSION)
             .setType(MicoServiceBackgroundJob.Type.BUILD);
@@ -190,7 +214,6 @@ public void getJobById() throws Exception {
             .andReturn();
 
         MicoServiceBackgroundJob runningJob = new MicoServiceBackgroundJob()
-            .setFuture(CompletableFuture.completedFuture(true))
             .setServiceShortName(SHORT_NAME)
             .setServiceVersion(VERSION)
             .setType(MicoServiceBackgroundJob.Type.BUILD)
@@ -214,7 +237,6 @@ public void getJobById() throws Exception {
     @Test
     public void deleteJob() throws Exception {
         MicoServiceBackgroundJob pendingJob = new MicoServiceBackgroundJob()
-            .setFuture(CompletableFuture.completedFuture(true))
             .setServiceShortName(SHORT_NAME)
             .setServiceVersion(VERSION)
             .setType(MicoServiceBackgroundJob.Type.BUILD);
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.github.ust.mico.core.configuration.MicoKubernetesBuildBotConfig;
+import io.github.ust.mico.core.service.MicoKubernetesClient;
+import io.github.ust.mico.core.service.imagebuilder.BuildGarbageCollector;
+import io.github.ust.mico.core.service.imagebuilder.ImageBuilder;
+import io.github.ust.mico.core.service.imagebuilder.ImageBuilder.BuildResourceDeletionReason;
+import io.github.ust.mico.core.service.imagebuilder.buildtypes.Build;
+import io.github.ust.mico.core.service.imagebuilder.buildtypes.BuildStatus;
+import io.github.ust.mico.core.util.CollectionUtils;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class BuildGarbageCollectorTests {
+
+    private ImageBuilder imageBuilder;
+    private MicoKubernetesBuildBotConfig buildBotConfig;
+    private MeterRegistry meterRegistry;
+    private BuildGarbageCollector buildGarbageCollector;
+
+    @Before
+    public void setUp() {
+        imageBuilder = mock(ImageBuilder.class);
+        when(imageBuilder.isInitialized()).thenReturn(true);
+        buildBotConfig = new MicoKubernetesBuildBotConfig();
+        buildBotConfig.setBuildsToKeepPerService(1);
+        buildBotConfig.setBuildRetentionHours(24);
+        meterRegistry = new SimpleMeterRegistry();
+        buildGarbageCollector = new BuildGarbageCollector(imageBuilder, buildBotConfig, meterRegistry);
+    }
+
+    @Test
+    public void deletesFinishedBuildsThatAreNotRetained() throws Exception {
+        Instant now = Instant.now();
+        List<Build> builds = CollectionUtils.listOf(
+            // Most recent build of service 'a' is kept although it is older than the retention time
+            createBuild("build-a-v3", "a", now.minus(Duration.ofHours(50)), now.minus(Duration.ofHours(49))),
+            createBuild("build-a-v2", "a", now.minus(Duration.ofHours(60)), now.minus(Duration.ofHours(59))),
+            // Finished within the retention time
+            createBuild("build-a-v1", "a", now.minus(Duration.ofHours(70)), now.minus(Duration.ofHours(1))),
+            createBuild("build-b-v2", "b", now.minus(Duration.ofHours(1)), null),
+            // Still running
+            createBuild("build-b-v1", "b", now.minus(Duration.ofHours(80)), null));
+        when(imageBuilder.getBuildsOfMicoServices()).thenReturn(builds);
+        when(imageBuilder.deleteBuildResources(anyList(), any())).thenReturn(2);
+
+        buildGarbageCollector.collectGarbage();
+
+        verify(imageBuilder).deleteBuildResources(CollectionUtils.listOf("build-a-v2"), BuildResourceDeletionReason.GARBAGE_COLLECTION);
+        assertEquals(1, meterRegistry.counter(MetricsUtils.BUILD_GARBAGE_COLLECTED, "resource", "builds").count(), 0);
+        assertEquals(2, meterRegistry.counter(MetricsUtils.BUILD_GARBAGE_COLLECTED, "resource", "pods").count(), 0);
+    }
+
+    @Test
+    public void deletesAllFinishedBuildsWithoutRetention() throws Exception {
+        buildBotConfig.setBuildsToKeepPerService(0);
+        buildBotConfig.setBuildRetentionHours(0);
+        Instant now = Instant.now();
+        List<Build> builds = CollectionUtils.listOf(
+            createBuild("build-a-v2", "a", now.minus(Duration.ofHours(2)), null),
+            createBuild("build-a-v1", "a", now.minus(Duration.ofHours(3)), now.minus(Duration.ofHours(2))));
+        when(imageBuilder.getBuildsOfMicoServices()).thenReturn(builds);
+
+        buildGarbageCollector.collectGarbage();
+
+        verify(imageBuilder).deleteBuildResources(CollectionUtils.listOf("build-a-v1"), BuildResourceDeletionReason.GARBAGE_COLLECTION);
+    }
+
+    @Test
+    public void deletesFinishedBuildsWithoutLabelsAfterRetentionTime() throws Exception {
+        Instant now = Instant.now();
+        List<Build> builds = CollectionUtils.listOf(
+            createBuild("build-a-v1", null, now.minus(Duration.ofHours(50)), now.minus(Duration.ofHours(49))),
+            // Finished within the retention time
+            createBuild("build-b-v1", null, now.minus(Duration.ofHours(3)), now.minus(Duration.ofHours(2))),
+            // Still running
+            createBuild("build-c-v1", null, now.minus(Duration.ofHours(80)), null));
+        when(imageBuilder.getBuildsOfMicoServices()).thenReturn(builds);
+
+        buildGarbageCollector.collectGarbage();
+
+        verify(imageBuilder).deleteBuildResources("build-a-v1", BuildResourceDeletionReason.GARBAGE_COLLECTION);
+        verify(imageBuilder, times(1)).deleteBuildResources(anyString(), any());
+        verify(imageBuilder, never()).deleteBuildResources(anyList(), any());
+        assertEquals(1, meterRegistry.counter(MetricsUtils.BUILD_GARBAGE_COLLECTED, "resource", "builds").count(), 0);
+    }
+
+    @Test
+    public void doesNothingIfDisabled() throws Exception {
+        buildBotConfig.setBuildGarbageCollectionEnabled(false);
+
+        buildGarbageCollector.collectGarbage();
+
+        verify(imageBuilder, never()).getBuildsOfMicoServices();
+        verify(imageBuilder, never()).deleteBuildResources(anyList(), eq(BuildResourceDeletionReason.GARBAGE_COLLECTION));
+    }
+
+    private Build createBuild(String name, String serviceShortName, Instant creationTime, Instant completionTime) {
+        ObjectMeta metadata = new ObjectMeta();
+        metadata.setName(name);
+        if (serviceShortName != null) {
+            metadata.setLabels(CollectionUtils.mapOf(MicoKubernetesClient.LABEL_NAME_KEY, serviceShortName));
+        }
+        metadata.setCreationTimestamp(creationTime.toString());
+        Build build = new Build();
+        build.setMetadata(metadata);
+        if (completionTime != null) {
+            build.setStatus(new BuildStatus().setCompletionTime(completionTime.toString()));
+        }
+        return build;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.github.ust.mico.core.configuration.MicoKubernetesBuildBotConfig;
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.model.MicoServiceBackgroundJob.Priority;
+import io.github.ust.mico.core.service.imagebuilder.BuildScheduler;
+import io.github.ust.mico.core.service.imagebuilder.ImageBuilder;
+import io.github.ust.mico.core.util.CollectionUtils;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BuildSchedulerTests {
+
+    private ImageBuilder imageBuilder;
+    private MeterRegistry meterRegistry;
+    private BuildScheduler buildScheduler;
+
+    @Before
+    public void setUp() {
+        imageBuilder = mock(ImageBuilder.class);
+        MicoKubernetesBuildBotConfig buildBotConfig = new MicoKubernetesBuildBotConfig();
+        buildBotConfig.setMaxConcurrentBuilds(1);
+        buildBotConfig.setBuildAdmissionRetryInterval(1);
+        meterRegistry = new SimpleMeterRegistry();
+        buildScheduler = new BuildScheduler(buildBotConfig, imageBuilder, meterRegistry);
+        buildScheduler.init();
+    }
+
+    @After
+    public void tearDown() {
+        buildScheduler.destroy();
+    }
+
+    @Test
+    public void startsQueuedBuildsByPriorityAndFairShare() throws Exception {
+        List<String> startedBuilds = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch runningBuildLatch = new CountDownLatch(1);
+        CompletableFuture<String> runningBuild = buildScheduler.schedule("running", createService("running"), "x", Priority.NORMAL, () -> {
+            try {
+                runningBuildLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "running";
+        });
+
+        List<CompletableFuture<String>> queuedBuilds = new ArrayList<>();
+        queuedBuilds.add(schedule("x-low", "x", Priority.LOW, startedBuilds));
+        queuedBuilds.add(schedule("x-1", "x", Priority.NORMAL, startedBuilds));
+        queuedBuilds.add(schedule("x-2", "x", Priority.NORMAL, startedBuilds));
+        queuedBuilds.add(schedule("y-1", "y", Priority.NORMAL, startedBuilds));
+        queuedBuilds.add(schedule("x-hotfix", "x", Priority.HIGH, startedBuilds));
+
+        // Application 'y' has no running build, so its build is started before the other builds of application 'x'
+        List<String> expectedOrder = CollectionUtils.listOf("x-hotfix", "y-1", "x-1", "x-2", "x-low");
+        assertEquals(5, buildScheduler.getQueueSize());
+        for (int i = 0; i < expectedOrder.size(); i++) {
+            assertEquals(Optional.of(i + 1), buildScheduler.getQueuePosition(expectedOrder.get(i)));
+        }
+        assertFalse(buildScheduler.isQueued("running"));
+        assertEquals(5, meterRegistry.get(MetricsUtils.BUILD_QUEUE_SIZE).gauge().value(), 0);
+
+        runningBuildLatch.countDown();
+        assertEquals("running", runningBuild.get(5, TimeUnit.SECONDS));
+        for (CompletableFuture<String> queuedBuild : queuedBuilds) {
+            queuedBuild.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(expectedOrder, startedBuilds);
+        assertEquals(0, buildScheduler.getQueueSize());
+    }
+
+    @Test
+    public void waitsForFreeCapacityInBuildNamespace() throws Exception {
+        when(imageBuilder.isBuildCapacityExhausted(any())).thenReturn(true);
+
+        CompletableFuture<String> build = buildScheduler.schedule("build", createService("build"), "x", Priority.NORMAL, () -> "image");
+
+        assertTrue(buildScheduler.isQueued("build"));
+        assertFalse(build.isDone());
+
+        when(imageBuilder.isBuildCapacityExhausted(any())).thenReturn(false);
+        assertEquals("image", build.get(5, TimeUnit.SECONDS));
+        assertFalse(buildScheduler.isQueued("build"));
+    }
+
+    @Test
+    public void cancelledBuildIsRemovedFromQueue() {
+        when(imageBuilder.isBuildCapacityExhausted(any())).thenReturn(true);
+
+        CompletableFuture<String> build = buildScheduler.schedule("build", createService("build"), "x", Priority.NORMAL, () -> "image");
+        assertTrue(buildScheduler.isQueued("build"));
+
+        build.cancel(true);
+
+        assertFalse(buildScheduler.isQueued("build"));
+        assertEquals(0, buildScheduler.getQueueSize());
+    }
+
+    @Test
+    public void capacityCheckDoesNotBlockQueue() throws Exception {
+        CountDownLatch capacityCheckStarted = new CountDownLatch(1);
+        CountDownLatch capacityCheckLatch = new CountDownLatch(1);
+        when(imageBuilder.isBuildCapacityExhausted(any())).thenAnswer(invocation -> {
+            capacityCheckStarted.countDown();
+            capacityCheckLatch.await();
+            return false;
+        });
+
+        CompletableFuture<CompletableFuture<String>> build = CompletableFuture.supplyAsync(() ->
+            buildScheduler.schedule("build", createService("build"), "x", Priority.NORMAL, () -> "image"));
+        assertTrue(capacityCheckStarted.await(5, TimeUnit.SECONDS));
+
+        // The queue can be queried while the capacity is checked
+        assertEquals(Optional.of(1), CompletableFuture.supplyAsync(() -> buildScheduler.getQueuePosition("build"))
+            .get(5, TimeUnit.SECONDS));
+
+        capacityCheckLatch.countDown();
+        assertEquals("image", build.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failedCapacityCheckIsRetried() throws Exception {
+        when(imageBuilder.isBuildCapacityExhausted(any()))
+            .thenThrow(new KubernetesClientException("API server not available"))
+            .thenReturn(false);
+
+        CompletableFuture<String> build = buildScheduler.schedule("build", createService("build"), "x", Priority.NORMAL, () -> "image");
+
+        assertEquals("image", build.get(5, TimeUnit.SECONDS));
+    }
+
+    private CompletableFuture<String> schedule(String jobId, String applicationKey, Priority priority, List<String> startedBuilds) {
+        return buildScheduler.schedule(jobId, createService(jobId), applicationKey, priority, () -> {
+            startedBuilds.add(jobId);
+            return jobId;
+        });
+    }
+
+    private MicoService createService(String shortName) {
+        return new MicoService().setShortName(shortName).setVersion("v1.0.0");
+    }
+}
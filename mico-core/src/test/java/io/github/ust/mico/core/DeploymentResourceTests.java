@@ -19,17 +19,21 @@
 
 package io.github.ust.mico.core;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.github.ust.mico.core.TestConstants.*;
 import io.github.ust.mico.core.broker.BackgroundJobBroker;
+import io.github.ust.mico.core.dto.request.MicoApplicationIdentifierRequestDTO;
+import io.github.ust.mico.core.dto.request.MicoDeploymentBatchRequestDTO;
 import io.github.ust.mico.core.exception.KubernetesResourceException;
 import io.github.ust.mico.core.model.*;
 import io.github.ust.mico.core.persistence.MicoApplicationRepository;
 import io.github.ust.mico.core.persistence.MicoServiceDeploymentInfoRepository;
 import io.github.ust.mico.core.persistence.MicoServiceRepository;
+import io.github.ust.mico.core.service.DeploymentRolloutTracker;
 import io.github.ust.mico.core.service.MicoKubernetesClient;
 import io.github.ust.mico.core.service.imagebuilder.ImageBuilder;
 import io.github.ust.mico.core.util.CollectionUtils;
@@ -47,25 +51,40 @@
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.util.NestedServletException;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import static io.github.ust.mico.core.TestConstants.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(SpringRunner.class)
@@ -79,6 +98,8 @@ public class DeploymentResourceTests {
     public static RuleChain rules = RuleChain.outerRule(EmbeddedRedisServer.runningAt(6379).suppressExceptions());
 
     private static final String BASE_PATH = "/applications";
+    private static final String BATCH_BASE_PATH = "/deployments";
+    private static final String BATCH_ID = "batch-id";
     private static final String DEPLOYMENT_NAME = "deployment-name";
     private static final String SERVICE_NAME = "service-name";
     private static final String NAMESPACE_NAME = "namespace-name";
@@ -95,6 +116,9 @@ public class DeploymentResourceTests {
     @Autowired
     private MockMvc mvc;
 
+    @Autowired
+    private ObjectMapper mapper;
+
     @MockBean
     private MicoApplicationRepository applicationRepository;
 
@@ -113,18 +137,24 @@ public class DeploymentResourceTests {
     @MockBean
     private MicoKubernetesClient micoKubernetesClient;
 
+    @MockBean
+    private DeploymentRolloutTracker rolloutTracker;
+
     @Before
     public void setUp() throws KubernetesResourceException {
         Deployment deployment = new DeploymentBuilder()
             .withNewMetadata().withName(DEPLOYMENT_NAME).withNamespace(NAMESPACE_NAME).endMetadata()
             .build();
-        given(micoKubernetesClient.createMicoService(any(MicoServiceDeploymentInfo.class)))
+        given(micoKubernetesClient.createMicoService(any(MicoServiceDeploymentInfo.class), any(MicoApplication.class)))
             .willReturn(deployment);
         Service service = new ServiceBuilder()
             .withNewMetadata().withName(SERVICE_NAME).withNamespace(NAMESPACE_NAME).endMetadata()
             .build();
         given(micoKubernetesClient.createMicoServiceInterface(any(MicoServiceInterface.class), any(MicoService.class)))
             .willReturn(service);
+        // Assume all rollouts are complete immediately
+        given(rolloutTracker.track(any(MicoService.class), any(), any()))
+            .willReturn(CompletableFuture.completedFuture(Duration.ZERO));
     }
 
     @Test
@@ -155,7 +185,6 @@ public void deployApplicationWithOneServiceAndOneServiceInterface() throws Excep
         given(imageBuilder.build(service)).willReturn(futureOfBuildJob);
 
         MicoServiceBackgroundJob mockJob = new MicoServiceBackgroundJob()
-            .setFuture(futureOfBuildJob)
             .setServiceShortName(service.getShortName())
             .setServiceVersion(service.getVersion())
             .setType(MicoServiceBackgroundJob.Type.BUILD);
@@ -164,14 +193,18 @@ public void deployApplicationWithOneServiceAndOneServiceInterface() throws Excep
             .willReturn(Optional.of(mockJob));
         given(backgroundJobBroker.saveJob(mockJob)).willReturn(mockJob);
 
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(SHORT_NAME, VERSION))
+        given(backgroundJobBroker.getJobStatusOfApplication(application))
             .willReturn(new MicoApplicationJobStatus()
                 .setApplicationShortName(SHORT_NAME)
                 .setApplicationVersion(VERSION)
                 .setStatus(MicoServiceBackgroundJob.Status.PENDING)
                 .setJobs(Collections.singletonList(mockJob)));
 
-        mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+        MvcResult asyncResult = mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(status().isAccepted());
 
@@ -185,7 +218,7 @@ public void deployApplicationWithOneServiceAndOneServiceInterface() throws Excep
         assertNotNull("DockerImageUri was not set", storedMicoService.getDockerImageUri());
         assertEquals(service.getDockerImageUri(), storedMicoService.getDockerImageUri());
 
-        verify(micoKubernetesClient, times(1)).createMicoService(serviceDeploymentInfoArgumentCaptor.capture());
+        verify(micoKubernetesClient, times(1)).createMicoService(serviceDeploymentInfoArgumentCaptor.capture(), eq(application));
 
         MicoService micoServiceToCreate = micoServiceArgumentCaptor.getValue();
         assertNotNull(micoServiceToCreate);
@@ -219,6 +252,42 @@ public void deployApplicationWithOneServiceAndOneServiceInterface() throws Excep
         assertEquals(1, kubernetesDeploymentInfo.getServiceNames().size());
         assertEquals(SERVICE_NAME, kubernetesDeploymentInfo.getServiceNames().get(0));
         assertEquals(NAMESPACE_NAME, kubernetesDeploymentInfo.getNamespace());
+
+        // The build job is finished after the rollout is complete
+        verify(rolloutTracker, times(1)).track(service, NAMESPACE_NAME, DEPLOYMENT_NAME);
+        verify(backgroundJobBroker, times(1)).saveNewStatus(service.getShortName(), service.getVersion(),
+            MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.DONE);
+    }
+
+    @Test
+    public void deployApplicationWithTimedOutBuild() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication();
+        application.getServices().add(service);
+        application.getServiceDeploymentInfos().add(new MicoServiceDeploymentInfo().setService(service));
+
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(serviceDeploymentInfoRepository
+            .findByApplicationAndService(application.getShortName(), application.getVersion(), service.getShortName(), service.getVersion()))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(service)));
+        given(imageBuilder.build(service)).willThrow(new TimeoutException());
+        given(backgroundJobBroker.getJobStatusOfApplication(application))
+            .willReturn(new MicoApplicationJobStatus(SHORT_NAME, VERSION, MicoServiceBackgroundJob.Status.RUNNING, new ArrayList<>()));
+
+        MvcResult asyncResult = mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(asyncResult))
+            .andDo(print())
+            .andExpect(status().isAccepted());
+
+        // Sleep is required to wait for background job (another thread)
+        Thread.sleep(500);
+
+        verify(backgroundJobBroker, times(1)).saveNewStatus(eq(service.getShortName()), eq(service.getVersion()),
+            eq(MicoServiceBackgroundJob.Type.BUILD), eq(MicoServiceBackgroundJob.Status.TIMED_OUT), any(String.class));
+        verify(micoKubernetesClient, never()).createMicoService(any(MicoServiceDeploymentInfo.class), any(MicoApplication.class));
     }
 
     @Test
@@ -226,7 +295,11 @@ public void deployApplicationWithoutServices() throws Exception {
         MicoApplication application = getTestApplication();
         given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
 
-        mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+        MvcResult asyncResult = mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(status().isUnprocessableEntity())
             .andExpect(status().reason(Matchers.containsString("services")));
@@ -241,12 +314,355 @@ public void deployApplicationWithServiceWithoutServiceInterface() throws Excepti
         application.getServiceDeploymentInfos().add(new MicoServiceDeploymentInfo().setService(service));
         given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
 
-        mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+        MvcResult asyncResult = mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(status().isUnprocessableEntity())
             .andExpect(status().reason(Matchers.containsString("interfaces")));
     }
 
+    @Test
+    public void undeployApplicationInBackground() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication();
+        application.getServices().add(service);
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(micoKubernetesClient.getApplicationDeploymentStatus(application))
+            .willReturn(MicoApplicationDeploymentStatus.deployed("deployed"));
+        given(backgroundJobBroker.getJobStatusOfApplication(application))
+            .willReturn(new MicoApplicationJobStatus()
+                .setApplicationShortName(SHORT_NAME)
+                .setApplicationVersion(VERSION)
+                .setStatus(MicoServiceBackgroundJob.Status.PENDING));
+
+        mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/undeploy"))
+            .andDo(print())
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.status", is(MicoServiceBackgroundJob.Status.PENDING.toString())));
+
+        ArgumentCaptor<MicoServiceBackgroundJob> jobCaptor = ArgumentCaptor.forClass(MicoServiceBackgroundJob.class);
+        verify(backgroundJobBroker).saveJob(jobCaptor.capture());
+        assertEquals(MicoServiceBackgroundJob.Type.UNDEPLOY, jobCaptor.getValue().getType());
+        assertEquals(MicoServiceBackgroundJob.Status.PENDING, jobCaptor.getValue().getStatus());
+        assertEquals(service.getShortName(), jobCaptor.getValue().getServiceShortName());
+        verify(micoKubernetesClient, timeout(2000)).undeployApplication(application);
+    }
+
+    @Test
+    public void undeployApplicationFailureIsReportedByTheUndeployJob() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication();
+        application.getServices().add(service);
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(micoKubernetesClient.getApplicationDeploymentStatus(application))
+            .willReturn(MicoApplicationDeploymentStatus.deployed("deployed"));
+        given(backgroundJobBroker.getJobStatusOfApplication(application))
+            .willReturn(new MicoApplicationJobStatus()
+                .setApplicationShortName(SHORT_NAME)
+                .setApplicationVersion(VERSION)
+                .setStatus(MicoServiceBackgroundJob.Status.RUNNING));
+        // No undeployment is in progress before the undeploy job is started
+        given(backgroundJobBroker.getJobByMicoService(service.getShortName(), service.getVersion(), MicoServiceBackgroundJob.Type.UNDEPLOY))
+            .willReturn(Optional.empty(), Optional.of(new MicoServiceBackgroundJob()
+                .setServiceShortName(service.getShortName())
+                .setServiceVersion(service.getVersion())
+                .setType(MicoServiceBackgroundJob.Type.UNDEPLOY)
+                .setStatus(MicoServiceBackgroundJob.Status.RUNNING)));
+        willThrow(new IllegalStateException("Service deployment info does not exist!"))
+            .given(micoKubernetesClient).undeployApplication(application);
+
+        mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/undeploy"))
+            .andDo(print())
+            .andExpect(status().isAccepted());
+
+        verify(backgroundJobBroker, timeout(2000)).saveNewStatus(eq(service.getShortName()), eq(service.getVersion()),
+            eq(MicoServiceBackgroundJob.Type.UNDEPLOY), eq(MicoServiceBackgroundJob.Status.ERROR),
+            contains("Service deployment info does not exist!"));
+    }
+
+    @Test
+    public void deployAndUndeployApplicationAreRejectedWhileUndeploying() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication();
+        application.getServices().add(service);
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(micoKubernetesClient.getApplicationDeploymentStatus(application))
+            .willReturn(MicoApplicationDeploymentStatus.pending("undeploying"));
+        given(backgroundJobBroker.getJobByMicoService(service.getShortName(), service.getVersion(), MicoServiceBackgroundJob.Type.UNDEPLOY))
+            .willReturn(Optional.of(new MicoServiceBackgroundJob()
+                .setId("undeploy-job")
+                .setServiceShortName(service.getShortName())
+                .setServiceVersion(service.getVersion())
+                .setType(MicoServiceBackgroundJob.Type.UNDEPLOY)
+                .setStatus(MicoServiceBackgroundJob.Status.PENDING)));
+
+        MvcResult asyncResult = mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mvc.perform(asyncDispatch(asyncResult))
+            .andDo(print())
+            .andExpect(status().isConflict());
+
+        mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/undeploy"))
+            .andDo(print())
+            .andExpect(status().isConflict())
+            .andExpect(status().reason(Matchers.containsString("is currently undeploying")));
+
+        // The pending undeploy job is neither replaced nor deleted
+        verify(backgroundJobBroker, never()).deleteJob("undeploy-job");
+        verify(backgroundJobBroker, never()).saveJob(any(MicoServiceBackgroundJob.class));
+        verify(imageBuilder, never()).build(any(MicoService.class));
+    }
+
+    @Test
+    public void deployApplicationWithResourceRequestExceedingDefaultLimit() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication().setDefaultCpuLimit("500m");
+        application.getServices().add(service);
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(SHORT_NAME, VERSION, service.getShortName(), service.getVersion()))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(service).setCpuRequest("1")));
+
+        MvcResult asyncResult = mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mvc.perform(asyncDispatch(asyncResult))
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(status().reason(Matchers.containsString("cpu request '1'")));
+
+        verify(backgroundJobBroker, never()).saveJob(any(MicoServiceBackgroundJob.class));
+        verify(imageBuilder, never()).build(any(MicoService.class));
+    }
+
+    @Test
+    public void deployApplicationWithBuildAlreadyInFlight() throws Exception {
+        // The build of the first service is already running for another application
+        MicoService runningService = getTestService().setId(ID_2).setShortName(SHORT_NAME_2);
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication();
+        application.getServices().add(runningService);
+        application.getServices().add(service);
+
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(SHORT_NAME, VERSION, runningService.getShortName(), runningService.getVersion()))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(runningService)));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(SHORT_NAME, VERSION, service.getShortName(), service.getVersion()))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(service)));
+        given(serviceDeploymentInfoRepository.save(any(MicoServiceDeploymentInfo.class), eq(1)))
+            .willAnswer(invocation -> invocation.getArgument(0));
+        given(backgroundJobBroker.getJobByMicoService(runningService.getShortName(), runningService.getVersion(), MicoServiceBackgroundJob.Type.BUILD))
+            .willReturn(Optional.of(new MicoServiceBackgroundJob()
+                .setServiceShortName(runningService.getShortName())
+                .setServiceVersion(runningService.getVersion())
+                .setType(MicoServiceBackgroundJob.Type.BUILD)
+                .setStatus(MicoServiceBackgroundJob.Status.RUNNING)));
+        given(backgroundJobBroker.getJobByMicoService(service.getShortName(), service.getVersion(), MicoServiceBackgroundJob.Type.BUILD))
+            .willReturn(Optional.empty());
+        given(imageBuilder.build(service)).willReturn(CompletableFuture.completedFuture(IntegrationTest.DOCKER_IMAGE_URI));
+        given(backgroundJobBroker.getJobStatusOfApplication(application))
+            .willReturn(new MicoApplicationJobStatus().setApplicationShortName(SHORT_NAME).setApplicationVersion(VERSION));
+
+        MvcResult asyncResult = mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mvc.perform(asyncDispatch(asyncResult))
+            .andDo(print())
+            .andExpect(status().isAccepted());
+
+        // Sleep is required to wait for background job (another thread)
+        Thread.sleep(500);
+
+        // The rollout and the job status belong to the built service, not to the service at the same position
+        verify(imageBuilder, never()).build(runningService);
+        verify(micoKubernetesClient, times(1)).createMicoService(serviceDeploymentInfoArgumentCaptor.capture(), eq(application));
+        assertEquals(service, serviceDeploymentInfoArgumentCaptor.getValue().getService());
+        verify(rolloutTracker, times(1)).track(service, NAMESPACE_NAME, DEPLOYMENT_NAME);
+        verify(rolloutTracker, never()).track(eq(runningService), any(), any());
+        verify(backgroundJobBroker, times(1)).saveNewStatus(service.getShortName(), service.getVersion(),
+            MicoServiceBackgroundJob.Type.BUILD, MicoServiceBackgroundJob.Status.DONE);
+        verify(backgroundJobBroker, never()).saveNewStatus(eq(runningService.getShortName()), eq(runningService.getVersion()),
+            eq(MicoServiceBackgroundJob.Type.BUILD), any(MicoServiceBackgroundJob.Status.class));
+    }
+
+    @Test
+    public void deployApplicationWithInvalidResourceQuantity() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication().setDefaultCpuLimit("500m");
+        application.getServices().add(service);
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        // A value that was stored before the quantities were validated
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(SHORT_NAME, VERSION, service.getShortName(), service.getVersion()))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(service).setCpuRequest("1.2.3")));
+
+        MvcResult asyncResult = mvc.perform(post(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/deploy"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mvc.perform(asyncDispatch(asyncResult))
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(status().reason(Matchers.containsString("Invalid quantity")));
+
+        verify(backgroundJobBroker, never()).saveJob(any(MicoServiceBackgroundJob.class));
+        verify(imageBuilder, never()).build(any(MicoService.class));
+    }
+
+    @Test
+    public void deployApplicationsWithSharedService() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication();
+        application.getServices().add(service);
+        MicoApplication otherApplication = getTestApplication().setId(ID_2).setShortName(SHORT_NAME_1);
+        otherApplication.getServices().add(service);
+
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME_1, VERSION)).willReturn(Optional.of(otherApplication));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(any(), any(), eq(service.getShortName()), eq(service.getVersion())))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(service)));
+        given(serviceDeploymentInfoRepository.save(any(MicoServiceDeploymentInfo.class), eq(1)))
+            .willAnswer(invocation -> invocation.getArgument(0));
+        given(imageBuilder.build(service)).willReturn(CompletableFuture.completedFuture(IntegrationTest.DOCKER_IMAGE_URI));
+        given(backgroundJobBroker.getJobByMicoService(service.getShortName(), service.getVersion(), MicoServiceBackgroundJob.Type.BUILD))
+            .willReturn(Optional.empty());
+        given(backgroundJobBroker.saveDeploymentBatch(any(MicoDeploymentBatch.class)))
+            .willAnswer(invocation -> invocation.<MicoDeploymentBatch>getArgument(0).setId(BATCH_ID));
+        given(backgroundJobBroker.getDeploymentBatchJobStatus(BATCH_ID))
+            .willReturn(Optional.of(new MicoDeploymentBatchJobStatus()
+                .setId(BATCH_ID)
+                .setStatus(MicoServiceBackgroundJob.Status.RUNNING)
+                .setApplicationJobStatuses(CollectionUtils.listOf(
+                    new MicoApplicationJobStatus().setApplicationShortName(SHORT_NAME).setApplicationVersion(VERSION),
+                    new MicoApplicationJobStatus().setApplicationShortName(SHORT_NAME_1).setApplicationVersion(VERSION)))));
+
+        MicoDeploymentBatchRequestDTO deploymentBatchDto = new MicoDeploymentBatchRequestDTO().setApplications(CollectionUtils.listOf(
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME, VERSION),
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME_1, VERSION),
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME, VERSION)));
+
+        mvc.perform(post(BATCH_BASE_PATH + "/deploy")
+            .content(mapper.writeValueAsBytes(deploymentBatchDto))
+            .contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andDo(print())
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.id", is(BATCH_ID)))
+            .andExpect(jsonPath("$.applicationJobStatuses.length()", is(2)));
+
+        // Sleep is required to wait for background job (another thread)
+        Thread.sleep(500);
+
+        // The shared service is built only once, but deployed for both applications
+        verify(imageBuilder, times(1)).build(service);
+        verify(backgroundJobBroker, times(1)).saveJob(any(MicoServiceBackgroundJob.class));
+        verify(micoKubernetesClient, times(2)).createMicoService(any(MicoServiceDeploymentInfo.class), any(MicoApplication.class));
+        verify(micoKubernetesClient, times(1)).createOrUpdateInterfaceConnections(application);
+        verify(micoKubernetesClient, times(1)).createOrUpdateInterfaceConnections(otherApplication);
+    }
+
+    @Test
+    public void deployApplicationsWithUnknownApplication() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication();
+        application.getServices().add(service);
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME_1, VERSION)).willReturn(Optional.empty());
+
+        MicoDeploymentBatchRequestDTO deploymentBatchDto = new MicoDeploymentBatchRequestDTO().setApplications(CollectionUtils.listOf(
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME, VERSION),
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME_1, VERSION)));
+
+        mvc.perform(post(BATCH_BASE_PATH + "/deploy")
+            .content(mapper.writeValueAsBytes(deploymentBatchDto))
+            .contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andDo(print())
+            .andExpect(status().isNotFound());
+
+        // No application is deployed if one of them is not deployable
+        verify(imageBuilder, never()).build(any(MicoService.class));
+    }
+
+    @Test
+    public void deployApplicationsWithMissingServiceDeploymentInfoStartsNoBuild() throws Exception {
+        MicoService service = getTestService();
+        MicoApplication application = getTestApplication();
+        application.getServices().add(service);
+        MicoApplication otherApplication = getTestApplication().setId(ID_2).setShortName(SHORT_NAME_1);
+        otherApplication.getServices().add(service);
+
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME_1, VERSION)).willReturn(Optional.of(otherApplication));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(eq(SHORT_NAME), eq(VERSION), eq(service.getShortName()), eq(service.getVersion())))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(service)));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(eq(SHORT_NAME_1), eq(VERSION), eq(service.getShortName()), eq(service.getVersion())))
+            .willReturn(Optional.empty());
+
+        MicoDeploymentBatchRequestDTO deploymentBatchDto = new MicoDeploymentBatchRequestDTO().setApplications(CollectionUtils.listOf(
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME, VERSION),
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME_1, VERSION)));
+
+        try {
+            mvc.perform(post(BATCH_BASE_PATH + "/deploy")
+                .content(mapper.writeValueAsBytes(deploymentBatchDto))
+                .contentType(MediaType.APPLICATION_JSON_UTF8_VALUE));
+            fail("Expected the deployment to fail because of the missing service deployment information");
+        } catch (NestedServletException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        // The deployment of the first application must not be started either
+        verify(backgroundJobBroker, never()).saveJob(any(MicoServiceBackgroundJob.class));
+        verify(imageBuilder, never()).build(any(MicoService.class));
+        verify(backgroundJobBroker, never()).saveDeploymentBatch(any(MicoDeploymentBatch.class));
+    }
+
+    @Test
+    public void deployApplicationsCancelsStartedBuildsIfALaterBuildCannotBeStarted() throws Exception {
+        MicoService service = getTestService();
+        MicoService otherService = getTestService().setId(ID_2).setShortName(SERVICE_SHORT_NAME_1);
+        MicoApplication application = getTestApplication();
+        application.getServices().add(service);
+        MicoApplication otherApplication = getTestApplication().setId(ID_2).setShortName(SHORT_NAME_1);
+        otherApplication.getServices().add(otherService);
+        MicoServiceBackgroundJob startedJob = new MicoServiceBackgroundJob()
+            .setId("started-job")
+            .setServiceShortName(service.getShortName())
+            .setServiceVersion(service.getVersion())
+            .setType(MicoServiceBackgroundJob.Type.BUILD)
+            .setStatus(MicoServiceBackgroundJob.Status.PENDING);
+
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME, VERSION)).willReturn(Optional.of(application));
+        given(applicationRepository.findByShortNameAndVersion(SHORT_NAME_1, VERSION)).willReturn(Optional.of(otherApplication));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(any(), any(), eq(service.getShortName()), eq(service.getVersion())))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(service)));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(any(), any(), eq(otherService.getShortName()), eq(otherService.getVersion())))
+            .willReturn(Optional.of(new MicoServiceDeploymentInfo().setService(otherService)));
+        given(imageBuilder.build(service)).willReturn(new CompletableFuture<>());
+        // The first lookup checks for an existing job, the second one is done by the cancellation
+        given(backgroundJobBroker.getJobByMicoService(service.getShortName(), service.getVersion(), MicoServiceBackgroundJob.Type.BUILD))
+            .willReturn(Optional.empty(), Optional.of(startedJob));
+        given(backgroundJobBroker.getJobByMicoService(otherService.getShortName(), otherService.getVersion(), MicoServiceBackgroundJob.Type.BUILD))
+            .willThrow(new IllegalStateException("Jobs are not available"));
+
+        MicoDeploymentBatchRequestDTO deploymentBatchDto = new MicoDeploymentBatchRequestDTO().setApplications(CollectionUtils.listOf(
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME, VERSION),
+            new MicoApplicationIdentifierRequestDTO(SHORT_NAME_1, VERSION)));
+
+        try {
+            mvc.perform(post(BATCH_BASE_PATH + "/deploy")
+                .content(mapper.writeValueAsBytes(deploymentBatchDto))
+                .contentType(MediaType.APPLICATION_JSON_UTF8_VALUE));
+            fail("Expected the deployment to fail because the second build could not be started");
+        } catch (NestedServletException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        // The already started build of the first application is cancelled and no deployment batch is left behind
+        verify(backgroundJobBroker, times(1)).deleteJob(startedJob.getId());
+        verify(backgroundJobBroker, never()).saveDeploymentBatch(any(MicoDeploymentBatch.class));
+    }
+
     private MicoApplication getTestApplication() {
         return new MicoApplication()
             .setId(ID)
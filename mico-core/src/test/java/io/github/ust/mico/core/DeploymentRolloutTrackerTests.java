@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core;
+
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentConditionBuilder;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import io.github.ust.mico.core.configuration.MicoKubernetesConfig;
+import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.service.DeploymentRolloutTracker;
+import io.github.ust.mico.core.service.DeploymentRolloutTracker.RolloutState;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+
+public class DeploymentRolloutTrackerTests {
+
+    private static final String NAMESPACE = "test-namespace";
+    private static final String DEPLOYMENT_NAME = "test-deployment";
+    private static final String DEPLOYMENT_PATH = "/apis/apps/v1/namespaces/" + NAMESPACE + "/deployments/" + DEPLOYMENT_NAME;
+    private static final String WATCH_PATH = "/apis/apps/v1/namespaces/" + NAMESPACE
+        + "/deployments?fieldSelector=metadata.name%3D" + DEPLOYMENT_NAME + "&watch=true";
+
+    // The CRUD mode of the mock server does not support watches, so expectations are used
+    @Rule
+    public KubernetesServer mockServer = new KubernetesServer(false, false);
+
+    private MicoKubernetesConfig micoKubernetesConfig;
+    private MeterRegistry meterRegistry;
+    private DeploymentRolloutTracker rolloutTracker;
+    private MicoService micoService;
+
+    @Before
+    public void setUp() {
+        micoKubernetesConfig = new MicoKubernetesConfig();
+        micoKubernetesConfig.setNamespaceMicoWorkspace(NAMESPACE);
+        meterRegistry = new SimpleMeterRegistry();
+        rolloutTracker = new DeploymentRolloutTracker(mockServer.getClient(), micoKubernetesConfig, meterRegistry);
+        rolloutTracker.init();
+        micoService = new MicoService().setShortName("service").setVersion("v1.0.0");
+    }
+
+    @After
+    public void tearDown() {
+        rolloutTracker.destroy();
+    }
+
+    @Test
+    public void completedRolloutIsDetectedImmediately() throws Exception {
+        mockServer.expect().get().withPath(DEPLOYMENT_PATH).andReturn(200, createDeployment(2, 2, 2, 2)).once();
+        mockServer.expect().get().withPath(WATCH_PATH).andUpgradeToWebSocket().open().done().once();
+
+        Duration timeToReady = rolloutTracker.track(micoService, NAMESPACE, DEPLOYMENT_NAME).get(5, TimeUnit.SECONDS);
+
+        assertNotNull(timeToReady);
+        assertEquals(1, meterRegistry.timer(MetricsUtils.DEPLOYMENT_ROLLOUTS, "service", "service", "outcome", "ready").count());
+    }
+
+    @Test
+    public void rolloutCompletesAsSoonAsAllReplicasAreAvailable() throws Exception {
+        mockServer.expect().get().withPath(DEPLOYMENT_PATH).andReturn(200, createDeployment(2, 2, 2, 1)).once();
+        mockServer.expect().get().withPath(WATCH_PATH).andUpgradeToWebSocket().open()
+            .waitFor(500).andEmit(new WatchEvent(createDeployment(2, 2, 2, 1), "MODIFIED"))
+            .waitFor(500).andEmit(new WatchEvent(createDeployment(2, 2, 2, 2), "MODIFIED"))
+            .done().once();
+
+        CompletableFuture<Duration> rollout = rolloutTracker.track(micoService, NAMESPACE, DEPLOYMENT_NAME);
+        assertFalse(rollout.isDone());
+
+        assertNotNull(rollout.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void exceededProgressDeadlineFailsRollout() throws Exception {
+        Deployment deployment = createDeployment(2, 1, 1, 1);
+        deployment.getStatus().getConditions().add(new DeploymentConditionBuilder()
+            .withType("Progressing").withStatus("False").withReason("ProgressDeadlineExceeded").build());
+        mockServer.expect().get().withPath(DEPLOYMENT_PATH).andReturn(200, deployment).once();
+        mockServer.expect().get().withPath(WATCH_PATH).andUpgradeToWebSocket().open().done().once();
+
+        try {
+            rolloutTracker.track(micoService, NAMESPACE, DEPLOYMENT_NAME).get(5, TimeUnit.SECONDS);
+            fail("Expected the rollout to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertEquals(1, meterRegistry.timer(MetricsUtils.DEPLOYMENT_ROLLOUTS, "service", "service", "outcome", "deadline_exceeded").count());
+    }
+
+    @Test
+    public void rolloutWithoutProgressTimesOut() throws Exception {
+        micoKubernetesConfig.setRolloutProgressDeadline(1);
+        mockServer.expect().get().withPath(DEPLOYMENT_PATH).andReturn(200, createDeployment(2, 2, 2, 1)).once();
+        mockServer.expect().get().withPath(WATCH_PATH).andUpgradeToWebSocket().open().done().once();
+
+        try {
+            rolloutTracker.track(micoService, NAMESPACE, DEPLOYMENT_NAME).get(5, TimeUnit.SECONDS);
+            fail("Expected the rollout to time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    @Test
+    public void rolloutIsInProgressUntilOldReplicasAreTerminated() {
+        assertEquals(RolloutState.IN_PROGRESS, rolloutTracker.getRolloutState(createDeployment(2, 3, 2, 2)));
+        assertEquals(RolloutState.IN_PROGRESS, rolloutTracker.getRolloutState(createDeployment(2, 2, 1, 1)));
+        assertEquals(RolloutState.COMPLETE, rolloutTracker.getRolloutState(createDeployment(2, 2, 2, 2)));
+    }
+
+    private Deployment createDeployment(int desiredReplicas, int replicas, int updatedReplicas, int availableReplicas) {
+        return new DeploymentBuilder()
+            .withNewMetadata().withName(DEPLOYMENT_NAME).withNamespace(NAMESPACE).withGeneration(1L).endMetadata()
+            .withNewSpec().withReplicas(desiredReplicas).endSpec()
+            .withNewStatus()
+            .withObservedGeneration(1L)
+            .withReplicas(replicas)
+            .withUpdatedReplicas(updatedReplicas)
+            .withAvailableReplicas(availableReplicas)
+            .withReadyReplicas(availableReplicas)
+            .endStatus()
+            .build();
+    }
+}
@@ -38,7 +38,7 @@ public class GitHubCrawlerTests {
 
     @Test
     public void testMakeUriToMatchGitHubApi() {
-        GitHubCrawler crawler = new GitHubCrawler(null, null);
+        GitHubCrawler crawler = new GitHubCrawler(null, null, null);
 
         assertEquals(REPO_URI_API, crawler.adaptUriForGitHubApi(REPO_URI_HTML));
         assertEquals(REPO_URI_API, crawler.adaptUriForGitHubApi(REPO_URI_WITH_SLASH));
@@ -19,13 +19,32 @@
 
 package io.github.ust.mico.core;
 
+import io.fabric8.kubernetes.api.model.ContainerStateBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodStatusBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ServiceAccountBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.api.model.apiextensions.CustomResourceDefinition;
+import io.fabric8.kubernetes.api.model.apiextensions.CustomResourceDefinitionBuilder;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
 import io.github.ust.mico.core.TestConstants.*;
 import io.github.ust.mico.core.configuration.MicoKubernetesBuildBotConfig;
 import io.github.ust.mico.core.exception.NotInitializedException;
 import io.github.ust.mico.core.model.MicoService;
+import io.github.ust.mico.core.service.imagebuilder.BuildList;
+import io.github.ust.mico.core.service.imagebuilder.DoneableBuild;
 import io.github.ust.mico.core.service.imagebuilder.ImageBuilder;
+import io.github.ust.mico.core.service.imagebuilder.buildtypes.Build;
+import io.github.ust.mico.core.service.imagebuilder.buildtypes.BuildStatus;
+import io.github.ust.mico.core.service.imagebuilder.buildtypes.BuildStep;
+import io.github.ust.mico.core.service.imagebuilder.buildtypes.ClusterSpec;
+import io.github.ust.mico.core.util.CollectionUtils;
 import io.github.ust.mico.core.util.KubernetesNameNormalizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -35,10 +54,24 @@
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static io.github.ust.mico.core.TestConstants.*;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -48,18 +81,22 @@ public class ImageBuilderTests {
     @Rule
     public KubernetesServer mockServer = new KubernetesServer(false, true);
 
+    private static final String BUILD_NAMESPACE = "build-execution-namespace";
+    private static final String SERVICE_ACCOUNT_NAME = "service-account-name";
+
     private ImageBuilder imageBuilder;
+    private MicoKubernetesBuildBotConfig buildBotConfig;
 
     @Before
     public void setUp() {
-        MicoKubernetesBuildBotConfig buildBotConfig = new MicoKubernetesBuildBotConfig();
-        buildBotConfig.setNamespaceBuildExecution("build-execution-namespace");
+        buildBotConfig = new MicoKubernetesBuildBotConfig();
+        buildBotConfig.setNamespaceBuildExecution(BUILD_NAMESPACE);
         buildBotConfig.setKanikoExecutorImageUrl("kaniko-executor-image-url");
-        buildBotConfig.setDockerRegistryServiceAccountName("service-account-name");
+        buildBotConfig.setDockerRegistryServiceAccountName(SERVICE_ACCOUNT_NAME);
         buildBotConfig.setDockerImageRepositoryUrl("image-repository-url");
 
         KubernetesNameNormalizer kubernetesNameNormalizer = new KubernetesNameNormalizer();
-        imageBuilder = new ImageBuilder(mockServer.getClient(), buildBotConfig, kubernetesNameNormalizer);
+        imageBuilder = new ImageBuilder(mockServer.getClient(), buildBotConfig, kubernetesNameNormalizer, new SimpleMeterRegistry());
     }
 
     @After
@@ -78,4 +115,229 @@ public void withoutInitializingAnErrorIsThrown() throws NotInitializedException,
 
         imageBuilder.build(micoService);
     }
+
+    @Test
+    public void buildUsesBuildTuningOptions() throws Exception {
+        buildBotConfig.setBuildCacheEnabled(true);
+        buildBotConfig.setBuildCacheRepository("image-repository-url/cache");
+        buildBotConfig.setBuildCpuRequest("1");
+        CustomResourceDefinition buildCRD = initImageBuilder();
+
+        MicoService micoService = new MicoService()
+            .setShortName(SERVICE_SHORT_NAME)
+            .setVersion(SERVICE_VERSION)
+            .setName(NAME)
+            .setGitCloneUrl(IntegrationTest.GIT_CLONE_URL)
+            .setBuildSnapshotMode("time")
+            .setBuildMemoryRequest("2Gi");
+        try {
+            imageBuilder.build(micoService);
+        } catch (ExecutionException e) {
+            // The mock server does not execute the build
+        }
+
+        List<Build> builds = mockServer.getClient()
+            .customResources(buildCRD, Build.class, BuildList.class, DoneableBuild.class)
+            .inNamespace(BUILD_NAMESPACE).list().getItems();
+        assertEquals(1, builds.size());
+        BuildStep buildStep = builds.get(0).getSpec().getSteps().get(0);
+        assertThat(buildStep.getArgs(), hasItems(
+            "--cache=true",
+            "--cache-repo=image-repository-url/cache",
+            "--cache-ttl=336h",
+            "--snapshotMode=time"));
+        assertEquals(new Quantity("1"), buildStep.getResources().getRequests().get("cpu"));
+        assertEquals(new Quantity("2Gi"), buildStep.getResources().getRequests().get("memory"));
+    }
+
+    @Test
+    public void buildWithoutCacheRepositoryDoesNotUseCache() throws Exception {
+        buildBotConfig.setBuildCacheEnabled(true);
+        buildBotConfig.setBuildCacheRepository(null);
+        CustomResourceDefinition buildCRD = initImageBuilder();
+
+        MicoService micoService = new MicoService()
+            .setShortName(SERVICE_SHORT_NAME)
+            .setVersion(SERVICE_VERSION)
+            .setName(NAME)
+            .setGitCloneUrl(IntegrationTest.GIT_CLONE_URL);
+        try {
+            imageBuilder.build(micoService);
+        } catch (ExecutionException e) {
+            // The mock server does not execute the build
+        }
+
+        List<Build> builds = mockServer.getClient()
+            .customResources(buildCRD, Build.class, BuildList.class, DoneableBuild.class)
+            .inNamespace(BUILD_NAMESPACE).list().getItems();
+        assertEquals(1, builds.size());
+        assertThat(builds.get(0).getSpec().getSteps().get(0).getArgs(), not(hasItem("--cache=true")));
+    }
+
+    @Test
+    public void buildReturnsImageUriPinnedByDigest() throws Exception {
+        CustomResourceDefinition buildCRD = initImageBuilder();
+        NonNamespaceOperation<Build, BuildList, DoneableBuild, Resource<Build, DoneableBuild>> buildClient = mockServer.getClient()
+            .customResources(buildCRD, Build.class, BuildList.class, DoneableBuild.class).inNamespace(BUILD_NAMESPACE);
+        String digest = "sha256:" + String.join("", Collections.nCopies(8, "0123abcd"));
+
+        MicoService micoService = new MicoService()
+            .setShortName(SERVICE_SHORT_NAME)
+            .setVersion(SERVICE_VERSION)
+            .setName(NAME)
+            .setGitCloneUrl(IntegrationTest.GIT_CLONE_URL);
+        CompletableFuture<String> buildFuture = CompletableFuture.supplyAsync(() -> {
+            try {
+                return imageBuilder.build(micoService).get();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+
+        // Simulate Knative Build: Wait until the build is created, then let the build pod succeed
+        String buildName = imageBuilder.createBuildName(micoService);
+        Build build = buildClient.withName(buildName).get();
+        for (int i = 0; i < 50 && build == null; i++) {
+            Thread.sleep(100);
+            build = buildClient.withName(buildName).get();
+        }
+        assertNotNull("Build was not created", build);
+        build.setStatus(new BuildStatus().setCluster(new ClusterSpec().setNamespace(BUILD_NAMESPACE).setPodName("build-pod")));
+        buildClient.createOrReplace(build);
+        mockServer.getClient().pods().inNamespace(BUILD_NAMESPACE).create(new PodBuilder()
+            .withNewMetadata().withName("build-pod").endMetadata()
+            .withNewStatus()
+            .withPhase("Succeeded")
+            .addNewInitContainerStatus()
+            .withName("build-step-build-and-push")
+            .withNewState().withNewTerminated().withReason("Completed").withMessage(digest).endTerminated().endState()
+            .endInitContainerStatus()
+            .endStatus()
+            .build());
+
+        assertEquals("image-repository-url/" + SERVICE_SHORT_NAME + ":" + SERVICE_VERSION + "@" + digest,
+            buildFuture.get(30, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void getBuildPodReturnsPodOfMostRecentBuild() {
+        MicoService micoService = new MicoService()
+            .setShortName(SERVICE_SHORT_NAME)
+            .setVersion(SERVICE_VERSION);
+        String buildName = imageBuilder.createBuildName(micoService);
+        mockServer.getClient().pods().inNamespace(BUILD_NAMESPACE).create(createBuildPod("build-pod-old", buildName, "2019-07-01T10:00:00Z"));
+        mockServer.getClient().pods().inNamespace(BUILD_NAMESPACE).create(createBuildPod("build-pod-new", buildName, "2019-07-02T10:00:00Z"));
+        mockServer.getClient().pods().inNamespace(BUILD_NAMESPACE).create(createBuildPod("build-pod-other", "build-other-v1-0-0", "2019-07-03T10:00:00Z"));
+
+        Optional<Pod> buildPod = imageBuilder.getBuildPod(micoService);
+
+        assertTrue(buildPod.isPresent());
+        assertEquals("build-pod-new", buildPod.get().getMetadata().getName());
+        assertEquals(CollectionUtils.listOf("build-step-credential-initializer", "build-step-git-source-0", "build-step-build-and-push"),
+            imageBuilder.getBuildStepContainerNames(buildPod.get()));
+    }
+
+    @Test
+    public void getBuildPodWithoutBuild() {
+        MicoService micoService = new MicoService()
+            .setShortName(SERVICE_SHORT_NAME)
+            .setVersion(SERVICE_VERSION);
+
+        assertFalse(imageBuilder.getBuildPod(micoService).isPresent());
+    }
+
+    @Test
+    public void waitUntilBuildStepIsStarted() {
+        Pod buildPod = createBuildPod("build-pod", "build-name", "2019-07-01T10:00:00Z");
+        buildPod.setStatus(new PodStatusBuilder()
+            .withPhase("Pending")
+            .addNewInitContainerStatus()
+            .withName("build-step-git-source-0")
+            .withNewState().withNewRunning().endRunning().endState()
+            .endInitContainerStatus()
+            .addNewInitContainerStatus()
+            .withName("build-step-build-and-push")
+            .withNewState().withNewWaiting().withReason("PodInitializing").endWaiting().endState()
+            .endInitContainerStatus()
+            .build());
+        mockServer.getClient().pods().inNamespace(BUILD_NAMESPACE).create(buildPod);
+
+        assertTrue(imageBuilder.waitUntilBuildStepIsStarted("build-pod", "build-step-git-source-0"));
+        assertFalse(imageBuilder.waitUntilBuildStepIsStarted("not-existing-build-pod", "build-step-git-source-0"));
+
+        // A step that is still waiting when the build has failed will not be started anymore
+        buildPod.getStatus().setPhase("Failed");
+        mockServer.getClient().pods().inNamespace(BUILD_NAMESPACE).createOrReplace(buildPod);
+        assertFalse(imageBuilder.waitUntilBuildStepIsStarted("build-pod", "build-step-build-and-push"));
+    }
+
+    @Test
+    public void waitUntilBuildStepIsStartedWatchesBuildPod() throws Exception {
+        Pod waitingBuildPod = createBuildPod("build-pod", "build-name", "2019-07-01T10:00:00Z");
+        waitingBuildPod.setStatus(new PodStatusBuilder()
+            .withPhase("Pending")
+            .addNewInitContainerStatus()
+            .withName("build-step-build-and-push")
+            .withNewState().withNewWaiting().withReason("PodInitializing").endWaiting().endState()
+            .endInitContainerStatus()
+            .build());
+        Pod startedBuildPod = new PodBuilder(waitingBuildPod).build();
+        startedBuildPod.getStatus().getInitContainerStatuses().get(0)
+            .setState(new ContainerStateBuilder().withNewRunning().endRunning().build());
+
+        // The CRUD mode of the mock server does not support watches, so expectations are used
+        KubernetesServer watchingMockServer = new KubernetesServer(false, false);
+        watchingMockServer.before();
+        try {
+            String podPath = "/api/v1/namespaces/" + BUILD_NAMESPACE + "/pods";
+            watchingMockServer.expect().get().withPath(podPath + "/build-pod").andReturn(200, waitingBuildPod).once();
+            watchingMockServer.expect().get().withPath(podPath + "?fieldSelector=metadata.name%3Dbuild-pod&watch=true")
+                .andUpgradeToWebSocket().open()
+                .waitFor(500).andEmit(new WatchEvent(waitingBuildPod, "MODIFIED"))
+                .waitFor(500).andEmit(new WatchEvent(startedBuildPod, "MODIFIED"))
+                .done().once();
+            ImageBuilder watchingImageBuilder = new ImageBuilder(watchingMockServer.getClient(), buildBotConfig,
+                new KubernetesNameNormalizer(), new SimpleMeterRegistry());
+
+            CompletableFuture<Boolean> buildStepStarted = CompletableFuture.supplyAsync(
+                () -> watchingImageBuilder.waitUntilBuildStepIsStarted("build-pod", "build-step-build-and-push"));
+
+            assertTrue(buildStepStarted.get(5, TimeUnit.SECONDS));
+        } finally {
+            watchingMockServer.after();
+        }
+    }
+
+    private Pod createBuildPod(String podName, String buildName, String creationTimestamp) {
+        return new PodBuilder()
+            .withNewMetadata()
+            .withName(podName)
+            .withCreationTimestamp(creationTimestamp)
+            .addToLabels(ImageBuilder.BUILD_NAME_LABEL, buildName)
+            .endMetadata()
+            .withNewSpec()
+            .addNewInitContainer().withName("build-step-credential-initializer").endInitContainer()
+            .addNewInitContainer().withName("build-step-git-source-0").endInitContainer()
+            .addNewInitContainer().withName("build-step-build-and-push").endInitContainer()
+            .addNewContainer().withName("nop").endContainer()
+            .endSpec()
+            .build();
+    }
+
+    private CustomResourceDefinition initImageBuilder() throws NotInitializedException {
+        CustomResourceDefinition buildCRD = new CustomResourceDefinitionBuilder()
+            .withNewMetadata().withName("builds." + ImageBuilder.BUILD_CRD_GROUP).endMetadata()
+            .withNewSpec()
+            .withGroup(ImageBuilder.BUILD_CRD_GROUP)
+            .withVersion("v1alpha1")
+            .withScope("Namespaced")
+            .withNewNames().withKind("Build").withListKind("BuildList").withPlural("builds").withSingular("build").endNames()
+            .endSpec()
+            .build();
+        mockServer.getClient().customResourceDefinitions().create(buildCRD);
+        mockServer.getClient().serviceAccounts().inNamespace(BUILD_NAMESPACE)
+            .create(new ServiceAccountBuilder().withNewMetadata().withName(SERVICE_ACCOUNT_NAME).endMetadata().build());
+        imageBuilder.init();
+        return buildCRD;
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.github.ust.mico.core;
+
+import io.github.ust.mico.core.configuration.MicoKubernetesConfig;
+import io.github.ust.mico.core.model.KubernetesDeploymentInfo;
+import io.github.ust.mico.core.persistence.KubernetesDeploymentInfoRepository;
+import io.github.ust.mico.core.service.KubernetesDeploymentInfoWriter;
+import io.github.ust.mico.core.util.CollectionUtils;
+import io.github.ust.mico.core.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class KubernetesDeploymentInfoWriterTests {
+
+    private KubernetesDeploymentInfoRepository kubernetesDeploymentInfoRepository;
+    private PlatformTransactionManager transactionManager;
+    private MeterRegistry meterRegistry;
+    private KubernetesDeploymentInfoWriter kubernetesDeploymentInfoWriter;
+
+    @Before
+    public void setUp() {
+        kubernetesDeploymentInfoRepository = mock(KubernetesDeploymentInfoRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        MicoKubernetesConfig micoKubernetesConfig = new MicoKubernetesConfig();
+        micoKubernetesConfig.setDeploymentInfoWriteBackBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        kubernetesDeploymentInfoWriter = new KubernetesDeploymentInfoWriter(kubernetesDeploymentInfoRepository,
+            micoKubernetesConfig, transactionManager, meterRegistry);
+    }
+
+    @Test
+    public void coalescesDriftOfTheSameDeploymentInfo() {
+        KubernetesDeploymentInfo stored = createKubernetesDeploymentInfo(1L, "service-a", "service-b");
+        KubernetesDeploymentInfo firstUpdate = createKubernetesDeploymentInfo(1L, "service-a");
+        KubernetesDeploymentInfo secondUpdate = createKubernetesDeploymentInfo(1L);
+        givenStored(stored);
+
+        kubernetesDeploymentInfoWriter.submitUpdate(stored, firstUpdate);
+        // Detected by a second status request before the first drift is written
+        kubernetesDeploymentInfoWriter.submitUpdate(copy(stored), secondUpdate);
+        assertEquals(1, kubernetesDeploymentInfoWriter.getPendingCount());
+
+        kubernetesDeploymentInfoWriter.flush();
+
+        assertEquals(0, kubernetesDeploymentInfoWriter.getPendingCount());
+        assertEquals(CollectionUtils.listOf(secondUpdate), captureSaved().get(0));
+        verify(kubernetesDeploymentInfoRepository, never()).deleteAll(anyIterable());
+        assertEquals(1, meterRegistry.counter(MetricsUtils.DEPLOYMENT_INFO_DRIFT_WRITES, "result", "updated").count(), 0);
+    }
+
+    @Test
+    public void discardsDriftOfChangedOrDeletedDeploymentInfo() {
+        KubernetesDeploymentInfo detected = createKubernetesDeploymentInfo(1L, "service-a");
+        // Redeployed in the meantime
+        KubernetesDeploymentInfo redeployed = createKubernetesDeploymentInfo(1L, "service-a", "service-b");
+        // Undeployed in the meantime, is not stored anymore
+        KubernetesDeploymentInfo undeployed = createKubernetesDeploymentInfo(2L, "service-c");
+        givenStored(redeployed);
+
+        kubernetesDeploymentInfoWriter.submitUpdate(detected, createKubernetesDeploymentInfo(1L));
+        kubernetesDeploymentInfoWriter.submitDeletion(undeployed);
+        kubernetesDeploymentInfoWriter.flush();
+
+        verify(kubernetesDeploymentInfoRepository, never()).save(anyIterable(), anyInt());
+        verify(kubernetesDeploymentInfoRepository, never()).deleteAll(anyIterable());
+        assertEquals(2, meterRegistry.counter(MetricsUtils.DEPLOYMENT_INFO_DRIFT_WRITES, "result", "discarded").count(), 0);
+    }
+
+    @Test
+    public void writesPendingDriftInBatches() {
+        List<KubernetesDeploymentInfo> stored = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            stored.add(createKubernetesDeploymentInfo(id, "service-" + id));
+        }
+        givenStored(stored.toArray(new KubernetesDeploymentInfo[0]));
+
+        for (int i = 0; i < 4; i++) {
+            KubernetesDeploymentInfo current = stored.get(i);
+            kubernetesDeploymentInfoWriter.submitUpdate(current, createKubernetesDeploymentInfo(current.getId()));
+        }
+        kubernetesDeploymentInfoWriter.submitDeletion(stored.get(4));
+        kubernetesDeploymentInfoWriter.flush();
+
+        // 5 drifts with a batch size of 2 -> 3 transactions
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(4, captureSaved().stream().mapToInt(List::size).sum());
+        verify(kubernetesDeploymentInfoRepository).deleteAll(eq(CollectionUtils.listOf(stored.get(4))));
+        assertEquals(0, kubernetesDeploymentInfoWriter.getPendingCount());
+    }
+
+    private KubernetesDeploymentInfo createKubernetesDeploymentInfo(Long id, String... serviceNames) {
+        return new KubernetesDeploymentInfo()
+            .setId(id)
+            .setNamespace("namespace")
+            .setDeploymentName("deployment-" + id)
+            .setServiceNames(CollectionUtils.listOf(serviceNames));
+    }
+
+    private KubernetesDeploymentInfo copy(KubernetesDeploymentInfo kubernetesDeploymentInfo) {
+        return new KubernetesDeploymentInfo(kubernetesDeploymentInfo.getId(), kubernetesDeploymentInfo.getNamespace(),
+            kubernetesDeploymentInfo.getDeploymentName(), new ArrayList<>(kubernetesDeploymentInfo.getServiceNames()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStored(KubernetesDeploymentInfo... kubernetesDeploymentInfos) {
+        when(kubernetesDeploymentInfoRepository.findAllById(anyIterable(), eq(0))).thenAnswer(invocation -> {
+            Collection<Long> ids = new ArrayList<>((Collection<Long>) invocation.getArgument(0));
+            List<KubernetesDeploymentInfo> result = new ArrayList<>();
+            for (KubernetesDeploymentInfo kubernetesDeploymentInfo : kubernetesDeploymentInfos) {
+                if (ids.contains(kubernetesDeploymentInfo.getId())) {
+                    // The repository returns new instances
+                    result.add(copy(kubernetesDeploymentInfo));
+                }
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<KubernetesDeploymentInfo>> captureSaved() {
+        ArgumentCaptor<List<KubernetesDeploymentInfo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(kubernetesDeploymentInfoRepository, atLeastOnce()).save(captor.capture(), eq(0));
+        return captor.getAllValues();
+    }
+}
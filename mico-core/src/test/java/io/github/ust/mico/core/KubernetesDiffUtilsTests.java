@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.github.ust.mico.core;
+
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.github.ust.mico.core.util.KubernetesDiffUtils;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class KubernetesDiffUtilsTests {
+
+    @Test
+    public void serverPopulatedFieldsAreIgnored() {
+        Deployment desired = createDeployment("500m", "image:v1");
+        Deployment live = new DeploymentBuilder(createDeployment("0.5", "image:v1"))
+            .editMetadata().withResourceVersion("42").withUid("uid").endMetadata()
+            .editSpec().withProgressDeadlineSeconds(600).endSpec()
+            .withNewStatus().withReplicas(1).withAvailableReplicas(1).endStatus()
+            .build();
+        live.getSpec().getTemplate().getSpec().getContainers().get(0).setTerminationMessagePath("/dev/termination-log");
+
+        assertTrue(KubernetesDiffUtils.isUpToDate(desired, live));
+    }
+
+    @Test
+    public void changedAndRemovedFieldsAreDetected() {
+        Deployment live = createDeployment("500m", "image:v1");
+
+        assertFalse(KubernetesDiffUtils.isUpToDate(createDeployment("1", "image:v1"), live));
+        assertFalse(KubernetesDiffUtils.isUpToDate(createDeployment("500m", "image:v2"), live));
+        Deployment desiredWithoutLabel = new DeploymentBuilder(live).editMetadata().removeFromLabels("app").endMetadata().build();
+        assertFalse(KubernetesDiffUtils.isUpToDate(desiredWithoutLabel, live));
+    }
+
+    @Test
+    public void desiredStateIsAppliedToLiveObject() {
+        Deployment live = new DeploymentBuilder(createDeployment("500m", "image:v1"))
+            .editMetadata().withResourceVersion("42").endMetadata()
+            .build();
+        live.getSpec().getTemplate().getSpec().getContainers().get(0).setTerminationMessagePath("/dev/termination-log");
+
+        Deployment patched = KubernetesDiffUtils.applyDesiredState(createDeployment("500m", "image:v2"), live);
+
+        assertEquals("image:v2", patched.getSpec().getTemplate().getSpec().getContainers().get(0).getImage());
+        assertEquals("42", patched.getMetadata().getResourceVersion());
+        assertEquals("/dev/termination-log", patched.getSpec().getTemplate().getSpec().getContainers().get(0).getTerminationMessagePath());
+    }
+
+    @Test
+    public void removedOptionalBlocksAreDetectedAndCleared() {
+        Deployment live = createDeployment("500m", "image:v1");
+        Container liveContainer = live.getSpec().getTemplate().getSpec().getContainers().get(0);
+        liveContainer.getResources().getLimits().put("memory", new Quantity("1Gi"));
+        liveContainer.setEnv(Collections.singletonList(new EnvVar("KEY", "value", null)));
+        live.getSpec().getTemplate().getSpec().setAffinity(new AffinityBuilder()
+            .withNewNodeAffinity()
+            .withNewRequiredDuringSchedulingIgnoredDuringExecution()
+            .addNewNodeSelectorTerm().addNewMatchExpression().withKey("disktype").withOperator("In").withValues("ssd").endMatchExpression().endNodeSelectorTerm()
+            .endRequiredDuringSchedulingIgnoredDuringExecution()
+            .endNodeAffinity()
+            .build());
+        Deployment desired = createDeployment("500m", "image:v1");
+
+        assertFalse(KubernetesDiffUtils.isUpToDate(desired, live));
+
+        Deployment patched = KubernetesDiffUtils.applyDesiredState(desired, live);
+        Container patchedContainer = patched.getSpec().getTemplate().getSpec().getContainers().get(0);
+        assertNull(patched.getSpec().getTemplate().getSpec().getAffinity());
+        assertTrue(patchedContainer.getEnv().isEmpty());
+        assertFalse(patchedContainer.getResources().getLimits().containsKey("memory"));
+        assertTrue(KubernetesDiffUtils.isUpToDate(desired, patched));
+    }
+
+    @Test
+    public void emptyOptionalBlocksOfLiveObjectAreIgnored() {
+        Deployment live = createDeployment("500m", "image:v1");
+        live.getSpec().getTemplate().getSpec().getContainers().get(0).setEnv(Collections.emptyList());
+
+        assertTrue(KubernetesDiffUtils.isUpToDate(createDeployment("500m", "image:v1"), live));
+    }
+
+    private Deployment createDeployment(String cpuRequest, String image) {
+        return new DeploymentBuilder()
+            .withNewMetadata().withName("deployment").withNamespace("namespace").addToLabels("app", "test").endMetadata()
+            .withNewSpec()
+            .withReplicas(1)
+            .withNewTemplate()
+            .withNewSpec()
+            .withContainers(new ContainerBuilder()
+                .withName("container")
+                .withImage(image)
+                .withNewResources().addToRequests("cpu", new Quantity(cpuRequest)).endResources()
+                .build())
+            .endSpec()
+            .endTemplate()
+            .endSpec()
+            .build();
+    }
+}
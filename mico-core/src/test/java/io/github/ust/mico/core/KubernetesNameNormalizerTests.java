@@ -58,6 +58,10 @@ public void normalizeName() {
             normalizer.normalizeName("first second"),
             equalTo("first-second"));
 
+        collector.checkThat("Whitespace characters should be normalized to one dash",
+            normalizer.normalizeName("first \t\nsecond"),
+            equalTo("first-second"));
+
         collector.checkThat("Combined characters should be replaced",
             normalizer.normalizeName("r̀r̂r̃r̈rʼŕřt̀t̂ẗţỳỹẙyʼy̎ýÿŷp̂p̈s̀s̃s̈s̊sʼs̸śŝŞşšd̂d̃d̈ďdʼḑf̈f̸g̀g̃g̈gʼģq\u200C\u200B́ĝǧḧĥ"),
             equalTo("rrrrrrrttttyyyyyyyyppsssssssssssddddddffgggggqgghh"));
@@ -91,6 +95,24 @@ public void normalizeName() {
             equalTo("name"));
     }
 
+    @Test
+    public void normalizeNameRepeatedly() {
+        String name = "UST-MICO Service_Name.js";
+        String normalizedName = normalizer.normalizeName(name);
+
+        collector.checkThat("Repeated normalization should return the same name",
+            normalizer.normalizeName(name),
+            equalTo(normalizedName));
+        collector.checkThat("Build name should be normalized",
+            normalizer.createBuildName("UST-MICO Service_Name.js", "v1.0.0"),
+            equalTo("build-ust-mico-service-name-js-v1-0-0"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nameWithoutValidCharacters() {
+        normalizer.normalizeName("?#_.");
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void nameToLong() {
         normalizer.normalizeName("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"); //55 chars
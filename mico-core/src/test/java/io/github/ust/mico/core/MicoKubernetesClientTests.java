@@ -27,6 +27,7 @@
 import java.util.stream.Collectors;
 
 import io.github.ust.mico.core.exception.MicoApplicationNotFoundException;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -52,10 +53,14 @@
 import io.github.ust.mico.core.persistence.KubernetesDeploymentInfoRepository;
 import io.github.ust.mico.core.persistence.MicoApplicationRepository;
 import io.github.ust.mico.core.persistence.MicoServiceDeploymentInfoRepository;
+import io.github.ust.mico.core.service.KubernetesDeploymentInfoWriter;
 import io.github.ust.mico.core.service.MicoKubernetesClient;
 import io.github.ust.mico.core.service.imagebuilder.ImageBuilder;
 import io.github.ust.mico.core.util.CollectionUtils;
+import io.github.ust.mico.core.util.MetricsUtils;
 import io.github.ust.mico.core.util.UIDUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -91,8 +96,13 @@ public class MicoKubernetesClientTests {
     @MockBean
     private KubernetesDeploymentInfoRepository kubernetesDeploymentInfoRepository;
 
+    @MockBean
+    private KubernetesDeploymentInfoWriter kubernetesDeploymentInfoWriter;
+
     private MicoKubernetesClient micoKubernetesClient;
 
+    private MeterRegistry meterRegistry;
+
     private static String testNamespace = "test-namespace";
     private static String buildTestNamespace = "test-namespace";
 
@@ -102,13 +112,20 @@ public void setUp() {
         given(micoKubernetesBuildBotConfig.getNamespaceBuildExecution()).willReturn(buildTestNamespace);
         given(micoKubernetesBuildBotConfig.isBuildCleanUpByUndeploy()).willReturn(true);
 
+        meterRegistry = new SimpleMeterRegistry();
         micoKubernetesClient = new MicoKubernetesClient(micoKubernetesConfig, micoKubernetesBuildBotConfig,
             mockServer.getClient(), imageBuilder, backgroundJobBroker, applicationRepository,
-            serviceDeploymentInfoRepository, kubernetesDeploymentInfoRepository);
+            serviceDeploymentInfoRepository, kubernetesDeploymentInfoRepository, kubernetesDeploymentInfoWriter, meterRegistry);
+        micoKubernetesClient.init();
 
         mockServer.getClient().namespaces().create(new NamespaceBuilder().withNewMetadata().withName(testNamespace).endMetadata().build());
     }
 
+    @After
+    public void tearDown() {
+        micoKubernetesClient.destroy();
+    }
+
     @Test
     public void creationOfMicoServiceWorks() {
         // Assert that at the beginning there are no deployment
@@ -172,6 +189,66 @@ public void creationOfMicoServiceWithDeploymentInformationWorks() {
         assertTrue("Custom environment variable is not present", actualCustomEnvVar.isPresent());
     }
 
+    @Test
+    public void creationOfMicoServiceWithResourceRequirementsFallsBackToApplicationDefaults() {
+        MicoService micoService = getMicoServiceWithoutInterface();
+        MicoApplication micoApplication = new MicoApplication()
+            .setShortName(SHORT_NAME)
+            .setVersion(VERSION)
+            .setDefaultCpuRequest("100m")
+            .setDefaultCpuLimit("200m")
+            .setDefaultMemoryRequest("64Mi")
+            .setDefaultMemoryLimit("128Mi");
+        MicoServiceDeploymentInfo serviceDeploymentInfo = new MicoServiceDeploymentInfo()
+            .setService(micoService)
+            .setCpuRequest("250m")
+            .setMemoryLimit("256Mi");
+
+        micoKubernetesClient.createMicoService(serviceDeploymentInfo, micoApplication);
+
+        Deployment actualDeployment = mockServer.getClient().apps().deployments().inNamespace(testNamespace).list().getItems().get(0);
+        ResourceRequirements actualResources = actualDeployment.getSpec().getTemplate().getSpec().getContainers().get(0).getResources();
+        assertNotNull("Expected resource requirements of the container", actualResources);
+        assertEquals("CPU request of the deployment information was not used",
+            new Quantity("250m"), actualResources.getRequests().get("cpu"));
+        assertEquals("Default memory request of the application was not used",
+            new Quantity("64Mi"), actualResources.getRequests().get("memory"));
+        assertEquals("Default CPU limit of the application was not used",
+            new Quantity("200m"), actualResources.getLimits().get("cpu"));
+        assertEquals("Memory limit of the deployment information was not used",
+            new Quantity("256Mi"), actualResources.getLimits().get("memory"));
+    }
+
+    @Test
+    public void creationOfMicoServiceWithPlacementPoliciesCreatesAffinity() {
+        MicoService micoService = getMicoServiceWithoutInterface();
+        MicoServiceDeploymentInfo serviceDeploymentInfo = new MicoServiceDeploymentInfo()
+            .setService(micoService)
+            .setSpreadPolicy(MicoServiceDeploymentInfo.SpreadPolicy.ZONES)
+            .setSelfAntiAffinity(true)
+            .setAffinityServiceShortName("dependee-service");
+
+        micoKubernetesClient.createMicoService(serviceDeploymentInfo);
+
+        Deployment actualDeployment = mockServer.getClient().apps().deployments().inNamespace(testNamespace).list().getItems().get(0);
+        Affinity actualAffinity = actualDeployment.getSpec().getTemplate().getSpec().getAffinity();
+        assertNotNull("Expected affinity of the pods", actualAffinity);
+        String deploymentName = actualDeployment.getMetadata().getName();
+
+        List<PodAffinityTerm> requiredAntiAffinityTerms = actualAffinity.getPodAntiAffinity().getRequiredDuringSchedulingIgnoredDuringExecution();
+        assertEquals("Expected one required anti-affinity term", 1, requiredAntiAffinityTerms.size());
+        assertEquals("kubernetes.io/hostname", requiredAntiAffinityTerms.get(0).getTopologyKey());
+        assertEquals(deploymentName, requiredAntiAffinityTerms.get(0).getLabelSelector().getMatchLabels().get(LABEL_INSTANCE_KEY));
+
+        List<WeightedPodAffinityTerm> preferredAntiAffinityTerms = actualAffinity.getPodAntiAffinity().getPreferredDuringSchedulingIgnoredDuringExecution();
+        assertEquals("Expected one preferred anti-affinity term", 1, preferredAntiAffinityTerms.size());
+        assertEquals("failure-domain.beta.kubernetes.io/zone", preferredAntiAffinityTerms.get(0).getPodAffinityTerm().getTopologyKey());
+
+        List<WeightedPodAffinityTerm> preferredAffinityTerms = actualAffinity.getPodAffinity().getPreferredDuringSchedulingIgnoredDuringExecution();
+        assertEquals("Expected one preferred affinity term", 1, preferredAffinityTerms.size());
+        assertEquals("dependee-service", preferredAffinityTerms.get(0).getPodAffinityTerm().getLabelSelector().getMatchLabels().get(LABEL_NAME_KEY));
+    }
+
     @Test
     public void creationOfMicoServiceInterfaceWorks() throws KubernetesResourceException {
         // Assert that at the beginning there are no deployment
@@ -265,14 +342,46 @@ public void creationOfMicoServiceInterfaceThatAlreadyExistsReplaceTheSameObject(
         assertEquals("Expected both services are the same", firstService, secondService);
     }
 
+    @Test
+    public void creationOfUnchangedMicoServiceSkipsUpdates() throws KubernetesResourceException {
+        MicoService micoService = getMicoService();
+        MicoServiceDeploymentInfo deploymentInfo = new MicoServiceDeploymentInfo().setService(micoService);
+
+        micoKubernetesClient.createMicoService(deploymentInfo);
+        micoKubernetesClient.createMicoServiceInterface(getMicoServiceInterface(), micoService);
+        micoKubernetesClient.createMicoService(deploymentInfo);
+        micoKubernetesClient.createMicoServiceInterface(getMicoServiceInterface(), micoService);
+
+        assertEquals(1, getKubernetesWrites("deployments", "created"), 0);
+        assertEquals(1, getKubernetesWrites("deployments", "skipped"), 0);
+        assertEquals(1, getKubernetesWrites("services", "created"), 0);
+        assertEquals(1, getKubernetesWrites("services", "skipped"), 0);
+    }
+
+    @Test
+    public void creationOfChangedMicoServicePatchesTheDeployment() {
+        MicoService micoService = getMicoServiceWithoutInterface();
+        MicoServiceDeploymentInfo deploymentInfo = new MicoServiceDeploymentInfo().setService(micoService)
+            .setLabels(CollectionUtils.listOf(new MicoLabel().setKey("obsolete").setValue("label")));
+        micoKubernetesClient.createMicoService(deploymentInfo);
+
+        deploymentInfo.setReplicas(3).setLabels(new ArrayList<>());
+        // The mock server does not store patched objects, so the response of the patch is checked
+        Deployment patchedDeployment = micoKubernetesClient.createMicoService(deploymentInfo);
+
+        assertEquals(3, patchedDeployment.getSpec().getReplicas().intValue());
+        assertFalse("Expected the removed label to be removed from the deployment",
+            patchedDeployment.getMetadata().getLabels().containsKey("obsolete"));
+        assertEquals(1, getKubernetesWrites("deployments", "patched"), 0);
+    }
+
     @Test
     public void getApplicationDeploymentStatusForDeployedApplication() throws MicoApplicationNotFoundException {
         MicoApplication micoApplication = setUpApplicationDeployment();
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.DONE, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         assertEquals("Application is expected to be deployed but actually is not.",
             MicoApplicationDeploymentStatus.Value.DEPLOYED,
@@ -285,8 +394,7 @@ public void getApplicationDeploymentStatusForPendingDeployment() throws MicoAppl
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.PENDING, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         assertEquals("Application is expected not to be deployed due to the deployment not having started yet.",
             MicoApplicationDeploymentStatus.Value.PENDING,
@@ -299,8 +407,7 @@ public void getApplicationDeploymentStatusForRunningDeployment() throws MicoAppl
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.RUNNING, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         assertEquals("Application is expected not to be deployed due to the deployment currently being in progress.",
             MicoApplicationDeploymentStatus.Value.PENDING,
@@ -313,8 +420,7 @@ public void getApplicationDeploymentStatusForFailedDeployment() throws MicoAppli
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.ERROR, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         assertEquals("Application is expected not to be deployed due to the deployment having failed.",
             MicoApplicationDeploymentStatus.Value.INCOMPLETE,
@@ -327,8 +433,7 @@ public void getApplicationDeploymentStatusForApplicationWithoutServiceDeployment
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.DONE, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         given(serviceDeploymentInfoRepository.findAllByApplication(
             micoApplication.getShortName(), micoApplication.getVersion())).willReturn(Collections.emptyList());
@@ -344,8 +449,7 @@ public void getApplicationDeploymentStatusForApplicationWithoutKubernetesDeploym
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.DONE, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         given(serviceDeploymentInfoRepository.findAllByApplication(
             micoApplication.getShortName(), micoApplication.getVersion())).willReturn(
@@ -362,8 +466,7 @@ public void getApplicationDeploymentStatusForApplicationWithNoUpdatedKubernetesD
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.DONE, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         mockServer.getClient().apps().deployments().inNamespace(testNamespace).delete();
 
@@ -381,8 +484,7 @@ public void getApplicationDeploymentStatusForApplicationWithUnknownStatus() thro
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.UNDEFINED, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         assertEquals("Application deployment status is expected to be unknown because the name of the Kubernetes deployment name is missing.",
             MicoApplicationDeploymentStatus.Value.UNKNOWN,
@@ -395,8 +497,7 @@ public void getApplicationDeploymentStatusForApplicationWithDeploymentNotAvailab
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.UNDEFINED, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         List<Deployment> deployments = mockServer.getClient().apps().deployments().inNamespace(testNamespace).list().getItems();
         assertEquals("Expected 2 deployments before deletion of one", 2, deployments.size());
@@ -407,6 +508,9 @@ public void getApplicationDeploymentStatusForApplicationWithDeploymentNotAvailab
         assertEquals("Application deployment status is expected to be incomplete because a Kubernetes deployment is missing.",
             MicoApplicationDeploymentStatus.Value.INCOMPLETE,
             micoKubernetesClient.getApplicationDeploymentStatus(micoApplication).getValue());
+        // The outdated deployment information is deleted later by the writer, not by the status request
+        verify(kubernetesDeploymentInfoWriter).submitDeletion(any(KubernetesDeploymentInfo.class));
+        verify(kubernetesDeploymentInfoRepository, never()).delete(any(KubernetesDeploymentInfo.class));
     }
 
     @Test
@@ -420,8 +524,7 @@ public void getApplicationDeploymentStatusForApplicationWithTwoServices_FirstUnk
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.UNDEFINED, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         List<Deployment> deployments = mockServer.getClient().apps().deployments().inNamespace(testNamespace).list().getItems();
         assertEquals("Expected 2 deployments before deletion of one", 2, deployments.size());
@@ -444,12 +547,12 @@ public void getApplicationDeploymentStatusForApplicationWithKubernetesServiceNot
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.UNDEFINED, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         List<Service> kubernetesServices = mockServer.getClient().services().inNamespace(testNamespace).list().getItems();
         assertEquals("Expected 2 Kubernetes Services before deletion of one", 2, kubernetesServices.size());
-        mockServer.getClient().services().inNamespace(testNamespace).delete(kubernetesServices.get(0));
+        String kubernetesServiceNameToDelete = micoApplication.getServiceDeploymentInfos().get(0).getKubernetesDeploymentInfo().getServiceNames().get(0);
+        mockServer.getClient().services().inNamespace(testNamespace).withName(kubernetesServiceNameToDelete).delete();
         kubernetesServices = mockServer.getClient().services().inNamespace(testNamespace).list().getItems();
         assertEquals("Expected 1 Kubernetes Service after deletion of one", 1, kubernetesServices.size());
 
@@ -458,12 +561,13 @@ public void getApplicationDeploymentStatusForApplicationWithKubernetesServiceNot
             .setNamespace(micoApplication.getServiceDeploymentInfos().get(0).getKubernetesDeploymentInfo().getNamespace())
             .setDeploymentName(micoApplication.getServiceDeploymentInfos().get(0).getKubernetesDeploymentInfo().getDeploymentName())
             .setServiceNames(new ArrayList<>()); // There are no Kubernetes services anymore
-        given(kubernetesDeploymentInfoRepository.save(any(KubernetesDeploymentInfo.class)))
-            .willReturn(updatedKubernetesDeploymentInfoAfterDeletion);
 
         assertEquals("Application deployment status is expected to be incomplete because a Kubernetes Service is missing.",
             MicoApplicationDeploymentStatus.Value.INCOMPLETE,
             micoKubernetesClient.getApplicationDeploymentStatus(micoApplication).getValue());
+        // The updated deployment information is written back later by the writer, not by the status request
+        verify(kubernetesDeploymentInfoWriter).submitUpdate(any(KubernetesDeploymentInfo.class), eq(updatedKubernetesDeploymentInfoAfterDeletion));
+        verify(kubernetesDeploymentInfoRepository, never()).save(any(KubernetesDeploymentInfo.class));
     }
 
     @Test
@@ -472,8 +576,7 @@ public void isApplicationDeployed() throws MicoApplicationNotFoundException {
 
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.DONE, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         assertTrue("Expected application is not deployed.", micoKubernetesClient.isApplicationDeployed(micoApplication));
     }
@@ -498,7 +601,7 @@ public void isApplicationDeployedWithServicesUsedConcurrentlyByOtherApplications
 
         given(serviceDeploymentInfoRepository.findAllByApplication(SHORT_NAME_2, VERSION))
             .willReturn(CollectionUtils.listOf(serviceDeploymentInfo));
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(SHORT_NAME_2, VERSION))
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication))
             .willReturn(new MicoApplicationJobStatus(SHORT_NAME_2, VERSION, Status.UNDEFINED, Collections.emptyList()));
 
         boolean result = micoKubernetesClient.isApplicationDeployed(micoApplication);
@@ -513,8 +616,7 @@ public void isApplicationDeployedWithNotExistingServiceInterfaces() throws MicoA
         micoApplication.getServiceDeploymentInfos().get(0).getKubernetesDeploymentInfo().setServiceNames(new ArrayList<>());
         MicoApplicationJobStatus jobStatus = new MicoApplicationJobStatus(micoApplication.getShortName(),
             micoApplication.getVersion(), Status.ERROR, Collections.emptyList());
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(
-            micoApplication.getShortName(), micoApplication.getVersion())).willReturn(jobStatus);
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication)).willReturn(jobStatus);
 
         assertFalse("Expected application is not deployed, because there are no Kubernetes Services", micoKubernetesClient.isApplicationDeployed(micoApplication));
     }
@@ -557,6 +659,29 @@ public void undeployApplication() {
         assertTrue("Expected there is no Kubernetes Build pod", actualPods.isEmpty());
     }
 
+    @Test
+    public void undeployApplicationWithSeveralServicesDeletesAllResources() {
+        MicoApplication micoApplication = setUpApplicationDeployment(getMicoService(), getMicoService_2());
+        assertEquals(2, mockServer.getClient().apps().deployments().inNamespace(testNamespace).list().getItems().size());
+        assertEquals(2, mockServer.getClient().services().inNamespace(testNamespace).list().getItems().size());
+
+        micoKubernetesClient.undeployApplication(micoApplication);
+
+        assertTrue("Expected all Kubernetes deployments are deleted",
+            mockServer.getClient().apps().deployments().inNamespace(testNamespace).list().getItems().isEmpty());
+        assertTrue("Expected all Kubernetes services are deleted",
+            mockServer.getClient().services().inNamespace(testNamespace).list().getItems().isEmpty());
+        // The Kubernetes deployment information of all services is deleted at once
+        verify(kubernetesDeploymentInfoRepository).deleteAll(micoApplication.getServiceDeploymentInfos().stream()
+            .map(MicoServiceDeploymentInfo::getKubernetesDeploymentInfo).collect(Collectors.toList()));
+        for (MicoService micoService : micoApplication.getServices()) {
+            verify(backgroundJobBroker).saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                MicoServiceBackgroundJob.Type.UNDEPLOY, Status.RUNNING);
+            verify(backgroundJobBroker).saveNewStatus(micoService.getShortName(), micoService.getVersion(),
+                MicoServiceBackgroundJob.Type.UNDEPLOY, Status.DONE, null);
+        }
+    }
+
     @Test
     public void undeployApplicationIfServiceIsUsedByMultipleApplications() throws MicoApplicationNotFoundException {
         // Create a setup with 3 applications that all uses the same service:
@@ -616,11 +741,11 @@ public void undeployApplicationIfServiceIsUsedByMultipleApplications() throws Mi
             .willReturn(CollectionUtils.listOf(serviceDeploymentInfo3));
         given(applicationRepository.findAllByUsedService(micoService.getShortName(), micoService.getVersion()))
             .willReturn(CollectionUtils.listOf(micoApplication1, micoApplication2, micoApplication3));
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(micoApplication1.getShortName(), micoApplication1.getVersion()))
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication1))
             .willReturn(new MicoApplicationJobStatus(micoApplication1.getShortName(), micoApplication1.getVersion(), Status.DONE, new ArrayList<>()));
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(micoApplication2.getShortName(), micoApplication2.getVersion()))
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication2))
             .willReturn(new MicoApplicationJobStatus(micoApplication2.getShortName(), micoApplication2.getVersion(), Status.DONE, new ArrayList<>()));
-        given(backgroundJobBroker.getJobStatusByApplicationShortNameAndVersion(micoApplication3.getShortName(), micoApplication3.getVersion()))
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication3))
             .willReturn(new MicoApplicationJobStatus(micoApplication3.getShortName(), micoApplication3.getVersion(), Status.UNDEFINED, new ArrayList<>()));
 
         // Prepare build
@@ -658,6 +783,101 @@ public void undeployApplicationIfServiceIsUsedByMultipleApplications() throws Mi
         assertFalse("Expected there are still Kubernetes Build pods", actualPods.isEmpty());
     }
 
+    @Test
+    public void createOrUpdateHorizontalPodAutoscalerSumsBoundsOfSharingApplications() throws KubernetesResourceException {
+        // The service is already deployed by an application with a fixed number of replicas
+        MicoApplication micoApplication = setUpApplicationDeployment();
+        MicoService micoService = micoApplication.getServices().get(0);
+        String deploymentName = micoApplication.getServiceDeploymentInfos().get(0).getKubernetesDeploymentInfo().getDeploymentName();
+
+        MicoServiceDeploymentInfo serviceDeploymentInfo = new MicoServiceDeploymentInfo()
+            .setId(3001L)
+            .setService(micoService)
+            .setReplicas(2)
+            .setMinReplicas(2)
+            .setMaxReplicas(5)
+            .setTargetCpuUtilizationPercentage(70)
+            .setAutoscalingMetrics(CollectionUtils.listOf(new MicoAutoscalingMetric()
+                .setMetricName("http_requests_per_second").setTargetAverageValue("100")));
+
+        micoKubernetesClient.createOrUpdateHorizontalPodAutoscaler(serviceDeploymentInfo);
+
+        HorizontalPodAutoscaler actualHorizontalPodAutoscaler = mockServer.getClient().autoscaling()
+            .horizontalPodAutoscalers().inNamespace(testNamespace).withName(deploymentName).get();
+        assertNotNull("Expected horizontal pod autoscaler was created", actualHorizontalPodAutoscaler);
+        assertEquals(deploymentName, actualHorizontalPodAutoscaler.getSpec().getScaleTargetRef().getName());
+        assertEquals("Deployment", actualHorizontalPodAutoscaler.getSpec().getScaleTargetRef().getKind());
+        // The fixed replica of the other application counts for both bounds
+        assertEquals(3, actualHorizontalPodAutoscaler.getSpec().getMinReplicas().intValue());
+        assertEquals(6, actualHorizontalPodAutoscaler.getSpec().getMaxReplicas().intValue());
+        List<MetricSpec> metrics = actualHorizontalPodAutoscaler.getSpec().getMetrics();
+        assertEquals(2, metrics.size());
+        assertEquals(70, metrics.get(0).getResource().getTargetAverageUtilization().intValue());
+        assertEquals("http_requests_per_second", metrics.get(1).getPods().getMetricName());
+
+        // Disabling autoscaling deletes the autoscaler again
+        serviceDeploymentInfo.setMaxReplicas(null);
+        micoKubernetesClient.createOrUpdateHorizontalPodAutoscaler(serviceDeploymentInfo);
+
+        assertNull("Expected horizontal pod autoscaler was deleted", mockServer.getClient().autoscaling()
+            .horizontalPodAutoscalers().inNamespace(testNamespace).withName(deploymentName).get());
+    }
+
+    @Test
+    public void undeployApplicationIfServiceIsUsedByMultipleApplicationsReducesAutoscalingBounds() throws KubernetesResourceException {
+        MicoApplication micoApplication1 = setUpApplicationDeployment();
+        MicoService micoService = micoApplication1.getServices().get(0);
+        MicoServiceDeploymentInfo serviceDeploymentInfo1 = micoApplication1.getServiceDeploymentInfos().get(0)
+            .setReplicas(1)
+            .setMaxReplicas(4);
+        KubernetesDeploymentInfo kubernetesDeploymentInfo1 = serviceDeploymentInfo1.getKubernetesDeploymentInfo();
+
+        MicoServiceDeploymentInfo serviceDeploymentInfo2 = new MicoServiceDeploymentInfo()
+            .setId(3001L)
+            .setService(micoService)
+            .setReplicas(2)
+            .setMaxReplicas(6)
+            .setKubernetesDeploymentInfo(new KubernetesDeploymentInfo()
+                .setId(4001L)
+                .setNamespace(kubernetesDeploymentInfo1.getNamespace())
+                .setDeploymentName(kubernetesDeploymentInfo1.getDeploymentName())
+                .setServiceNames(kubernetesDeploymentInfo1.getServiceNames()));
+        MicoApplication micoApplication2 = new MicoApplication()
+            .setShortName(SHORT_NAME_1)
+            .setVersion(VERSION)
+            .setName(NAME_1)
+            .setServices(CollectionUtils.listOf(micoService))
+            .setServiceDeploymentInfos(CollectionUtils.listOf(serviceDeploymentInfo2));
+
+        given(serviceDeploymentInfoRepository.findAllByService(micoService.getShortName(), micoService.getVersion()))
+            .willReturn(CollectionUtils.listOf(serviceDeploymentInfo1, serviceDeploymentInfo2));
+        given(serviceDeploymentInfoRepository.findByApplicationAndService(
+            micoApplication2.getShortName(), micoApplication2.getVersion(), micoService.getShortName(), micoService.getVersion()))
+            .willReturn(Optional.of(serviceDeploymentInfo2));
+        given(serviceDeploymentInfoRepository.findAllByApplication(micoApplication2.getShortName(), micoApplication2.getVersion()))
+            .willReturn(CollectionUtils.listOf(serviceDeploymentInfo2));
+        given(applicationRepository.findAllByUsedService(micoService.getShortName(), micoService.getVersion()))
+            .willReturn(CollectionUtils.listOf(micoApplication1, micoApplication2));
+        given(backgroundJobBroker.getJobStatusOfApplication(micoApplication1))
+            .willReturn(new MicoApplicationJobStatus(micoApplication1.getShortName(), micoApplication1.getVersion(), Status.DONE, new ArrayList<>()));
+
+        micoKubernetesClient.createOrUpdateHorizontalPodAutoscaler(serviceDeploymentInfo2);
+        HorizontalPodAutoscaler horizontalPodAutoscaler = mockServer.getClient().autoscaling()
+            .horizontalPodAutoscalers().inNamespace(testNamespace).withName(kubernetesDeploymentInfo1.getDeploymentName()).get();
+        assertEquals(3, horizontalPodAutoscaler.getSpec().getMinReplicas().intValue());
+        assertEquals(10, horizontalPodAutoscaler.getSpec().getMaxReplicas().intValue());
+
+        micoKubernetesClient.undeployApplication(micoApplication2);
+
+        // The bounds are reduced to the ones of the remaining application.
+        // The mock server does not apply patches, therefore only check that the autoscaler is patched and still there.
+        assertEquals(1, getKubernetesWrites("horizontalpodautoscalers", "patched"), 0);
+        assertNotNull("Expected horizontal pod autoscaler is still there", mockServer.getClient().autoscaling()
+            .horizontalPodAutoscalers().inNamespace(testNamespace).withName(kubernetesDeploymentInfo1.getDeploymentName()).get());
+        assertNotNull("Expected Kubernetes deployment is still there", mockServer.getClient().apps().deployments()
+            .inNamespace(testNamespace).withName(kubernetesDeploymentInfo1.getDeploymentName()).get());
+    }
+
     public MicoApplication setUpApplicationDeployment() {
         return setUpApplicationDeployment(getMicoService());
     }
@@ -799,6 +1019,10 @@ private Service getServiceObject(MicoServiceInterface micoServiceInterface, Mico
             .build();
     }
 
+    private double getKubernetesWrites(String resource, String result) {
+        return meterRegistry.counter(MetricsUtils.KUBERNETES_WRITES, "resource", resource, "result", result).count();
+    }
+
     private MicoService getMicoService() {
         MicoService micoService = getMicoServiceWithoutInterface();
         MicoServiceInterface micoServiceInterface = getMicoServiceInterface();
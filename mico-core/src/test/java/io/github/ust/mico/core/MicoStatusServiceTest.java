@@ -234,15 +234,39 @@ public void getApplicationStatus() {
                 .setAvailableReplicas(1)
                 .setRequestedReplicas(1)
                 .setApplicationsUsingThisService(CollectionUtils.listOf(new MicoApplicationResponseDTO(otherMicoApplication)))
+                .setAverageCpuLoad(50.0 / 3)
+                .setMinCpuLoad(10)
+                .setP95CpuLoad(30)
+                .setMaxCpuLoad(30)
+                .setAverageMemoryUsage(56)
+                .setMinMemoryUsage(50)
+                .setP95MemoryUsage(70)
+                .setMaxMemoryUsage(70)
                 .setNodeMetrics(CollectionUtils.listOf(
                     new KubernetesNodeMetricsResponseDTO()
                         .setNodeName(nodeName1)
                         .setAverageCpuLoad(20)
-                        .setAverageMemoryUsage(60),
+                        .setMinCpuLoad(10)
+                        .setP95CpuLoad(30)
+                        .setMaxCpuLoad(30)
+                        .setAverageMemoryUsage(60)
+                        .setMinMemoryUsage(50)
+                        .setP95MemoryUsage(70)
+                        .setMaxMemoryUsage(70)
+                        .setPodCount(2)
+                        .setPodShare(50),
                     new KubernetesNodeMetricsResponseDTO()
                         .setNodeName(nodeName2)
                         .setAverageCpuLoad(10)
+                        .setMinCpuLoad(10)
+                        .setP95CpuLoad(10)
+                        .setMaxCpuLoad(10)
                         .setAverageMemoryUsage(50)
+                        .setMinMemoryUsage(50)
+                        .setP95MemoryUsage(50)
+                        .setMaxMemoryUsage(50)
+                        .setPodCount(2)
+                        .setPodShare(50)
                 ))
                 // Add four pods (on two different nodes)
                 .setPodsInformation(Arrays.asList(
@@ -335,11 +359,27 @@ public void getApplicationStatusWithMissingKubernetesService() {
                 .setAvailableReplicas(1)
                 .setRequestedReplicas(1)
                 .setApplicationsUsingThisService(CollectionUtils.listOf(new MicoApplicationResponseDTO(otherMicoApplication)))
+                .setAverageCpuLoad(30)
+                .setMinCpuLoad(30)
+                .setP95CpuLoad(30)
+                .setMaxCpuLoad(30)
+                .setAverageMemoryUsage(70)
+                .setMinMemoryUsage(70)
+                .setP95MemoryUsage(70)
+                .setMaxMemoryUsage(70)
                 .setNodeMetrics(CollectionUtils.listOf(
                     new KubernetesNodeMetricsResponseDTO()
                         .setNodeName(nodeName1)
                         .setAverageCpuLoad(30)
+                        .setMinCpuLoad(30)
+                        .setP95CpuLoad(30)
+                        .setMaxCpuLoad(30)
                         .setAverageMemoryUsage(70)
+                        .setMinMemoryUsage(70)
+                        .setP95MemoryUsage(70)
+                        .setMaxMemoryUsage(70)
+                        .setPodCount(1)
+                        .setPodShare(100)
                 ))
                 // Add four pods (on two different nodes)
                 .setPodsInformation(CollectionUtils.listOf(
@@ -399,6 +439,45 @@ public void getApplicationStatusWithMissingDeployment() {
     }
 
 
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    public void getResourceSizing() {
+        int cpuUsageInMillicores = 100;
+        int memoryUsageInBytes = 100 * 1024 * 1024;
+        given(micoKubernetesClient.getPodsCreatedByDeploymentOfMicoService(any(MicoService.class))).willReturn(podListWithOnePod.getItems());
+        given(prometheusConfig.getUri()).willReturn("http://localhost:9090/api/v1/query");
+        ResponseEntity responseEntityCpuUsage = getPrometheusResponseEntity(cpuUsageInMillicores);
+        ResponseEntity responseEntityMemoryUsage = getPrometheusResponseEntity(memoryUsageInBytes);
+        given(restTemplate.getForEntity(any(), eq(PrometheusResponseDTO.class)))
+            .willReturn(responseEntityCpuUsage)
+            .willReturn(responseEntityMemoryUsage);
+
+        MicoServiceResourceSizingResponseDTO expectedResourceSizing = new MicoServiceResourceSizingResponseDTO()
+            .setShortName(SHORT_NAME)
+            .setVersion(VERSION)
+            .setSampledPods(1)
+            .setAverageCpuUsage(cpuUsageInMillicores)
+            .setMaxCpuUsage(cpuUsageInMillicores)
+            .setAverageMemoryUsage(memoryUsageInBytes)
+            .setMaxMemoryUsage(memoryUsageInBytes)
+            .setCpuRequest("120m")
+            .setCpuLimit("150m")
+            .setMemoryRequest("120Mi")
+            .setMemoryLimit("150Mi");
+        assertEquals(expectedResourceSizing, micoStatusService.getResourceSizing(micoService));
+    }
+
+    @Test
+    public void getResourceSizingWithoutRunningPods() {
+        given(micoKubernetesClient.getPodsCreatedByDeploymentOfMicoService(any(MicoService.class))).willReturn(new ArrayList<>());
+
+        MicoServiceResourceSizingResponseDTO resourceSizing = micoStatusService.getResourceSizing(micoService);
+
+        assertEquals(0, resourceSizing.getSampledPods());
+        assertNull("Expected no suggestion without running pods", resourceSizing.getCpuRequest());
+        assertNull("Expected no suggestion without running pods", resourceSizing.getMemoryLimit());
+    }
+
     @SuppressWarnings("rawtypes")
     private ResponseEntity getPrometheusResponseEntity(int value) {
         PrometheusResponseDTO prometheusResponse = new PrometheusResponseDTO();
@@ -421,15 +500,39 @@ public void getServiceStatus() {
             .setAvailableReplicas(1)
             .setRequestedReplicas(1)
             .setApplicationsUsingThisService(CollectionUtils.listOf(new MicoApplicationResponseDTO(otherMicoApplication)))
+            .setAverageCpuLoad(50.0 / 3)
+            .setMinCpuLoad(10)
+            .setP95CpuLoad(30)
+            .setMaxCpuLoad(30)
+            .setAverageMemoryUsage(56)
+            .setMinMemoryUsage(50)
+            .setP95MemoryUsage(70)
+            .setMaxMemoryUsage(70)
             .setNodeMetrics(CollectionUtils.listOf(
                 new KubernetesNodeMetricsResponseDTO()
                     .setNodeName(nodeName1)
                     .setAverageCpuLoad(20)
-                    .setAverageMemoryUsage(60),
+                    .setMinCpuLoad(10)
+                    .setP95CpuLoad(30)
+                    .setMaxCpuLoad(30)
+                    .setAverageMemoryUsage(60)
+                    .setMinMemoryUsage(50)
+                    .setP95MemoryUsage(70)
+                    .setMaxMemoryUsage(70)
+                    .setPodCount(2)
+                    .setPodShare(50),
                 new KubernetesNodeMetricsResponseDTO()
                     .setNodeName(nodeName2)
                     .setAverageCpuLoad(10)
+                    .setMinCpuLoad(10)
+                    .setP95CpuLoad(10)
+                    .setMaxCpuLoad(10)
                     .setAverageMemoryUsage(50)
+                    .setMinMemoryUsage(50)
+                    .setP95MemoryUsage(50)
+                    .setMaxMemoryUsage(50)
+                    .setPodCount(2)
+                    .setPodShare(50)
             ))
             // Add four pods (on two different nodes)
             .setPodsInformation(Arrays.asList(
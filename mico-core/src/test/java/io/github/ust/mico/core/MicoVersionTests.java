@@ -28,6 +28,8 @@
 import org.springframework.test.context.junit4.SpringRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -90,6 +92,50 @@ public void createVersionForStringWithPrefix() throws VersionNotSupportedExcepti
         assertEquals(version.getPreReleaseVersion(), "rc.1");
     }
 
+    @Test
+    public void createVersionForStringWithPreReleaseAndBuildMetadata() throws VersionNotSupportedException {
+        MicoVersion version = MicoVersion.valueOf("v1.2.3-rc.1+build.5");
+        assertEquals(version.getPrefix(), "v");
+        assertEquals(version.getMajorVersion(), 1);
+        assertEquals(version.getMinorVersion(), 2);
+        assertEquals(version.getPatchVersion(), 3);
+        assertEquals(version.getPreReleaseVersion(), "rc.1");
+        assertEquals(version.getBuildMetadata(), "build.5");
+    }
+
+    @Test
+    public void createVersionForSameStringReturnsNewInstances() throws VersionNotSupportedException {
+        MicoVersion version = MicoVersion.valueOf("v1.0.0");
+        MicoVersion sameVersion = MicoVersion.valueOf("v1.0.0");
+        assertNotSame(version, sameVersion);
+
+        version.incrementMajorVersion();
+        assertEquals(version.toString(), "v2.0.0");
+        assertEquals(sameVersion.toString(), "v1.0.0");
+        assertEquals(MicoVersion.valueOf("v1.0.0").toString(), "v1.0.0");
+    }
+
+    @Test(expected = VersionNotSupportedException.class)
+    public void createVersionForStringWithLeadingZero() throws VersionNotSupportedException {
+        MicoVersion.valueOf("v1.01.0");
+    }
+
+    @Test
+    public void compareVersions() throws VersionNotSupportedException {
+        assertTrue(MicoVersion.valueOf("v1.2.3").lessThan(MicoVersion.valueOf("v1.10.0")));
+        assertTrue(MicoVersion.valueOf("v2.0.0").greaterThan(MicoVersion.valueOf("v1.99.99")));
+        assertTrue(MicoVersion.valueOf("v1.0.0-rc.1").lessThan(MicoVersion.valueOf("v1.0.0")));
+        assertTrue(MicoVersion.valueOf("v1.0.0-rc.2").greaterThan(MicoVersion.valueOf("v1.0.0-rc.1")));
+        assertTrue(MicoVersion.valueOf("1.0.0+build.1").lessThanOrEqualTo(MicoVersion.valueOf("1.0.0+build.2")));
+        // Numbers that do not fit into the packed representation
+        assertTrue(MicoVersion.valueOf("v3000000.0.0").greaterThan(MicoVersion.valueOf("v2999999.0.0")));
+        assertTrue(MicoVersion.valueOf("v3000000.0.0").greaterThan(MicoVersion.valueOf("v1.0.0")));
+
+        MicoVersion version = MicoVersion.valueOf("v1.0.0");
+        version.incrementMinorVersion();
+        assertTrue(version.greaterThan(MicoVersion.valueOf("v1.0.5")));
+    }
+
     @Test(expected = VersionNotSupportedException.class)
     public void createVersionForStringWithInvalidPrefix() throws VersionNotSupportedException {
         MicoVersion.valueOf("-1.0.0");
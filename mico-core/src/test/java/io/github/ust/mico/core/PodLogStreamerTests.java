@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.github.ust.mico.core;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.github.ust.mico.core.configuration.MicoAsyncRequestConfig;
+import io.github.ust.mico.core.service.PodLogStreamer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PodLogStreamerTests {
+
+    private PodLogStreamer podLogStreamer;
+
+    @Before
+    public void setUp() {
+        podLogStreamer = new PodLogStreamer(new MicoAsyncRequestConfig());
+        podLogStreamer.init();
+    }
+
+    @After
+    public void tearDown() {
+        podLogStreamer.destroy();
+    }
+
+    @Test
+    public void streamSingleLogWithoutPrefix() throws IOException {
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("pod-1", () -> new StringReader("first line\nsecond line\n"));
+
+        assertEquals("first line\nsecond line\n", streamLogs(logs, false));
+    }
+
+    @Test
+    public void streamFinishedLogsOneAfterTheOther() throws IOException {
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("pod-1", () -> new StringReader("a1\na2\n"));
+        logs.put("pod-2", () -> new StringReader("b1\n"));
+
+        assertEquals("[pod-1] a1\n[pod-1] a2\n[pod-2] b1\n", streamLogs(logs, false));
+    }
+
+    @Test
+    public void streamFollowedLogsMergesAllLines() throws IOException {
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("pod-1", () -> new StringReader(createLog("a", 1000)));
+        logs.put("pod-2", () -> new StringReader(createLog("b", 1000)));
+
+        List<String> lines = Arrays.asList(streamLogs(logs, true).split("\n"));
+
+        assertEquals(2000, lines.size());
+        // The lines of each log keep their order
+        assertEquals(Arrays.asList(createLog("[pod-1] a", 1000).split("\n")),
+            lines.stream().filter(line -> line.startsWith("[pod-1] ")).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(createLog("[pod-2] b", 1000).split("\n")),
+            lines.stream().filter(line -> line.startsWith("[pod-2] ")).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void streamLogsSequentiallyKeepsOrderOfLogs() throws IOException {
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("step-1", () -> new StringReader(createLog("a", 1000)));
+        logs.put("step-2", () -> new StringReader(createLog("b", 1000)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        podLogStreamer.streamLogsSequentially(logs, outputStream);
+
+        assertEquals(createLog("[step-1] a", 1000) + createLog("[step-2] b", 1000),
+            new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void streamLogsSkipsUnavailableLog() throws IOException {
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("pod-1", () -> {
+            throw new KubernetesClientException("container is waiting to start");
+        });
+        logs.put("pod-2", () -> new StringReader("b1\n"));
+
+        assertEquals("[pod-2] b1\n", streamLogs(logs, false));
+        assertEquals("[pod-2] b1\n", streamLogs(logs, true));
+    }
+
+    @Test(expected = TaskRejectedException.class)
+    public void streamFollowedLogsIsRejectedIfTooManyLogsAreFollowed() throws IOException {
+        MicoAsyncRequestConfig asyncRequestConfig = new MicoAsyncRequestConfig();
+        asyncRequestConfig.setLogFollowPoolSize(1);
+        PodLogStreamer limitedPodLogStreamer = new PodLogStreamer(asyncRequestConfig);
+        limitedPodLogStreamer.init();
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("pod-1", BlockingReader::new);
+        logs.put("pod-2", () -> new StringReader("b1\n"));
+
+        try {
+            limitedPodLogStreamer.streamLogs(logs, true, new ByteArrayOutputStream());
+        } finally {
+            limitedPodLogStreamer.destroy();
+        }
+    }
+
+    @Test
+    public void streamFollowedLogsStopsReadingIfClientDisconnects() {
+        BlockingReader runningLog = new BlockingReader("a1\n");
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("pod-1", () -> runningLog);
+        OutputStream disconnectedClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        try {
+            podLogStreamer.streamLogs(logs, true, disconnectedClient);
+            fail("Expected the streaming to fail");
+        } catch (IOException e) {
+            assertTrue(runningLog.awaitClosed());
+        }
+    }
+
+    private String streamLogs(Map<String, Supplier<Reader>> logs, boolean follow) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        podLogStreamer.streamLogs(logs, follow, outputStream);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String createLog(String linePrefix, int numberOfLines) {
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < numberOfLines; i++) {
+            log.append(linePrefix).append(i).append('\n');
+        }
+        return log.toString();
+    }
+
+    /**
+     * A followed log that returns its initial content and then blocks until it is closed.
+     */
+    private static class BlockingReader extends Reader {
+
+        private final StringReader content;
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        BlockingReader() {
+            this("");
+        }
+
+        BlockingReader(String content) {
+            this.content = new StringReader(content);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = content.read(buffer, offset, length);
+            if (read > 0) {
+                return read;
+            }
+            try {
+                closed.await();
+                return -1;
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        boolean awaitClosed() {
+            try {
+                return closed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -85,17 +85,62 @@ public void testDeserialize() {
         try {
             PrometheusResponseDTO responseCpuLoad = objectMapper.readValue(testJsonForCpuLoadRequest, PrometheusResponseDTO.class);
             assertTrue(responseCpuLoad.isSuccess());
-            assertEquals(0, responseCpuLoad.getValue());
+            assertEquals(0, responseCpuLoad.getValue(), 0);
 
             PrometheusResponseDTO responseMemoryUsage = objectMapper.readValue(testJsonForMemoryUsageRequest, PrometheusResponseDTO.class);
             assertTrue(responseMemoryUsage.isSuccess());
-            assertEquals(310083584, responseMemoryUsage.getValue());
+            assertEquals(310083584, responseMemoryUsage.getValue(), 0);
 
             PrometheusResponseDTO responseDtoWithoutValue = objectMapper.readValue(testJsonForRequestWithNoValue, PrometheusResponseDTO.class);
             assertTrue(responseDtoWithoutValue.isSuccess());
-            assertEquals(0, responseDtoWithoutValue.getValue());
+            assertEquals(0, responseDtoWithoutValue.getValue(), 0);
         } catch (IOException e) {
             log.error(e.getMessage(), e);
         }
     }
+
+    @Test
+    public void testDeserializeFloatingPointAndLargeValues() throws IOException {
+        String testJsonForCpuLoadRequest = "{\n" +
+            "    \"status\": \"success\",\n" +
+            "    \"data\": {\n" +
+            "        \"resultType\": \"vector\",\n" +
+            "        \"result\": [\n" +
+            "            {\n" +
+            "                \"metric\": {},\n" +
+            "                \"value\": [\n" +
+            "                    1552042589.238,\n" +
+            "                    \"12.75\"\n" +
+            "                ]\n" +
+            "            }\n" +
+            "        ]\n" +
+            "    }\n" +
+            "}";
+
+        // 5 GiB exceed the range of an int
+        String testJsonForMemoryUsageRequest = "{\n" +
+            "    \"status\": \"success\",\n" +
+            "    \"data\": {\n" +
+            "        \"resultType\": \"vector\",\n" +
+            "        \"result\": [\n" +
+            "            {\n" +
+            "                \"metric\": {},\n" +
+            "                \"value\": [\n" +
+            "                    1552041266.607,\n" +
+            "                    \"5368709120\"\n" +
+            "                ]\n" +
+            "            }\n" +
+            "        ]\n" +
+            "    }\n" +
+            "}";
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        PrometheusResponseDTO responseCpuLoad = objectMapper.readValue(testJsonForCpuLoadRequest, PrometheusResponseDTO.class);
+        assertTrue(responseCpuLoad.isSuccess());
+        assertEquals(12.75, responseCpuLoad.getValue(), 0);
+
+        PrometheusResponseDTO responseMemoryUsage = objectMapper.readValue(testJsonForMemoryUsageRequest, PrometheusResponseDTO.class);
+        assertTrue(responseMemoryUsage.isSuccess());
+        assertEquals(5368709120L, responseMemoryUsage.getValue(), 0);
+    }
 }
@@ -61,6 +61,7 @@
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import static io.github.ust.mico.core.JsonPathBuilder.HREF;
@@ -82,6 +83,7 @@
 import static io.github.ust.mico.core.TestConstants.ID;
 import static io.github.ust.mico.core.TestConstants.ID_1;
 import static io.github.ust.mico.core.TestConstants.ID_2;
+import static io.github.ust.mico.core.TestConstants.INVALID_QUANTITIES;
 import static io.github.ust.mico.core.TestConstants.NAME;
 import static io.github.ust.mico.core.TestConstants.NAME_1;
 import static io.github.ust.mico.core.TestConstants.NAME_1_MATCHER;
@@ -141,6 +143,7 @@
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -149,6 +152,7 @@
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -210,9 +214,9 @@ public void getStatusOfService() throws Exception {
         int availableReplicas = 1;
         int requestedReplicas = 2;
         int memoryUsagePod1 = 50;
-        int cpuLoadPod1 = 10;
+        double cpuLoadPod1 = 10;
         int memoryUsagePod2 = 70;
-        int cpuLoadPod2 = 40;
+        double cpuLoadPod2 = 40;
 
         MicoServiceStatusResponseDTO micoServiceStatus = new MicoServiceStatusResponseDTO();
 
@@ -252,14 +256,18 @@ public void getStatusOfService() throws Exception {
         given(micoStatusService.getServiceStatus(any(MicoService.class))).willReturn(micoServiceStatus);
         given(serviceRepository.findByShortNameAndVersion(ArgumentMatchers.anyString(), ArgumentMatchers.any())).willReturn(Optional.of(micoService));
 
-        mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/status"))
+        MvcResult asyncResult = mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/status"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(status().isOk())
             .andExpect(jsonPath(SERVICE_DTO_SERVICE_NAME, is(NAME)))
             .andExpect(jsonPath(SERVICE_DTO_REQUESTED_REPLICAS, is(requestedReplicas)))
             .andExpect(jsonPath(SERVICE_DTO_AVAILABLE_REPLICAS, is(availableReplicas)))
             .andExpect(jsonPath(SERVICE_DTO_NODE_NAME, is(nodeName)))
-            .andExpect(jsonPath(SERVICE_DTO_NODE_METRICS_AVERAGE_CPU_LOAD, is(25)))
+            .andExpect(jsonPath(SERVICE_DTO_NODE_METRICS_AVERAGE_CPU_LOAD, is(25.0)))
             .andExpect(jsonPath(SERVICE_DTO_NODE_METRICS_AVERAGE_MEMORY_USAGE, is(60)))
             .andExpect(jsonPath(SERVICE_DTO_INTERFACES_INFORMATION, hasSize(1)))
             .andExpect(jsonPath(SERVICE_DTO_INTERFACES_INFORMATION_NAME, is(SERVICE_INTERFACE_NAME)))
@@ -279,7 +287,11 @@ public void getStatusOfService() throws Exception {
 
     @Test
     public void getStatusOfNotExistentService() throws Exception {
-        mvc.perform(get(BASE_PATH + "/" + SHORT_NAME_2 + "/" + VERSION + "/status"))
+        MvcResult asyncResult = mvc.perform(get(BASE_PATH + "/" + SHORT_NAME_2 + "/" + VERSION + "/status"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(status().isNotFound());
     }
@@ -429,6 +441,22 @@ public void createServiceWithEmptyDescription() throws Exception {
         assertEquals("Actual service does not match expected", expectedService, savedMicoService);
     }
 
+    @Test
+    public void createServiceWithInvalidBuildQuantities() throws Exception {
+        for (String invalidQuantity : INVALID_QUANTITIES) {
+            MicoServiceRequestDTO serviceRequestDto = new MicoServiceRequestDTO()
+                .setShortName(SHORT_NAME)
+                .setVersion(VERSION)
+                .setName(NAME)
+                .setBuildCpuRequest(invalidQuantity);
+
+            mvc.perform(post(SERVICES_PATH)
+                .content(mapper.writeValueAsBytes(serviceRequestDto)).accept(MediaTypes.HAL_JSON_VALUE).contentType(MediaTypes.HAL_JSON_UTF8_VALUE))
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity());
+        }
+    }
+
     @Test
     public void createServiceWithInvalidGitCloneUrl() throws Exception {
         MicoService service = new MicoService()
@@ -888,8 +916,12 @@ public void getVersionsFromGitHub() throws Exception {
 
         given(crawler.getVersionsFromGitHubRepo(anyString())).willReturn(versions);
 
-        ResultActions resultPromotion = mvc.perform(get(SERVICES_PATH + "/import/github")
-            .param("url", anyString()))
+        MvcResult asyncResult = mvc.perform(get(SERVICES_PATH + "/import/github")
+            .param("url", "https://github.com/UST-MICO/hello"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        ResultActions resultPromotion = mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(jsonPath(SERVICE_VERSIONS_LIST + "[*]", hasSize(3)))
             .andExpect(jsonPath(SERVICE_VERSIONS_LIST + "[0].version", is(versions.get(0))))
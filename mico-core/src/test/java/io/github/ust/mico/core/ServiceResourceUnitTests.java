@@ -34,6 +34,7 @@
 import io.github.ust.mico.core.dto.response.status.KubernetesPodMetricsResponseDTO;
 import io.github.ust.mico.core.dto.response.status.MicoServiceInterfaceStatusResponseDTO;
 import io.github.ust.mico.core.dto.response.status.MicoServiceStatusResponseDTO;
+import io.github.ust.mico.core.exception.KubernetesResourceException;
 import io.github.ust.mico.core.exception.MicoServiceHasDependersException;
 import io.github.ust.mico.core.exception.MicoServiceIsDeployedException;
 import io.github.ust.mico.core.model.MicoService;
@@ -56,12 +57,17 @@
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static io.github.ust.mico.core.JsonPathBuilder.HREF;
 import static io.github.ust.mico.core.JsonPathBuilder.LINKS;
@@ -141,6 +147,7 @@
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -149,6 +156,7 @@
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -210,9 +218,9 @@ public void getStatusOfService() throws Exception {
         int availableReplicas = 1;
         int requestedReplicas = 2;
         int memoryUsagePod1 = 50;
-        int cpuLoadPod1 = 10;
+        double cpuLoadPod1 = 10;
         int memoryUsagePod2 = 70;
-        int cpuLoadPod2 = 40;
+        double cpuLoadPod2 = 40;
 
         MicoServiceStatusResponseDTO micoServiceStatus = new MicoServiceStatusResponseDTO();
 
@@ -252,14 +260,18 @@ public void getStatusOfService() throws Exception {
         given(micoStatusService.getServiceStatus(any(MicoService.class))).willReturn(micoServiceStatus);
         given(micoServiceBroker.getServiceFromDatabase(ArgumentMatchers.anyString(), ArgumentMatchers.any())).willReturn(micoService);
 
-        mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/status"))
+        MvcResult asyncResult = mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/status"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(status().isOk())
             .andExpect(jsonPath(SERVICE_DTO_SERVICE_NAME, is(NAME)))
             .andExpect(jsonPath(SERVICE_DTO_REQUESTED_REPLICAS, is(requestedReplicas)))
             .andExpect(jsonPath(SERVICE_DTO_AVAILABLE_REPLICAS, is(availableReplicas)))
             .andExpect(jsonPath(SERVICE_DTO_NODE_NAME, is(nodeName)))
-            .andExpect(jsonPath(SERVICE_DTO_NODE_METRICS_AVERAGE_CPU_LOAD, is(25)))
+            .andExpect(jsonPath(SERVICE_DTO_NODE_METRICS_AVERAGE_CPU_LOAD, is(25.0)))
             .andExpect(jsonPath(SERVICE_DTO_NODE_METRICS_AVERAGE_MEMORY_USAGE, is(60)))
             .andExpect(jsonPath(SERVICE_DTO_INTERFACES_INFORMATION, hasSize(1)))
             .andExpect(jsonPath(SERVICE_DTO_INTERFACES_INFORMATION_NAME, is(SERVICE_INTERFACE_NAME)))
@@ -274,7 +286,126 @@ public void getStatusOfService() throws Exception {
             .andExpect(jsonPath(SERVICE_DTO_POD_INFO_NODE_NAME_2, is(nodeName)))
             .andExpect(jsonPath(SERVICE_DTO_POD_INFO_METRICS_MEMORY_USAGE_2, is(memoryUsagePod2)))
             .andExpect(jsonPath(SERVICE_DTO_POD_INFO_METRICS_CPU_LOAD_2, is(cpuLoadPod2)))
-            .andExpect(jsonPath(SERVICE_DTO_ERROR_MESSAGES, is(CollectionUtils.listOf())));
+            .andExpect(jsonPath(SERVICE_DTO_ERROR_MESSAGES, is(CollectionUtils.listOf())))
+            .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void getLogsOfService() throws Exception {
+        MicoService micoService = new MicoService()
+            .setName(NAME)
+            .setShortName(SHORT_NAME)
+            .setVersion(VERSION);
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("pod1", () -> new StringReader("started\n"));
+        logs.put("pod2", () -> new StringReader("ready\n"));
+
+        given(micoServiceBroker.getServiceFromDatabase(SHORT_NAME, VERSION)).willReturn(micoService);
+        given(micoServiceBroker.getLogsOfService(micoService, null, false, 10, null)).willReturn(logs);
+
+        MvcResult result = mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/logs")
+            .param("tailLines", "10"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+            .andExpect(content().string("[pod1] started\n[pod2] ready\n"))
+            // The streamed logs are not buffered to compute an ETag
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void getLogsOfServiceWithoutPods() throws Exception {
+        MicoService micoService = new MicoService()
+            .setName(NAME)
+            .setShortName(SHORT_NAME)
+            .setVersion(VERSION);
+
+        given(micoServiceBroker.getServiceFromDatabase(SHORT_NAME, VERSION)).willReturn(micoService);
+        given(micoServiceBroker.getLogsOfService(micoService, null, false, null, null))
+            .willThrow(new KubernetesResourceException("No pods found"));
+
+        mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/logs"))
+            .andDo(print())
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void getLogsOfServiceWithInvalidSinceTime() throws Exception {
+        mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/logs")
+            .param("sinceTime", "yesterday"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void getBuildLogsOfService() throws Exception {
+        MicoService micoService = new MicoService()
+            .setName(NAME)
+            .setShortName(SHORT_NAME)
+            .setVersion(VERSION);
+        Map<String, Supplier<Reader>> logs = new LinkedHashMap<>();
+        logs.put("build-step-git-source-0", () -> new StringReader("cloned\n"));
+        logs.put("build-step-build-and-push", () -> new StringReader("pushed\n"));
+
+        given(micoServiceBroker.getServiceFromDatabase(SHORT_NAME, VERSION)).willReturn(micoService);
+        given(micoServiceBroker.getBuildLogsOfService(micoService, true, 5)).willReturn(logs);
+
+        MvcResult result = mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/buildLogs")
+            .param("follow", "true")
+            .param("tailLines", "5"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+            .andExpect(content().string("[build-step-git-source-0] cloned\n[build-step-build-and-push] pushed\n"));
+    }
+
+    @Test
+    public void getBuildLogsOfServiceWithoutBuildPod() throws Exception {
+        MicoService micoService = new MicoService()
+            .setName(NAME)
+            .setShortName(SHORT_NAME)
+            .setVersion(VERSION);
+
+        given(micoServiceBroker.getServiceFromDatabase(SHORT_NAME, VERSION)).willReturn(micoService);
+        given(micoServiceBroker.getBuildLogsOfService(micoService, false, null))
+            .willThrow(new KubernetesResourceException("No build pod found"));
+
+        mvc.perform(get(BASE_PATH + "/" + SHORT_NAME + "/" + VERSION + "/buildLogs"))
+            .andDo(print())
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void getAllServicesAsListWithMatchingETag() throws Exception {
+        given(micoServiceBroker.getAllServicesAsList()).willReturn(CollectionUtils.listOf(
+            new MicoService().setShortName(SHORT_NAME_1).setVersion(VERSION_1_0_1).setName(NAME_1).setDescription(DESCRIPTION_1)));
+
+        String eTag = mvc.perform(get("/services").accept(MediaTypes.HAL_JSON_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/services").accept(MediaTypes.HAL_JSON_VALUE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // The ETag changes with the content
+        given(micoServiceBroker.getAllServicesAsList()).willReturn(CollectionUtils.listOf(
+            new MicoService().setShortName(SHORT_NAME_1).setVersion(VERSION_1_0_2).setName(NAME_1).setDescription(DESCRIPTION_1)));
+
+        mvc.perform(get("/services").accept(MediaTypes.HAL_JSON_VALUE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(SERVICE_LIST + "[0].version", is(VERSION_1_0_2)));
     }
 
     @Test
@@ -889,8 +1020,12 @@ public void getVersionsFromGitHub() throws Exception {
 
         given(crawler.getVersionsFromGitHubRepo(anyString())).willReturn(versions);
 
-        ResultActions resultPromotion = mvc.perform(get(SERVICES_PATH + "/import/github")
-            .param("url", anyString()))
+        MvcResult asyncResult = mvc.perform(get(SERVICES_PATH + "/import/github")
+            .param("url", "https://github.com/UST-MICO/hello"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        ResultActions resultPromotion = mvc.perform(asyncDispatch(asyncResult))
             .andDo(print())
             .andExpect(jsonPath(SERVICE_VERSIONS_LIST + "[*]", hasSize(3)))
             .andExpect(jsonPath(SERVICE_VERSIONS_LIST + "[0].version", is(versions.get(0))))
@@ -53,6 +53,7 @@ class TestConstants {
     static final String SHORT_NAME_2 = "short-name-2";
     static final String SHORT_NAME_3 = "short-name-3";
     static final String SHORT_NAME_INVALID = "short_NAME";
+    static final String[] INVALID_QUANTITIES = {"1.2.3", "500mi", "1kM", "1Ki2", "Gi", "1K", "."};
     static final String SHORT_NAME_ATTRIBUTE = buildAttributePath("shortName");
     static final String SHORT_NAME_MATCHER = JsonPathBuilder.buildSingleMatcher(SHORT_NAME_ATTRIBUTE, SHORT_NAME);
     static final String SHORT_NAME_1_MATCHER = JsonPathBuilder.buildSingleMatcher(SHORT_NAME_ATTRIBUTE, SHORT_NAME_1);